@@ -1,6 +1,7 @@
 plugins {
     `java-library`
     alias(libs.plugins.spring.dependency)
+    alias(libs.plugins.jmh)
 }
 
 dependencyManagement {
@@ -21,6 +22,7 @@ dependencies {
     // spring
     api(libs.spring.boot.starter.webmvc)
     api(libs.spring.boot.starter.security)
+    api(libs.spring.boot.starter.actuator)
 
     // DB
     api(libs.spring.boot.starter.data.jpa)
@@ -63,6 +65,14 @@ dependencies {
     testRuntimeOnly(libs.junit.platform.launcher)
 }
 
+// 성능 측정 - ./gradlew :modules:common:jmh ( src/jmh/java )
+jmh {
+    profilers.add("gc")     // record 당 할당량 ( gc.alloc.rate.norm ) 확인
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+}
+
 // 커버리지 예외 처리를 위한 선언
 val jacocoExcludes = listOf(
         "**/Q*.class", "**/common/config/*Config*.class"    // querydsl 에 의한 생성 파일 및 설정 파일 제외
@@ -0,0 +1,94 @@
+package com.kelly.base.common.audit;
+
+import com.kelly.base.common.audit.dto.AuditEventType;
+import com.kelly.base.common.audit.dto.AuditLogFormat;
+import com.kelly.base.common.audit.writer.StreamingAuditLogWriter;
+import com.kelly.base.common.exception.CommonException;
+import com.kelly.base.common.utils.DateTimeUtil;
+import com.kelly.base.common.utils.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * audit log 1건을 직렬화하여 출력 buffer 에 기록하기까지의 비용 비교
+ * <p>
+ * - legacy : <code>JsonUtil.convert</code> 로 String 생성 후 encoder 에서 byte[] 로 다시 복사 (기존 logback 경로)<br>
+ * - streaming : <code>StreamingAuditLogWriter</code> 로 재사용 buffer 에 직접 직렬화<br>
+ * record 당 할당량은 <code>-prof gc</code> 결과의 <code>gc.alloc.rate.norm</code> 으로 확인합니다.
+ *
+ * @author 서강희
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuditLogSerializationBenchmark {
+    private AuditLogFormat auditLog;
+
+    private StreamingAuditLogWriter streamingWriter;
+
+    @Setup
+    public void setup() {
+        final Map<String, Object> requestPayload = new LinkedHashMap<>();
+        requestPayload.put("loginId", "user01");
+        requestPayload.put("password", "*****");
+
+        final Map<String, Object> activityDetail = new LinkedHashMap<>();
+        activityDetail.put("query", "page=0&size=10");
+        activityDetail.put("requestPayload", requestPayload);
+        activityDetail.put("responsePayload", Map.of("code", 0, "message", "success"));
+
+        auditLog = new AuditLogFormat(
+                DateTimeUtil.nowUtc(), AuditEventType.API_CALL, "192.168.1.119", "POST /api/auth/login",
+                activityDetail, "app-full v0.0.0", "userId: user01, accountId: 1, role: ROLE_GENERAL_USER"
+        );
+
+        // 파일 I/O 비용은 제외하고 직렬화 비용만 비교
+        streamingWriter = new StreamingAuditLogWriter(new DiscardChannel(), 64 * 1024, false);
+    }
+
+    @Benchmark
+    public void legacy(final Blackhole blackhole) throws CommonException {
+        final String jsonLog = JsonUtil.convert(auditLog, false);
+        blackhole.consume(jsonLog.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public void streaming() throws CommonException {
+        streamingWriter.write(auditLog);
+    }
+
+    /**
+     * 기록된 내용을 버리는 channel
+     */
+    private static final class DiscardChannel implements WritableByteChannel {
+        @Override
+        public int write(final ByteBuffer source) {
+            final int remaining = source.remaining();
+            source.position(source.limit());
+            return remaining;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // 처리할 내용 없음
+        }
+    }
+}
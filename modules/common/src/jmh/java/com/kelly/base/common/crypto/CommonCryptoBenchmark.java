@@ -0,0 +1,99 @@
+package com.kelly.base.common.crypto;
+
+import com.kelly.base.common.config.CommonPropertiesConfig;
+import jakarta.xml.bind.DatatypeConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * payload 크기별 AES-GCM 암복호화 비용 비교
+ * <p>
+ * - legacy : 호출마다 <code>SecureRandom</code>, <code>SecretKeySpec</code>, <code>Cipher</code> 생성 (기존 방식)<br>
+ * - pooled : <code>CommonCryptoService</code> ( 미리 만든 key, pool 에서 재사용하는 Cipher, 공유 SecureRandom )<br>
+ * 동시 호출시의 차이는 <code>-t</code> ( thread 개수 ) 옵션으로 확인합니다.
+ *
+ * @author 서강희
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommonCryptoBenchmark {
+    private static final String CRYPTO_KEY = "benchmark-key-length-is-32-bytes";
+
+    @Param({ "64", "4096", "1048576" })
+    private int payloadSize;
+
+    private CommonCryptoService cryptoService;
+
+    private byte[] payload;
+
+    private String encrypted;
+
+    @Setup
+    public void setup() {
+        final CommonPropertiesConfig commonPropertiesConfig = new CommonPropertiesConfig();
+        commonPropertiesConfig.setCommonCryptoKey(CRYPTO_KEY);
+        cryptoService = new CommonCryptoService(commonPropertiesConfig);
+        cryptoService.init();
+
+        payload = new byte[payloadSize];
+        new Random(payloadSize).nextBytes(payload);
+        encrypted = cryptoService.encrypt(payload);
+    }
+
+    @Benchmark
+    public String legacyEncrypt() throws GeneralSecurityException {
+        final byte[] iv = new byte[12];
+        new SecureRandom().nextBytes(iv);
+
+        final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, legacyKey(), new GCMParameterSpec(128, iv));
+        final byte[] encBytes = cipher.doFinal(payload);
+        final byte[] combined = new byte[iv.length + encBytes.length];
+        System.arraycopy(iv, 0, combined, 0, iv.length);
+        System.arraycopy(encBytes, 0, combined, iv.length, encBytes.length);
+        return DatatypeConverter.printBase64Binary(combined);
+    }
+
+    @Benchmark
+    public String pooledEncrypt() {
+        return cryptoService.encrypt(payload);
+    }
+
+    @Benchmark
+    public byte[] legacyDecrypt() throws GeneralSecurityException {
+        final byte[] combined = DatatypeConverter.parseBase64Binary(encrypted);
+        final byte[] iv = new byte[12];
+        final byte[] encBytes = new byte[combined.length - iv.length];
+        System.arraycopy(combined, 0, iv, 0, iv.length);
+        System.arraycopy(combined, iv.length, encBytes, 0, encBytes.length);
+
+        final Cipher decipher = Cipher.getInstance("AES/GCM/NoPadding");
+        decipher.init(Cipher.DECRYPT_MODE, legacyKey(), new GCMParameterSpec(128, iv));
+        return decipher.doFinal(encBytes);
+    }
+
+    @Benchmark
+    public byte[] pooledDecrypt() {
+        return cryptoService.decrypt(encrypted);
+    }
+
+    private static SecretKeySpec legacyKey() {
+        return new SecretKeySpec(CRYPTO_KEY.getBytes(StandardCharsets.UTF_8), "AES");
+    }
+}
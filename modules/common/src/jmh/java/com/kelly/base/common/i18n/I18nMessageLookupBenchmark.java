@@ -0,0 +1,131 @@
+package com.kelly.base.common.i18n;
+
+import com.kelly.base.common.i18n.config.JsonReloadableMessageSource;
+import com.kelly.base.common.utils.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * i18n message 1건 조회 비용 비교
+ * <p>
+ * - messageSource* : 규제기관 <code>MessageSource</code> 조회 후 실패하면 exception 을 잡고 공통 <code>MessageSource</code> 조회
+ * ( 기존 <code>I18nMessageService</code> 경로 )<br>
+ * - catalog* : 미리 parsing 된 <code>I18nMessageCatalog</code> 조회<br>
+ * *Constant 는 argument 없는 조회, *Args 는 <code>MessageFormat</code> 을 사용하는 조회,
+ * *Fallback 은 규제기관 message 가 없어 공통 message 로 넘어가는 조회, *Miss 는 어디에도 없는 token ID 조회입니다.
+ *
+ * @author 서강희
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class I18nMessageLookupBenchmark {
+    private static final Locale LOCALE = Locale.KOREAN;
+
+    private static final Object[] ARGS = { "왈도", "거대한 이끼" };
+
+    private MessageSource commonMessageSource;
+
+    private MessageSource regulatorMessageSource;
+
+    private I18nMessageCatalog catalog;
+
+    @Setup
+    public void setup() throws IOException {
+        final Map<String, String> common = Map.of("TID_99991", "안녕", "TID_99992", "{0}, 안녕");
+        final Map<String, String> regulator = Map.of("EXT_TID_90001", "안녕하신가!",
+                                                     "EXT_TID_90004", "{0} 힘센 이끼 / {1}");
+
+        final Path directory = Files.createTempDirectory("i18n-benchmark");
+        Files.writeString(directory.resolve("messages_ko.json"), JsonUtil.objectMapper.writeValueAsString(common));
+        final StringBuilder properties = new StringBuilder();
+        regulator.forEach((tid, message) -> properties.append(tid).append('=').append(message).append('\n'));
+        Files.writeString(directory.resolve("messages_fda_ko.properties"), properties, StandardCharsets.UTF_8);
+
+        final JsonReloadableMessageSource jsonMessageSource = new JsonReloadableMessageSource(JsonUtil.objectMapper);
+        configure(jsonMessageSource, directory.toUri() + "messages");
+        commonMessageSource = jsonMessageSource;
+        final ReloadableResourceBundleMessageSource propertiesSource = new ReloadableResourceBundleMessageSource();
+        configure(propertiesSource, directory.toUri() + "messages_fda");
+        regulatorMessageSource = propertiesSource;
+
+        catalog = I18nMessageCatalog.builder("ko").common("ko", common).regulator("fda", "ko", regulator).build();
+    }
+
+    private static void configure(final ReloadableResourceBundleMessageSource messageSource, final String basename) {
+        messageSource.setBasename(basename);
+        messageSource.setDefaultLocale(LOCALE);
+        messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
+        messageSource.setCacheSeconds(-1);
+        messageSource.setFallbackToSystemLocale(false);
+    }
+
+    private String messageSourceLookup(final String tid, final Object[] args) {
+        try {
+            return regulatorMessageSource.getMessage(tid, args, LOCALE);
+        } catch (NoSuchMessageException e) {
+            return commonMessageSource.getMessage(tid, args, LOCALE);
+        }
+    }
+
+    @Benchmark
+    public String messageSourceConstant() {
+        return messageSourceLookup("EXT_TID_90001", null);
+    }
+
+    @Benchmark
+    public String messageSourceArgs() {
+        return messageSourceLookup("EXT_TID_90004", ARGS);
+    }
+
+    @Benchmark
+    public String messageSourceFallback() {
+        return messageSourceLookup("TID_99992", ARGS);
+    }
+
+    @Benchmark
+    public String messageSourceMiss() {
+        try {
+            return messageSourceLookup("UNKNOWN_TID", null);
+        } catch (NoSuchMessageException e) {
+            return "UNKNOWN_TID";
+        }
+    }
+
+    @Benchmark
+    public String catalogConstant() {
+        return catalog.getMessage("fda", "ko", "EXT_TID_90001", null);
+    }
+
+    @Benchmark
+    public String catalogArgs() {
+        return catalog.getMessage("fda", "ko", "EXT_TID_90004", ARGS);
+    }
+
+    @Benchmark
+    public String catalogFallback() {
+        return catalog.getMessage("fda", "ko", "TID_99992", ARGS);
+    }
+
+    @Benchmark
+    public String catalogMiss() {
+        final String message = catalog.getMessage("fda", "ko", "UNKNOWN_TID", null);
+        return message != null ? message : "UNKNOWN_TID";
+    }
+}
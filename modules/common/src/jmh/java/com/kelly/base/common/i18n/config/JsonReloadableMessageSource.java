@@ -14,6 +14,9 @@ import java.util.Properties;
 
 /**
  * json 형태로 작성된 i18n resource 파일을 읽기 위한 확장 로직
+ * <p>
+ * 운영 코드는 <code>I18nMessageCatalog</code> 를 사용하며, 이 class 는 기존 <code>MessageSource</code> 조회 경로와
+ * 비교하기 위한 benchmark 용도로만 남겨둡니다.
  *
  * @author 서강희
  */
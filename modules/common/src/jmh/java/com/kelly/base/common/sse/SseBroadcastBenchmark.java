@@ -0,0 +1,78 @@
+package com.kelly.base.common.sse;
+
+import com.kelly.base.common.exception.CommonException;
+import com.kelly.base.common.sse.dto.SseEvent;
+import com.kelly.base.common.sse.dto.SseEventType;
+import com.kelly.base.common.utils.DateTimeUtil;
+import com.kelly.base.common.utils.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE broadcast 1건을 모든 연결의 전송 단위로 만들기까지의 비용 비교
+ * <p>
+ * - perConnection : 연결마다 <code>SseEmitter.event()</code> 를 생성하고 message converter 와 동일하게
+ * 각 part 를 byte[] 로 변환 (기존 <code>sendToUser</code> 경로)<br>
+ * - serializeOnce : <code>SseFrame</code> 으로 1번만 인코딩하고 모든 연결이 같은 전송 단위를 공유<br>
+ * 연결당 비용은 결과를 <code>subscribers</code> 로 나누어 확인하며,
+ * 할당량은 <code>-prof gc</code> 결과의 <code>gc.alloc.rate.norm</code> 으로 확인합니다.
+ *
+ * @author 서강희
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SseBroadcastBenchmark {
+    @Param({"1000", "10000"})
+    private int subscribers;
+
+    private SseEvent event;
+
+    @Setup
+    public void setup() {
+        final Map<String, String> contents = new LinkedHashMap<>();
+        contents.put("analysisId", "20261018-000123");
+        contents.put("status", "COMPLETED");
+        contents.put("message", "analysis result has been updated");
+
+        event = new SseEvent(SseEventType.REFRESH_ANALYSIS, "V1StGXR8_Z5jdHi6B-myT", DateTimeUtil.nowUtc(), contents);
+    }
+
+    @Benchmark
+    public void perConnection(final Blackhole blackhole) throws IOException {
+        for (int i = 0; i < subscribers; i++) {
+            final SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                    .name(event.eventType().name()).id(event.eventId()).data(event.contents());
+            for (final ResponseBodyEmitter.DataWithMediaType item : builder.build()) {
+                // StringHttpMessageConverter / MappingJackson2HttpMessageConverter 의 변환 비용
+                final Object data = item.getData();
+                blackhole.consume(data instanceof String text
+                        ? text.getBytes(StandardCharsets.UTF_8) : JsonUtil.objectMapper.writeValueAsBytes(data));
+            }
+        }
+    }
+
+    @Benchmark
+    public void serializeOnce(final Blackhole blackhole) throws CommonException {
+        final SseFrame frame = SseFrame.of(event, 1L);
+        for (int i = 0; i < subscribers; i++) {
+            // ByteArrayHttpMessageConverter 는 byte[] 를 변환 없이 그대로 기록
+            blackhole.consume(frame.getItems());
+        }
+    }
+}
@@ -3,8 +3,6 @@ package com.kelly.base.common;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
-import java.util.List;
-
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class CommonConstants {
 
@@ -51,11 +49,6 @@ public final class CommonConstants {
 
         // audit log 저장을 위해 사용하는 request body 저장용 attribute
         public static final String ATTR_AUDIT_REQ_BODY = "ATTR_AUDIT_REQ_BODY";
-
-        // audit log 저장에 기본적으로 예외 처리되어야 할 uri
-        public static final List<String> EXCLUDED_URI_PATTERNS = List.of(
-                "/swagger-ui/**", "/v3/api-docs/**", "/actuator/**"
-        );
     }
 
     /**
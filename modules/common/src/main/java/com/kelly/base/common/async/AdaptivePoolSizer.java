@@ -0,0 +1,120 @@
+package com.kelly.base.common.async;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업의 queue 대기 시간에 따라 commonAsync thread pool 의 thread 개수를 조절
+ * <p>
+ * <code>intervalMs</code> 마다 그 사이에 시작된 작업의 평균 대기 시간을 확인하여,
+ * <code>targetWaitMs</code> 를 넘으면 core thread 개수를 <code>step</code> 만큼 늘리고 ( <code>maxPoolSize</code> 까지 ),
+ * 목표의 절반 이하이면서 실행중인 작업이 줄인 개수보다 적은 경우 <code>step</code> 만큼 줄입니다. ( 설정된 core 개수까지 )<br>
+ * 시작된 작업이 없는 구간은 queue 에 대기중인 작업이 있으면 모든 thread 가 오래 걸리는 작업을 실행중인 포화 상태로 판단하여 늘리고,
+ * 대기중인 작업이 없으면 대기가 없는 것으로 판단하여 줄입니다.<br>
+ * max thread 개수는 늘린 core 개수와 설정된 max 개수 중 큰 값으로 유지하여 설정보다 작아지지 않도록 합니다.<br>
+ * virtual thread 로 실행하는 경우 ( thread pool 이 아닌 경우 ) 에는 조절하지 않습니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+public final class AdaptivePoolSizer implements AutoCloseable {
+    static final String SIZER_THREAD_NAME = "common-async-sizer";
+
+    private final ThreadPoolTaskExecutor executor;     // thread pool 이 아닌 경우 null
+
+    private final AsyncTaskMetrics metrics;
+
+    private final AsyncProperties.Adaptive properties;
+
+    private final int minPoolSize;
+
+    private final int configuredMaxPoolSize;    // 설정된 max thread 개수 ( 조절시 이보다 줄이지 않음 )
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param executor    조절할 executor ( thread pool 인 경우에만 조절 )
+     * @param metrics     대기 시간을 기록하는 metric
+     * @param minPoolSize 줄일 수 있는 최소 thread 개수
+     * @param properties  자동 조절 설정
+     */
+    public AdaptivePoolSizer(final Executor executor, final AsyncTaskMetrics metrics,
+                             final int minPoolSize, final AsyncProperties.Adaptive properties) {
+        this.executor = executor instanceof ThreadPoolTaskExecutor pool ? pool : null;
+        this.metrics = metrics;
+        this.minPoolSize = minPoolSize;
+        this.configuredMaxPoolSize = this.executor == null ? 0 : this.executor.getMaxPoolSize();
+        this.properties = properties;
+    }
+
+    /**
+     * 조절 thread 시작
+     */
+    public void start() {
+        if (executor == null) {
+            log.warn("commonAsync is not a thread pool, adaptive sizing is disabled");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, SIZER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(
+                this::adjust, properties.getIntervalMs(), properties.getIntervalMs(), TimeUnit.MILLISECONDS
+        );
+        log.info("start commonAsync adaptive sizing - pool size : {} ~ {}, target wait (ms) : {}",
+                 minPoolSize, properties.getMaxPoolSize(), properties.getTargetWaitMs());
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 평균 대기 시간 / queue 에 대기중인 작업을 확인하고 thread 개수 조절
+     * <p>
+     * 조절 thread 1개에서만 호출해야 합니다.
+     */
+    void adjust() {
+        try {
+            final long averageWaitMs = metrics.takeAverageWaitMs();
+            final int queueSize = executor.getQueueSize();
+            final int current = executor.getCorePoolSize();
+            // 시작된 작업 없이 대기중인 작업만 있으면 평균 대기 시간을 알 수 없는 포화 상태
+            final boolean saturated = averageWaitMs < 0L && queueSize > 0;
+            if (averageWaitMs > properties.getTargetWaitMs() || saturated) {
+                final int grown = Math.min(current + properties.getStep(), properties.getMaxPoolSize());
+                if (grown > current) {
+                    // core 는 max 를 넘을 수 없으므로 max 먼저 변경
+                    executor.setMaxPoolSize(Math.max(grown, configuredMaxPoolSize));
+                    executor.setCorePoolSize(grown);
+                    log.info("grow commonAsync pool - size : {} -> {}, average wait (ms) : {}, queue : {}",
+                             current, grown, averageWaitMs, queueSize);
+                }
+                return;
+            }
+
+            final int shrunk = Math.max(current - properties.getStep(), minPoolSize);
+            if (averageWaitMs <= properties.getTargetWaitMs() / 2 && shrunk < current
+                    && executor.getActiveCount() < shrunk) {
+                // max 는 core 보다 작을 수 없으므로 core 먼저 변경
+                executor.setCorePoolSize(shrunk);
+                executor.setMaxPoolSize(Math.max(shrunk, configuredMaxPoolSize));
+                log.info("shrink commonAsync pool - size : {} -> {}, average wait (ms) : {}",
+                         current, shrunk, averageWaitMs);
+            }
+        } catch (RuntimeException e) {
+            // exception 이 전파되면 이후 조절이 실행되지 않으므로 다음 간격에서 계속 처리
+            log.error("commonAsync adaptive sizing failure - message : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.kelly.base.common.async;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import static com.kelly.base.common.CommonConstants.CommonAsync.*;
+
+/**
+ * common async executor 설정 프로퍼티
+ * application.yml의 async.* 설정을 바인딩
+ *
+ * @author 서강희
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "async")
+public class AsyncProperties {
+
+    /**
+     * commonAsync 작업을 실행할 방식
+     */
+    private Mode mode = Mode.POOL;
+
+    /**
+     * thread pool 설정 (mode 가 POOL 인 경우 사용)
+     */
+    private final Pool pool = new Pool();
+
+    /**
+     * virtual thread 실행 설정 (mode 가 VIRTUAL 인 경우 사용)
+     */
+    private final Virtual virtual = new Virtual();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        /**
+         * 항상 활성 상태로 유지할 thread 개수 (adaptive 사용시 최소 thread 개수)
+         */
+        private int corePoolSize = COMMON_ASYNC_CORE_POOL_SIZE;
+
+        /**
+         * 최대 thread 개수
+         */
+        private int maxPoolSize = COMMON_ASYNC_MAX_POOL_SIZE;
+
+        /**
+         * thread 가 모두 사용중인 경우 작업을 쌓아둘 queue 크기, 넘는 경우 <code>TaskRejectedException</code>
+         */
+        private int queueCapacity = COMMON_ASYNC_QUEUE_CAPACITY;
+
+        /**
+         * queue 대기 시간에 따른 thread 개수 자동 조절 설정
+         */
+        private final Adaptive adaptive = new Adaptive();
+    }
+
+    @Getter
+    @Setter
+    public static class Adaptive {
+        /**
+         * 자동 조절 사용 여부
+         */
+        private boolean enabled = false;
+
+        /**
+         * 자동 조절로 늘릴 수 있는 최대 thread 개수
+         */
+        private int maxPoolSize = 50;
+
+        /**
+         * 작업의 평균 queue 대기 시간 목표 (ms), 넘으면 thread 를 늘리고 절반 이하면 줄임
+         */
+        private long targetWaitMs = 100L;
+
+        /**
+         * 대기 시간을 확인하고 조절하는 간격 (ms)
+         */
+        private long intervalMs = 5000L;
+
+        /**
+         * 1회 조절시 늘리거나 줄일 thread 개수
+         */
+        private int step = 2;
+    }
+
+    @Getter
+    @Setter
+    public static class Virtual {
+        /**
+         * 동시에 실행할 최대 작업 개수 (virtual thread 는 이 개수만큼만 실행되고 나머지는 대기)
+         */
+        private int maxConcurrency = 200;
+
+        /**
+         * 실행을 기다릴 수 있는 최대 작업 개수, 넘는 경우 <code>TaskRejectedException</code>
+         */
+        private int queueCapacity = 500;
+    }
+
+    public enum Mode {
+        POOL,       // thread pool ( async.pool )
+        VIRTUAL     // 작업마다 virtual thread 생성 ( JDK 21 이상 )
+    }
+}
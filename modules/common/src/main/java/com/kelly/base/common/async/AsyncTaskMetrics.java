@@ -0,0 +1,146 @@
+package com.kelly.base.common.async;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+import static com.kelly.base.common.CommonConstants.CommonAsync.COMMON_ASYNC_NAME;
+
+/**
+ * commonAsync 작업의 queue 대기 시간 / 실행 시간 및 executor 상태를 Micrometer 로 기록
+ * <p>
+ * 작업 제출 시점부터 실행 시작까지를 대기 시간, 실행 시작부터 종료까지를 실행 시간으로 histogram 에 기록하며,
+ * queue 크기 / 실행중인 작업 개수 / thread 개수는 gauge 로 조회시점의 값을 제공합니다. ( actuator <code>/metrics</code> )<br>
+ * 마지막 조회 이후의 평균 대기 시간은 {@link #takeAverageWaitMs()} 로 확인할 수 있으며 thread 개수 자동 조절에 사용됩니다.
+ *
+ * @author 서강희
+ */
+public final class AsyncTaskMetrics {
+    static final String WAIT_METRIC = "common.async.task.wait";
+
+    static final String EXECUTION_METRIC = "common.async.task.execution";
+
+    static final String QUEUE_SIZE_METRIC = "common.async.queue.size";
+
+    static final String ACTIVE_METRIC = "common.async.active";
+
+    static final String POOL_SIZE_METRIC = "common.async.pool.size";
+
+    static final String CORE_POOL_SIZE_METRIC = "common.async.pool.core";
+
+    static final String MAX_POOL_SIZE_METRIC = "common.async.pool.max";
+
+    private static final String NAME_TAG = "name";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Timer waitTimer;
+
+    private final Timer executionTimer;
+
+    private final LongSupplier nanoTime;
+
+    // 마지막 takeAverageWaitMs 호출 이후 시작된 작업의 대기 시간 합계 / 개수
+    private final LongAdder windowWaitNanos = new LongAdder();
+
+    private final LongAdder windowTaskCount = new LongAdder();
+
+    public AsyncTaskMetrics(final MeterRegistry meterRegistry) {
+        this(meterRegistry, System::nanoTime);
+    }
+
+    AsyncTaskMetrics(final MeterRegistry meterRegistry, final LongSupplier nanoTime) {
+        this.meterRegistry = meterRegistry;
+        this.nanoTime = nanoTime;
+        this.waitTimer = Timer.builder(WAIT_METRIC)
+                .description("time from submission to start of commonAsync tasks")
+                .tag(NAME_TAG, COMMON_ASYNC_NAME)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder(EXECUTION_METRIC)
+                .description("execution time of commonAsync tasks")
+                .tag(NAME_TAG, COMMON_ASYNC_NAME)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 시간 / 실행 시간을 기록하는 작업으로 감싸기 ( 작업 제출 thread 에서 호출 )
+     *
+     * @param runnable 실행할 작업
+     * @return 시간을 기록하며 실행하는 작업
+     */
+    public Runnable instrument(final Runnable runnable) {
+        final long submittedNanos = nanoTime.getAsLong();
+        return () -> {
+            final long startNanos = nanoTime.getAsLong();
+            final long waitNanos = startNanos - submittedNanos;
+            waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+            windowWaitNanos.add(waitNanos);
+            windowTaskCount.increment();
+            try {
+                runnable.run();
+            } finally {
+                executionTimer.record(nanoTime.getAsLong() - startNanos, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    /**
+     * thread pool 의 queue 크기 / 실행중인 작업 / thread 개수 gauge 등록
+     *
+     * @param executor commonAsync thread pool
+     */
+    public void bind(final ThreadPoolTaskExecutor executor) {
+        registerGauge(QUEUE_SIZE_METRIC, "tasks waiting in the commonAsync queue", executor,
+                      ThreadPoolTaskExecutor::getQueueSize);
+        registerGauge(ACTIVE_METRIC, "commonAsync tasks being executed", executor,
+                      ThreadPoolTaskExecutor::getActiveCount);
+        registerGauge(POOL_SIZE_METRIC, "current commonAsync thread count", executor,
+                      ThreadPoolTaskExecutor::getPoolSize);
+        registerGauge(CORE_POOL_SIZE_METRIC, "commonAsync core thread count", executor,
+                      ThreadPoolTaskExecutor::getCorePoolSize);
+        registerGauge(MAX_POOL_SIZE_METRIC, "commonAsync max thread count", executor,
+                      ThreadPoolTaskExecutor::getMaxPoolSize);
+    }
+
+    /**
+     * virtual thread executor 의 대기중인 작업 / 실행중인 작업 gauge 등록
+     *
+     * @param executor commonAsync virtual thread executor
+     */
+    public void bind(final BoundedVirtualThreadExecutor executor) {
+        registerGauge(QUEUE_SIZE_METRIC, "tasks waiting for a commonAsync permit", executor,
+                      target -> target.getPendingCount() - target.getActiveCount());
+        registerGauge(ACTIVE_METRIC, "commonAsync tasks being executed", executor,
+                      BoundedVirtualThreadExecutor::getActiveCount);
+    }
+
+    /**
+     * 마지막 호출 이후 실행이 시작된 작업의 평균 queue 대기 시간
+     *
+     * @return 평균 대기 시간 (ms), 시작된 작업이 없는 경우 -1
+     */
+    public long takeAverageWaitMs() {
+        final long count = windowTaskCount.sumThenReset();
+        final long waitNanos = windowWaitNanos.sumThenReset();
+        if (count == 0) {
+            return -1L;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos / count);
+    }
+
+    private <T> void registerGauge(final String name, final String description, final T executor,
+                                   final ToIntFunction<T> value) {
+        Gauge.builder(name, executor, target -> value.applyAsInt(target))
+                .description(description)
+                .tag(NAME_TAG, COMMON_ASYNC_NAME)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,120 @@
+package com.kelly.base.common.async;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업마다 virtual thread 를 생성하되, 동시에 실행되는 작업 개수를 semaphore 로 제한하는 executor
+ * <p>
+ * 작업은 제출한 thread 를 막지 않고 바로 thread 를 생성하며, 생성된 thread 안에서 permit 을 얻을 때까지 대기합니다.<br>
+ * virtual thread 는 대기하는 동안 carrier thread 를 점유하지 않으므로 blocking 작업이 많아도 pool 이 고갈되지 않고,
+ * 실행 / 대기중인 작업이 <code>maxConcurrency + queueCapacity</code> 를 넘는 경우에만
+ * <code>TaskRejectedException</code> 으로 거절합니다.<br>
+ * <code>taskDecorator</code> 는 제출 thread 에서 적용되고 permit 을 얻은 뒤 실행되므로,
+ * context 전달 / 대기 시간 측정에 permit 대기 시간이 포함됩니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+public final class BoundedVirtualThreadExecutor implements TaskExecutor {
+    private final Executor threadExecutor;
+
+    private final int maxConcurrency;
+
+    private final int maxPending;
+
+    private final Semaphore permits;
+
+    private final TaskDecorator taskDecorator;
+
+    // 실행중 + 대기중인 작업 개수
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    /**
+     * @param threadExecutor 작업마다 thread 를 생성하는 executor ( virtual thread 를 사용하는 SimpleAsyncTaskExecutor 등 )
+     * @param maxConcurrency 동시에 실행할 최대 작업 개수
+     * @param queueCapacity  실행을 기다릴 수 있는 최대 작업 개수
+     */
+    public BoundedVirtualThreadExecutor(final Executor threadExecutor, final int maxConcurrency,
+                                        final int queueCapacity) {
+        this(threadExecutor, maxConcurrency, queueCapacity, runnable -> runnable);
+    }
+
+    /**
+     * @param threadExecutor 작업마다 thread 를 생성하는 executor ( virtual thread 를 사용하는 SimpleAsyncTaskExecutor 등 )
+     * @param maxConcurrency 동시에 실행할 최대 작업 개수
+     * @param queueCapacity  실행을 기다릴 수 있는 최대 작업 개수
+     * @param taskDecorator  제출된 작업에 적용할 decorator ( context 전달, metric 기록 등 )
+     */
+    public BoundedVirtualThreadExecutor(final Executor threadExecutor, final int maxConcurrency,
+                                        final int queueCapacity, final TaskDecorator taskDecorator) {
+        if (maxConcurrency <= 0 || queueCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "invalid virtual thread executor limit - maxConcurrency : " + maxConcurrency
+                            + ", queueCapacity : " + queueCapacity
+            );
+        }
+        this.threadExecutor = threadExecutor;
+        this.maxConcurrency = maxConcurrency;
+        this.maxPending = maxConcurrency + queueCapacity;
+        this.permits = new Semaphore(maxConcurrency);
+        this.taskDecorator = taskDecorator;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            throw new TaskRejectedException("virtual thread executor is full - pending : " + maxPending);
+        }
+        try {
+            final Runnable decorated = taskDecorator.decorate(task);
+            threadExecutor.execute(() -> runWithPermit(decorated));
+        } catch (RuntimeException e) {
+            pendingCount.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * 실행중인 작업 개수
+     *
+     * @return permit 을 얻어 실행중인 작업 개수
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * 실행중이거나 permit 을 기다리는 작업 개수
+     *
+     * @return 실행중 + 대기중인 작업 개수
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    private void runWithPermit(final Runnable task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            // 대기중 종료 ( app 종료 등 ) - 작업을 실행하지 않음
+            Thread.currentThread().interrupt();
+            pendingCount.decrementAndGet();
+            log.warn("virtual thread task interrupted before start - pending : {}", pendingCount.get());
+            return;
+        }
+        try {
+            task.run();
+        } finally {
+            permits.release();
+            pendingCount.decrementAndGet();
+        }
+    }
+}
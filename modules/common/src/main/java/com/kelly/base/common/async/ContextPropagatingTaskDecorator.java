@@ -0,0 +1,17 @@
+package com.kelly.base.common.async;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 작업을 제출한 thread 의 실행 context 를 작업을 실행하는 thread 에 전달하는 TaskDecorator
+ * <p>
+ * 제출 시점에 {@link ContextSnapshot} 을 생성해두고, 작업 실행 동안만 실행 thread 에 설정한 뒤 이전 context 로 되돌립니다.
+ *
+ * @author 서강희
+ */
+public final class ContextPropagatingTaskDecorator implements TaskDecorator {
+    @Override
+    public Runnable decorate(final Runnable runnable) {
+        return ContextSnapshot.capture().wrap(runnable);
+    }
+}
@@ -0,0 +1,133 @@
+package com.kelly.base.common.async;
+
+import com.kelly.base.common.i18n.I18nContext;
+import org.slf4j.MDC;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 현재 thread 의 실행 context ( MDC / <code>I18nContext</code> / <code>SecurityContext</code> ) 를 복사한 불변 객체
+ * <p>
+ * 작업을 제출하는 thread 에서 {@link #capture()} 로 생성하고, 작업을 실행하는 thread 에서 {@link #attach()} 로 설정합니다.<br>
+ * <code>attach()</code> 가 반환한 {@link Scope} 를 닫으면 실행 thread 의 이전 context 로 되돌리므로,
+ * pool thread 에 이전 작업의 context 가 남지 않고 같은 thread 에서 실행되는 경우 ( caller runs ) 에도 안전합니다.<br>
+ * audit log 의 사용자 정보 ( <code>IAuditContextProvider</code> ) 는 <code>SecurityContext</code> 에서 조회되므로
+ * 작업 thread 에서 기록한 audit log 에도 작업을 제출한 사용자가 기록됩니다.
+ * <p>
+ * 설정 / 복원은 항상 <code>attach()</code> 의 scope 단위로만 이루어지므로 ThreadLocal 대신 ScopedValue 로 바꾸는 경우에도
+ * 사용하는 쪽의 코드는 변경되지 않습니다.
+ *
+ * @param mdc             MDC 값 ( 없는 경우 null )
+ * @param language        언어 코드
+ * @param regulator       규제기관 코드
+ * @param securityContext 인증 정보가 있는 security context ( 없는 경우 null )
+ * @author 서강희
+ */
+public record ContextSnapshot(Map<String, String> mdc, String language, String regulator,
+                              SecurityContext securityContext) {
+    /**
+     * 설정된 context 가 없는 snapshot
+     */
+    public static final ContextSnapshot EMPTY = new ContextSnapshot(null, null, null, null);
+
+    public ContextSnapshot {
+        mdc = mdc == null || mdc.isEmpty() ? null : Collections.unmodifiableMap(mdc);
+    }
+
+    /**
+     * 현재 thread 의 context 를 복사
+     * <p>
+     * ThreadLocal 값을 읽기만 하며, 설정된 context 가 없는 경우 {@link #EMPTY} 를 반환합니다.
+     *
+     * @return 현재 thread 의 context snapshot
+     */
+    public static ContextSnapshot capture() {
+        final Map<String, String> mdc = MDC.getCopyOfContextMap();
+        final String language = I18nContext.getLanguage();
+        final String regulator = I18nContext.getRegulator();
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        // 인증 정보가 없는 context 는 전달하지 않음 ( 실행 thread 에서 새로 생성 )
+        final SecurityContext authenticated = securityContext.getAuthentication() == null ? null : securityContext;
+        if ((mdc == null || mdc.isEmpty()) && language == null && regulator == null && authenticated == null) {
+            return EMPTY;
+        }
+        return new ContextSnapshot(mdc, language, regulator, authenticated);
+    }
+
+    /**
+     * 현재 thread 에 snapshot 의 context 를 설정
+     *
+     * @return 닫으면 현재 thread 의 이전 context 로 되돌리는 scope
+     */
+    public Scope attach() {
+        final ContextSnapshot previous = capture();
+        apply(this);
+        return () -> apply(previous);
+    }
+
+    /**
+     * snapshot 의 context 에서 실행되는 작업으로 감싸기
+     *
+     * @param runnable 실행할 작업
+     * @return context 를 설정하고 실행하는 작업
+     */
+    public Runnable wrap(final Runnable runnable) {
+        return () -> {
+            try (Scope ignored = attach()) {
+                runnable.run();
+            }
+        };
+    }
+
+    /**
+     * snapshot 의 context 에서 실행되는 작업으로 감싸기 ( <code>CompletableFuture.supplyAsync</code> 등 )
+     *
+     * @param supplier 실행할 작업
+     * @param <T>      작업 결과 타입
+     * @return context 를 설정하고 실행하는 작업
+     */
+    public <T> Supplier<T> wrap(final Supplier<T> supplier) {
+        return () -> {
+            try (Scope ignored = attach()) {
+                return supplier.get();
+            }
+        };
+    }
+
+    private static void apply(final ContextSnapshot snapshot) {
+        if (snapshot.mdc == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(snapshot.mdc);
+        }
+
+        if (snapshot.language == null && snapshot.regulator == null) {
+            I18nContext.clear();    // 값이 없는 경우 ThreadLocal 을 남기지 않음
+        } else {
+            I18nContext.setLanguage(snapshot.language);
+            I18nContext.setRegulator(snapshot.regulator);
+        }
+
+        if (snapshot.securityContext == null) {
+            SecurityContextHolder.clearContext();
+        } else {
+            SecurityContextHolder.setContext(snapshot.securityContext);
+        }
+    }
+
+    /**
+     * snapshot 의 context 가 설정된 범위
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        /**
+         * 이전 context 로 되돌림
+         */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * <b>Common Module : async</b>
+ * <p>
+ * 작업 thread 에 실행 context 를 전달하는 기능을 외부 모듈에서 사용하기 위한 package-info 정의입니다.
+ *
+ * @author 서강희
+ */
+@org.springframework.modulith.NamedInterface("async")
+package com.kelly.base.common.async;
@@ -4,12 +4,9 @@ import com.kelly.base.common.interfaces.IAuditContextProvider;
 import com.kelly.base.common.audit.dto.AuditEventType;
 import com.kelly.base.common.audit.dto.AuditLogFormat;
 import com.kelly.base.common.config.CommonPropertiesConfig;
+import com.kelly.base.common.interfaces.IAuditLogWriter;
 import com.kelly.base.common.utils.DateTimeUtil;
-import com.kelly.base.common.utils.JsonUtil;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
@@ -21,17 +18,24 @@ import java.util.Map;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuditLogService {
-    // logback-spring.xml 의 logger name 과 일치
-    private static final Logger auditLogger = LoggerFactory.getLogger("AUDIT_LOGGER");
-
     private static final String NOT_APPLICABLE = "N/A";
 
-    private final CommonPropertiesConfig commonPropertiesConfig;
-
     private final IAuditContextProvider auditContextProvider;
 
+    private final IAuditLogWriter auditLogWriter;
+
+    // app 실행중 변경되지 않으므로 최초 1회만 생성
+    private final String productVersion;
+
+    public AuditLogService(final CommonPropertiesConfig commonPropertiesConfig,
+                           final IAuditContextProvider auditContextProvider, final IAuditLogWriter auditLogWriter) {
+        this.auditContextProvider = auditContextProvider;
+        this.auditLogWriter = auditLogWriter;
+        this.productVersion = commonPropertiesConfig.getApplicationName()
+                + " v" + commonPropertiesConfig.getApplicationVersion();
+    }
+
     /**
      * API 호출에 대한 audit log 저장
      *
@@ -40,11 +44,10 @@ public class AuditLogService {
      * @param activityDetail API 호출시 전달된 request body
      */
     public void logApiCall(final String ipAddress, final String activity, final Map<String, Object> activityDetail) {
-        final String productVersion = getProductVersion();
         final String detailedInfo = auditContextProvider.getDetailedInfo();
         final AuditLogFormat auditLog = new AuditLogFormat(
                 DateTimeUtil.nowUtc(), AuditEventType.API_CALL, ipAddress, activity, activityDetail, productVersion,
-                detailedInfo
+                detailedInfo, auditContextProvider.getAccountId()
         );
         logAudit(auditLog);
     }
@@ -56,7 +59,6 @@ public class AuditLogService {
      * @param activityDetail 발생한 이벤트의 추가 정보
      */
     public void logSystemEvent(final String activity, final Map<String, Object> activityDetail) {
-        final String productVersion = getProductVersion();
         final AuditLogFormat auditLog = new AuditLogFormat(
                 DateTimeUtil.nowUtc(), AuditEventType.SYSTEM_EVENT, NOT_APPLICABLE,
                 activity, activityDetail, productVersion, null
@@ -78,17 +80,21 @@ public class AuditLogService {
         logSystemEvent("Server Shutdown", Map.of("message", "application shutdown initiated"));
     }
 
+    /**
+     * 기록 대기중인 audit log 를 모두 저장하고 writer 종료
+     * <p>
+     * app 종료 시점에 호출되며, 이후의 audit log 는 호출한 thread 에서 바로 저장됩니다.
+     */
+    public void drain() {
+        auditLogWriter.close();
+    }
+
     void logAudit(final AuditLogFormat auditLog) {
         try {
-            final String jsonLog = JsonUtil.convert(auditLog, false);
-            auditLogger.info(jsonLog);
+            auditLogWriter.write(auditLog);
         } catch (Exception e) {
             // audit log 가 저장되지 못한 상황이므로 error log 출력
             log.error("failed to write audit log - contents : {}", auditLog, e);
         }
     }
-
-    private String getProductVersion() {
-        return commonPropertiesConfig.getApplicationName() + " v" + commonPropertiesConfig.getApplicationVersion();
-    }
 }
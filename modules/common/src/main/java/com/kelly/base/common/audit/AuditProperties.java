@@ -0,0 +1,227 @@
+package com.kelly.base.common.audit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * audit 설정 프로퍼티
+ * application.yml의 audit.* 설정을 바인딩
+ *
+ * @author 서강희
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "audit")
+public class AuditProperties {
+
+    /**
+     * audit log 를 기록할 writer 종류
+     */
+    private WriterType writerType = WriterType.LOGBACK;
+
+    /**
+     * audit log 에서 제외할 uri pattern (<code>PathPattern</code> 문법, context path 제외)
+     */
+    private List<String> excludedUriPatterns = new ArrayList<>(
+            List.of("/swagger-ui/**", "/v3/api-docs/**", "/actuator/**")
+    );
+
+    /**
+     * 비동기 audit pipeline 설정
+     */
+    private final Async async = new Async();
+
+    /**
+     * streaming writer 설정 (writer-type 이 STREAMING 인 경우 사용)
+     */
+    private final Streaming streaming = new Streaming();
+
+    /**
+     * segment store 설정 (writer-type 이 SEGMENT 인 경우 사용)
+     */
+    private final Store store = new Store();
+
+    /**
+     * request / response payload capture 설정
+     */
+    private final Capture capture = new Capture();
+
+    @Getter
+    @Setter
+    public static class Async {
+        /**
+         * 비동기 기록 사용 여부 (false 인 경우 요청 thread 에서 바로 기록)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 요청 thread 와 writer thread 사이의 ring buffer 크기
+         */
+        private int bufferSize = 8192;
+
+        /**
+         * writer thread 가 한 번에 처리할 최대 record 개수
+         */
+        private int batchSize = 256;
+
+        /**
+         * buffer 가 비어있을 때 writer thread 의 대기 시간 (ms)
+         */
+        private long flushIntervalMs = 200L;
+
+        /**
+         * buffer 가 가득 찼을 때의 처리 방식 ( record 를 잃지 않도록 기본값은 BLOCK, DROP 은 명시적으로 설정 )
+         */
+        private Backpressure backpressure = Backpressure.BLOCK;
+
+        /**
+         * backpressure 가 SPILL 인 경우 record 를 기록할 파일 경로
+         */
+        private String spillPath = "./logs/audit-spill.log";
+
+        /**
+         * app 종료시 writer thread 의 drain 대기 시간 (ms)
+         */
+        private long shutdownTimeoutMs = 5000L;
+    }
+
+    @Getter
+    @Setter
+    public static class Streaming {
+        /**
+         * audit log 를 기록할 파일 경로
+         */
+        private String filePath = "./logs/audit.jsonl";
+
+        /**
+         * 파일 rolling 기준 크기 (byte)
+         */
+        private long maxFileSize = 100L * 1024 * 1024;
+
+        /**
+         * rolling 된 파일의 보관 기간 (일), 0 이하인 경우 제한 없음
+         */
+        private int maxHistoryDays = 730;
+
+        /**
+         * rolling 된 파일 전체의 최대 크기 (byte), 넘는 경우 오래된 파일부터 삭제 ( 0 이하인 경우 제한 없음 )
+         */
+        private long totalSizeCap = 1024L * 1024 * 1024;
+
+        /**
+         * rolling 된 파일의 gzip 압축 여부
+         */
+        private boolean compress = true;
+
+        /**
+         * 직렬화된 record 를 모아둘 buffer 크기 (byte), 해당 크기를 넘으면 파일에 기록
+         */
+        private int bufferSize = 64 * 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Store {
+        /**
+         * segment 파일을 저장할 directory
+         */
+        private String directory = "./data/audit";
+
+        /**
+         * segment 파일 1개의 크기 (byte), 가득 차면 새로운 segment 로 전환
+         */
+        private int segmentSize = 64 * 1024 * 1024;
+
+        /**
+         * 시간 / accountId index block 1개에 포함될 record 개수
+         */
+        private int indexInterval = 128;
+
+        /**
+         * segment 보관 기간 (일), 마지막 record 가 보관 기간을 지난 segment 는 삭제
+         */
+        private int retentionDays = 730;
+
+        /**
+         * 기록중인 segment 를 파일 ( disk ) 에 반영하는 시점, segment 봉인 / 종료시에는 항상 반영
+         */
+        private ForcePolicy forcePolicy = ForcePolicy.INTERVAL;
+
+        /**
+         * force-policy 가 INTERVAL 인 경우 기록중인 segment 를 반영하는 간격 (ms)
+         */
+        private long forceIntervalMs = 1000L;
+
+        /**
+         * 조회를 위해 mapping / index 를 유지할 봉인된 segment 의 최대 개수, 넘는 경우 오래전에 조회된 segment 부터 해제
+         */
+        private int maxMappedSegments = 4;
+
+        /**
+         * 조회 API 1회 호출시 반환할 수 있는 최대 record 개수
+         */
+        private int maxQueryLimit = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Capture {
+        /**
+         * 크기 제한 capture 사용 여부 (false 인 경우 payload 객체를 그대로 audit log 에 전달)
+         */
+        private boolean enabled = false;
+
+        /**
+         * payload 1개당 최대 직렬화 크기 (byte), 넘는 경우 앞부분만 preview 로 저장
+         */
+        private int maxBytes = 16 * 1024;
+
+        /**
+         * 배열 / collection 당 최대 element 개수
+         */
+        private int maxElements = 100;
+
+        /**
+         * capture 할 field 이름 (비어있는 경우 전체, 중첩된 객체는 상위 field 이름도 포함 필요)
+         */
+        private List<String> includeFields = new ArrayList<>();
+
+        /**
+         * capture 에서 제외할 field 이름 (모든 depth 에 적용)
+         */
+        private List<String> excludeFields = new ArrayList<>();
+    }
+
+    /**
+     * audit log 를 기록할 writer 종류
+     */
+    public enum WriterType {
+        LOGBACK,    // json 문자열로 변환 후 AUDIT_LOGGER 로 출력 (logback-spring.xml 설정 사용)
+        STREAMING,  // 재사용 buffer 로 직접 직렬화하여 파일에 기록
+        SEGMENT     // memory-mapped segment 파일에 기록 ( 시간 / accountId 로 조회 가능 )
+    }
+
+    /**
+     * segment store 의 기록중인 segment 를 파일에 반영 ( force ) 하는 시점
+     */
+    public enum ForcePolicy {
+        FLUSH,      // writer 의 flush ( batch ) 마다 반영
+        INTERVAL,   // force-interval-ms 마다 반영
+        SEAL        // segment 봉인 / 종료시에만 반영 ( OS 장애시 마지막 segment 의 최근 record 유실 가능 )
+    }
+
+    /**
+     * buffer 가 가득 찼을 때의 처리 방식
+     */
+    public enum Backpressure {
+        BLOCK,  // buffer 에 여유가 생길때까지 요청 thread 대기
+        DROP,   // record 를 버리고 drop counter 증가 ( audit log 유실 )
+        SPILL   // 요청 thread 에서 spill 파일에 직접 기록
+    }
+}
@@ -0,0 +1,111 @@
+package com.kelly.base.common.audit.advice;
+
+import com.kelly.base.common.audit.AuditProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <code>audit.excluded-uri-patterns</code> 에 해당하는 요청인지 확인하는 matcher
+ * <p>
+ * 설정된 pattern 은 시작 시점에 <code>PathPattern</code> 으로 변환하고,
+ * 요청이 매핑된 handler 의 pattern 별로 제외 여부를 최초 1회만 판단하여 재사용합니다.<br>
+ * - handler pattern 에 변수 / wildcard 가 없는 경우 : pattern 자체로 판단<br>
+ * - handler pattern 의 고정된 앞부분으로 결과가 정해지는 경우 : 항상 제외 또는 항상 포함<br>
+ * - 그 외의 경우 및 handler pattern 정보가 없는 경우 : 요청 uri 로 매번 확인
+ *
+ * @author 서강희
+ */
+@Component
+public class AuditExclusionMatcher {
+    private static final PathPatternParser PATTERN_PARSER = PathPatternParser.defaultInstance;
+
+    private static final String SUB_PATHS = "/**";
+
+    private final List<PathPattern> excludedPatterns;
+
+    // handler pattern 별 제외 여부
+    private final Map<String, Decision> decisionCache = new ConcurrentHashMap<>();
+
+    public AuditExclusionMatcher(final AuditProperties auditProperties) {
+        this.excludedPatterns = auditProperties.getExcludedUriPatterns().stream().map(PATTERN_PARSER::parse).toList();
+    }
+
+    /**
+     * audit log 에서 제외할 요청인지 확인
+     *
+     * @param request http 요청
+     * @return 제외 대상인 경우 true
+     */
+    public boolean isExcluded(final HttpServletRequest request) {
+        if (excludedPatterns.isEmpty()) {
+            return false;
+        }
+
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String handlerPattern) {
+            final Decision decision = decisionCache.computeIfAbsent(handlerPattern, this::decide);
+            if (decision != Decision.DYNAMIC) {
+                return decision == Decision.EXCLUDED;
+            }
+        }
+        return matches(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    private Decision decide(final String handlerPattern) {
+        if (!PATTERN_PARSER.parse(handlerPattern).hasPatternSyntax()) {
+            return matches(handlerPattern) ? Decision.EXCLUDED : Decision.INCLUDED;
+        }
+
+        final String handlerPrefix = literalPrefix(handlerPattern);
+        Decision decision = Decision.INCLUDED;
+        for (final PathPattern excludedPattern : excludedPatterns) {
+            final String patternString = excludedPattern.getPatternString();
+            final String excludedPrefix = literalPrefix(patternString);
+            if (isSubPathsPattern(patternString, excludedPrefix) && handlerPrefix.startsWith(excludedPrefix)) {
+                return Decision.EXCLUDED;   // ex) "/actuator/**" 는 "/actuator/{name}" 의 모든 요청과 일치
+            }
+            if (handlerPrefix.startsWith(excludedPrefix) || excludedPrefix.startsWith(handlerPrefix)) {
+                decision = Decision.DYNAMIC;    // 앞부분이 겹치는 경우 요청 uri 로 확인
+            }
+        }
+        return decision;
+    }
+
+    private boolean matches(final String path) {
+        final PathContainer pathContainer = PathContainer.parsePath(path);
+        for (final PathPattern excludedPattern : excludedPatterns) {
+            if (excludedPattern.matches(pathContainer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSubPathsPattern(final String patternString, final String literalPrefix) {
+        // "{고정된 경로}/**" 형태인지 확인
+        return patternString.endsWith(SUB_PATHS) && literalPrefix.length() == patternString.length() - 2;
+    }
+
+    private static String literalPrefix(final String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if (c == '{' || c == '*' || c == '?') {
+                return pattern.substring(0, i);
+            }
+        }
+        return pattern;
+    }
+
+    private enum Decision {
+        EXCLUDED,
+        INCLUDED,
+        DYNAMIC
+    }
+}
@@ -0,0 +1,59 @@
+package com.kelly.base.common.audit.advice;
+
+import com.kelly.base.common.audit.annotation.NoAudit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Executable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * handler method 별 audit 대상 여부를 보관하는 registry
+ * <p>
+ * 시작 시점에 <code>RequestMappingHandlerMapping</code> 에 등록된 handler method 의
+ * <code>@NoAudit</code> 적용 여부를 미리 확인하여, request / response advice 에서 reflection 없이 조회합니다.<br>
+ * 등록되지 않은 method 는 최초 조회시 확인하여 추가합니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditHandlerRegistry implements SmartInitializingSingleton {
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+
+    private final Map<Executable, Boolean> auditableHandlers = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        handlerMappings.orderedStream().forEach(
+                handlerMapping -> handlerMapping.getHandlerMethods().values().stream()
+                                                .map(HandlerMethod::getMethod)
+                                                .forEach(method -> auditableHandlers.put(method, resolve(method)))
+        );
+        log.info("audit handler registry initialized - handlers : {}, excluded : {}",
+                 auditableHandlers.size(), auditableHandlers.values().stream().filter(auditable -> !auditable).count());
+    }
+
+    /**
+     * audit 대상 handler method 인지 확인
+     *
+     * @param methodParameter handler method 의 parameter 또는 return type
+     * @return <code>@NoAudit</code> 이 method / class 에 적용되지 않은 경우 true
+     */
+    public boolean isAuditable(final MethodParameter methodParameter) {
+        return auditableHandlers.computeIfAbsent(methodParameter.getExecutable(), AuditHandlerRegistry::resolve);
+    }
+
+    private static boolean resolve(final Executable executable) {
+        return !executable.isAnnotationPresent(NoAudit.class) &&    // method
+                !executable.getDeclaringClass().isAnnotationPresent(NoAudit.class);     // class
+    }
+}
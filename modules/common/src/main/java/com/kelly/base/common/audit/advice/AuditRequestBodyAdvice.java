@@ -1,6 +1,7 @@
 package com.kelly.base.common.audit.advice;
 
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpInputMessage;
@@ -22,14 +23,18 @@ import static com.kelly.base.common.CommonConstants.AuditConstants.ATTR_AUDIT_RE
  */
 @Component
 @ControllerAdvice
+@RequiredArgsConstructor
 public class AuditRequestBodyAdvice extends RequestBodyAdviceAdapter {
     // https://github.com/spring-projects/spring-framework/blob/main/spring-webmvc/src/main/java/org/springframework/web/servlet/mvc/method/annotation/package-info.java
     // 패키지 내의 모든 method 에 @NullMarked 가 적용되어 해당 parameter 및 return 에 @NonNull 이 적용되어 있음
 
+    private final AuditHandlerRegistry auditHandlerRegistry;
+
     @Override
     public boolean supports(@NonNull MethodParameter methodParameter, @NonNull Type targetType,
                             @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
-        return true;    // request 에서는 default 로 attribute 저장 처리 후 response 에서 @NoAudit 처리
+        // audit 대상이 아닌 handler (@NoAudit) 는 request body 를 저장하지 않음
+        return auditHandlerRegistry.isAuditable(methodParameter);
     }
 
     @NonNull
@@ -1,7 +1,7 @@
 package com.kelly.base.common.audit.advice;
 
 import com.kelly.base.common.audit.AuditLogService;
-import com.kelly.base.common.audit.annotation.NoAudit;
+import com.kelly.base.common.audit.capture.AuditPayloadCapturer;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
@@ -13,14 +13,13 @@ import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
 
-import static com.kelly.base.common.CommonConstants.AuditConstants.*;
+import static com.kelly.base.common.CommonConstants.AuditConstants.ATTR_AUDIT_REQ_BODY;
 
 /**
  * audit 처리를 하는 ControllerAdvice
@@ -36,7 +35,11 @@ public class AuditResponseBodyAdvice implements ResponseBodyAdvice<Object> {
 
     private final AuditLogService auditLogService;
 
-    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private final AuditPayloadCapturer auditPayloadCapturer;
+
+    private final AuditExclusionMatcher auditExclusionMatcher;
+
+    private final AuditHandlerRegistry auditHandlerRegistry;
 
     static final String DETAIL_KEY_QUERY = "query";
     static final String DETAIL_KEY_REQ_BODY = "requestPayload";
@@ -46,8 +49,7 @@ public class AuditResponseBodyAdvice implements ResponseBodyAdvice<Object> {
     public boolean supports(@NonNull MethodParameter returnType,
                             @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
         // @NoAudit 이 적용되어 있는 경우에는 AuditResponseBodyAdvice 처리 제외
-        return (!returnType.hasMethodAnnotation(NoAudit.class)) &&  // method
-                (!returnType.getDeclaringClass().isAnnotationPresent(NoAudit.class));   // class
+        return auditHandlerRegistry.isAuditable(returnType);
     }
 
     @Override
@@ -56,44 +58,42 @@ public class AuditResponseBodyAdvice implements ResponseBodyAdvice<Object> {
                                   @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
                                   @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
         final HttpServletRequest httpReq = ((ServletServerHttpRequest) request).getServletRequest();
-        final String uri = httpReq.getRequestURI();
-
-        if (isAuditExcluded(uri)) {
+        if (auditExclusionMatcher.isExcluded(httpReq)) {
             return body;
         }
 
+        final String uri = httpReq.getRequestURI();
         final String method = httpReq.getMethod();
         final String activity = method + " " + uri;
         final String ip = httpReq.getRemoteAddr();
 
         final Map<String, Object> detail = new LinkedHashMap<>();
         updateQuery(detail, httpReq.getQueryString());  // query
-        updateRequest(detail, httpReq.getAttribute(ATTR_AUDIT_REQ_BODY));   // request payload
-        updateResponse(detail, body);   // response payload
+        updateRequest(detail, httpReq.getAttribute(ATTR_AUDIT_REQ_BODY), returnType);   // request payload
+        updateResponse(detail, body, returnType);   // response payload
 
         auditLogService.logApiCall(ip, activity, detail);
         return body;
     }
 
-    private boolean isAuditExcluded(final String uri) {
-        return EXCLUDED_URI_PATTERNS.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, uri));
-    }
-
     private void updateQuery(final Map<String, Object> detail, final String queryString) {
         if (queryString != null) {
             detail.put(DETAIL_KEY_QUERY, queryString);
         }
     }
 
-    private void updateRequest(final Map<String, Object> detail, final Object requestBody) {
+    private void updateRequest(final Map<String, Object> detail, final Object requestBody,
+                               final MethodParameter returnType) {
         if (requestBody != null) {
-            detail.put(DETAIL_KEY_REQ_BODY, requestBody);
+            detail.put(DETAIL_KEY_REQ_BODY, auditPayloadCapturer.capture(requestBody, returnType));
         }
     }
 
-    private void updateResponse(final Map<String, Object> detail, final Object responseBody) {
-        if (responseBody != null) {
-            detail.put(DETAIL_KEY_RESP_BODY, responseBody);
+    private void updateResponse(final Map<String, Object> detail, final Object responseBody,
+                                final MethodParameter returnType) {
+        // @AuditCapture(response = false) 인 경우 호출 기록만 남김
+        if (responseBody != null && auditPayloadCapturer.isResponseCaptured(returnType)) {
+            detail.put(DETAIL_KEY_RESP_BODY, auditPayloadCapturer.capture(responseBody, returnType));
         }
     }
 }
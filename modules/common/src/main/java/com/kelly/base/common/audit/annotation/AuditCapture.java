@@ -0,0 +1,30 @@
+package com.kelly.base.common.audit.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * controller 별로 audit log 에 저장할 payload 의 capture 범위를 지정하는 annotation
+ * <p>
+ * 지정하지 않은 항목은 <code>audit.capture.*</code> 설정을 사용하며, method 에 선언된 값이 class 보다 우선합니다.<br>
+ * <code>audit.capture.enabled</code> 가 false 인 경우에는 적용되지 않습니다. ( <code>response</code> 는 항상 적용 )
+ *
+ * @author 서강희
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AuditCapture {
+    int INHERIT = -1;
+
+    int maxBytes() default INHERIT;         // payload 1개당 최대 직렬화 크기 (byte)
+
+    int maxElements() default INHERIT;      // 배열 / collection 당 최대 element 개수
+
+    String[] includeFields() default {};    // capture 할 field 이름 (비어있는 경우 설정값 사용)
+
+    String[] excludeFields() default {};    // capture 에서 제외할 field 이름 (비어있는 경우 설정값 사용)
+
+    boolean response() default true;        // response payload 기록 여부 (false 인 경우 호출 기록만 남김)
+}
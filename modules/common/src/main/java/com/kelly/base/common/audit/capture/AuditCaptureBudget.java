@@ -0,0 +1,50 @@
+package com.kelly.base.common.audit.capture;
+
+import com.kelly.base.common.audit.AuditProperties;
+import com.kelly.base.common.audit.annotation.AuditCapture;
+
+import java.util.Set;
+
+/**
+ * payload capture 에 적용할 제한 값
+ *
+ * @param maxBytes      payload 1개당 최대 직렬화 크기 (byte)
+ * @param maxElements   배열 / collection 당 최대 element 개수
+ * @param includeFields capture 할 field 이름 (비어있는 경우 전체)
+ * @param excludeFields capture 에서 제외할 field 이름
+ * @author 서강희
+ */
+public record AuditCaptureBudget(
+        int maxBytes,
+        int maxElements,
+        Set<String> includeFields,
+        Set<String> excludeFields
+) {
+    /**
+     * <code>audit.capture.*</code> 설정값으로 생성
+     *
+     * @param capture capture 설정
+     * @return AuditCaptureBudget 인스턴스
+     */
+    public static AuditCaptureBudget of(final AuditProperties.Capture capture) {
+        return new AuditCaptureBudget(
+                capture.getMaxBytes(), capture.getMaxElements(),
+                Set.copyOf(capture.getIncludeFields()), Set.copyOf(capture.getExcludeFields())
+        );
+    }
+
+    /**
+     * <code>@AuditCapture</code> 에 지정된 값으로 덮어쓴 budget 생성
+     *
+     * @param auditCapture controller 에 선언된 annotation
+     * @return AuditCaptureBudget 인스턴스
+     */
+    public AuditCaptureBudget override(final AuditCapture auditCapture) {
+        return new AuditCaptureBudget(
+                auditCapture.maxBytes() == AuditCapture.INHERIT ? maxBytes : auditCapture.maxBytes(),
+                auditCapture.maxElements() == AuditCapture.INHERIT ? maxElements : auditCapture.maxElements(),
+                auditCapture.includeFields().length == 0 ? includeFields : Set.of(auditCapture.includeFields()),
+                auditCapture.excludeFields().length == 0 ? excludeFields : Set.of(auditCapture.excludeFields())
+        );
+    }
+}
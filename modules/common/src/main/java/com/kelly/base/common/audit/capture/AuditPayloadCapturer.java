@@ -0,0 +1,347 @@
+package com.kelly.base.common.audit.capture;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.type.ArrayType;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.kelly.base.common.audit.AuditProperties;
+import com.kelly.base.common.audit.annotation.AuditCapture;
+import com.kelly.base.common.utils.JsonUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Executable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * audit log 에 저장할 request / response payload 를 크기 제한 내에서 직렬화하는 component
+ * <p>
+ * <code>audit.capture.enabled</code> 가 true 인 경우 payload 를 bounded buffer 에 한 번만 직렬화하고,
+ * 그 결과를 <code>RawValue</code> 로 전달하여 audit log 기록시 다시 직렬화하지 않습니다.<br>
+ * - maxBytes 를 넘으면 직렬화를 중단하고 앞부분만 <code>preview</code> 로 남깁니다.<br>
+ * - maxElements 를 넘는 List / 배열 element 는 serializer 를 호출하지 않으며,
+ * 그 외 ( Set, JsonNode 등 ) 의 넘는 element 와 include / exclude 조건에 맞지 않는 field 는 출력하지 않습니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+@Component
+public class AuditPayloadCapturer {
+    static final String KEY_TRUNCATED = "truncated";
+    static final String KEY_MAX_BYTES = "maxBytes";
+    static final String KEY_PREVIEW = "preview";
+    static final String KEY_CAPTURE_ERROR = "captureError";
+
+    static final String ATTRIBUTE_MAX_ELEMENTS = AuditPayloadCapturer.class.getName() + ".maxElements";
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    // List / 배열을 maxElements 까지만 직렬화하는 ObjectMapper ( JsonUtil 설정은 그대로 사용 )
+    private static final ObjectMapper CAPTURE_MAPPER = JsonUtil.objectMapper.copy().registerModule(
+            new SimpleModule().setSerializerModifier(new ElementLimitModifier())
+    );
+
+    private final boolean enabled;
+
+    private final AuditCaptureBudget defaultBudget;
+
+    // handler method 별 budget (annotation 조회는 최초 1회만 처리)
+    private final Map<Executable, AuditCaptureBudget> budgetCache = new ConcurrentHashMap<>();
+
+    // handler method 별 response payload 기록 여부
+    private final Map<Executable, Boolean> responseCaptureCache = new ConcurrentHashMap<>();
+
+    public AuditPayloadCapturer(final AuditProperties auditProperties) {
+        this.enabled = auditProperties.getCapture().isEnabled();
+        this.defaultBudget = AuditCaptureBudget.of(auditProperties.getCapture());
+    }
+
+    /**
+     * handler method 에 맞는 budget 으로 payload capture
+     *
+     * @param payload     request / response payload
+     * @param handlerType 호출된 handler method 정보
+     * @return capture 가 비활성화된 경우 payload 그대로, 활성화된 경우 직렬화된 <code>RawValue</code> 또는 truncate 정보
+     */
+    public Object capture(final Object payload, final MethodParameter handlerType) {
+        if (!enabled || payload == null) {
+            return payload;
+        }
+        return capture(payload, resolveBudget(handlerType));
+    }
+
+    /**
+     * response payload 를 audit log 에 기록할지 확인
+     * <p>
+     * capture 설정과 관계없이 <code>@AuditCapture(response = false)</code> 인 경우 기록하지 않습니다.
+     *
+     * @param handlerType 호출된 handler method 정보
+     * @return response payload 를 기록하는 경우 true
+     */
+    public boolean isResponseCaptured(final MethodParameter handlerType) {
+        return responseCaptureCache.computeIfAbsent(handlerType.getExecutable(), executable -> {
+            final AuditCapture auditCapture = findAuditCapture(handlerType);
+            return auditCapture == null || auditCapture.response();
+        });
+    }
+
+    AuditCaptureBudget resolveBudget(final MethodParameter handlerType) {
+        return budgetCache.computeIfAbsent(handlerType.getExecutable(), executable -> {
+            final AuditCapture auditCapture = findAuditCapture(handlerType);
+            return auditCapture == null ? defaultBudget : defaultBudget.override(auditCapture);
+        });
+    }
+
+    private static AuditCapture findAuditCapture(final MethodParameter handlerType) {
+        // method 에 선언된 값이 class 보다 우선
+        final AuditCapture auditCapture = handlerType.getMethodAnnotation(AuditCapture.class);
+        return auditCapture != null ? auditCapture : handlerType.getDeclaringClass().getAnnotation(AuditCapture.class);
+    }
+
+    Object capture(final Object payload, final AuditCaptureBudget budget) {
+        final CaptureOutputStream output = new CaptureOutputStream(budget.maxBytes());
+        JsonGenerator generator = null;
+        try {
+            generator = CAPTURE_MAPPER.getFactory().createGenerator(output, JsonEncoding.UTF8);
+            final JsonGenerator filtering = new FilteringGeneratorDelegate(
+                    generator, new BudgetFilter(budget, output, generator), TokenFilter.Inclusion.INCLUDE_NON_NULL,
+                    true
+            );
+            CAPTURE_MAPPER.writer()
+                          .withAttribute(ATTRIBUTE_MAX_ELEMENTS, budget.maxElements())
+                          .writeValue(filtering, payload);
+            filtering.flush();
+        } catch (Exception e) {
+            if (!output.isExceeded()) {
+                log.warn("failed to capture audit payload - type : {}", payload.getClass().getName(), e);
+                return Map.of(KEY_CAPTURE_ERROR, e.getClass().getSimpleName());
+            }
+            fillPreview(generator);
+            return truncated(budget, output);
+        }
+        return new RawValue(output.toUtf8String());
+    }
+
+    private void fillPreview(final JsonGenerator generator) {
+        // generator 내부 buffer 에 남은 내용을 maxBytes 까지 채우기 위한 flush (budget 초과 예외는 무시)
+        try {
+            generator.flush();
+        } catch (Exception e) {
+            log.trace("audit payload capture budget exceeded while filling preview");
+        }
+    }
+
+    private Map<String, Object> truncated(final AuditCaptureBudget budget, final CaptureOutputStream output) {
+        final Map<String, Object> truncated = new LinkedHashMap<>();
+        truncated.put(KEY_TRUNCATED, true);
+        truncated.put(KEY_MAX_BYTES, budget.maxBytes());
+        truncated.put(KEY_PREVIEW, output.toUtf8String());
+        return truncated;
+    }
+
+    /**
+     * budget 초과를 알리기 위한 예외 (stack trace 생성 비용 제거)
+     */
+    private static final class BudgetExceededException extends RuntimeException {
+        private static final BudgetExceededException INSTANCE = new BudgetExceededException();
+
+        private BudgetExceededException() {
+            super("audit payload capture budget exceeded", null, false, false);
+        }
+    }
+
+    /**
+     * maxBytes 까지만 보관하고, 넘치는 경우 직렬화를 중단시키는 OutputStream
+     */
+    static final class CaptureOutputStream extends OutputStream {
+        private final int maxBytes;
+
+        private byte[] buffer;
+
+        private int count;
+
+        private boolean exceeded;
+
+        CaptureOutputStream(final int maxBytes) {
+            this.maxBytes = maxBytes;
+            this.buffer = new byte[Math.min(maxBytes, INITIAL_BUFFER_SIZE)];
+        }
+
+        @Override
+        public void write(final int b) {
+            if (count >= maxBytes) {
+                exceed();
+            }
+            ensureCapacity(count + 1);
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(final byte[] source, final int offset, final int length) {
+            final int writable = Math.min(length, maxBytes - count);
+            ensureCapacity(count + writable);
+            System.arraycopy(source, offset, buffer, count, writable);
+            count += writable;
+            if (writable < length) {
+                exceed();
+            }
+        }
+
+        boolean isExceeded() {
+            return exceeded;
+        }
+
+        int size() {
+            return count;
+        }
+
+        private void exceed() {
+            exceeded = true;
+            throw BudgetExceededException.INSTANCE;
+        }
+
+        String toUtf8String() {
+            return new String(buffer, 0, count, StandardCharsets.UTF_8);
+        }
+
+        private void ensureCapacity(final int required) {
+            if (required > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.min(Math.max(buffer.length * 2, required), maxBytes));
+            }
+        }
+    }
+
+    /**
+     * List / 배열 serializer 를 <code>ElementLimitSerializer</code> 로 감싸는 modifier
+     */
+    private static final class ElementLimitModifier extends BeanSerializerModifier {
+        @Override
+        public JsonSerializer<?> modifyCollectionSerializer(final SerializationConfig config,
+                                                           final CollectionType valueType,
+                                                           final BeanDescription beanDesc,
+                                                           final JsonSerializer<?> serializer) {
+            return new ElementLimitSerializer(serializer);
+        }
+
+        @Override
+        public JsonSerializer<?> modifyArraySerializer(final SerializationConfig config, final ArrayType valueType,
+                                                      final BeanDescription beanDesc,
+                                                      final JsonSerializer<?> serializer) {
+            return new ElementLimitSerializer(serializer);
+        }
+    }
+
+    /**
+     * maxElements 까지의 앞부분만 원래 serializer 에 전달하는 serializer
+     * <p>
+     * TokenFilter 는 출력만 제외하므로, 큰 page 의 넘는 element 까지 직렬화하지 않도록 직렬화 전에 잘라냅니다.
+     * ( List 는 복사 없는 subList, 객체 배열은 앞부분 복사, 그 외 collection 은 그대로 전달 )
+     */
+    private static final class ElementLimitSerializer extends JsonSerializer<Object> implements ContextualSerializer {
+        private final JsonSerializer<Object> delegate;
+
+        @SuppressWarnings("unchecked")
+        private ElementLimitSerializer(final JsonSerializer<?> delegate) {
+            this.delegate = (JsonSerializer<Object>) delegate;
+        }
+
+        @Override
+        public void serialize(final Object value, final JsonGenerator gen, final SerializerProvider provider)
+                throws IOException {
+            delegate.serialize(limit(value, provider), gen, provider);
+        }
+
+        @Override
+        public void serializeWithType(final Object value, final JsonGenerator gen, final SerializerProvider provider,
+                                      final TypeSerializer typeSer) throws IOException {
+            delegate.serializeWithType(limit(value, provider), gen, provider, typeSer);
+        }
+
+        @Override
+        public boolean isEmpty(final SerializerProvider provider, final Object value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(final SerializerProvider provider, final BeanProperty property)
+                throws JsonMappingException {
+            return new ElementLimitSerializer(provider.handleSecondaryContextualization(delegate, property));
+        }
+
+        private static Object limit(final Object value, final SerializerProvider provider) {
+            final int maxElements = (int) provider.getAttribute(ATTRIBUTE_MAX_ELEMENTS);
+            if (value instanceof List<?> list && list.size() > maxElements) {
+                return list.subList(0, maxElements);
+            }
+            if (value instanceof Object[] array && array.length > maxElements) {
+                return Arrays.copyOf(array, maxElements);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * field / element 단위로 budget 을 적용하는 TokenFilter
+     */
+    private static final class BudgetFilter extends TokenFilter {
+        private final AuditCaptureBudget budget;
+
+        private final CaptureOutputStream output;
+
+        private final JsonGenerator generator;
+
+        private BudgetFilter(final AuditCaptureBudget budget, final CaptureOutputStream output,
+                             final JsonGenerator generator) {
+            this.budget = budget;
+            this.output = output;
+            this.generator = generator;
+        }
+
+        @Override
+        public TokenFilter includeProperty(final String name) {
+            checkBudget();
+            if (budget.excludeFields().contains(name)) {
+                return null;
+            }
+            if (!budget.includeFields().isEmpty() && !budget.includeFields().contains(name)) {
+                return null;
+            }
+            return this;
+        }
+
+        @Override
+        public TokenFilter includeElement(final int index) {
+            checkBudget();
+            return index < budget.maxElements() ? this : null;
+        }
+
+        private void checkBudget() {
+            // generator 내부 buffer 에 남아있는 내용까지 포함하여 확인, 초과시 남은 직렬화를 중단
+            if (output.size() + generator.getOutputBuffered() > budget.maxBytes()) {
+                output.exceed();
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.kelly.base.common.audit.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.kelly.base.common.CommonConstants;
@@ -19,6 +20,7 @@ import java.util.Map;
  * @param activityDetail   동작 상세 정보 ( payload.. )
  * @param productVersion   앱 정보
  * @param detailedInfo     추가 상세 정보 ( accountId, role.. )
+ * @param accountId        호출한 사용자의 accountId, audit store 의 조회용 index 로만 사용 ( json 에는 포함되지 않음 )
  * @author 서강희
  */
 @Schema(description = "log - audit")
@@ -31,6 +33,13 @@ public record AuditLogFormat(
         String activity,
         Map<String, Object> activityDetail,
         String productVersion,
-        String detailedInfo
+        String detailedInfo,
+        @JsonIgnore
+        Long accountId
 ) {
+    public AuditLogFormat(final ZonedDateTime creationDateTime, final AuditEventType eventType,
+                          final String ipAddress, final String activity, final Map<String, Object> activityDetail,
+                          final String productVersion, final String detailedInfo) {
+        this(creationDateTime, eventType, ipAddress, activity, activityDetail, productVersion, detailedInfo, null);
+    }
 }
@@ -28,5 +28,8 @@ public class AppLifecycleListener {
     public void onApplicationShutdown() {
         // app 종료시 audit log 저장
         auditLogService.logSystemEventAppShutdown();
+
+        // 비동기 buffer 에 남아있는 audit log 까지 모두 저장
+        auditLogService.drain();
     }
 }
@@ -0,0 +1,357 @@
+package com.kelly.base.common.audit.store;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 고정 크기의 memory-mapped audit segment 파일
+ * <p>
+ * 파일 구조<br>
+ * - header (32 byte) : magic(4) + version(4) + writePosition(4) + recordCount(4) + minTime(8) + maxTime(8)<br>
+ * - record : length(4) + epochMillis(8) + accountId(8) + json(length)<br>
+ * <code>indexInterval</code> 개의 record 마다 시간 범위와 accountId 목록을 가진 block index 를 메모리에 유지하며,
+ * 봉인된 segment 는 header 만 읽어두고 조회될 때 mapping 및 index 를 생성하며, {@link #release()} 로 해제합니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+final class AuditSegment {
+    static final int MAGIC = 0x41554454;    // "AUDT"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_HEADER_SIZE = 20;
+    static final long NO_ACCOUNT_ID = -1L;
+
+    private static final int POS_MAGIC = 0;
+    private static final int POS_VERSION = 4;
+    private static final int POS_WRITE_POSITION = 8;
+    private static final int POS_RECORD_COUNT = 12;
+    private static final int POS_MIN_TIME = 16;
+    private static final int POS_MAX_TIME = 24;
+
+    private final Path path;
+
+    private final int indexInterval;
+
+    private MappedByteBuffer buffer;
+
+    private volatile int writePosition;
+
+    private volatile long minTime;
+
+    private volatile long maxTime;
+
+    private int recordCount;
+
+    private List<IndexBlock> blocks;
+
+    private Set<Long> accountIds;
+
+    private boolean deleted;
+
+    private AuditSegment(final Path path, final int indexInterval) {
+        this.path = path;
+        this.indexInterval = indexInterval;
+    }
+
+    /**
+     * 새로운 segment 파일 생성
+     */
+    static AuditSegment create(final Path path, final int segmentSize, final int indexInterval) throws IOException {
+        final AuditSegment segment = new AuditSegment(path, indexInterval);
+        try (FileChannel channel = FileChannel.open(
+                path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE
+        )) {
+            segment.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        segment.buffer.putInt(POS_MAGIC, MAGIC);
+        segment.buffer.putInt(POS_VERSION, VERSION);
+        segment.writePosition = HEADER_SIZE;
+        segment.minTime = Long.MAX_VALUE;
+        segment.maxTime = Long.MIN_VALUE;
+        segment.writeHeader();
+        segment.blocks = new ArrayList<>();
+        segment.accountIds = new HashSet<>();
+        return segment;
+    }
+
+    /**
+     * 기존 segment 파일 열기
+     *
+     * @param writable 이어서 기록할 segment 인 경우 true (즉시 mapping 및 index 생성)
+     */
+    static AuditSegment open(final Path path, final int indexInterval, final boolean writable) throws IOException {
+        final AuditSegment segment = new AuditSegment(path, indexInterval);
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // header 전체를 읽을 때까지 반복
+            }
+        }
+        if (header.hasRemaining() || header.getInt(POS_MAGIC) != MAGIC || header.getInt(POS_VERSION) != VERSION) {
+            throw new IOException("invalid audit segment : " + path);
+        }
+        segment.writePosition = header.getInt(POS_WRITE_POSITION);
+        segment.recordCount = header.getInt(POS_RECORD_COUNT);
+        segment.minTime = header.getLong(POS_MIN_TIME);
+        segment.maxTime = header.getLong(POS_MAX_TIME);
+
+        if (writable) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                segment.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            }
+            segment.buildIndex();
+        }
+        return segment;
+    }
+
+    /**
+     * record 추가
+     *
+     * @return segment 에 남은 공간이 부족한 경우 false
+     */
+    synchronized boolean append(final long epochMillis, final long accountId, final byte[] json) {
+        final int position = writePosition;
+        final int nextPosition = position + RECORD_HEADER_SIZE + json.length;
+        if (nextPosition > buffer.capacity()) {
+            return false;
+        }
+
+        buffer.putInt(position, json.length);
+        buffer.putLong(position + 4, epochMillis);
+        buffer.putLong(position + 12, accountId);
+        buffer.put(position + RECORD_HEADER_SIZE, json);
+
+        addToIndex(position, epochMillis, accountId);
+        recordCount++;
+        minTime = Math.min(minTime, epochMillis);
+        maxTime = Math.max(maxTime, epochMillis);
+        writePosition = nextPosition;
+        writeHeader();
+        return true;
+    }
+
+    /**
+     * 시간 범위 (및 accountId) 에 해당하는 record 조회
+     *
+     * @param accountId 조회할 accountId (null 인 경우 전체)
+     * @param limit     최대 조회 개수
+     * @param consumer  조회된 record 의 json 을 전달받을 consumer
+     * @return 조회된 record 개수
+     */
+    int scan(final long fromMillis, final long toMillis, final Long accountId, final int limit,
+             final Consumer<String> consumer) throws IOException {
+        if (limit <= 0 || !overlaps(fromMillis, toMillis)) {
+            return 0;
+        }
+
+        final int end = writePosition;
+        final List<IndexBlock> snapshot;
+        final ByteBuffer view;
+        synchronized (this) {
+            if (deleted) {
+                return 0;   // 조회중 retention 으로 삭제된 segment
+            }
+            ensureIndexed();
+            if (accountId != null && !accountIds.contains(accountId)) {
+                return 0;
+            }
+            snapshot = new ArrayList<>(blocks);
+            view = buffer.duplicate();
+        }
+
+        int found = 0;
+        for (int i = findFirstBlock(snapshot, fromMillis); i < snapshot.size(); i++) {
+            final IndexBlock block = snapshot.get(i);
+            final boolean lastBlock = i == snapshot.size() - 1;
+            // 마지막 block 은 기록중일 수 있으므로 index 로 제외하지 않음
+            if (!lastBlock && !block.matches(fromMillis, toMillis, accountId)) {
+                continue;
+            }
+
+            final int blockEnd = lastBlock ? end : Math.min(snapshot.get(i + 1).offset, end);
+            int position = block.offset;
+            while (position < blockEnd) {
+                final int length = view.getInt(position);
+                final long epochMillis = view.getLong(position + 4);
+                final long recordAccountId = view.getLong(position + 12);
+                if (epochMillis >= fromMillis && epochMillis <= toMillis
+                        && (accountId == null || accountId == recordAccountId)) {
+                    final byte[] json = new byte[length];
+                    view.get(position + RECORD_HEADER_SIZE, json);
+                    consumer.accept(new String(json, StandardCharsets.UTF_8));
+                    if (++found >= limit) {
+                        return found;
+                    }
+                }
+                position += RECORD_HEADER_SIZE + length;
+            }
+        }
+        return found;
+    }
+
+    boolean overlaps(final long fromMillis, final long toMillis) {
+        // 비어있는 segment 는 minTime = MAX, maxTime = MIN 이므로 항상 false
+        return maxTime >= fromMillis && minTime <= toMillis;
+    }
+
+    synchronized void force() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * mapping 및 index 해제 (봉인된 segment)
+     * <p>
+     * mapping 은 GC 시점에 해제되며, 조회중인 thread 는 복사한 view 로 계속 읽을 수 있습니다.
+     * 이후 조회시 read-only 로 다시 mapping 합니다.
+     */
+    synchronized void release() {
+        buffer = null;
+        blocks = null;
+        accountIds = null;
+    }
+
+    synchronized boolean isMapped() {
+        return buffer != null;
+    }
+
+    /**
+     * segment 파일 삭제 (retention)
+     */
+    synchronized void delete() {
+        deleted = true;
+        release();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // mapping 이 해제되지 않은 경우 (windows) 다음 실행시 retention 에서 다시 삭제
+            log.warn("failed to delete audit segment - path : {}", path, e);
+        }
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getMaxTime() {
+        return maxTime;
+    }
+
+    synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    private void ensureIndexed() throws IOException {
+        if (buffer == null) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        if (blocks == null) {
+            buildIndex();
+        }
+    }
+
+    private void buildIndex() {
+        blocks = new ArrayList<>();
+        accountIds = new HashSet<>();
+        int position = HEADER_SIZE;
+        while (position < writePosition) {
+            final int length = buffer.getInt(position);
+            addToIndex(position, buffer.getLong(position + 4), buffer.getLong(position + 12));
+            position += RECORD_HEADER_SIZE + length;
+        }
+    }
+
+    private void addToIndex(final int position, final long epochMillis, final long accountId) {
+        IndexBlock current = blocks.isEmpty() ? null : blocks.get(blocks.size() - 1);
+        if (current == null || current.count >= indexInterval) {
+            final long runningMaxTime = current == null ? Long.MIN_VALUE : current.runningMaxTime;
+            current = new IndexBlock(position, runningMaxTime, indexInterval);
+            blocks.add(current);
+        }
+        current.add(epochMillis, accountId);
+        accountIds.add(accountId);
+    }
+
+    private void writeHeader() {
+        buffer.putInt(POS_WRITE_POSITION, writePosition);
+        buffer.putInt(POS_RECORD_COUNT, recordCount);
+        buffer.putLong(POS_MIN_TIME, minTime);
+        buffer.putLong(POS_MAX_TIME, maxTime);
+    }
+
+    /**
+     * fromMillis 이상의 record 가 처음 등장할 수 있는 block 의 위치 (running max 기준 binary search)
+     */
+    private static int findFirstBlock(final List<IndexBlock> snapshot, final long fromMillis) {
+        int low = 0;
+        int high = snapshot.size() - 1;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (snapshot.get(mid).runningMaxTime < fromMillis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * sparse index 의 단위 block
+     */
+    private static final class IndexBlock {
+        private final int offset;
+        private final long[] accountIds;
+        private long minTime = Long.MAX_VALUE;
+        private long maxTime = Long.MIN_VALUE;
+        private long runningMaxTime;    // 이 block 까지의 최대 시간 (record 가 시간순이 아니어도 단조 증가)
+        private int count;
+        private int accountCount;
+
+        private IndexBlock(final int offset, final long runningMaxTime, final int capacity) {
+            this.offset = offset;
+            this.runningMaxTime = runningMaxTime;
+            this.accountIds = new long[capacity];
+        }
+
+        private void add(final long epochMillis, final long accountId) {
+            minTime = Math.min(minTime, epochMillis);
+            maxTime = Math.max(maxTime, epochMillis);
+            runningMaxTime = Math.max(runningMaxTime, epochMillis);
+            count++;
+            if (!containsAccount(accountId)) {
+                accountIds[accountCount++] = accountId;
+            }
+        }
+
+        private boolean matches(final long fromMillis, final long toMillis, final Long accountId) {
+            return maxTime >= fromMillis && minTime <= toMillis && (accountId == null || containsAccount(accountId));
+        }
+
+        private boolean containsAccount(final long accountId) {
+            for (int i = 0; i < accountCount; i++) {
+                if (accountIds[i] == accountId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
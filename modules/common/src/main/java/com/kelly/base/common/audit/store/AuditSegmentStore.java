@@ -0,0 +1,279 @@
+package com.kelly.base.common.audit.store;
+
+import com.kelly.base.common.audit.AuditProperties.ForcePolicy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 고정 크기 segment 단위로 audit log 를 저장하고 조회하는 저장소
+ * <p>
+ * - 기록 : 현재 segment 에 공간이 부족하면 새로운 segment 를 생성 (rolling)<br>
+ * - 조회 : segment header 의 시간 범위와 segment 내부의 sparse index 로 필요한 영역만 탐색<br>
+ * - 보관 : 가장 최근 record 가 보관 기간을 지난 segment 는 파일 단위로 삭제 (rolling 및 시작 시점)<br>
+ * - 반영 : 기록중인 segment 는 <code>ForcePolicy</code> 에 따라 파일에 반영하며, 봉인 / 종료시에는 항상 반영<br>
+ * - 해제 : 봉인된 segment 는 mapping 을 해제하고, 조회시 mapping 된 segment 는 최근에 조회된
+ * <code>maxMappedSegments</code> 개만 유지 (LRU)
+ *
+ * @author 서강희
+ */
+@Slf4j
+public class AuditSegmentStore implements AutoCloseable {
+    public static final long NO_ACCOUNT_ID = AuditSegment.NO_ACCOUNT_ID;
+
+    static final String SEGMENT_FILE_PREFIX = "audit-";
+    static final String SEGMENT_FILE_SUFFIX = ".seg";
+
+    static final String FORCE_THREAD_NAME = "audit-segment-force";
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final int indexInterval;
+
+    private final long retentionMillis;
+
+    private final ForcePolicy forcePolicy;
+
+    private final int maxMappedSegments;
+
+    // force-policy 가 INTERVAL 인 경우에만 존재
+    private final ScheduledExecutorService forceScheduler;
+
+    // 오래된 순서로 정렬된 segment 목록 (조회는 lock 없이 처리)
+    private final List<AuditSegment> segments = new CopyOnWriteArrayList<>();
+
+    // 조회를 위해 mapping 된 봉인 segment (접근 순서, 최대 개수를 넘으면 가장 오래전에 조회된 segment 해제)
+    private final Map<AuditSegment, Boolean> mappedSegments = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<AuditSegment, Boolean> eldest) {
+            if (size() <= maxMappedSegments) {
+                return false;
+            }
+            eldest.getKey().release();
+            return true;
+        }
+    };
+
+    private final Object appendLock = new Object();
+
+    private volatile AuditSegment activeSegment;
+
+    private long nextSequence = 0L;
+
+    public AuditSegmentStore(final Path directory, final int segmentSize, final int indexInterval,
+                             final long retentionMillis, final ForcePolicy forcePolicy, final long forceIntervalMs,
+                             final int maxMappedSegments) throws IOException {
+        this(directory, segmentSize, indexInterval, retentionMillis, forcePolicy, forceIntervalMs, maxMappedSegments,
+             forcePolicy == ForcePolicy.INTERVAL
+                     ? Executors.newSingleThreadScheduledExecutor(AuditSegmentStore::newForceThread) : null);
+    }
+
+    AuditSegmentStore(final Path directory, final int segmentSize, final int indexInterval,
+                      final long retentionMillis, final ForcePolicy forcePolicy, final long forceIntervalMs,
+                      final int maxMappedSegments, final ScheduledExecutorService forceScheduler) throws IOException {
+        if (forcePolicy == ForcePolicy.INTERVAL && forceIntervalMs <= 0) {
+            throw new IllegalArgumentException("audit segment force interval must be positive : " + forceIntervalMs);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.indexInterval = indexInterval;
+        this.retentionMillis = retentionMillis;
+        this.forcePolicy = forcePolicy;
+        this.maxMappedSegments = Math.max(1, maxMappedSegments);
+        this.forceScheduler = forceScheduler;
+
+        Files.createDirectories(directory);
+        loadSegments();
+        applyRetention(System.currentTimeMillis());
+        if (forceScheduler != null) {
+            forceScheduler.scheduleWithFixedDelay(this::force, forceIntervalMs, forceIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * record 추가
+     *
+     * @param epochMillis record 생성 시간
+     * @param accountId   record 의 accountId (없는 경우 <code>AuditSegmentStore.NO_ACCOUNT_ID</code>)
+     * @param json        record 의 json (UTF-8)
+     * @throws IOException segment 생성 실패
+     */
+    public void append(final long epochMillis, final long accountId, final byte[] json) throws IOException {
+        if (AuditSegment.HEADER_SIZE + AuditSegment.RECORD_HEADER_SIZE + json.length > segmentSize) {
+            throw new IllegalArgumentException("audit record is larger than segment size - length : " + json.length);
+        }
+
+        synchronized (appendLock) {
+            if (activeSegment == null || !activeSegment.append(epochMillis, accountId, json)) {
+                roll();
+                activeSegment.append(epochMillis, accountId, json);
+            }
+        }
+    }
+
+    /**
+     * 시간 범위 (및 accountId) 에 해당하는 record 조회
+     *
+     * @param fromMillis 조회 시작 시간 (포함)
+     * @param toMillis   조회 종료 시간 (포함)
+     * @param accountId  조회할 accountId (null 인 경우 전체)
+     * @param limit      최대 조회 개수
+     * @return 기록된 순서의 record json 목록
+     * @throws IOException segment 읽기 실패
+     */
+    public List<String> query(final long fromMillis, final long toMillis, final Long accountId,
+                              final int limit) throws IOException {
+        final List<String> results = new ArrayList<>();
+        for (final AuditSegment segment : segments) {
+            segment.scan(fromMillis, toMillis, accountId, limit - results.size(), results::add);
+            if (segment != activeSegment && segment.isMapped()) {
+                retainMapping(segment);
+            }
+            if (results.size() >= limit) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 보관 기간이 지난 segment 삭제 (기록중인 segment 제외)
+     *
+     * @param nowMillis 기준 시간
+     */
+    public void applyRetention(final long nowMillis) {
+        final long threshold = nowMillis - retentionMillis;
+        for (final AuditSegment segment : segments) {
+            if (segment != activeSegment && segment.getMaxTime() < threshold) {
+                segments.remove(segment);
+                synchronized (mappedSegments) {
+                    mappedSegments.remove(segment);
+                }
+                segment.delete();
+                log.info("audit segment expired - path : {}", segment.getPath());
+            }
+        }
+    }
+
+    /**
+     * writer 의 flush ( batch ) 시점에 호출
+     * <p>
+     * force-policy 가 FLUSH 인 경우에만 기록중인 segment 를 파일에 반영합니다.
+     */
+    public void flush() {
+        if (forcePolicy == ForcePolicy.FLUSH) {
+            force();
+        }
+    }
+
+    /**
+     * 반영 thread 를 종료하고 기록중인 segment 를 파일에 반영
+     */
+    @Override
+    public void close() {
+        if (forceScheduler != null) {
+            forceScheduler.shutdown();
+        }
+        force();
+    }
+
+    int getSegmentCount() {
+        return segments.size();
+    }
+
+    int getMappedSegmentCount() {
+        synchronized (mappedSegments) {
+            return mappedSegments.size();
+        }
+    }
+
+    /**
+     * 기록중인 segment 의 내용을 파일에 반영
+     */
+    void force() {
+        final AuditSegment segment = activeSegment;
+        if (segment != null) {
+            segment.force();    // 봉인된 segment 인 경우 이미 반영 및 해제되어 처리할 내용 없음
+        }
+    }
+
+    private void retainMapping(final AuditSegment segment) {
+        synchronized (mappedSegments) {
+            mappedSegments.put(segment, Boolean.TRUE);
+        }
+    }
+
+    private void loadSegments() throws IOException {
+        final List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files.filter(AuditSegmentStore::isSegmentFile).sorted().toList();
+        }
+
+        for (int i = 0; i < paths.size(); i++) {
+            final Path path = paths.get(i);
+            final boolean last = i == paths.size() - 1;
+            try {
+                final AuditSegment segment = AuditSegment.open(path, indexInterval, last);
+                segments.add(segment);
+                if (last) {
+                    activeSegment = segment;
+                }
+            } catch (IOException e) {
+                log.error("failed to open audit segment - path : {}", path, e);
+            }
+            nextSequence = Math.max(nextSequence, parseSequence(path) + 1);
+        }
+    }
+
+    private void roll() throws IOException {
+        final AuditSegment sealedSegment = activeSegment;
+        final Path path = directory.resolve(toFileName(nextSequence++));
+        activeSegment = AuditSegment.create(path, segmentSize, indexInterval);
+        segments.add(activeSegment);
+        if (sealedSegment != null) {
+            // 봉인 : 파일에 반영 후 mapping / index 해제 ( 이후 조회시 read-only 로 다시 mapping )
+            sealedSegment.force();
+            sealedSegment.release();
+        }
+        applyRetention(System.currentTimeMillis());
+    }
+
+    private static boolean isSegmentFile(final Path path) {
+        final String fileName = path.getFileName().toString();
+        return fileName.startsWith(SEGMENT_FILE_PREFIX) && fileName.endsWith(SEGMENT_FILE_SUFFIX);
+    }
+
+    private static long parseSequence(final Path path) {
+        final String fileName = path.getFileName().toString();
+        try {
+            return Long.parseLong(fileName, SEGMENT_FILE_PREFIX.length(),
+                                  fileName.length() - SEGMENT_FILE_SUFFIX.length(), 10);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private static Thread newForceThread(final Runnable runnable) {
+        final Thread thread = new Thread(runnable, FORCE_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    static String toFileName(final long sequence) {
+        // 파일 이름 정렬 순서와 생성 순서가 일치하도록 자리수 고정
+        return SEGMENT_FILE_PREFIX + String.format("%020d", sequence) + SEGMENT_FILE_SUFFIX;
+    }
+}
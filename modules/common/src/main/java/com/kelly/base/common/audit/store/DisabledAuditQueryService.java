@@ -0,0 +1,24 @@
+package com.kelly.base.common.audit.store;
+
+import com.kelly.base.common.exception.CommonRuntimeException;
+import com.kelly.base.common.interfaces.IAuditQueryService;
+import com.kelly.base.common.response.CommonResultCode;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * audit log 조회를 지원하지 않는 writer 를 사용하는 경우의 조회 서비스
+ * <p>
+ * logback / streaming writer 는 조회용 index 를 갖지 않으므로 항상 <code>FEATURE_DISABLED</code> 를 반환합니다.
+ *
+ * @author 서강희
+ */
+public class DisabledAuditQueryService implements IAuditQueryService {
+    @Override
+    public List<Map<String, Object>> findAuditLogs(final ZonedDateTime from, final ZonedDateTime to,
+                                                   final Long accountId, final int limit) {
+        throw new CommonRuntimeException(CommonResultCode.FEATURE_DISABLED, "audit.writer-type is not segment");
+    }
+}
@@ -0,0 +1,44 @@
+package com.kelly.base.common.audit.store;
+
+import com.kelly.base.common.audit.dto.AuditLogFormat;
+import com.kelly.base.common.exception.CommonException;
+import com.kelly.base.common.interfaces.IAuditLogWriter;
+import com.kelly.base.common.response.CommonResultCode;
+import com.kelly.base.common.utils.JsonUtil;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * audit log 를 <code>AuditSegmentStore</code> 에 기록하는 writer
+ * <p>
+ * 기록되는 json 은 <code>JsonUtil.convert(auditLog, false)</code> 와 동일하며,
+ * 조회를 위한 시간 / accountId 정보는 record header 에 별도로 저장됩니다.<br>
+ * 파일 반영 ( force ) 시점은 store 의 <code>ForcePolicy</code> 를 따르므로, batch 마다 호출되는 {@link #flush()} 는
+ * <code>FLUSH</code> 정책이 아닌 경우 처리할 내용이 없습니다.
+ *
+ * @author 서강희
+ */
+@RequiredArgsConstructor
+public class SegmentAuditLogWriter implements IAuditLogWriter {
+    private final AuditSegmentStore auditSegmentStore;
+
+    @Override
+    public void write(final AuditLogFormat auditLog) throws CommonException {
+        try {
+            final byte[] json = JsonUtil.objectMapper.writeValueAsBytes(auditLog);
+            final long epochMillis = auditLog.creationDateTime() != null
+                    ? auditLog.creationDateTime().toInstant().toEpochMilli() : System.currentTimeMillis();
+            final long accountId = auditLog.accountId() != null
+                    ? auditLog.accountId() : AuditSegmentStore.NO_ACCOUNT_ID;
+            auditSegmentStore.append(epochMillis, accountId, json);
+        } catch (Exception e) {
+            throw new CommonException(
+                    CommonResultCode.SYSTEM_ERROR, "[" + e.getClass().getSimpleName() + "] " + e.getMessage()
+            );
+        }
+    }
+
+    @Override
+    public void flush() {
+        auditSegmentStore.flush();
+    }
+}
@@ -0,0 +1,57 @@
+package com.kelly.base.common.audit.store;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.kelly.base.common.exception.CommonException;
+import com.kelly.base.common.exception.CommonRuntimeException;
+import com.kelly.base.common.interfaces.IAuditQueryService;
+import com.kelly.base.common.response.CommonResultCode;
+import com.kelly.base.common.utils.JsonUtil;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <code>AuditSegmentStore</code> 기반의 audit log 조회 서비스
+ *
+ * @author 서강희
+ */
+@RequiredArgsConstructor
+public class SegmentAuditQueryService implements IAuditQueryService {
+    private static final TypeReference<LinkedHashMap<String, Object>> RECORD_TYPE = new TypeReference<>() {
+    };
+
+    private final AuditSegmentStore auditSegmentStore;
+
+    private final int maxLimit;
+
+    @Override
+    public List<Map<String, Object>> findAuditLogs(final ZonedDateTime from, final ZonedDateTime to,
+                                                   final Long accountId, final int limit) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new CommonRuntimeException(CommonResultCode.INVALID_PARAMETER, "invalid time range");
+        }
+        if (limit < 1 || limit > maxLimit) {
+            throw new CommonRuntimeException(
+                    CommonResultCode.INVALID_PARAMETER, "limit must be between 1 and " + maxLimit
+            );
+        }
+
+        try {
+            final List<String> records = auditSegmentStore.query(
+                    from.toInstant().toEpochMilli(), to.toInstant().toEpochMilli(), accountId, limit
+            );
+            final List<Map<String, Object>> results = new ArrayList<>(records.size());
+            for (final String json : records) {
+                results.add(JsonUtil.parse(json, RECORD_TYPE));
+            }
+            return results;
+        } catch (IOException | CommonException e) {
+            throw new CommonRuntimeException(CommonResultCode.SYSTEM_ERROR, e.getMessage());
+        }
+    }
+}
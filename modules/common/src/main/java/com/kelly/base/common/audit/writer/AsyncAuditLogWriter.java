@@ -0,0 +1,220 @@
+package com.kelly.base.common.audit.writer;
+
+import com.kelly.base.common.audit.AuditProperties;
+import com.kelly.base.common.audit.dto.AuditLogFormat;
+import com.kelly.base.common.exception.CommonException;
+import com.kelly.base.common.interfaces.IAuditLogWriter;
+import com.kelly.base.common.utils.JsonUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 thread 에서는 bounded buffer 에 record 만 전달하고,
+ * 전용 writer thread 에서 batch 단위로 직렬화/기록하는 비동기 writer
+ * <p>
+ * buffer 가 가득 찬 경우 <code>AuditProperties.Backpressure</code> 설정에 따라 처리되며,
+ * {@link #close()} 호출 이후의 record 는 호출한 thread 에서 delegate 로 바로 기록됩니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+public class AsyncAuditLogWriter implements IAuditLogWriter {
+    static final String WRITER_THREAD_NAME = "audit-writer";
+
+    // BLOCK 정책에서 buffer 여유 공간을 재확인하는 간격 (종료 여부 확인 용도)
+    private static final long OFFER_RETRY_INTERVAL_MS = 100L;
+
+    private final IAuditLogWriter delegate;
+
+    private final AuditProperties.Async asyncProperties;
+
+    private final BlockingQueue<AuditLogFormat> buffer;
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private final LongAdder spilledCount = new LongAdder();
+
+    private final Object drainLock = new Object();
+
+    private final Object spillLock = new Object();
+
+    private final Thread writerThread;
+
+    private volatile boolean running = true;
+
+    private long reportedDroppedCount = 0L;   // writer thread 에서만 접근
+
+    public AsyncAuditLogWriter(final IAuditLogWriter delegate, final AuditProperties.Async asyncProperties) {
+        this.delegate = delegate;
+        this.asyncProperties = asyncProperties;
+        this.buffer = new ArrayBlockingQueue<>(asyncProperties.getBufferSize());
+
+        this.writerThread = new Thread(this::runWriterLoop, WRITER_THREAD_NAME);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void write(final AuditLogFormat auditLog) throws CommonException {
+        if (!running) {
+            // drain 이 시작된 이후에는 호출한 thread 에서 바로 기록
+            delegate.write(auditLog);
+            return;
+        }
+
+        if (buffer.offer(auditLog)) {
+            if (!running) {
+                // drain 과 경합되어 buffer 에 남겨진 record 처리
+                writeRemaining();
+            }
+            return;
+        }
+
+        switch (asyncProperties.getBackpressure()) {
+            case BLOCK -> enqueueBlocking(auditLog);
+            case SPILL -> spill(auditLog);
+            default -> droppedCount.increment();
+        }
+    }
+
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+
+    /**
+     * writer thread 를 종료하고 buffer 에 남아있는 record 를 모두 기록
+     * <p>
+     * 여러번 호출되어도 안전합니다.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            writerThread.join(asyncProperties.getShutdownTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeRemaining();
+        reportDropped();
+    }
+
+    /**
+     * buffer 가 가득 차서 버려진 record 개수
+     *
+     * @return drop 된 record 개수
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * buffer 가 가득 차서 spill 파일에 기록된 record 개수
+     *
+     * @return spill 된 record 개수
+     */
+    public long getSpilledCount() {
+        return spilledCount.sum();
+    }
+
+    /**
+     * buffer 에서 기록을 대기중인 record 개수
+     *
+     * @return 대기중인 record 개수
+     */
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    private void runWriterLoop() {
+        final List<AuditLogFormat> batch = new ArrayList<>(asyncProperties.getBatchSize());
+        while (running) {
+            try {
+                final AuditLogFormat first = buffer.poll(asyncProperties.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    reportDropped();
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, asyncProperties.getBatchSize() - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void writeRemaining() {
+        synchronized (drainLock) {
+            final List<AuditLogFormat> remaining = new ArrayList<>(buffer.size());
+            buffer.drainTo(remaining);
+            writeBatch(remaining);
+        }
+    }
+
+    private void writeBatch(final List<AuditLogFormat> batch) {
+        for (final AuditLogFormat auditLog : batch) {
+            try {
+                delegate.write(auditLog);
+            } catch (Exception e) {
+                // audit log 가 저장되지 못한 상황이므로 error log 출력
+                log.error("failed to write audit log - contents : {}", auditLog, e);
+            }
+        }
+        batch.clear();
+        delegate.flush();
+    }
+
+    private void enqueueBlocking(final AuditLogFormat auditLog) throws CommonException {
+        try {
+            while (running) {
+                if (buffer.offer(auditLog, OFFER_RETRY_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedCount.increment();
+            return;
+        }
+        // 대기중에 drain 이 시작된 경우
+        delegate.write(auditLog);
+    }
+
+    private void spill(final AuditLogFormat auditLog) throws CommonException {
+        final byte[] line = (JsonUtil.convert(auditLog, false) + "\n").getBytes(StandardCharsets.UTF_8);
+        synchronized (spillLock) {
+            try {
+                final Path spillPath = Path.of(asyncProperties.getSpillPath());
+                if (spillPath.getParent() != null) {
+                    Files.createDirectories(spillPath.getParent());
+                }
+                Files.write(spillPath, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                spilledCount.increment();
+            } catch (IOException e) {
+                droppedCount.increment();
+                log.error("failed to spill audit log - path : {}", asyncProperties.getSpillPath(), e);
+            }
+        }
+    }
+
+    private void reportDropped() {
+        final long dropped = droppedCount.sum();
+        if (dropped != reportedDroppedCount) {
+            log.warn("audit log buffer overflow - dropped : {} (total : {})", dropped - reportedDroppedCount, dropped);
+            reportedDroppedCount = dropped;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.kelly.base.common.audit.writer;
+
+import com.kelly.base.common.audit.dto.AuditLogFormat;
+import com.kelly.base.common.exception.CommonException;
+import com.kelly.base.common.interfaces.IAuditLogWriter;
+import com.kelly.base.common.utils.JsonUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * audit log 를 json 으로 직렬화하여 <code>AUDIT_LOGGER</code> 로 출력하는 writer
+ * <p>
+ * 호출한 thread 에서 직렬화와 출력이 모두 처리됩니다.
+ *
+ * @author 서강희
+ */
+public class LogbackAuditLogWriter implements IAuditLogWriter {
+    // logback-spring.xml 의 logger name 과 일치
+    private static final Logger auditLogger = LoggerFactory.getLogger("AUDIT_LOGGER");
+
+    @Override
+    public void write(final AuditLogFormat auditLog) throws CommonException {
+        final String jsonLog = JsonUtil.convert(auditLog, false);
+        auditLogger.info(jsonLog);
+    }
+}
@@ -0,0 +1,228 @@
+package com.kelly.base.common.audit.writer;
+
+import com.kelly.base.common.utils.DateTimeUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 파일 크기 기준으로 rolling 되는 audit log 파일 channel
+ * <p>
+ * 기록할 내용이 <code>maxFileSize</code> 를 넘게 되면 현재 파일을 <code>{파일명}.{시간}.{번호}</code> 로 변경한 뒤
+ * 새로운 파일에 이어서 기록합니다. ( 같은 시간에 rolling 된 경우 번호를 증가 )<br>
+ * rolling 된 파일의 gzip 압축과 보관 기간 / 전체 크기를 넘는 파일의 삭제는 별도 thread 에서 처리하며,
+ * 시작시에도 한 번 처리하므로 종료 등으로 중단된 압축은 다음 시작시 이어서 처리됩니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+public class RollingAuditFileChannel implements WritableByteChannel {
+    static final String MAINTENANCE_THREAD_NAME = "audit-file-maintenance";
+
+    static final String GZIP_SUFFIX = ".gz";
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final DateTimeFormatter ROLLING_SUFFIX_FORMATTER
+            = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(DateTimeUtil.ZONE_ID_UTC);
+
+    private final Path filePath;
+
+    private final long maxFileSize;
+
+    private final Retention retention;
+
+    private final Clock clock;
+
+    private final ExecutorService maintenanceExecutor;
+
+    // rolling 된 파일 이름 ( {파일명}.{시간}.{번호}[.gz] )
+    private final Pattern rolledFilePattern;
+
+    private FileChannel fileChannel;
+
+    private long fileSize;
+
+    public RollingAuditFileChannel(final Path filePath, final long maxFileSize,
+                                   final Retention retention) throws IOException {
+        this(filePath, maxFileSize, retention, Clock.systemUTC(),
+             Executors.newSingleThreadExecutor(RollingAuditFileChannel::newMaintenanceThread));
+    }
+
+    RollingAuditFileChannel(final Path filePath, final long maxFileSize, final Retention retention, final Clock clock,
+                            final ExecutorService maintenanceExecutor) throws IOException {
+        this.filePath = filePath.toAbsolutePath();
+        this.maxFileSize = maxFileSize;
+        this.retention = retention;
+        this.clock = clock;
+        this.maintenanceExecutor = maintenanceExecutor;
+        this.rolledFilePattern = Pattern.compile(
+                Pattern.quote(this.filePath.getFileName().toString()) + "\\.\\d{8}-\\d{6}-\\d{3}\\.\\d+(\\.gz)?"
+        );
+
+        Files.createDirectories(this.filePath.getParent());
+        open();
+        maintenanceExecutor.execute(this::maintain);     // 이전 실행에서 남은 파일 정리
+    }
+
+    @Override
+    public synchronized int write(final ByteBuffer source) throws IOException {
+        if (fileSize > 0 && fileSize + source.remaining() > maxFileSize) {
+            roll();
+        }
+
+        int written = 0;
+        while (source.hasRemaining()) {
+            written += fileChannel.write(source);
+        }
+        fileSize += written;
+        return written;
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return fileChannel.isOpen();
+    }
+
+    /**
+     * 파일을 닫고 정리 thread 종료
+     * <p>
+     * 진행중인 압축은 기다리지 않으며, 완료되지 않은 경우 원본 파일이 남아 다음 시작시 다시 압축합니다.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        fileChannel.close();
+        maintenanceExecutor.shutdown();
+    }
+
+    private void open() throws IOException {
+        fileChannel = FileChannel.open(
+                filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND
+        );
+        fileSize = fileChannel.size();
+    }
+
+    private void roll() throws IOException {
+        fileChannel.close();
+        Files.move(filePath, nextRolledPath());
+        open();
+        maintenanceExecutor.execute(this::maintain);
+    }
+
+    private Path nextRolledPath() {
+        final String prefix = filePath.getFileName() + "." + ROLLING_SUFFIX_FORMATTER.format(clock.instant()) + ".";
+        int index = 0;
+        // 압축은 .gz 로 이동한 뒤 원본을 삭제하므로 둘 중 하나는 항상 존재
+        while (Files.exists(filePath.resolveSibling(prefix + index))
+                || Files.exists(filePath.resolveSibling(prefix + index + GZIP_SUFFIX))) {
+            index++;
+        }
+        return filePath.resolveSibling(prefix + index);
+    }
+
+    /**
+     * rolling 된 파일 압축 및 보관 기간 / 전체 크기를 넘는 파일 삭제 ( maintenance thread 에서 호출 )
+     */
+    void maintain() {
+        try {
+            if (retention.compress()) {
+                for (final Path rolledFile : listRolledFiles()) {
+                    if (!rolledFile.getFileName().toString().endsWith(GZIP_SUFFIX)) {
+                        compress(rolledFile);
+                    }
+                }
+            }
+            deleteExpiredFiles();
+        } catch (IOException | UncheckedIOException e) {
+            log.error("audit log file maintenance failure - path : {}, message : {}", filePath, e.getMessage());
+        }
+    }
+
+    private void deleteExpiredFiles() throws IOException {
+        final FileTime expiredBefore
+                = FileTime.from(clock.instant().minus(Duration.ofDays(retention.maxHistoryDays())));
+        final List<RolledFile> rolledFiles = new ArrayList<>();
+        for (final Path path : listRolledFiles()) {
+            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            rolledFiles.add(new RolledFile(path, attributes.lastModifiedTime(), attributes.size()));
+        }
+        rolledFiles.sort(RolledFile.NEWEST_FIRST);
+
+        // 최신 파일부터 더하여 전체 크기를 넘는 이후 파일과 보관 기간이 지난 파일 삭제
+        long totalSize = 0;
+        for (final RolledFile rolledFile : rolledFiles) {
+            totalSize += rolledFile.size();
+            final boolean expired = retention.maxHistoryDays() > 0
+                    && rolledFile.lastModified().compareTo(expiredBefore) < 0;
+            final boolean overCap = retention.totalSizeCap() > 0 && totalSize > retention.totalSizeCap();
+            if (expired || overCap) {
+                Files.deleteIfExists(rolledFile.path());
+                log.info("audit log file deleted - path : {}, expired : {}", rolledFile.path(), expired);
+            }
+        }
+    }
+
+    private List<Path> listRolledFiles() throws IOException {
+        try (Stream<Path> files = Files.list(filePath.getParent())) {
+            return files.filter(file -> rolledFilePattern.matcher(file.getFileName().toString()).matches()).toList();
+        }
+    }
+
+    private static void compress(final Path rolledFile) throws IOException {
+        // 압축이 완료된 경우에만 .gz 로 이동 ( 중단된 경우 원본이 남아 다시 압축 )
+        final Path temp = rolledFile.resolveSibling(rolledFile.getFileName() + GZIP_SUFFIX + TEMP_SUFFIX);
+        try (InputStream in = Files.newInputStream(rolledFile);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+            in.transferTo(out);
+        }
+        Files.setLastModifiedTime(temp, Files.getLastModifiedTime(rolledFile));     // 보관 기간은 rolling 시점 기준
+        Files.move(temp, rolledFile.resolveSibling(rolledFile.getFileName() + GZIP_SUFFIX),
+                   StandardCopyOption.REPLACE_EXISTING);
+        Files.delete(rolledFile);
+    }
+
+    private static Thread newMaintenanceThread(final Runnable runnable) {
+        final Thread thread = new Thread(runnable, MAINTENANCE_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * rolling 된 파일의 보관 정책
+     *
+     * @param maxHistoryDays 보관 기간 (일), 0 이하인 경우 제한 없음
+     * @param totalSizeCap   rolling 된 파일 전체의 최대 크기 (byte), 0 이하인 경우 제한 없음
+     * @param compress       rolling 된 파일의 gzip 압축 여부
+     */
+    public record Retention(int maxHistoryDays, long totalSizeCap, boolean compress) {
+    }
+
+    private record RolledFile(Path path, FileTime lastModified, long size) {
+        private static final Comparator<RolledFile> NEWEST_FIRST = Comparator.comparing(RolledFile::lastModified)
+                                                                            .thenComparing(RolledFile::path)
+                                                                            .reversed();
+    }
+}
@@ -0,0 +1,290 @@
+package com.kelly.base.common.audit.writer;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.kelly.base.common.audit.dto.AuditEventType;
+import com.kelly.base.common.audit.dto.AuditLogFormat;
+import com.kelly.base.common.exception.CommonException;
+import com.kelly.base.common.interfaces.IAuditLogWriter;
+import com.kelly.base.common.response.CommonResultCode;
+import com.kelly.base.common.utils.DateTimeUtil;
+import com.kelly.base.common.utils.JsonUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * <code>AuditLogFormat</code> 을 중간 <code>String</code> 생성 없이
+ * 재사용되는 byte buffer 로 직접 직렬화하여 channel 에 기록하는 writer
+ * <p>
+ * 출력 형식은 <code>JsonUtil.convert(auditLog, false)</code> 와 동일한 json line 이며,
+ * 필드 이름 / event type / product version 은 미리 인코딩된 값을 사용합니다.<br>
+ * <code>autoFlush</code> 가 false 인 경우 buffer 가 <code>flushThresholdBytes</code> 를 넘거나
+ * {@link #flush()} 가 호출될 때 channel 에 기록합니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+public class StreamingAuditLogWriter implements IAuditLogWriter {
+    // AuditLogFormat 의 @JsonNaming(UpperCamelCaseStrategy) 과 일치
+    private static final SerializedString FIELD_CREATION_DATE_TIME = new SerializedString("CreationDateTime");
+    private static final SerializedString FIELD_EVENT_TYPE = new SerializedString("EventType");
+    private static final SerializedString FIELD_IP_ADDRESS = new SerializedString("IpAddress");
+    private static final SerializedString FIELD_ACTIVITY = new SerializedString("Activity");
+    private static final SerializedString FIELD_ACTIVITY_DETAIL = new SerializedString("ActivityDetail");
+    private static final SerializedString FIELD_PRODUCT_VERSION = new SerializedString("ProductVersion");
+    private static final SerializedString FIELD_DETAILED_INFO = new SerializedString("DetailedInfo");
+
+    private static final Map<AuditEventType, SerializedString> EVENT_TYPE_NAMES = new EnumMap<>(AuditEventType.class);
+
+    static {
+        for (final AuditEventType eventType : AuditEventType.values()) {
+            EVENT_TYPE_NAMES.put(eventType, new SerializedString(eventType.name()));
+        }
+    }
+
+    private static final int LINE_SEPARATOR = '\n';
+
+    private final WritableByteChannel channel;
+
+    private final int flushThresholdBytes;
+
+    private final boolean autoFlush;
+
+    private final RecordBuffer recordBuffer;
+
+    // yyyy-MM-dd'T'HH:mm:ss.SSSZ 형식의 시간 정보를 담을 buffer (CommonConstants.AuditConstants.LOG_PATTERN)
+    private final char[] dateTimeChars = new char[24];
+
+    private JsonGenerator generator;
+
+    private String cachedProductVersion;
+
+    private SerializedString serializedProductVersion;
+
+    public StreamingAuditLogWriter(final WritableByteChannel channel, final int flushThresholdBytes,
+                                   final boolean autoFlush) {
+        this.channel = channel;
+        this.flushThresholdBytes = flushThresholdBytes;
+        this.autoFlush = autoFlush;
+        this.recordBuffer = new RecordBuffer(flushThresholdBytes);
+        this.generator = createGenerator();
+    }
+
+    @Override
+    public synchronized void write(final AuditLogFormat auditLog) throws CommonException {
+        final int recordStart = recordBuffer.position();
+        try {
+            writeRecord(auditLog);
+            generator.flush();
+            recordBuffer.write(LINE_SEPARATOR);
+        } catch (Exception e) {
+            // 작성중이던 record 를 버리고 generator 상태 초기화
+            discardRecord(recordStart);
+            throw new CommonException(
+                    CommonResultCode.SYSTEM_ERROR, "[" + e.getClass().getSimpleName() + "] " + e.getMessage()
+            );
+        }
+
+        if (autoFlush || recordBuffer.position() >= flushThresholdBytes) {
+            flushBuffer();
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        flushBuffer();
+    }
+
+    @Override
+    public synchronized void close() {
+        flushBuffer();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.error("failed to close audit log channel", e);
+        }
+    }
+
+    private void writeRecord(final AuditLogFormat auditLog) throws IOException {
+        generator.writeStartObject();
+
+        generator.writeFieldName(FIELD_CREATION_DATE_TIME);
+        writeDateTime(auditLog.creationDateTime());
+
+        generator.writeFieldName(FIELD_EVENT_TYPE);
+        if (auditLog.eventType() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(EVENT_TYPE_NAMES.get(auditLog.eventType()));
+        }
+
+        writeStringField(FIELD_IP_ADDRESS, auditLog.ipAddress());
+        writeStringField(FIELD_ACTIVITY, auditLog.activity());
+
+        generator.writeFieldName(FIELD_ACTIVITY_DETAIL);
+        if (auditLog.activityDetail() == null) {
+            generator.writeNull();
+        } else {
+            JsonUtil.objectMapper.writeValue(generator, auditLog.activityDetail());
+        }
+
+        generator.writeFieldName(FIELD_PRODUCT_VERSION);
+        writeProductVersion(auditLog.productVersion());
+
+        writeStringField(FIELD_DETAILED_INFO, auditLog.detailedInfo());
+
+        generator.writeEndObject();
+    }
+
+    private void writeStringField(final SerializedString fieldName, final String value) throws IOException {
+        generator.writeFieldName(fieldName);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    private void writeProductVersion(final String productVersion) throws IOException {
+        if (productVersion == null) {
+            generator.writeNull();
+            return;
+        }
+        // AuditLogService 에서 동일한 instance 를 전달하므로 최초 1회만 인코딩
+        if (!productVersion.equals(cachedProductVersion)) {
+            cachedProductVersion = productVersion;
+            serializedProductVersion = new SerializedString(productVersion);
+        }
+        generator.writeString(serializedProductVersion);
+    }
+
+    private void writeDateTime(final ZonedDateTime dateTime) throws IOException {
+        if (dateTime == null) {
+            generator.writeNull();
+            return;
+        }
+        // jackson 의 WRITE_DATES_WITH_CONTEXT_TIME_ZONE 과 동일하게 UTC 로 변환하여 출력
+        final ZonedDateTime utc = ZoneOffset.UTC.equals(dateTime.getOffset())
+                ? dateTime : dateTime.withZoneSameInstant(DateTimeUtil.ZONE_ID_UTC);
+
+        int index = 0;
+        index = writeDigits(utc.getYear(), 4, index);
+        dateTimeChars[index++] = '-';
+        index = writeDigits(utc.getMonthValue(), 2, index);
+        dateTimeChars[index++] = '-';
+        index = writeDigits(utc.getDayOfMonth(), 2, index);
+        dateTimeChars[index++] = 'T';
+        index = writeDigits(utc.getHour(), 2, index);
+        dateTimeChars[index++] = ':';
+        index = writeDigits(utc.getMinute(), 2, index);
+        dateTimeChars[index++] = ':';
+        index = writeDigits(utc.getSecond(), 2, index);
+        dateTimeChars[index++] = '.';
+        index = writeDigits(utc.getNano() / 1_000_000, 3, index);
+        dateTimeChars[index++] = 'Z';
+
+        generator.writeString(dateTimeChars, 0, index);
+    }
+
+    private int writeDigits(final int value, final int width, final int offset) {
+        int remain = value;
+        for (int i = offset + width - 1; i >= offset; i--) {
+            dateTimeChars[i] = (char) ('0' + remain % 10);
+            remain /= 10;
+        }
+        return offset + width;
+    }
+
+    private void discardRecord(final int recordStart) {
+        try {
+            generator.close();
+        } catch (Exception e) {
+            log.debug("failed to close audit json generator", e);
+        }
+        recordBuffer.position(recordStart);
+        generator = createGenerator();
+    }
+
+    private void flushBuffer() {
+        try {
+            recordBuffer.writeTo(channel);
+        } catch (IOException e) {
+            // audit log 가 저장되지 못한 상황이므로 error log 출력
+            log.error("failed to write audit log to channel", e);
+        }
+    }
+
+    private JsonGenerator createGenerator() {
+        try {
+            final JsonGenerator jsonGenerator
+                    = JsonUtil.objectMapper.getFactory().createGenerator(recordBuffer, JsonEncoding.UTF8);
+            jsonGenerator.setRootValueSeparator(null);
+            return jsonGenerator;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 직렬화된 record 를 모아두는 재사용 byte buffer
+     */
+    static final class RecordBuffer extends OutputStream {
+        private ByteBuffer buffer;
+
+        RecordBuffer(final int initialCapacity) {
+            this.buffer = ByteBuffer.allocateDirect(initialCapacity);
+        }
+
+        @Override
+        public void write(final int b) {
+            ensureCapacity(1);
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(final byte[] source, final int offset, final int length) {
+            ensureCapacity(length);
+            buffer.put(source, offset, length);
+        }
+
+        int position() {
+            return buffer.position();
+        }
+
+        void position(final int position) {
+            buffer.position(position);
+        }
+
+        void writeTo(final WritableByteChannel channel) throws IOException {
+            buffer.flip();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } finally {
+                buffer.clear();
+            }
+        }
+
+        private void ensureCapacity(final int length) {
+            if (buffer.remaining() >= length) {
+                return;
+            }
+            final int required = buffer.position() + length;
+            final ByteBuffer expanded = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, required));
+            buffer.flip();
+            expanded.put(buffer);
+            buffer = expanded;
+        }
+    }
+}
@@ -1,8 +1,20 @@
 package com.kelly.base.common.config;
 
+import com.kelly.base.common.async.AdaptivePoolSizer;
+import com.kelly.base.common.async.AsyncProperties;
+import com.kelly.base.common.async.AsyncTaskMetrics;
+import com.kelly.base.common.async.BoundedVirtualThreadExecutor;
+import com.kelly.base.common.async.ContextPropagatingTaskDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -10,6 +22,7 @@ import java.util.concurrent.Executor;
 
 import static com.kelly.base.common.CommonConstants.CommonAsync.*;
 
+@Slf4j
 @Configuration
 @EnableAsync
 @ConditionalOnProperty(
@@ -18,14 +31,87 @@ import static com.kelly.base.common.CommonConstants.CommonAsync.*;
         matchIfMissing = true   // property 를 따로 선언해주지 않을 경우 기본으로 그냥 생성
 )
 public class CommonAsyncConfig {
+    // virtual thread 를 지원하는 최소 JDK 버전
+    private static final int VIRTUAL_THREAD_MIN_JAVA_VERSION = 21;
+
+    /**
+     * commonAsync 작업의 대기 / 실행 시간 및 executor 상태 metric
+     *
+     * @param meterRegistry micrometer registry ( 없는 경우 memory 에만 기록 )
+     * @return AsyncTaskMetrics 인스턴스
+     */
+    @Bean
+    AsyncTaskMetrics commonAsyncMetrics(final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new AsyncTaskMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
     @Bean(name = COMMON_ASYNC_NAME)
-    public Executor getAsyncExecutor() {
+    public Executor getAsyncExecutor(final AsyncProperties asyncProperties, final AsyncTaskMetrics commonAsyncMetrics) {
+        // 제출한 thread 의 context 를 작업 thread 에 전달하고, 대기 / 실행 시간을 기록
+        final ContextPropagatingTaskDecorator contextDecorator = new ContextPropagatingTaskDecorator();
+        final TaskDecorator taskDecorator
+                = runnable -> commonAsyncMetrics.instrument(contextDecorator.decorate(runnable));
+        return switch (asyncProperties.getMode()) {
+            case POOL -> createPoolExecutor(asyncProperties.getPool(), taskDecorator, commonAsyncMetrics);
+            case VIRTUAL -> {
+                if (Runtime.version().feature() < VIRTUAL_THREAD_MIN_JAVA_VERSION) {
+                    // 실행 JDK 가 virtual thread 를 지원하지 않으므로 pool 로 실행
+                    log.warn("virtual thread is not supported - java version : {}, use thread pool",
+                             Runtime.version().feature());
+                    yield createPoolExecutor(asyncProperties.getPool(), taskDecorator, commonAsyncMetrics);
+                }
+                yield createVirtualExecutor(asyncProperties.getVirtual(), taskDecorator, commonAsyncMetrics);
+            }
+        };
+    }
+
+    /**
+     * queue 대기 시간에 따라 commonAsync thread pool 의 thread 개수를 조절하는 bean 선언
+     * <p>
+     * <code>async.pool.adaptive.enabled</code> 가 true 이고 thread pool 로 실행하는 경우에만 조절합니다.
+     *
+     * @param commonAsync        commonAsync executor
+     * @param asyncProperties    async 설정
+     * @param commonAsyncMetrics 대기 시간을 기록하는 metric
+     * @return AdaptivePoolSizer 인스턴스
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "async.pool.adaptive.enabled", havingValue = "true")
+    AdaptivePoolSizer commonAsyncPoolSizer(@Qualifier(COMMON_ASYNC_NAME) final Executor commonAsync,
+                                           final AsyncProperties asyncProperties,
+                                           final AsyncTaskMetrics commonAsyncMetrics) {
+        final AdaptivePoolSizer sizer = new AdaptivePoolSizer(
+                commonAsync, commonAsyncMetrics, asyncProperties.getPool().getCorePoolSize(),
+                asyncProperties.getPool().getAdaptive()
+        );
+        sizer.start();
+        return sizer;
+    }
+
+    private Executor createPoolExecutor(final AsyncProperties.Pool pool, final TaskDecorator taskDecorator,
+                                        final AsyncTaskMetrics commonAsyncMetrics) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(COMMON_ASYNC_CORE_POOL_SIZE);
-        executor.setQueueCapacity(COMMON_ASYNC_QUEUE_CAPACITY);
-        executor.setMaxPoolSize(COMMON_ASYNC_MAX_POOL_SIZE);
+        executor.setCorePoolSize(pool.getCorePoolSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setMaxPoolSize(pool.getMaxPoolSize());
         executor.setThreadNamePrefix(COMMON_ASYNC_THREAD_PREFIX);
+        executor.setTaskDecorator(taskDecorator);
         executor.initialize();
+        commonAsyncMetrics.bind(executor);
+        return executor;
+    }
+
+    private Executor createVirtualExecutor(final AsyncProperties.Virtual virtual, final TaskDecorator taskDecorator,
+                                           final AsyncTaskMetrics commonAsyncMetrics) {
+        final SimpleAsyncTaskExecutor threadExecutor = new SimpleAsyncTaskExecutor(COMMON_ASYNC_THREAD_PREFIX);
+        threadExecutor.setVirtualThreads(true);
+        log.info("use virtual thread async executor - max concurrency : {}, queue capacity : {}",
+                 virtual.getMaxConcurrency(), virtual.getQueueCapacity());
+        // permit 을 얻은 뒤 decorator 가 적용된 작업을 실행하므로 permit 대기 시간도 대기 시간으로 기록
+        final BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(
+                threadExecutor, virtual.getMaxConcurrency(), virtual.getQueueCapacity(), taskDecorator
+        );
+        commonAsyncMetrics.bind(executor);
         return executor;
     }
 }
@@ -0,0 +1,108 @@
+package com.kelly.base.common.config;
+
+import com.kelly.base.common.audit.AuditProperties;
+import com.kelly.base.common.audit.store.AuditSegmentStore;
+import com.kelly.base.common.audit.store.DisabledAuditQueryService;
+import com.kelly.base.common.audit.store.SegmentAuditLogWriter;
+import com.kelly.base.common.audit.store.SegmentAuditQueryService;
+import com.kelly.base.common.audit.writer.AsyncAuditLogWriter;
+import com.kelly.base.common.audit.writer.LogbackAuditLogWriter;
+import com.kelly.base.common.audit.writer.RollingAuditFileChannel;
+import com.kelly.base.common.audit.writer.StreamingAuditLogWriter;
+import com.kelly.base.common.interfaces.IAuditLogWriter;
+import com.kelly.base.common.interfaces.IAuditQueryService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * audit log writer 설정
+ *
+ * @author 서강희
+ */
+@Configuration
+public class CommonAuditConfig {
+    private static final String WRITER_TYPE_PROPERTY = "audit.writer-type";
+
+    private static final String WRITER_TYPE_SEGMENT = "segment";
+
+    /**
+     * audit log 를 저장/조회할 segment store bean 선언
+     *
+     * @param auditProperties audit 설정
+     * @return AuditSegmentStore 인스턴스
+     * @throws IOException segment directory 생성 실패
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = WRITER_TYPE_PROPERTY, havingValue = WRITER_TYPE_SEGMENT)
+    AuditSegmentStore auditSegmentStore(final AuditProperties auditProperties) throws IOException {
+        final AuditProperties.Store store = auditProperties.getStore();
+        return new AuditSegmentStore(
+                Path.of(store.getDirectory()), store.getSegmentSize(), store.getIndexInterval(),
+                Duration.ofDays(store.getRetentionDays()).toMillis(), store.getForcePolicy(),
+                store.getForceIntervalMs(), store.getMaxMappedSegments()
+        );
+    }
+
+    /**
+     * audit log 조회 서비스 bean 선언
+     * <p>
+     * segment store 를 사용하지 않는 경우 조회 요청시 <code>FEATURE_DISABLED</code> 를 반환하는 서비스를 사용합니다.
+     *
+     * @param auditProperties   audit 설정
+     * @param auditSegmentStore segment store (writer-type 이 SEGMENT 인 경우에만 존재)
+     * @return IAuditQueryService 인스턴스
+     */
+    @Bean
+    IAuditQueryService auditQueryService(final AuditProperties auditProperties,
+                                         final ObjectProvider<AuditSegmentStore> auditSegmentStore) {
+        final AuditSegmentStore store = auditSegmentStore.getIfAvailable();
+        if (store == null) {
+            return new DisabledAuditQueryService();
+        }
+        return new SegmentAuditQueryService(store, auditProperties.getStore().getMaxQueryLimit());
+    }
+
+    /**
+     * audit log 를 기록할 writer bean 선언
+     * <p>
+     * <code>audit.writer-type</code> 에 맞는 writer 를 생성하고,
+     * <code>audit.async.enabled</code> 가 true 인 경우 비동기 writer 로 감싸서 사용합니다.
+     *
+     * @param auditProperties   audit 설정
+     * @param auditSegmentStore segment store (writer-type 이 SEGMENT 인 경우에만 존재)
+     * @return IAuditLogWriter 인스턴스
+     * @throws IOException streaming writer 의 파일 생성 실패
+     */
+    @Bean(destroyMethod = "close")
+    IAuditLogWriter auditLogWriter(final AuditProperties auditProperties,
+                                   final ObjectProvider<AuditSegmentStore> auditSegmentStore) throws IOException {
+        final boolean asyncEnabled = auditProperties.getAsync().isEnabled();
+        final IAuditLogWriter writer = switch (auditProperties.getWriterType()) {
+            case STREAMING -> createStreamingWriter(auditProperties.getStreaming(), asyncEnabled);
+            case SEGMENT -> new SegmentAuditLogWriter(auditSegmentStore.getObject());
+            case LOGBACK -> new LogbackAuditLogWriter();
+        };
+        if (!asyncEnabled) {
+            return writer;
+        }
+        return new AsyncAuditLogWriter(writer, auditProperties.getAsync());
+    }
+
+    private IAuditLogWriter createStreamingWriter(final AuditProperties.Streaming streaming,
+                                                  final boolean asyncEnabled) throws IOException {
+        final RollingAuditFileChannel channel = new RollingAuditFileChannel(
+                Path.of(streaming.getFilePath()), streaming.getMaxFileSize(),
+                new RollingAuditFileChannel.Retention(
+                        streaming.getMaxHistoryDays(), streaming.getTotalSizeCap(), streaming.isCompress()
+                )
+        );
+        // 비동기 writer 는 batch 단위로 flush 하므로, 동기 writer 인 경우에만 record 단위로 기록
+        return new StreamingAuditLogWriter(channel, streaming.getBufferSize(), !asyncEnabled);
+    }
+}
@@ -0,0 +1,70 @@
+package com.kelly.base.common.config;
+
+import com.kelly.base.common.interfaces.ISseClusterBus;
+import com.kelly.base.common.sse.SseProperties;
+import com.kelly.base.common.sse.SseWriteTimeoutConnectorCustomizer;
+import com.kelly.base.common.sse.UdpSseClusterBus;
+import org.apache.catalina.startup.Tomcat;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.tomcat.ConfigurableTomcatWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+
+/**
+ * SSE cluster bus / 전송 timeout 설정
+ *
+ * @author 서강희
+ */
+@Configuration
+public class CommonSseConfig {
+    /**
+     * 다른 node 와 SSE message 를 주고받을 cluster bus bean 선언
+     * <p>
+     * <code>sse.cluster.enabled</code> 가 true 인 경우에만 생성되며, 없는 경우 연결된 node 에만 전송합니다.
+     *
+     * @param sseProperties sse 설정
+     * @return ISseClusterBus 인스턴스
+     * @throws IOException              socket 생성 / bind 실패
+     * @throws GeneralSecurityException HMAC 생성 실패
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "sse.cluster.enabled", havingValue = "true")
+    ISseClusterBus sseClusterBus(final SseProperties sseProperties) throws IOException, GeneralSecurityException {
+        final SseProperties.Cluster cluster = sseProperties.getCluster();
+        return switch (cluster.getBusType()) {
+            case UDP -> new UdpSseClusterBus(
+                    cluster.getUdp().getBindAddress(), cluster.getUdp().getPort(), cluster.getUdp().getPeers(),
+                    cluster.getUdp().getSecret()
+            );
+        };
+    }
+
+    /**
+     * Tomcat 사용시 SSE write timeout 설정
+     */
+    @Configuration
+    @ConditionalOnClass(Tomcat.class)
+    @ConditionalOnProperty(name = "sse.heartbeat.enabled", havingValue = "true", matchIfMissing = true)
+    static class SseTomcatConfig {
+        /**
+         * 멈춘 SSE 전송이 <code>sse.heartbeat.write-timeout-ms</code> 안에 끝나도록 connector 의 socket timeout 제한
+         * <p>
+         * Tomcat 은 blocking write 중 interrupt 를 무시하므로 container 의 write timeout 으로 writer thread 를 반환합니다.
+         *
+         * @param sseProperties sse 설정
+         * @return WebServerFactoryCustomizer 인스턴스
+         */
+        @Bean
+        WebServerFactoryCustomizer<ConfigurableTomcatWebServerFactory> sseWriteTimeoutCustomizer(
+                final SseProperties sseProperties) {
+            final SseWriteTimeoutConnectorCustomizer customizer
+                    = new SseWriteTimeoutConnectorCustomizer(sseProperties.getHeartbeat().getWriteTimeoutMs());
+            return factory -> factory.addConnectorCustomizers(customizer::customize);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.kelly.base.common.crypto;
+
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 재사용 가능한 <code>Cipher</code> pool
+ * <p>
+ * <code>Cipher.getInstance</code> 는 호출마다 provider 를 조회하므로 작은 데이터에서는 암복호화보다 비용이 큽니다.<br>
+ * 사용할 때마다 key / IV 로 다시 init 하므로 이전 사용 상태는 남지 않으며,
+ * virtual thread 에서도 instance 가 계속 늘어나지 않도록 thread 별이 아닌 최대 개수가 정해진 pool 로 관리합니다.
+ *
+ * @author 서강희
+ */
+final class CipherPool {
+    private final String transformation;
+
+    private final BlockingQueue<Cipher> idle;
+
+    /**
+     * @param transformation <code>Cipher.getInstance</code> 에 전달할 transformation
+     * @param maxIdle        보관할 최대 instance 개수
+     */
+    CipherPool(final String transformation, final int maxIdle) {
+        this.transformation = transformation;
+        this.idle = new ArrayBlockingQueue<>(maxIdle);
+    }
+
+    /**
+     * 보관중인 instance 를 꺼내거나, 없으면 새로 생성
+     *
+     * @return 초기화되지 않은 상태로 간주해야 하는 cipher ( 사용 전 init 필요 )
+     * @throws GeneralSecurityException transformation 을 지원하지 않는 경우
+     */
+    Cipher borrow() throws GeneralSecurityException {
+        final Cipher cipher = idle.poll();
+        return cipher != null ? cipher : Cipher.getInstance(transformation);
+    }
+
+    /**
+     * 사용이 끝난 instance 반납
+     * <p>
+     * pool 이 가득 찬 경우 ( 동시 요청이 몰려 추가로 생성한 instance ) 에는 버립니다.
+     *
+     * @param cipher 반납할 cipher
+     */
+    void release(final Cipher cipher) {
+        idle.offer(cipher);
+    }
+
+    int idleCount() {
+        return idle.size();
+    }
+}
@@ -10,6 +10,7 @@ import org.jspecify.annotations.NonNull;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
@@ -17,6 +18,9 @@ import java.security.SecureRandom;
 
 /**
  * 공통 암복호화 서비스
+ * <p>
+ * 내장된 키는 설정 시점에 <code>SecretKeySpec</code> 으로 만들어두고, <code>Cipher</code> 는 pool 에서 재사용하며,
+ * IV 는 thread-safe 한 <code>SecureRandom</code> 1개를 공유하여 생성합니다.
  *
  * @author 서강희
  */
@@ -27,8 +31,17 @@ public class CommonCryptoService implements ICryptoService<byte[]> {
     private static final String KEY_ALGORITHM = "AES";
     private static final String ALGORITHM = "AES/GCM/NoPadding";    // AES/CBC/PKCS5Padding 에 취약성 문제가 있어 변경
     private static final int IV_LENGTH = 12;    // Initialization Vector 의 길이 ( 96 비트 )
+    private static final int TAG_LENGTH = 128;  // 인증 tag 의 길이 ( 비트 )
 
-    private byte[] cryptoKey = null;
+    // 동시 요청 수만큼만 보관 ( 초과분은 사용 후 버림 )
+    private static final int MAX_IDLE_CIPHERS = Runtime.getRuntime().availableProcessors() * 2;
+
+    // SecureRandom 은 thread-safe 하므로 매번 생성 ( seeding ) 하지 않고 공유
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final CipherPool cipherPool = new CipherPool(ALGORITHM, MAX_IDLE_CIPHERS);
+
+    private volatile SecretKey cryptoKey = null;
 
     private final CommonPropertiesConfig commonPropertiesConfig;
 
@@ -46,7 +59,7 @@ public class CommonCryptoService implements ICryptoService<byte[]> {
      */
     @Override
     public void setCryptoKey(final String key) {
-        cryptoKey = key.getBytes(StandardCharsets.UTF_8);
+        cryptoKey = createKey(key);
     }
 
     /**
@@ -72,30 +85,29 @@ public class CommonCryptoService implements ICryptoService<byte[]> {
      * @return 암호화된 문자열
      */
     public String encrypt(final byte[] source, @NonNull final String oneTimeCryptoKey) {
-        final byte[] customCryptoKey = oneTimeCryptoKey.getBytes(StandardCharsets.UTF_8);
-        return dispatchEncryption(source, customCryptoKey);
+        return dispatchEncryption(source, createKey(oneTimeCryptoKey));
     }
 
-    String dispatchEncryption(final byte[] source, final byte[] customCryptoKey) {
+    String dispatchEncryption(final byte[] source, final SecretKey secretKey) {
+        Cipher cipher = null;
         try {
-            byte[] iv = new byte[IV_LENGTH];
-            SecureRandom secureRandom = new SecureRandom(); // 동기화 문제가 혹시 있을 수 있으니 매번 new 로 생성
+            final byte[] iv = new byte[IV_LENGTH];
             secureRandom.nextBytes(iv);
 
-            SecretKeySpec secretKey = new SecretKeySpec(customCryptoKey, KEY_ALGORITHM);
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(128, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, gcmParameterSpec);
+            cipher = cipherPool.borrow();
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH, iv));
 
-            byte[] encBytes = cipher.doFinal(source);
-            byte[] combined = new byte[iv.length + encBytes.length];
-            System.arraycopy(iv, 0, combined, 0, iv.length);
-            System.arraycopy(encBytes, 0, combined, iv.length, encBytes.length);
+            // IV + 암호문 을 하나의 배열에 바로 기록
+            final byte[] combined = new byte[IV_LENGTH + cipher.getOutputSize(source.length)];
+            System.arraycopy(iv, 0, combined, 0, IV_LENGTH);
+            cipher.doFinal(source, 0, source.length, combined, IV_LENGTH);
 
             return DatatypeConverter.printBase64Binary(combined);
         } catch (Exception e) {
             log.error("an error occurred during encryption - {} : {}", e.getClass().getSimpleName(), e.getMessage());
             return null;
+        } finally {
+            release(cipher);
         }
     }
 
@@ -122,27 +134,37 @@ public class CommonCryptoService implements ICryptoService<byte[]> {
      * @return 복호화된 byte 배열
      */
     public byte[] decrypt(@NonNull final String source, @NonNull final String oneTimeCryptoKey) {
-        final byte[] customCryptoKey = oneTimeCryptoKey.getBytes(StandardCharsets.UTF_8);
-        return dispatchDecryption(source, customCryptoKey);
+        return dispatchDecryption(source, createKey(oneTimeCryptoKey));
     }
 
-    byte[] dispatchDecryption(@NonNull final String source, @NonNull final byte[] customCryptoKey) {
+    byte[] dispatchDecryption(@NonNull final String source, final SecretKey secretKey) {
+        Cipher decipher = null;
         try {
-            byte[] combinedDecoded = DatatypeConverter.parseBase64Binary(source);
-            byte[] iv = new byte[IV_LENGTH];
-            byte[] encBytes = new byte[combinedDecoded.length - iv.length];
-            System.arraycopy(combinedDecoded, 0, iv, 0, iv.length);
-            System.arraycopy(combinedDecoded, iv.length, encBytes, 0, encBytes.length);
-
-            SecretKeySpec secretKey = new SecretKeySpec(customCryptoKey, KEY_ALGORITHM);
-            Cipher decipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(128, iv);
+            // IV 와 암호문을 복사하지 않고 offset 으로 구분
+            final byte[] combinedDecoded = DatatypeConverter.parseBase64Binary(source);
+            final GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(TAG_LENGTH, combinedDecoded, 0, IV_LENGTH);
+
+            decipher = cipherPool.borrow();
             decipher.init(Cipher.DECRYPT_MODE, secretKey, gcmParameterSpec);
 
-            return decipher.doFinal(encBytes);
+            return decipher.doFinal(combinedDecoded, IV_LENGTH, combinedDecoded.length - IV_LENGTH);
         } catch (Exception e) {
             log.error("an error occurred during decryption - {} : {}", e.getClass().getSimpleName(), e.getMessage());
             return new byte[0];
+        } finally {
+            release(decipher);
+        }
+    }
+
+    private static SecretKey createKey(final String key) {
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        // 빈 키는 SecretKeySpec 생성이 불가능하므로 키가 없는 것으로 처리
+        return keyBytes.length > 0 ? new SecretKeySpec(keyBytes, KEY_ALGORITHM) : null;
+    }
+
+    private void release(final Cipher cipher) {
+        if (cipher != null) {
+            cipherPool.release(cipher);
         }
     }
 
@@ -0,0 +1,72 @@
+package com.kelly.base.common.i18n;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+
+/**
+ * 미리 parsing 된 i18n message
+ * <p>
+ * catalog 생성 시점에 <code>MessageFormat</code> 을 1번만 parsing 하고, 조회할 때는 복제본으로 format 합니다.
+ * ( <code>MessageFormat</code> 은 thread-safe 하지 않으므로 공유 instance 는 복제 원본으로만 사용 )<br>
+ * placeholder / quote 가 없는 message 는 format 결과가 항상 원문과 같으므로 상수로 저장합니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+final class CompiledMessage {
+    @Getter
+    private final String pattern;
+
+    private final MessageFormat format;     // 상수인 경우 null
+
+    private CompiledMessage(final String pattern, final MessageFormat format) {
+        this.pattern = pattern;
+        this.format = format;
+    }
+
+    /**
+     * message parsing
+     *
+     * @param pattern message 원문
+     * @param locale  format 에 사용할 locale
+     * @return parsing 된 message ( 잘못된 pattern 인 경우 원문을 그대로 반환하는 상수 )
+     */
+    static CompiledMessage compile(final String pattern, final Locale locale) {
+        if (pattern.indexOf('{') < 0 && pattern.indexOf('\'') < 0) {
+            return new CompiledMessage(pattern, null);
+        }
+        try {
+            return new CompiledMessage(pattern, new MessageFormat(pattern, locale));
+        } catch (IllegalArgumentException e) {
+            log.warn("invalid i18n message pattern - pattern : {}, message : {}", pattern, e.getMessage());
+            return new CompiledMessage(pattern, null);
+        }
+    }
+
+    /**
+     * 상수 message 여부
+     *
+     * @return format 없이 원문을 반환하는 경우 true
+     */
+    boolean isConstant() {
+        return format == null;
+    }
+
+    /**
+     * message format
+     * <p>
+     * argument 가 없으면 <code>MessageSource</code> 와 동일하게 format 하지 않고 원문을 반환합니다.
+     *
+     * @param args 메시지 포맷 파라미터
+     * @return format 된 message
+     */
+    String format(final Object[] args) {
+        if (format == null || args == null || args.length == 0) {
+            return pattern;
+        }
+        return ((MessageFormat) format.clone()).format(args);
+    }
+}
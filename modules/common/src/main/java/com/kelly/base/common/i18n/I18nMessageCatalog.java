@@ -0,0 +1,381 @@
+package com.kelly.base.common.i18n;
+
+import com.kelly.base.common.interfaces.II18nMessageService.MessageBundle;
+import com.kelly.base.common.utils.JsonUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 미리 parsing 된 i18n message 모음 ( 규제기관 + 언어 + token ID )
+ * <p>
+ * 생성 후에는 변경되지 않으므로 lock 없이 여러 thread 에서 조회할 수 있으며,
+ * reload 는 새 catalog 를 만들어 참조만 교체합니다.<br>
+ * 조회 순서는 <code>MessageSource</code> 기반 조회와 동일하며, 생성 시점에 ( 규제기관, 언어 ) 별로 미리 계산해둡니다.
+ * <ol>
+ *     <li>규제기관 message ( 요청 언어 -> 기본 언어 )</li>
+ *     <li>공통 message ( 요청 언어 -> 기본 언어 )</li>
+ * </ol>
+ * 등록되지 않은 규제기관은 공통 message 만, 등록되지 않은 언어는 기본 언어의 순서로 조회하며,
+ * 모든 단계에서 찾지 못한 token ID 는 순서별로 기억해두고 다음 조회부터 바로 null 을 반환합니다.<br>
+ * ( 규제기관, 언어 ) 별 전체 message 와 직렬화된 bundle 은 처음 조회할 때 만들어 catalog 가 교체되기 전까지 재사용합니다.
+ *
+ * @author 서강희
+ */
+public final class I18nMessageCatalog {
+    private final String defaultLanguage;
+
+    // 언어 -> token ID -> message
+    private final Map<String, Map<String, CompiledMessage>> commonBundles;
+
+    // 규제기관 -> 언어 -> token ID -> message
+    private final Map<String, Map<String, Map<String, CompiledMessage>>> regulatorBundles;
+
+    // 언어 -> 공통 message 조회 순서 ( 규제기관 미설정 / 미등록 )
+    private final Map<String, FallbackChain> commonChains;
+
+    // 규제기관 -> 언어 -> 규제기관 + 공통 message 조회 순서
+    private final Map<String, Map<String, FallbackChain>> regulatorChains;
+
+    private I18nMessageCatalog(final Builder builder) {
+        this.defaultLanguage = builder.defaultLanguage;
+        this.commonBundles = Collections.unmodifiableMap(new HashMap<>(builder.commonBundles));
+
+        final Map<String, Map<String, Map<String, CompiledMessage>>> regulators = new HashMap<>();
+        builder.regulatorBundles.forEach(
+                (regulator, bundles) -> regulators.put(regulator, Collections.unmodifiableMap(new HashMap<>(bundles)))
+        );
+        this.regulatorBundles = Collections.unmodifiableMap(regulators);
+
+        // 어느 bundle 에라도 있는 언어 + 기본 언어
+        final Set<String> languages = new HashSet<>(commonBundles.keySet());
+        regulatorBundles.values().forEach(bundles -> languages.addAll(bundles.keySet()));
+        languages.add(defaultLanguage);
+
+        this.commonChains = createChains(languages, null);
+        final Map<String, Map<String, FallbackChain>> chains = new HashMap<>();
+        regulatorBundles.forEach((regulator, bundles) -> chains.put(regulator, createChains(languages, bundles)));
+        this.regulatorChains = Collections.unmodifiableMap(chains);
+    }
+
+    /**
+     * catalog builder 생성
+     *
+     * @param defaultLanguage 요청 언어의 message 가 없을 때 사용할 기본 언어
+     * @return builder
+     */
+    public static Builder builder(final String defaultLanguage) {
+        return new Builder(defaultLanguage);
+    }
+
+    /**
+     * 현재 catalog 의 message 로 채워진 builder 생성
+     * <p>
+     * 이미 parsing 된 message 를 그대로 사용하므로, 변경된 파일만 다시 추가 / 삭제하여 새 catalog 를 만들 수 있습니다.
+     *
+     * @return builder
+     */
+    public Builder toBuilder() {
+        final Builder builder = new Builder(defaultLanguage);
+        builder.commonBundles.putAll(commonBundles);
+        regulatorBundles.forEach(
+                (regulator, bundles) -> builder.regulatorBundles.put(regulator, new HashMap<>(bundles))
+        );
+        return builder;
+    }
+
+    /**
+     * message 조회
+     *
+     * @param regulator 규제기관 코드
+     * @param language  언어 코드 ( null 인 경우 기본 언어 )
+     * @param tid       token ID
+     * @param args      메시지 포맷 파라미터
+     * @return format 된 message ( 없는 경우 null )
+     */
+    public String getMessage(final String regulator, final String language, final String tid, final Object[] args) {
+        final CompiledMessage message = find(regulator, language, tid);
+        return message != null ? message.format(args) : null;
+    }
+
+    /**
+     * message 원문 조회
+     *
+     * @param regulator 규제기관 코드
+     * @param language  언어 코드 ( null 인 경우 기본 언어 )
+     * @param tid       token ID
+     * @return format 하지 않은 message ( 없는 경우 null )
+     */
+    public String getPattern(final String regulator, final String language, final String tid) {
+        final CompiledMessage message = find(regulator, language, tid);
+        return message != null ? message.getPattern() : null;
+    }
+
+    /**
+     * ( 규제기관, 언어 ) 에서 조회 가능한 전체 message 원문
+     *
+     * @param regulator 규제기관 코드
+     * @param language  언어 코드 ( null 인 경우 기본 언어 )
+     * @return token ID -> message 원문 ( token ID 순, 변경 불가 )
+     */
+    public SortedMap<String, String> getMessages(final String regulator, final String language) {
+        return chain(regulator, language).messages();
+    }
+
+    /**
+     * ( 규제기관, 언어 ) 에서 조회 가능한 전체 message 를 직렬화한 bundle
+     *
+     * @param regulator 규제기관 코드
+     * @param language  언어 코드 ( null 인 경우 기본 언어 )
+     * @return message bundle
+     */
+    public MessageBundle getMessageBundle(final String regulator, final String language) {
+        return chain(regulator, language).bundle();
+    }
+
+    /**
+     * 규제기관 목록
+     *
+     * @return message 가 등록된 규제기관 코드
+     */
+    public Set<String> getRegulators() {
+        return regulatorBundles.keySet();
+    }
+
+    /**
+     * 전체 message 개수
+     *
+     * @return 모든 규제기관 / 언어의 message 개수 합
+     */
+    public int size() {
+        int size = countMessages(commonBundles);
+        for (final Map<String, Map<String, CompiledMessage>> bundles : regulatorBundles.values()) {
+            size += countMessages(bundles);
+        }
+        return size;
+    }
+
+    CompiledMessage find(final String regulator, final String language, final String tid) {
+        return chain(regulator, language).find(tid);
+    }
+
+    /**
+     * ( 규제기관, 언어 ) 의 조회 순서
+     *
+     * @param regulator 규제기관 코드 ( 미등록 / null 인 경우 공통 message 만 조회 )
+     * @param language  언어 코드 ( 미등록 / null 인 경우 기본 언어 )
+     * @return 조회 순서
+     */
+    FallbackChain chain(final String regulator, final String language) {
+        final Map<String, FallbackChain> chains = regulatorChains.getOrDefault(regulator, commonChains);
+        final FallbackChain chain = chains.get(language);
+        return chain != null ? chain : chains.get(defaultLanguage);
+    }
+
+    private Map<String, FallbackChain> createChains(final Set<String> languages,
+                                                    final Map<String, Map<String, CompiledMessage>> bundles) {
+        final Map<String, FallbackChain> chains = new HashMap<>();
+        for (final String language : languages) {
+            final List<Map<String, CompiledMessage>> chain = new ArrayList<>();
+            if (bundles != null) {
+                addBundles(chain, bundles, language);
+            }
+            addBundles(chain, commonBundles, language);
+            chains.put(language, new FallbackChain(chain));
+        }
+        return Collections.unmodifiableMap(chains);
+    }
+
+    private void addBundles(final List<Map<String, CompiledMessage>> chain,
+                            final Map<String, Map<String, CompiledMessage>> bundles, final String language) {
+        // 요청 언어 -> 기본 언어
+        addBundle(chain, bundles.get(language));
+        if (!language.equals(defaultLanguage)) {
+            addBundle(chain, bundles.get(defaultLanguage));
+        }
+    }
+
+    private static void addBundle(final List<Map<String, CompiledMessage>> chain,
+                                  final Map<String, CompiledMessage> bundle) {
+        if (bundle != null) {
+            chain.add(bundle);
+        }
+    }
+
+    private static int countMessages(final Map<String, Map<String, CompiledMessage>> bundles) {
+        int count = 0;
+        for (final Map<String, CompiledMessage> bundle : bundles.values()) {
+            count += bundle.size();
+        }
+        return count;
+    }
+
+    /**
+     * ( 규제기관, 언어 ) 별 message 조회 순서
+     * <p>
+     * 순서대로 map 을 조회하여 처음 찾은 message 를 반환하며,
+     * 찾지 못한 token ID 는 <code>MAX_MISSES</code> 개까지 기억해서 다음 조회부터 map 조회를 생략합니다.
+     * ( catalog 는 변경되지 않으므로 reload 로 catalog 가 교체되기 전까지 결과가 같음 )
+     */
+    static final class FallbackChain {
+        // 임의의 token ID 로 조회하는 경우 memory 가 계속 늘어나지 않도록 제한
+        static final int MAX_MISSES = 1024;
+
+        private final List<Map<String, CompiledMessage>> bundles;
+
+        private final Set<String> misses = ConcurrentHashMap.newKeySet();
+
+        // 처음 조회할 때 생성 ( 동시에 생성되더라도 결과가 같으므로 lock 없이 마지막 값 사용 )
+        private volatile SortedMap<String, String> messages;
+
+        private volatile MessageBundle bundle;
+
+        private FallbackChain(final List<Map<String, CompiledMessage>> bundles) {
+            this.bundles = List.copyOf(bundles);
+        }
+
+        CompiledMessage find(final String tid) {
+            if (tid == null || misses.contains(tid)) {
+                return null;
+            }
+            for (int i = 0; i < bundles.size(); i++) {
+                final CompiledMessage message = bundles.get(i).get(tid);
+                if (message != null) {
+                    return message;
+                }
+            }
+            if (misses.size() < MAX_MISSES) {
+                misses.add(tid);
+            }
+            return null;
+        }
+
+        /**
+         * @return 조회 순서를 적용한 전체 message 원문 ( 앞 순서의 message 가 우선 )
+         */
+        SortedMap<String, String> messages() {
+            SortedMap<String, String> merged = messages;
+            if (merged == null) {
+                final TreeMap<String, String> map = new TreeMap<>();
+                for (int i = bundles.size() - 1; i >= 0; i--) {
+                    bundles.get(i).forEach((tid, message) -> map.put(tid, message.getPattern()));
+                }
+                merged = Collections.unmodifiableSortedMap(map);
+                messages = merged;
+            }
+            return merged;
+        }
+
+        /**
+         * @return 전체 message 원문을 직렬화한 bundle
+         */
+        MessageBundle bundle() {
+            MessageBundle encoded = bundle;
+            if (encoded == null) {
+                encoded = MessageBundleEncoder.encode(JsonUtil.objectMapper, messages());
+                bundle = encoded;
+            }
+            return encoded;
+        }
+
+        int length() {
+            return bundles.size();
+        }
+
+        int missCount() {
+            return misses.size();
+        }
+    }
+
+    /**
+     * catalog builder
+     * <p>
+     * 언어별 message 파일 1개 단위로 추가하며, 추가하는 시점에 message 를 parsing 합니다.
+     */
+    public static final class Builder {
+        private final String defaultLanguage;
+
+        private final Map<String, Map<String, CompiledMessage>> commonBundles = new HashMap<>();
+
+        private final Map<String, Map<String, Map<String, CompiledMessage>>> regulatorBundles = new HashMap<>();
+
+        private Builder(final String defaultLanguage) {
+            this.defaultLanguage = defaultLanguage;
+        }
+
+        /**
+         * 공통 message 추가
+         *
+         * @param language 언어 코드
+         * @param messages token ID -> message 원문
+         * @return builder
+         */
+        public Builder common(final String language, final Map<String, String> messages) {
+            commonBundles.put(language, compile(language, messages));
+            return this;
+        }
+
+        /**
+         * 규제기관 message 추가
+         *
+         * @param regulator 규제기관 코드
+         * @param language  언어 코드
+         * @param messages  token ID -> message 원문
+         * @return builder
+         */
+        public Builder regulator(final String regulator, final String language, final Map<String, String> messages) {
+            regulatorBundles.computeIfAbsent(regulator, key -> new HashMap<>())
+                            .put(language, compile(language, messages));
+            return this;
+        }
+
+        /**
+         * 공통 message 삭제
+         *
+         * @param language 언어 코드
+         * @return builder
+         */
+        public Builder removeCommon(final String language) {
+            commonBundles.remove(language);
+            return this;
+        }
+
+        /**
+         * 규제기관 message 삭제
+         *
+         * @param regulator 규제기관 코드
+         * @param language  언어 코드
+         * @return builder
+         */
+        public Builder removeRegulator(final String regulator, final String language) {
+            final Map<String, Map<String, CompiledMessage>> bundles = regulatorBundles.get(regulator);
+            if (bundles != null) {
+                bundles.remove(language);
+                if (bundles.isEmpty()) {
+                    regulatorBundles.remove(regulator);
+                }
+            }
+            return this;
+        }
+
+        public I18nMessageCatalog build() {
+            return new I18nMessageCatalog(this);
+        }
+
+        private static Map<String, CompiledMessage> compile(final String language, final Map<String, String> messages) {
+            final Locale locale = new Locale(language);
+            final Map<String, CompiledMessage> bundle = new HashMap<>();
+            messages.forEach((tid, pattern) -> bundle.put(tid, CompiledMessage.compile(pattern, locale)));
+            return Collections.unmodifiableMap(bundle);
+        }
+    }
+}
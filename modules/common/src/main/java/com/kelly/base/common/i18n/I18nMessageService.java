@@ -1,24 +1,26 @@
 package com.kelly.base.common.i18n;
 
 import com.kelly.base.common.exception.CommonRuntimeException;
+import com.kelly.base.common.i18n.config.I18nMessageCatalogLoader;
 import com.kelly.base.common.interfaces.II18nMessageService;
 import com.kelly.base.common.response.CommonResultCode;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.MessageSource;
-import org.springframework.context.NoSuchMessageException;
-import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.stereotype.Service;
 
-import java.util.Locale;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.SortedMap;
+import java.util.concurrent.Callable;
 
 /**
  * i18n message service
+ * <p>
+ * 미리 parsing 된 <code>I18nMessageCatalog</code> 로 조회하며,
+ * reload 는 새 catalog 를 만든 뒤 참조만 교체하므로 조회하는 thread 를 막지 않습니다.
  *
  * @author 서강희
  */
@@ -28,21 +30,26 @@ import java.util.concurrent.ConcurrentHashMap;
 public class I18nMessageService implements II18nMessageService {
 
     // bean creation via I18nMessageSourceConfig
-    @Qualifier("commonMessageSource")
-    private final MessageSource commonMessageSource;
-
-    @Qualifier("regulatorMessageSources")
-    private final Map<String, MessageSource> regulatorMessageSources;
+    private final I18nMessageCatalogLoader catalogLoader;
 
     private final I18nProperties i18nProperties;
 
-    private final Map<String, Locale> localeCache = new ConcurrentHashMap<>();
+    // reload 시 참조만 교체
+    private volatile I18nMessageCatalog catalog;
 
     @PostConstruct
     public void init() {
         log.info("initializing i18n message - default language: {}, default regulatory: {}",
                  i18nProperties.getDefaultLanguage(), i18nProperties.getDefaultRegulator());
-        log.info("available regulator sources: {}", regulatorMessageSources.keySet());
+
+        try {
+            catalog = catalogLoader.load();
+        } catch (Exception e) {
+            // 예상 exception : IOException ( 파일 읽기 실패 ), JacksonException ( 잘못된 json )
+            log.error("failed to load i18n messages", e);
+            catalog = I18nMessageCatalog.builder(i18nProperties.getDefaultLanguage()).build();
+        }
+        log.info("available regulator sources: {}", catalog.getRegulators());
     }
 
     @Override
@@ -55,20 +62,67 @@ public class I18nMessageService implements II18nMessageService {
         return resolveMessage(tid, args);
     }
 
+    @Override
+    public Map<String, String> getMessages(final Collection<String> keys) {
+        final String language = I18nContext.getLanguage();
+        final String regulator = I18nContext.getRegulator();
+        final I18nMessageCatalog current = catalog;
+
+        final Map<String, String> messages = new LinkedHashMap<>();
+        for (final String key : keys) {
+            final String pattern = current.getPattern(regulator, language, key);
+            messages.put(key, pattern != null ? pattern : key);
+        }
+        return messages;
+    }
+
+    @Override
+    public Map<String, String> getMessagesByNamespace(final String namespace) {
+        final SortedMap<String, String> messages
+                = catalog.getMessages(I18nContext.getRegulator(), I18nContext.getLanguage());
+        if (namespace == null || namespace.isEmpty()) {
+            return messages;
+        }
+        // prefix 로 시작하는 token ID 범위
+        return messages.subMap(namespace, namespace + Character.MAX_VALUE);
+    }
+
+    @Override
+    public MessageBundle getMessageBundle() {
+        return catalog.getMessageBundle(I18nContext.getRegulator(), I18nContext.getLanguage());
+    }
+
     @Override
     public synchronized void reload() {
-        log.info("reloading i18n message sources...");
+        log.info("reloading i18n message catalog...");
+        publish(catalogLoader::load);
+        log.info("i18n messages reloaded successfully");
+    }
 
+    /**
+     * 변경된 resource 파일만 다시 읽어 catalog 교체 ( <code>I18nMessageWatcher</code> 에서 호출 )
+     *
+     * @param files 변경 ( 생성 / 수정 / 삭제 ) 된 파일
+     */
+    synchronized void reload(final Collection<Path> files) {
+        publish(() -> catalogLoader.reload(catalog, files));
+    }
+
+    /**
+     * 새 catalog 를 만든 뒤 참조 교체
+     *
+     * @param loader 새 catalog 생성
+     */
+    private void publish(final Callable<I18nMessageCatalog> loader) {
+        final I18nMessageCatalog reloaded;
         try {
-            clearCommonMessageSource();     // 공통 MessageSource 캐시 클리어
-            clearRegulatorMessageSource();  // 규제기관별 MessageSource 캐시 클리어
+            reloaded = loader.call();
         } catch (Exception e) {
-            // 예상 exception : UnsupportedOperationException, NullPointerException
+            // 실패한 경우 기존 catalog 를 계속 사용
             log.error("exception details", e);
             throw new CommonRuntimeException(CommonResultCode.INTERNAL_SERVER_ERROR, "failed to reload i18n messages");
         }
-
-        log.info("i18n messages reloaded successfully");
+        catalog = reloaded;
     }
 
     /**
@@ -82,8 +136,8 @@ public class I18nMessageService implements II18nMessageService {
         final String language = I18nContext.getLanguage();
         final String regulator = I18nContext.getRegulator();
 
-        // 1. 현재 언어로 조회 시도 ( 언어를 못찾을 경우 default 인 en 으로 조회 )
-        final String message = tryGetMessage(tid, language, regulator, args);
+        // 1. 규제기관 -> 공통 순서로 현재 언어, 기본 언어 ( en ) message 조회
+        final String message = catalog.getMessage(regulator, language, tid, args);
         if (message != null) {
             return message;
         }
@@ -92,74 +146,4 @@ public class I18nMessageService implements II18nMessageService {
         log.trace("message not found: {}, {}, {}", tid, language, regulator);
         return tid;
     }
-
-    /**
-     * 언어 + 규제기관으로 메시지 조회 시도
-     *
-     * @param tid       token ID
-     * @param language  언어 코드
-     * @param regulator 규제기관 코드
-     * @param args      메시지 포맷 파라미터
-     * @return 조회된 메시지 ( 조회가 안될 경우 null )
-     */
-    private String tryGetMessage(final String tid, final String language, final String regulator, final Object[] args) {
-        final Locale locale = getLocale(language);
-
-        // 1. 규제기관별 MessageSource 조회
-        try {
-            return tryGetMessageWithRegulator(tid, locale, regulator, args);
-        } catch (Exception e) {
-            // 예상 exception : NullPointerException, NoSuchMessageException
-            log.trace("message not found in regulator [{}] source: {}", regulator, tid);
-        }
-
-        // 2. 공통 MessageSource 조회
-        try {
-            return commonMessageSource.getMessage(tid, args, locale);
-        } catch (NoSuchMessageException e) {
-            log.trace("message not found in common source: {}", tid);
-        }
-
-        return null;
-    }
-
-    private String tryGetMessageWithRegulator(final String tid, final Locale locale, final String regulator,
-                                              final Object[] args) {
-        final MessageSource regulatorMsgSrc = regulatorMessageSources.get(regulator);
-
-        // 규제기관 properties 파일이 없는 경우 null 이 반환됨
-        return Objects.requireNonNull(regulatorMsgSrc).getMessage(tid, args, locale);
-    }
-
-    /**
-     * Locale 객체 조회
-     *
-     * @param language 언어 코드
-     * @return <code>Locale</code> 객체
-     */
-    private Locale getLocale(final String language) {
-        return localeCache.computeIfAbsent(language, Locale::new);
-    }
-
-    /**
-     * common message source 정리
-     */
-    void clearCommonMessageSource() {
-        if (commonMessageSource instanceof ReloadableResourceBundleMessageSource reloadableMsgSrc) {
-            reloadableMsgSrc.clearCache();
-            log.debug("cleared common message source cache");
-        }
-    }
-
-    /**
-     * regulator message source 정리
-     */
-    void clearRegulatorMessageSource() {
-        for (final Map.Entry<String, MessageSource> entry : regulatorMessageSources.entrySet()) {
-            if (entry.getValue() instanceof ReloadableResourceBundleMessageSource reloadableMsgSrc) {
-                reloadableMsgSrc.clearCache();
-                log.debug("cleared regulatory message source cache: {}", entry.getKey());
-            }
-        }
-    }
 }
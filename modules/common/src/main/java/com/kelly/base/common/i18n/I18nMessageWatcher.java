@@ -0,0 +1,167 @@
+package com.kelly.base.common.i18n;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * i18n resource 파일 변경을 감지하여 변경된 파일만 다시 읽어 catalog 교체
+ * <p>
+ * <code>{resourcePath}/common</code>, <code>{resourcePath}/product</code> 디렉터리를 <code>WatchService</code> 로 감시하고,
+ * 편집기가 저장을 여러 event 로 나누어 기록하므로 <code>debounceMs</code> 동안 추가 event 가 없을 때까지 모아서 처리합니다.<br>
+ * 새 catalog 는 background thread 에서 만든 뒤 참조만 교체하므로 조회하는 thread 는 막히지 않으며,
+ * 유실된 event 가 있는 경우 ( <code>OVERFLOW</code> ) 에는 전체 파일을 다시 읽습니다.<br>
+ * resource 경로가 file system 이 아닌 경우 ( jar 내부의 classpath 등 ) 에는 감시하지 않습니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+public final class I18nMessageWatcher implements AutoCloseable {
+    static final String WATCHER_THREAD_NAME = "i18n-watcher";
+
+    private static final List<String> WATCH_DIRECTORIES = List.of("common", "product");
+
+    private final Resource resourceDirectory;
+
+    private final I18nMessageService messageService;
+
+    private final long debounceMs;
+
+    private WatchService watchService;
+
+    private Thread thread;
+
+    /**
+     * @param resourceDirectory i18n resource 경로 ( <code>i18n.resource-path</code> )
+     * @param messageService    catalog 를 교체할 message service
+     * @param debounceMs        연속된 변경 event 를 모으는 시간 (ms)
+     */
+    public I18nMessageWatcher(final Resource resourceDirectory, final I18nMessageService messageService,
+                              final long debounceMs) {
+        this.resourceDirectory = resourceDirectory;
+        this.messageService = messageService;
+        this.debounceMs = debounceMs;
+    }
+
+    /**
+     * 감시 thread 시작
+     */
+    public void start() {
+        if (!resourceDirectory.isFile()) {
+            log.warn("i18n resource path is not a file system directory, watch is disabled - path : {}",
+                     resourceDirectory);
+            return;
+        }
+
+        try {
+            final Path directory = resourceDirectory.getFile().toPath();
+            watchService = directory.getFileSystem().newWatchService();
+            for (final String name : WATCH_DIRECTORIES) {
+                final Path target = directory.resolve(name);
+                if (Files.isDirectory(target)) {
+                    target.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                }
+            }
+        } catch (IOException e) {
+            log.error("failed to watch i18n resource directory - path : {}", resourceDirectory, e);
+            close();
+            return;
+        }
+
+        thread = new Thread(this::run, WATCHER_THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+        log.info("start watching i18n resources - path : {}, debounce (ms) : {}", resourceDirectory, debounceMs);
+    }
+
+    @Override
+    public void close() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            // 대기중인 감시 thread 는 ClosedWatchServiceException 으로 종료
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("failed to close i18n watch service - message : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 변경 event 를 모아서 catalog 교체
+     * <p>
+     * 감시 thread 1개에서만 호출해야 합니다.
+     */
+    void run() {
+        try {
+            while (true) {
+                final Set<Path> changed = new LinkedHashSet<>();
+                boolean overflow = collect(watchService.take(), changed);
+
+                WatchKey key;
+                while ((key = watchService.poll(debounceMs, TimeUnit.MILLISECONDS)) != null) {
+                    overflow |= collect(key, changed);
+                }
+                publish(changed, overflow);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // close() 로 종료
+        }
+        log.info("stop watching i18n resources - path : {}", resourceDirectory);
+    }
+
+    /**
+     * 변경된 파일 경로 수집
+     *
+     * @param key     변경 event 가 발생한 디렉터리의 key
+     * @param changed 변경된 파일 경로를 추가할 set
+     * @return 유실된 event 가 있는 경우 true
+     */
+    static boolean collect(final WatchKey key, final Set<Path> changed) {
+        final Path directory = (Path) key.watchable();
+        boolean overflow = false;
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                overflow = true;
+            } else {
+                changed.add(directory.resolve((Path) event.context()));
+            }
+        }
+        key.reset();
+        return overflow;
+    }
+
+    /**
+     * 새 catalog 생성 후 교체
+     *
+     * @param changed  변경된 파일 경로
+     * @param overflow 유실된 event 가 있는 경우 true ( 전체 파일을 다시 읽음 )
+     */
+    void publish(final Set<Path> changed, final boolean overflow) {
+        try {
+            if (overflow) {
+                messageService.reload();
+            } else {
+                messageService.reload(changed);
+            }
+        } catch (RuntimeException e) {
+            // 저장중인 파일을 읽은 경우 등 - 기존 catalog 를 유지하고 다음 변경 event 에서 다시 처리
+            log.error("failed to reload i18n messages - files : {}, message : {}", changed, e.getMessage());
+        }
+    }
+}
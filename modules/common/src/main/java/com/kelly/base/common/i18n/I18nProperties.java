@@ -36,4 +36,23 @@ public class I18nProperties {
      * 캐시 활성화 여부
      */
     private boolean cacheEnabled = true;
+
+    /**
+     * 리소스 파일 변경 감지 설정
+     */
+    private Watch watch = new Watch();
+
+    @Getter
+    @Setter
+    public static class Watch {
+        /**
+         * 변경된 파일만 자동으로 다시 읽을지 여부 ( file system 경로인 경우만 동작 )
+         */
+        private boolean enabled = false;
+
+        /**
+         * 연속된 변경 event 를 모으는 시간 (ms)
+         */
+        private long debounceMs = 300L;
+    }
 }
@@ -0,0 +1,41 @@
+package com.kelly.base.common.i18n;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kelly.base.common.exception.CommonRuntimeException;
+import com.kelly.base.common.interfaces.II18nMessageService.MessageBundle;
+import com.kelly.base.common.response.CommonResultCode;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * message 목록을 json / gzip 으로 직렬화하여 <code>MessageBundle</code> 생성
+ *
+ * @author 서강희
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class MessageBundleEncoder {
+    /**
+     * @param objectMapper 직렬화에 사용할 ObjectMapper
+     * @param messages     token ID -> message 원문 ( 같은 내용이면 같은 ETag 가 되도록 정렬된 map )
+     * @return message bundle
+     */
+    static MessageBundle encode(final ObjectMapper objectMapper, final Map<String, String> messages) {
+        try {
+            final byte[] json = objectMapper.writeValueAsBytes(messages);
+            final ByteArrayOutputStream bos = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(bos)) {
+                gzip.write(json);
+            }
+            final String etag = "W/\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+            return new MessageBundle(etag, json, bos.toByteArray());
+        } catch (IOException e) {
+            throw new CommonRuntimeException(CommonResultCode.INTERNAL_SERVER_ERROR, "failed to encode i18n messages");
+        }
+    }
+}
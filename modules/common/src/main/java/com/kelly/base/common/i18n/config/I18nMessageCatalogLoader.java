@@ -0,0 +1,167 @@
+package com.kelly.base.common.i18n.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kelly.base.common.i18n.I18nMessageCatalog;
+import com.kelly.base.common.i18n.I18nProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * i18n resource 파일을 읽어 <code>I18nMessageCatalog</code> 생성
+ * <p>
+ * - 공통 message : <code>{resourcePath}/common/messages_{언어}.json</code><br>
+ * - 규제기관 message : <code>{resourcePath}/product/messages_{규제기관}_{언어}.properties</code>
+ *
+ * @author 서강희
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class I18nMessageCatalogLoader {
+    private static final Pattern COMMON_FILE_PATTERN = Pattern.compile("messages_([a-z]{2,3})\\.json$");
+
+    private static final Pattern REGULATOR_FILE_PATTERN
+            = Pattern.compile("messages_([a-z]+)_([a-z]{2,3})\\.properties$");
+
+    private static final TypeReference<Map<String, String>> MESSAGES_TYPE = new TypeReference<>() {
+    };
+
+    private final I18nProperties i18nProperties;
+
+    private final ObjectMapper objectMapper;
+
+    private final ResourceLoader resourceLoader;
+
+    /**
+     * 모든 resource 파일을 읽어 catalog 생성
+     *
+     * @return 생성된 catalog
+     * @throws IOException 파일 scan / 읽기 실패
+     */
+    public I18nMessageCatalog load() throws IOException {
+        final I18nMessageCatalog.Builder builder = I18nMessageCatalog.builder(i18nProperties.getDefaultLanguage());
+        if (!(resourceLoader instanceof ResourcePatternResolver resolver)) {
+            log.warn("resource loader does not support pattern - i18n message catalog is empty");
+            return builder.build();
+        }
+
+        final String resourcePath = i18nProperties.getResourcePath();
+        for (final Resource resource : resolver.getResources(resourcePath + "/common/messages_*.json")) {
+            final Matcher matcher = match(COMMON_FILE_PATTERN, resource);
+            if (matcher != null) {
+                builder.common(matcher.group(1), readJson(resource));
+            }
+        }
+        for (final Resource resource : resolver.getResources(resourcePath + "/product/messages_*.properties")) {
+            final Matcher matcher = match(REGULATOR_FILE_PATTERN, resource);
+            if (matcher != null) {
+                builder.regulator(matcher.group(1), matcher.group(2), readProperties(resource));
+            }
+        }
+
+        final I18nMessageCatalog catalog = builder.build();
+        log.info("loaded i18n message catalog - messages : {}, regulators : {}",
+                 catalog.size(), catalog.getRegulators());
+        return catalog;
+    }
+
+    /**
+     * 변경된 파일만 다시 읽어 새 catalog 생성
+     * <p>
+     * 나머지 파일은 기존 catalog 의 parsing 결과를 그대로 사용하며, 삭제된 파일의 message 는 제외합니다.
+     *
+     * @param catalog 현재 catalog
+     * @param files   변경 ( 생성 / 수정 / 삭제 ) 된 파일
+     * @return 새 catalog ( message 파일이 아닌 경우만 변경된 경우 기존 catalog )
+     * @throws IOException 파일 읽기 실패
+     */
+    public I18nMessageCatalog reload(final I18nMessageCatalog catalog, final Collection<Path> files)
+            throws IOException {
+        final I18nMessageCatalog.Builder builder = catalog.toBuilder();
+        boolean changed = false;
+        for (final Path file : files) {
+            changed |= apply(builder, file);
+        }
+        return changed ? builder.build() : catalog;
+    }
+
+    private boolean apply(final I18nMessageCatalog.Builder builder, final Path file) throws IOException {
+        final Path directory = file.getParent();
+        final String directoryName = directory != null ? String.valueOf(directory.getFileName()) : "";
+        final Resource resource = new FileSystemResource(file);
+        final boolean exists = Files.isRegularFile(file);
+
+        if ("common".equals(directoryName)) {
+            final Matcher matcher = match(COMMON_FILE_PATTERN, resource);
+            if (matcher != null) {
+                if (exists) {
+                    builder.common(matcher.group(1), readJson(resource));
+                } else {
+                    builder.removeCommon(matcher.group(1));
+                }
+                log.info("reloaded i18n common messages - file : {}, exists : {}", file, exists);
+                return true;
+            }
+        } else if ("product".equals(directoryName)) {
+            final Matcher matcher = match(REGULATOR_FILE_PATTERN, resource);
+            if (matcher != null) {
+                if (exists) {
+                    builder.regulator(matcher.group(1), matcher.group(2), readProperties(resource));
+                } else {
+                    builder.removeRegulator(matcher.group(1), matcher.group(2));
+                }
+                log.info("reloaded i18n regulator messages - file : {}, exists : {}", file, exists);
+                return true;
+            }
+        }
+
+        log.debug("ignored i18n resource change - file : {}", file);
+        return false;
+    }
+
+    private static Matcher match(final Pattern pattern, final Resource resource) {
+        final String filename = resource.getFilename();
+        if (filename == null) {
+            return null;
+        }
+        final Matcher matcher = pattern.matcher(filename);
+        return matcher.find() ? matcher : null;
+    }
+
+    private Map<String, String> readJson(final Resource resource) throws IOException {
+        try (InputStream is = resource.getInputStream()) {
+            return objectMapper.readValue(is, MESSAGES_TYPE);
+        }
+    }
+
+    private static Map<String, String> readProperties(final Resource resource) throws IOException {
+        final Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        final Map<String, String> messages = new HashMap<>();
+        for (final String tid : properties.stringPropertyNames()) {
+            messages.put(tid, properties.getProperty(tid));
+        }
+        return messages;
+    }
+}
@@ -15,4 +15,15 @@ public interface IAuditContextProvider {
      * @return 상세 정보 (nullable)
      */
     String getDetailedInfo();
+
+    /**
+     * audit log 를 조회하기 위한 사용자 accountId
+     * <p>
+     * audit store 의 accountId index 에 사용되며, json 에는 포함되지 않습니다.
+     *
+     * @return accountId (nullable)
+     */
+    default Long getAccountId() {
+        return null;
+    }
 }
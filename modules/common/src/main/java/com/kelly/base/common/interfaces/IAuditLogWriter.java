@@ -0,0 +1,37 @@
+package com.kelly.base.common.interfaces;
+
+import com.kelly.base.common.audit.dto.AuditLogFormat;
+import com.kelly.base.common.exception.CommonException;
+
+/**
+ * audit log 를 실제 저장소에 기록하는 writer interface
+ * <p>
+ * <code>AuditLogService</code> 는 이 interface 를 통해서만 audit log 를 기록하며,
+ * 동기/비동기 여부 및 저장 방식은 구현체에서 결정합니다.
+ *
+ * @author 서강희
+ */
+public interface IAuditLogWriter extends AutoCloseable {
+    /**
+     * audit log 기록
+     *
+     * @param auditLog 기록할 audit log
+     * @throws CommonException 직렬화 또는 기록 실패
+     */
+    void write(AuditLogFormat auditLog) throws CommonException;
+
+    /**
+     * 버퍼링된 내용을 저장소에 반영
+     */
+    default void flush() {
+        // 버퍼를 사용하지 않는 구현체는 처리할 내용 없음
+    }
+
+    /**
+     * 남아있는 audit log 를 모두 기록하고 writer 를 종료
+     */
+    @Override
+    default void close() {
+        flush();
+    }
+}
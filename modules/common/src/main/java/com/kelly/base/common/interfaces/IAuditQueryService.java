@@ -0,0 +1,23 @@
+package com.kelly.base.common.interfaces;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저장된 audit log 조회 서비스 interface
+ *
+ * @author 서강희
+ */
+public interface IAuditQueryService {
+    /**
+     * 시간 범위 (및 accountId) 에 해당하는 audit log 조회
+     *
+     * @param from      조회 시작 시간 (포함)
+     * @param to        조회 종료 시간 (포함)
+     * @param accountId 조회할 사용자의 accountId (null 인 경우 전체)
+     * @param limit     최대 조회 개수
+     * @return 기록된 순서의 audit log 목록 (audit log json 과 동일한 구조)
+     */
+    List<Map<String, Object>> findAuditLogs(ZonedDateTime from, ZonedDateTime to, Long accountId, int limit);
+}
@@ -1,5 +1,10 @@
 package com.kelly.base.common.interfaces;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * i18n message service interface
  *
@@ -23,10 +28,90 @@ public interface II18nMessageService {
      */
     String getMessage(String key, Object... args);
 
+    /**
+     * 여러 message 를 한번에 조회
+     * <p>
+     * format 하지 않은 message 원문을 반환하며, 없는 message 는 key 를 그대로 반환합니다.
+     *
+     * @param keys 메시지 키 목록
+     * @return 메시지 키 -> message 원문 ( 요청한 순서 )
+     */
+    Map<String, String> getMessages(Collection<String> keys);
+
+    /**
+     * namespace ( 메시지 키 prefix ) 에 해당하는 message 를 한번에 조회
+     *
+     * @param namespace 메시지 키 prefix (예: "EXT_TID_", null 또는 빈 문자열인 경우 전체)
+     * @return 메시지 키 -> message 원문 ( 메시지 키 순 )
+     */
+    Map<String, String> getMessagesByNamespace(String namespace);
+
+    /**
+     * 현재 언어 / 규제기관의 전체 message 를 미리 직렬화한 bundle 조회
+     * <p>
+     * catalog 가 교체되기 전까지 같은 instance 를 반환하므로 UI 초기 로딩 응답에 그대로 사용할 수 있습니다.
+     *
+     * @return message bundle
+     */
+    MessageBundle getMessageBundle();
+
     /**
      * message resource reload
      * <p>
      * 외부 resource file 변경 후 app 재시작 없이 message 갱신하는 경우 호출
      */
     void reload();
+
+    /**
+     * 직렬화된 message bundle
+     * <p>
+     * 여러 요청이 같은 instance 를 공유하므로 json / gzip 배열은 노출하지 않고 읽기 전용 stream 으로만 제공합니다.
+     */
+    final class MessageBundle {
+        private final String etag;
+
+        private final byte[] json;
+
+        private final byte[] gzip;
+
+        /**
+         * @param etag 내용으로 계산한 weak ETag ( 내용이 같으면 reload 후에도 같은 값 )
+         * @param json 메시지 키 -> message 원문 json ( UTF-8, 복사하여 보관 )
+         * @param gzip gzip 으로 압축한 json ( 복사하여 보관 )
+         */
+        public MessageBundle(final String etag, final byte[] json, final byte[] gzip) {
+            this.etag = etag;
+            this.json = json.clone();
+            this.gzip = gzip.clone();
+        }
+
+        /**
+         * @return 내용으로 계산한 weak ETag
+         */
+        public String etag() {
+            return etag;
+        }
+
+        /**
+         * @return json 을 읽는 stream ( 호출마다 새로 생성 )
+         */
+        public InputStream jsonStream() {
+            return new ByteArrayInputStream(json);
+        }
+
+        public int jsonLength() {
+            return json.length;
+        }
+
+        /**
+         * @return gzip 으로 압축한 json 을 읽는 stream ( 호출마다 새로 생성 )
+         */
+        public InputStream gzipStream() {
+            return new ByteArrayInputStream(gzip);
+        }
+
+        public int gzipLength() {
+            return gzip.length;
+        }
+    }
 }
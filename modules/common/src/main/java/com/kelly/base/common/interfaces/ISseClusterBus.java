@@ -0,0 +1,37 @@
+package com.kelly.base.common.interfaces;
+
+import com.kelly.base.common.sse.dto.SseClusterMessage;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 여러 node ( app instance ) 사이에 SSE message 를 전달하는 transport interface
+ * <p>
+ * <code>SseEmitterManager</code> 는 다른 node 에 연결된 사용자에게 전송할 event 와 node 의 routing 정보를
+ * 이 interface 를 통해서만 주고받으며, 전달 방식 ( socket, DB, message broker 등 ) 은 구현체에서 결정합니다.<br>
+ * 전달은 best-effort 이며 다른 모든 node 에 전달되어야 합니다. ( 자신이 보낸 message 는 수신되어도 무시됨 )
+ *
+ * @author 서강희
+ */
+public interface ISseClusterBus extends AutoCloseable {
+    /**
+     * message 수신 시작
+     *
+     * @param receiver 다른 node 에서 수신한 message batch 를 처리 ( 수신 thread 1개에서 순서대로 호출 )
+     */
+    void start(Consumer<List<SseClusterMessage>> receiver);
+
+    /**
+     * message batch 를 다른 node 에 전달
+     *
+     * @param messages 전달할 message 목록
+     */
+    void publish(List<SseClusterMessage> messages);
+
+    /**
+     * 수신을 종료하고 transport 자원 반환 ( 여러 번 호출될 수 있음 )
+     */
+    @Override
+    void close();
+}
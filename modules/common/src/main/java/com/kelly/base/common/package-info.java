@@ -13,6 +13,7 @@
  *   <li>common::responses - 응답 정의</li>
  *   <li>common::interfaces - interface 정의</li>
  *   <li>common::utils - 유틸 클래스 정의</li>
+ *   <li>common::async - 작업 thread 의 실행 context 전달</li>
  * </ul>
  *
  * @author 서강희
@@ -11,7 +11,8 @@ public enum CommonStatusCode implements IStatusCode {
     CSC_94000001(94000001, "[ERROR] invalid parameter"),
     CSC_95000001(95000001, "[ERROR] system error"),
     CSC_95000002(95000002, "[ERROR] error while accessing database"),
-    CSC_95030001(95030001, "[ERROR] thread usage is not possible");
+    CSC_95030001(95030001, "[ERROR] thread usage is not possible"),
+    CSC_95030002(95030002, "[ERROR] feature is disabled");
 
     private final Integer code;
     private final String message;
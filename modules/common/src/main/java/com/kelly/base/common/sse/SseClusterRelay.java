@@ -0,0 +1,325 @@
+package com.kelly.base.common.sse;
+
+import com.kelly.base.common.interfaces.ISseClusterBus;
+import com.kelly.base.common.sse.dto.SseClusterMessage;
+import com.kelly.base.common.sse.dto.SseEvent;
+import com.kelly.base.common.utils.ValueGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 다른 node 에 연결된 사용자에게 event 를 전달하는 cluster relay
+ * <p>
+ * 전송 요청은 bounded queue 에 추가만 하고 바로 반환하며,
+ * 전용 thread 에서 <code>batchSize</code> 단위로 묶어 <code>ISseClusterBus</code> 로 전달합니다.<br>
+ * 사용자 대상 event 는 <code>SseClusterRoutingTable</code> 에 다른 node 의 연결이 기록된 경우에만 전달되므로,
+ * 이 node 에만 연결된 사용자 ( 또는 연결이 없는 사용자 ) 에 대한 전송은 network 를 사용하지 않습니다.<br>
+ * 이 node 의 연결된 사용자는 연결 / 종료시 변경분을, <code>syncIntervalMs</code> 마다 전체 목록을 다른 node 에 알립니다.<br>
+ * 다른 node 에서 수신한 event 는 이 node 의 연결에만 전달되며 다시 전달되지 않습니다.<br>
+ * event 는 보낸 node 에서 발급한 sequence 와 함께 전달되어 모든 node 에서 같은 <code>id:</code> 로 전송됩니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+final class SseClusterRelay {
+    static final String RELAY_THREAD_NAME = "sse-cluster-relay";
+
+    // 전체 목록 동기화 message 1개에 담는 사용자 수 ( datagram 등 transport 의 message 크기 제한 고려 )
+    static final int SYNC_CHUNK_SIZE = 2048;
+
+    private static final long[] NO_USERS = new long[0];
+
+    // 종료시 relay thread 를 기다리는 최대 시간
+    private static final long CLOSE_TIMEOUT_MS = 1000L;
+
+    private final String nodeId;
+
+    private final int nodeIndex;
+
+    private final SseProperties.Cluster properties;
+
+    private final ISseClusterBus clusterBus;
+
+    private final Consumer<SseClusterMessage> delivery;
+
+    private final Supplier<long[]> localUsers;
+
+    private final LongSupplier currentTimeMillis;
+
+    private final SseClusterRoutingTable routingTable = new SseClusterRoutingTable();
+
+    private final BlockingQueue<SseClusterMessage> outbound;
+
+    private final LongAdder droppedMessageCount = new LongAdder();
+
+    private Thread relayThread;
+
+    private volatile boolean running = false;
+
+    // 새로운 node 가 확인되면 다음 실행에서 바로 전체 목록 동기화
+    private volatile boolean syncRequested = true;
+
+    private long lastSyncMs = 0L;   // relay thread 에서만 접근
+
+    SseClusterRelay(final SseProperties.Cluster properties, final ISseClusterBus clusterBus,
+                    final Consumer<SseClusterMessage> delivery, final Supplier<long[]> localUsers) {
+        this(properties, clusterBus, delivery, localUsers, System::currentTimeMillis);
+    }
+
+    SseClusterRelay(final SseProperties.Cluster properties, final ISseClusterBus clusterBus,
+                    final Consumer<SseClusterMessage> delivery, final Supplier<long[]> localUsers,
+                    final LongSupplier currentTimeMillis) {
+        final Integer index = properties.getNodeIndex();
+        if (index == null || index < 0 || index > SseReplayBuffer.MAX_NODE_INDEX) {
+            // sequence 의 하위 bit 에 기록되므로 node 마다 다른 값이 필요하며 시작시 확인
+            throw new IllegalArgumentException(
+                    "sse.cluster.node-index must be between 0 and " + SseReplayBuffer.MAX_NODE_INDEX + " : " + index
+            );
+        }
+        this.nodeId = properties.getNodeId() == null || properties.getNodeId().isBlank()
+                ? ValueGenerator.getNanoId() : properties.getNodeId();
+        this.nodeIndex = index;
+        this.properties = properties;
+        this.clusterBus = clusterBus;
+        this.delivery = delivery;
+        this.localUsers = localUsers;
+        this.currentTimeMillis = currentTimeMillis;
+        this.outbound = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    /**
+     * 다른 node 의 message 수신 및 relay thread 시작
+     */
+    void start() {
+        running = true;
+        clusterBus.start(this::receive);
+        relayThread = new Thread(this::runRelayLoop, RELAY_THREAD_NAME);
+        relayThread.setDaemon(true);
+        relayThread.start();
+        log.info("start SSE cluster relay - nodeId : {}, nodeIndex : {}, batch size : {}, flush interval (ms) : {}",
+                 nodeId, nodeIndex, properties.getBatchSize(), properties.getFlushIntervalMs());
+    }
+
+    /**
+     * 다른 node 에 이 node 의 연결이 없음을 알리고, 대기중인 message 를 전달한 뒤 종료
+     */
+    void close() {
+        running = false;
+        if (relayThread != null) {
+            try {
+                relayThread.join(CLOSE_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        offer(SseClusterMessage.Type.ROUTE_SYNC, NO_USERS, null, null, 0L);
+        flush();
+        clusterBus.close();
+    }
+
+    /**
+     * 다른 node 에 연결된 사용자인 경우 event 전달
+     *
+     * @param userId   user ID
+     * @param event    전달할 event
+     * @param sequence 이 node 에서 발급한 event 의 sequence
+     * @return 전달 대기 queue 추가 여부
+     */
+    boolean forwardToUser(final long userId, final SseEvent event, final long sequence) {
+        return routingTable.isRemote(userId)
+                && offer(SseClusterMessage.Type.USER, new long[]{userId}, null, event, sequence);
+    }
+
+    /**
+     * 다른 node 에 연결된 사용자인 경우 연결 종료 전달
+     *
+     * @param userId          user ID
+     * @param disconnectEvent 전송할 disconnect 이벤트
+     * @param sequence        이 node 에서 발급한 event 의 sequence
+     * @return 전달 대기 queue 추가 여부
+     */
+    boolean forwardDisconnect(final long userId, final SseEvent disconnectEvent, final long sequence) {
+        return routingTable.isRemote(userId)
+                && offer(SseClusterMessage.Type.DISCONNECT, new long[]{userId}, null, disconnectEvent, sequence);
+    }
+
+    /**
+     * 다른 node 에 연결된 사용자가 있는 경우 topic event 전달 ( 구독 정보는 각 node 에서 확인 )
+     *
+     * @param topic    topic
+     * @param event    전달할 event
+     * @param sequence 이 node 에서 발급한 event 의 sequence
+     * @return 전달 대기 queue 추가 여부
+     */
+    boolean forwardToTopic(final String topic, final SseEvent event, final long sequence) {
+        return routingTable.hasRemoteUsers()
+                && offer(SseClusterMessage.Type.TOPIC, NO_USERS, topic, event, sequence);
+    }
+
+    /**
+     * 다른 node 에 연결된 사용자가 있는 경우 전체 사용자 대상 event 전달
+     *
+     * @param event    전달할 event
+     * @param sequence 이 node 에서 발급한 event 의 sequence
+     * @return 전달 대기 queue 추가 여부
+     */
+    boolean forwardToAll(final SseEvent event, final long sequence) {
+        return routingTable.hasRemoteUsers()
+                && offer(SseClusterMessage.Type.ALL, NO_USERS, null, event, sequence);
+    }
+
+    /**
+     * node 번호
+     *
+     * @return 설정된 node 번호 ( sequence 하위 bit 에 기록 )
+     */
+    int getNodeIndex() {
+        return nodeIndex;
+    }
+
+    /**
+     * 이 node 에 사용자가 연결되었음을 알림
+     *
+     * @param userId user ID
+     */
+    void announceConnected(final long userId) {
+        offer(SseClusterMessage.Type.ROUTE_ADD, new long[]{userId}, null, null, 0L);
+    }
+
+    /**
+     * 이 node 에 사용자의 연결이 없음을 알림
+     *
+     * @param userId user ID
+     */
+    void announceDisconnected(final long userId) {
+        offer(SseClusterMessage.Type.ROUTE_REMOVE, new long[]{userId}, null, null, 0L);
+    }
+
+    /**
+     * 다른 node 에서 수신한 message batch 처리 ( cluster bus 의 수신 thread 에서 호출 )
+     *
+     * @param messages 수신한 message 목록
+     */
+    void receive(final List<SseClusterMessage> messages) {
+        final long now = currentTimeMillis.getAsLong();
+        for (final SseClusterMessage message : messages) {
+            if (message == null || message.type() == null || message.nodeId() == null
+                    || nodeId.equals(message.nodeId())) {
+                continue;   // 형식이 잘못된 message 또는 자신이 보낸 message
+            }
+            try {
+                if (routingTable.touch(message.nodeId(), now)) {
+                    log.info("SSE cluster node joined - nodeId : {}", message.nodeId());
+                    syncRequested = true;
+                }
+                final long[] userIds = message.userIds() == null ? NO_USERS : message.userIds();
+                switch (message.type()) {
+                    case ROUTE_SYNC -> routingTable.replace(message.nodeId(), userIds);
+                    case ROUTE_ADD -> routingTable.add(message.nodeId(), userIds);
+                    case ROUTE_REMOVE -> routingTable.remove(message.nodeId(), userIds);
+                    default -> delivery.accept(message);
+                }
+            } catch (RuntimeException e) {
+                // 1개 message 의 처리 실패로 batch 의 나머지 message 가 유실되지 않도록 계속 처리
+                log.error("SSE cluster message failure - nodeId : {}, type : {}, message : {}",
+                          message.nodeId(), message.type(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 필요한 경우 전체 목록을 동기화하고, 대기중인 message 1 batch 를 전달
+     * <p>
+     * relay thread 1개에서만 호출해야 합니다.
+     *
+     * @param waitMs message 가 없는 경우 대기할 시간 (ms)
+     * @throws InterruptedException 대기 중 interrupt
+     */
+    void runOnce(final long waitMs) throws InterruptedException {
+        final long now = currentTimeMillis.getAsLong();
+        if (syncRequested || now - lastSyncMs >= properties.getSyncIntervalMs()) {
+            syncRequested = false;
+            lastSyncMs = now;
+            sync();
+            final int expired = routingTable.expire(now - properties.getNodeTimeoutMs());
+            if (expired > 0) {
+                log.warn("expire SSE cluster node - expired : {}, nodes : {}", expired, routingTable.getNodeCount());
+            }
+        }
+
+        final SseClusterMessage first = outbound.poll(waitMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        final List<SseClusterMessage> batch = new ArrayList<>(properties.getBatchSize());
+        batch.add(first);
+        outbound.drainTo(batch, properties.getBatchSize() - 1);
+        clusterBus.publish(batch);
+    }
+
+    /**
+     * 대기중인 message 를 모두 전달
+     */
+    void flush() {
+        final List<SseClusterMessage> batch = new ArrayList<>(properties.getBatchSize());
+        while (outbound.drainTo(batch, properties.getBatchSize()) > 0) {
+            clusterBus.publish(List.copyOf(batch));
+            batch.clear();
+        }
+    }
+
+    /**
+     * 전달 대기 queue 가 가득 차서 버려진 message 개수
+     *
+     * @return drop 된 message 개수
+     */
+    long getDroppedMessageCount() {
+        return droppedMessageCount.sum();
+    }
+
+    private void runRelayLoop() {
+        while (running) {
+            try {
+                runOnce(properties.getFlushIntervalMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // exception 이 전파되면 relay thread 가 종료되므로 다음 batch 에서 계속 처리
+                log.error("SSE cluster relay failure - message : {}", e.getMessage());
+            }
+        }
+    }
+
+    // 이 node 의 연결된 사용자 전체 목록을 chunk 단위로 전달 ( 첫 chunk 로 교체, 이후 chunk 는 추가 )
+    private void sync() {
+        final long[] userIds = localUsers.get();
+        offer(SseClusterMessage.Type.ROUTE_SYNC,
+              Arrays.copyOfRange(userIds, 0, Math.min(userIds.length, SYNC_CHUNK_SIZE)), null, null, 0L);
+        for (int from = SYNC_CHUNK_SIZE; from < userIds.length; from += SYNC_CHUNK_SIZE) {
+            offer(SseClusterMessage.Type.ROUTE_ADD,
+                  Arrays.copyOfRange(userIds, from, Math.min(userIds.length, from + SYNC_CHUNK_SIZE)), null, null,
+                  0L);
+        }
+    }
+
+    private boolean offer(final SseClusterMessage.Type type, final long[] userIds, final String topic,
+                          final SseEvent event, final long sequence) {
+        if (outbound.offer(new SseClusterMessage(type, nodeId, userIds, topic, event, sequence))) {
+            return true;
+        }
+        droppedMessageCount.increment();
+        log.warn("SSE cluster queue full - type : {}, dropped : {}", type, droppedMessageCount.sum());
+        return false;
+    }
+}
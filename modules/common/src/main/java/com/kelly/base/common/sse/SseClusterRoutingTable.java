@@ -0,0 +1,136 @@
+package com.kelly.base.common.sse;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다른 node 에 연결된 사용자를 기록하는 node-local routing table
+ * <p>
+ * node 별로 연결된 userId 를 <code>SseSubscriberSet</code> 에 보관하며,
+ * 전송시에는 다른 node 에 연결된 사용자인 경우에만 cluster bus 로 전달하도록 확인하는 용도로 사용됩니다.<br>
+ * node 의 routing 정보는 주기적인 동기화 ( <code>ROUTE_SYNC</code> ) 로 교체되므로
+ * 유실되거나 순서가 바뀐 변경 ( <code>ROUTE_ADD</code> / <code>ROUTE_REMOVE</code> ) 은 다음 동기화에서 복구되며,
+ * 일정 시간 message 가 없는 node 는 종료된 것으로 판단하여 제거합니다.<br>
+ * 사용자 목록 변경은 cluster bus 의 수신 thread 1개에서만 처리됩니다.
+ *
+ * @author 서강희
+ */
+final class SseClusterRoutingTable {
+    private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+
+    /**
+     * node 의 마지막 수신 시간 갱신
+     *
+     * @param nodeId node ID
+     * @param now    현재 시간 (ms)
+     * @return 처음 확인된 node 여부
+     */
+    boolean touch(final String nodeId, final long now) {
+        final boolean[] joined = {false};
+        nodes.computeIfAbsent(nodeId, key -> {
+            joined[0] = true;
+            return new Node();
+        }).lastSeenMs = now;
+        return joined[0];
+    }
+
+    /**
+     * node 에 연결된 사용자 추가
+     *
+     * @param nodeId  node ID
+     * @param userIds 추가할 user ID 목록
+     */
+    void add(final String nodeId, final long[] userIds) {
+        final SseSubscriberSet users = nodeOf(nodeId).users;
+        for (final long userId : userIds) {
+            users.add(userId);
+        }
+    }
+
+    /**
+     * node 에 연결된 사용자 제거
+     *
+     * @param nodeId  node ID
+     * @param userIds 제거할 user ID 목록
+     */
+    void remove(final String nodeId, final long[] userIds) {
+        final SseSubscriberSet users = nodeOf(nodeId).users;
+        for (final long userId : userIds) {
+            users.remove(userId);
+        }
+    }
+
+    /**
+     * node 에 연결된 사용자 목록 교체
+     *
+     * @param nodeId  node ID
+     * @param userIds 연결된 user ID 목록
+     */
+    void replace(final String nodeId, final long[] userIds) {
+        final SseSubscriberSet users = new SseSubscriberSet();
+        for (final long userId : userIds) {
+            users.add(userId);
+        }
+        nodeOf(nodeId).users = users;
+    }
+
+    /**
+     * 다른 node 에 연결된 사용자인지 확인
+     *
+     * @param userId user ID
+     * @return 1개 이상의 다른 node 에 연결되어 있는지 여부
+     */
+    boolean isRemote(final long userId) {
+        for (final Node node : nodes.values()) {
+            if (node.users.contains(userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 연결된 사용자가 있는 다른 node 존재 여부
+     *
+     * @return 존재 여부
+     */
+    boolean hasRemoteUsers() {
+        for (final Node node : nodes.values()) {
+            if (node.users.size() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 확인된 다른 node 개수
+     *
+     * @return node 개수
+     */
+    int getNodeCount() {
+        return nodes.size();
+    }
+
+    /**
+     * <code>minLastSeenMs</code> 이후에 수신된 message 가 없는 node 제거
+     *
+     * @param minLastSeenMs 기준 시간 (ms)
+     * @return 제거된 node 개수
+     */
+    int expire(final long minLastSeenMs) {
+        final int before = nodes.size();
+        nodes.values().removeIf(node -> node.lastSeenMs < minLastSeenMs);
+        return before - nodes.size();
+    }
+
+    private Node nodeOf(final String nodeId) {
+        return nodes.computeIfAbsent(nodeId, key -> new Node());
+    }
+
+    private static final class Node {
+        private volatile SseSubscriberSet users = new SseSubscriberSet();
+
+        private volatile long lastSeenMs = 0L;
+    }
+}
@@ -0,0 +1,351 @@
+package com.kelly.base.common.sse;
+
+import com.kelly.base.common.sse.dto.SseEventType;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * SseEmitter 1개와 전송 대기 queue 를 묶은 연결 정보
+ * <p>
+ * 호출한 thread 에서는 queue 에 event 만 추가하고, writer executor 에서 queue 를 비우며 실제 전송합니다.<br>
+ * 연결당 writer 는 최대 1개만 동작하므로 event 순서가 유지되고,
+ * 느린 client 는 writer thread 1개만 점유한 채 batch 단위로 다른 연결에 양보합니다.<br>
+ * 전송 1건이 끝나지 않는 연결 ( half-open 연결 등 ) 은 {@link #abortWrite()} 로 신규 event 를 받지 않도록 종료하며,
+ * 멈춘 write 는 container 의 socket write timeout 으로 끝나 writer thread 가 반환됩니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+final class SseConnection {
+    // writer 가 한 번에 전송할 최대 event 개수 (다른 연결과의 공정성 확보)
+    static final int DRAIN_BATCH_SIZE = 32;
+
+    @Getter
+    private final long userId;
+
+    @Getter
+    private final SseEmitter emitter;
+
+    private final int capacity;
+
+    private final Executor writerExecutor;
+
+    private final Consumer<SseConnection> failureListener;
+
+    private final Queue<PendingEvent> queue = new ConcurrentLinkedQueue<>();
+
+    // queue.size() 는 O(n) 이므로 별도로 관리 (동시에 추가되는 경우 capacity 를 잠시 넘을 수 있음)
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private volatile boolean closed = false;               // 신규 event 추가 불가
+
+    private volatile boolean completeAfterDrain = false;   // 대기중인 event 전송 후 종료
+
+    private volatile boolean terminated = false;           // emitter 종료됨
+
+    private volatile List<SseFrame> replayFrames = null;   // queue 보다 먼저 전송할 replay frame
+
+    private volatile long[] replayedSequences = new long[0];   // replay 된 frame 의 sequence ( 정렬됨, 중복 전송 방지 )
+
+    private volatile long lastWriteMs = System.currentTimeMillis();  // 마지막 전송 성공 시간 ( heartbeat 포함 )
+
+    private final Object writeLock = new Object();  // writerThread 설정 / interrupt 동기화
+
+    private volatile long writeStartedMs = 0L;      // 전송중인 write 의 시작 시간 ( 전송중이 아닌 경우 0 )
+
+    private Thread writerThread = null;             // 전송중인 writer thread ( writeLock 으로 보호 )
+
+    SseConnection(final long userId, final SseEmitter emitter, final int capacity, final Executor writerExecutor,
+                  final Consumer<SseConnection> failureListener) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.writerExecutor = writerExecutor;
+        this.failureListener = failureListener;
+    }
+
+    /**
+     * 전송 대기 queue 에 frame 추가
+     *
+     * @param frame  전송할 frame ( broadcast 시 모든 연결에서 공유 )
+     * @param policy queue 가 가득 찼을 때의 처리 방식
+     * @return 추가 결과
+     */
+    OfferResult offer(final SseFrame frame, final SseProperties.SlowConsumerPolicy policy) {
+        if (closed) {
+            return OfferResult.CLOSED;
+        }
+
+        OfferResult result = OfferResult.QUEUED;
+        if (pendingCount.get() >= capacity) {
+            if (policy == SseProperties.SlowConsumerPolicy.DISCONNECT) {
+                return OfferResult.OVERFLOW;
+            }
+            if (policy == SseProperties.SlowConsumerPolicy.COALESCE && coalesce(frame)) {
+                schedule();
+                return OfferResult.COALESCED;
+            }
+            result = dropOldest() ? OfferResult.DROPPED_OLDEST : OfferResult.QUEUED;
+        }
+
+        queue.offer(new PendingEvent(frame));
+        pendingCount.incrementAndGet();
+        schedule();
+        return result;
+    }
+
+    /**
+     * replay 가 준비될 때까지 전송 보류
+     * <p>
+     * 등록 전에 호출해야 하며, 이후에 추가되는 event 는 {@link #replay(List)} 호출 전까지 queue 에만 쌓입니다.
+     */
+    void awaitReplay() {
+        draining.set(true);
+    }
+
+    /**
+     * replay frame 을 queue 에 쌓인 event 보다 먼저 전송하고 보류된 전송 재개
+     * <p>
+     * replay 와 queue 에 모두 포함된 frame 은 한 번만 전송됩니다.
+     *
+     * @param frames replay 할 frame ( sequence 순서 )
+     */
+    void replay(final List<SseFrame> frames) {
+        replayedSequences = frames.stream().mapToLong(SseFrame::getSequence).toArray();
+        replayFrames = frames;
+        draining.set(false);
+        schedule();
+    }
+
+    /**
+     * 대기중인 event 가 없는 경우 heartbeat 전송 예약
+     * <p>
+     * 대기중인 event 가 있으면 해당 event 의 전송이 heartbeat 를 대신하므로 추가하지 않습니다.
+     */
+    void heartbeat() {
+        if (closed || pendingCount.get() > 0) {
+            return;
+        }
+        queue.offer(new PendingEvent(SseFrame.HEARTBEAT));
+        pendingCount.incrementAndGet();
+        schedule();
+    }
+
+    /**
+     * 대기중인 event 를 모두 전송한 뒤 연결 종료
+     * <p>
+     * 호출 이후에 추가되는 event 는 전송하지 않습니다.
+     */
+    void completeAfterDrain() {
+        closed = true;
+        completeAfterDrain = true;
+        schedule();
+    }
+
+    /**
+     * 대기중인 event 와 상관없이 연결 종료
+     */
+    void close() {
+        closed = true;
+        terminated = true;
+        try {
+            emitter.complete();
+        } catch (Exception e) {
+            log.debug("error during emitter completion processing (ignorable) - userId: {}", userId);
+        }
+    }
+
+    /**
+     * 전송이 멈춘 연결 종료
+     * <p>
+     * 신규 event 를 받지 않도록 표시하고 전송중인 writer thread 를 interrupt 합니다.<br>
+     * Tomcat 등 blocking write 중 interrupt 를 무시하는 container 에서는 socket write timeout
+     * ( {@link SseWriteTimeoutConnectorCustomizer} ) 으로 write 가 실패하여 writer thread 가 반환됩니다.<br>
+     * emitter 종료는 전송 실패를 받은 writer thread 에서 처리합니다.
+     * ( 전송중인 emitter 는 lock 을 잡고 있으므로 호출한 thread 에서 종료하면 같이 멈출 수 있음 )
+     */
+    void abortWrite() {
+        closed = true;
+        terminated = true;
+        synchronized (writeLock) {
+            if (writerThread != null) {
+                writerThread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * 전송 대기중인 event 개수
+     *
+     * @return 대기중인 event 개수
+     */
+    int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * 마지막으로 전송에 성공한 시간
+     *
+     * @return epoch milliseconds ( 전송 전에는 연결 생성 시간 )
+     */
+    long getLastWriteMs() {
+        return lastWriteMs;
+    }
+
+    /**
+     * 전송중인 write 의 시작 시간
+     *
+     * @return epoch milliseconds ( 전송중이 아닌 경우 0 )
+     */
+    long getWriteStartedMs() {
+        return writeStartedMs;
+    }
+
+    // 대기중인 동일 type 의 event 를 신규 event 로 교체
+    private boolean coalesce(final SseFrame frame) {
+        for (final PendingEvent pending : queue) {
+            if (pending.eventType == frame.getEventType() && pending.replace(frame)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean dropOldest() {
+        final boolean dropped = queue.poll() != null;   // writer 가 동시에 비운 경우 null
+        if (dropped) {
+            pendingCount.decrementAndGet();
+        }
+        return dropped;
+    }
+
+    private void schedule() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            writerExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // app 종료 중인 경우
+            draining.set(false);
+            log.warn("SSE writer rejected - userId : {}, pending : {}", userId, pendingCount.get());
+        }
+    }
+
+    private void drain() {
+        boolean sendable = !terminated;
+        try {
+            sendable = sendable && sendReplay();
+            for (int i = 0; i < DRAIN_BATCH_SIZE && sendable; i++) {
+                final PendingEvent pending = queue.poll();
+                if (pending == null) {
+                    break;
+                }
+                pendingCount.decrementAndGet();
+                final SseFrame frame = pending.take();
+                if (Arrays.binarySearch(replayedSequences, frame.getSequence()) < 0) {
+                    sendable = send(frame);     // replay 로 이미 전송된 frame 은 제외
+                }
+            }
+        } finally {
+            draining.set(false);
+        }
+
+        if (!sendable) {
+            return;
+        }
+        // batch 초과분 또는 draining 해제 직전에 추가된 event 처리
+        if (!queue.isEmpty()) {
+            schedule();
+        } else if (completeAfterDrain) {
+            close();
+        }
+    }
+
+    private boolean sendReplay() {
+        final List<SseFrame> frames = replayFrames;
+        if (frames == null) {
+            return true;
+        }
+        replayFrames = null;
+        for (final SseFrame frame : frames) {
+            if (!send(frame)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean send(final SseFrame frame) {
+        synchronized (writeLock) {
+            writerThread = Thread.currentThread();
+            writeStartedMs = System.currentTimeMillis();
+        }
+        try {
+            emitter.send(frame.getItems());
+            lastWriteMs = System.currentTimeMillis();
+            log.debug("transmission successful - userId : {}, eventType : {}", userId, frame.getEventType());
+            return true;
+        } catch (Exception e) {
+            // 예상 Exception : IOException, IllegalStateException
+            log.error("transmission failure - userId : {}, error : {}, message : {}",
+                      userId, e.getClass().getSimpleName(), e.getMessage());
+            failureListener.accept(this);
+            return false;
+        } finally {
+            synchronized (writeLock) {
+                writerThread = null;
+                writeStartedMs = 0L;
+                Thread.interrupted();   // abortWrite 의 interrupt 가 다른 연결의 전송에 영향을 주지 않도록 해제
+            }
+        }
+    }
+
+    /**
+     * queue 에 추가된 event (COALESCE 정책에서 writer 가 가져가기 전까지 교체 가능)
+     */
+    private static final class PendingEvent {
+        private final SseEventType eventType;
+
+        private final AtomicReference<SseFrame> frame;
+
+        PendingEvent(final SseFrame frame) {
+            this.eventType = frame.getEventType();
+            this.frame = new AtomicReference<>(frame);
+        }
+
+        boolean replace(final SseFrame newFrame) {
+            final SseFrame current = frame.get();
+            return current != null && frame.compareAndSet(current, newFrame);
+        }
+
+        SseFrame take() {
+            return frame.getAndSet(null);
+        }
+    }
+
+    /**
+     * event 추가 결과
+     */
+    enum OfferResult {
+        QUEUED,         // queue 에 추가됨
+        DROPPED_OLDEST, // 가장 오래된 event 를 버리고 추가됨
+        COALESCED,      // 대기중인 동일 type 의 event 를 교체함
+        OVERFLOW,       // queue 가 가득 차서 추가되지 않음 (DISCONNECT 정책)
+        CLOSED          // 종료된 연결
+    }
+}
@@ -0,0 +1,191 @@
+package com.kelly.base.common.sse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * userId 기준으로 sharding 된 SSE 연결 저장소
+ * <p>
+ * 사용자 1명은 여러 연결 ( browser tab 등 ) 을 가질 수 있으며, 사용자별 연결은 copy-on-write 배열로 저장됩니다.<br>
+ * 조회 / 전송은 lock 없이 배열 snapshot 을 사용하고,
+ * 등록 / 제거는 해당 사용자의 entry 만 <code>compute</code> 로 교체합니다.
+ *
+ * @author 서강희
+ */
+final class SseConnectionRegistry {
+    private static final SseConnection[] EMPTY = new SseConnection[0];
+
+    private final List<Map<Long, SseConnection[]>> shards;
+
+    private final int shardMask;
+
+    private final int maxConnectionsPerUser;
+
+    SseConnectionRegistry(final int shardCount, final int maxConnectionsPerUser) {
+        int size = 1;
+        while (size < shardCount) {
+            size <<= 1;
+        }
+        final List<Map<Long, SseConnection[]>> shardList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            shardList.add(new ConcurrentHashMap<>());
+        }
+        this.shards = List.copyOf(shardList);
+        this.shardMask = size - 1;
+        this.maxConnectionsPerUser = Math.max(1, maxConnectionsPerUser);
+    }
+
+    /**
+     * 연결 등록
+     * <p>
+     * 사용자별 최대 연결 개수를 넘는 경우 가장 오래된 연결부터 제거됩니다.
+     *
+     * @param connection 등록할 연결
+     * @return 제한을 넘어 제거된 연결 ( 없으면 빈 배열 )
+     */
+    SseConnection[] add(final SseConnection connection) {
+        final SseConnection[][] evicted = {EMPTY};
+        shardOf(connection.getUserId()).compute(connection.getUserId(), (userId, current) -> {
+            if (current == null) {
+                return new SseConnection[]{connection};
+            }
+            final int kept = Math.min(current.length, maxConnectionsPerUser - 1);
+            evicted[0] = Arrays.copyOfRange(current, 0, current.length - kept);
+            final SseConnection[] next = Arrays.copyOfRange(current, current.length - kept, current.length + 1);
+            next[kept] = connection;
+            return next;
+        });
+        return evicted[0];
+    }
+
+    /**
+     * 연결 제거
+     *
+     * @param connection 제거할 연결
+     * @return 제거 여부 ( 이미 제거된 경우 false )
+     */
+    boolean remove(final SseConnection connection) {
+        final boolean[] removed = {false};
+        shardOf(connection.getUserId()).computeIfPresent(connection.getUserId(), (userId, current) -> {
+            final int index = Arrays.asList(current).indexOf(connection);
+            if (index < 0) {
+                return current;
+            }
+            removed[0] = true;
+            if (current.length == 1) {
+                return null;
+            }
+            final SseConnection[] next = new SseConnection[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, next.length - index);
+            return next;
+        });
+        return removed[0];
+    }
+
+    /**
+     * 사용자의 모든 연결 제거
+     *
+     * @param userId user ID
+     * @return 제거된 연결 ( 없으면 빈 배열 )
+     */
+    SseConnection[] removeAll(final long userId) {
+        final SseConnection[] removed = shardOf(userId).remove(userId);
+        return removed == null ? EMPTY : removed;
+    }
+
+    /**
+     * 사용자의 연결 목록 ( snapshot, 변경 금지 )
+     *
+     * @param userId user ID
+     * @return 연결 목록 ( 없으면 빈 배열 )
+     */
+    SseConnection[] get(final long userId) {
+        final SseConnection[] connections = shardOf(userId).get(userId);
+        return connections == null ? EMPTY : connections;
+    }
+
+    /**
+     * 모든 연결에 대해 실행
+     *
+     * @param action 실행할 내용
+     */
+    void forEach(final Consumer<SseConnection> action) {
+        for (int shardIndex = 0; shardIndex < shards.size(); shardIndex++) {
+            forEachInShard(shardIndex, action);
+        }
+    }
+
+    /**
+     * 특정 shard 의 모든 연결에 대해 실행
+     *
+     * @param shardIndex shard index ( 0 ~ shard 개수 - 1 )
+     * @param action     실행할 내용
+     */
+    void forEachInShard(final int shardIndex, final Consumer<SseConnection> action) {
+        for (final SseConnection[] connections : shards.get(shardIndex).values()) {
+            for (final SseConnection connection : connections) {
+                action.accept(connection);
+            }
+        }
+    }
+
+    /**
+     * shard 개수 ( 2의 거듭제곱 )
+     *
+     * @return shard 개수
+     */
+    int getShardCount() {
+        return shards.size();
+    }
+
+    /**
+     * 전체 연결 개수
+     *
+     * @return 연결 개수
+     */
+    int getConnectionCount() {
+        int count = 0;
+        for (final Map<Long, SseConnection[]> shard : shards) {
+            for (final SseConnection[] connections : shard.values()) {
+                count += connections.length;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 연결된 사용자 수
+     *
+     * @return 사용자 수
+     */
+    int getUserCount() {
+        int count = 0;
+        for (final Map<Long, SseConnection[]> shard : shards) {
+            count += shard.size();
+        }
+        return count;
+    }
+
+    /**
+     * 연결된 사용자 목록 ( snapshot )
+     *
+     * @return user ID 배열
+     */
+    long[] getUserIds() {
+        final List<Long> userIds = new ArrayList<>();
+        for (final Map<Long, SseConnection[]> shard : shards) {
+            userIds.addAll(shard.keySet());
+        }
+        return userIds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private Map<Long, SseConnection[]> shardOf(final long userId) {
+        final int hash = Long.hashCode(userId);
+        return shards.get((hash ^ (hash >>> 16)) & shardMask);
+    }
+}
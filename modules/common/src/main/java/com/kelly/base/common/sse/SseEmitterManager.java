@@ -1,62 +1,211 @@
 package com.kelly.base.common.sse;
 
 import com.kelly.base.common.config.CommonPropertiesConfig;
+import com.kelly.base.common.interfaces.ISseClusterBus;
+import com.kelly.base.common.sse.dto.SseClusterMessage;
 import com.kelly.base.common.sse.dto.SseEvent;
 import com.kelly.base.common.sse.dto.SseEventType;
 import com.kelly.base.common.utils.DateTimeUtil;
 import com.kelly.base.common.utils.ValueGenerator;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * SseEmitter 연결 관리 및 event 전송
+ * <p>
+ * 연결은 userId 기준으로 sharding 된 <code>SseConnectionRegistry</code> 에 저장되며,
+ * 사용자 1명이 여러 연결 ( browser tab 등 ) 을 가질 수 있습니다.<br>
+ * 각 연결은 bounded 전송 대기 queue 를 가집니다.<br>
+ * <code>sendToUser</code> / <code>sendToAll</code> 은 queue 에 event 를 추가만 하고 바로 반환하며,
+ * 실제 전송은 writer executor 에서 처리되므로 client 의 수신 속도와 무관합니다.<br>
+ * 전송 1건이 <code>sse.heartbeat.write-timeout-ms</code> 를 넘는 연결은 container 의 socket write timeout 으로
+ * writer thread 를 반환하고 종료하므로,
+ * 응답 없는 client 가 writer thread 를 모두 점유하여 다른 사용자의 전송이 멈추지 않습니다.<br>
+ * event 는 전송 전에 wire format 으로 한 번만 인코딩되며, broadcast 시 모든 연결이 같은 frame 을 공유합니다.<br>
+ * 최근 event 는 <code>SseReplayBuffer</code> 에 보관되어 <code>Last-Event-ID</code> 로 재연결시 replay 됩니다.<br>
+ * topic ( 권한, 부서, resource 등 ) 을 구독한 사용자에게만 전송하는 경우 <code>sendToTopic</code> 을 사용합니다.<br>
+ * queue 가 가득 찬 경우 <code>sse.slow-consumer-policy</code> 설정에 따라 처리됩니다.<br>
+ * heartbeat 를 사용하는 경우 emitter timeout 없이 연결을 유지하며, 응답 없는 연결은 <code>SseHeartbeatScheduler</code> 가 정리합니다.<br>
+ * <code>sse.cluster.enabled</code> 인 경우 다른 node 에 연결된 사용자에게는 <code>SseClusterRelay</code> 를 통해 전달됩니다.<br>
+ * event 의 sequence ( <code>id:</code> ) 는 처음 전송한 node 에서 한 번만 발급되어 다른 node 에 함께 전달됩니다.
+ *
+ * @author 서강희
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class SseEmitterManager {
     // https://developer.mozilla.org/ko/docs/Web/API/Server-sent_events/Using_server-sent_events
 
+    static final String WRITER_THREAD_PREFIX = "sse-writer-";
+
+    static final String HEARTBEAT_THREAD_NAME = "sse-heartbeat";
+
+    // servlet container 기준 0 이하는 timeout 없음
+    static final long NO_TIMEOUT = 0L;
+
     private final CommonPropertiesConfig commonPropertiesConfig;
 
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final SseProperties sseProperties;
+
+    private final Executor writerExecutor;
+
+    private final SseConnectionRegistry connectionRegistry;
+
+    private final SseReplayBuffer replayBuffer;
+
+    private final SseTopicIndex topicIndex = new SseTopicIndex();
+
+    private final SseHeartbeatScheduler heartbeatScheduler;
+
+    private ScheduledExecutorService heartbeatExecutor;
+
+    private final SseClusterRelay clusterRelay;     // cluster 를 사용하지 않는 경우 null
+
+    private final LongAdder droppedEventCount = new LongAdder();
 
     private long sseTimeout = 60000L;   // 60초 (기본값)
 
+    @Autowired
+    public SseEmitterManager(final CommonPropertiesConfig commonPropertiesConfig, final SseProperties sseProperties,
+                             final ObjectProvider<ISseClusterBus> clusterBus) {
+        this(commonPropertiesConfig, sseProperties, createWriterExecutor(sseProperties.getWriterThreads()),
+             clusterBus.getIfAvailable());
+    }
+
+    SseEmitterManager(final CommonPropertiesConfig commonPropertiesConfig, final SseProperties sseProperties,
+                      final Executor writerExecutor) {
+        this(commonPropertiesConfig, sseProperties, writerExecutor, null);
+    }
+
+    SseEmitterManager(final CommonPropertiesConfig commonPropertiesConfig, final SseProperties sseProperties,
+                      final Executor writerExecutor, final ISseClusterBus clusterBus) {
+        this.commonPropertiesConfig = commonPropertiesConfig;
+        this.sseProperties = sseProperties;
+        this.writerExecutor = writerExecutor;
+        this.connectionRegistry = new SseConnectionRegistry(
+                sseProperties.getShardCount(), sseProperties.getMaxConnectionsPerUser()
+        );
+        this.heartbeatScheduler = new SseHeartbeatScheduler(
+                connectionRegistry, sseProperties.getHeartbeat(), this::removeConnection
+        );
+        this.clusterRelay = clusterBus == null ? null : new SseClusterRelay(
+                sseProperties.getCluster(), clusterBus, this::deliverClusterMessage, connectionRegistry::getUserIds
+        );
+        // cluster 를 사용하는 경우 node 별로 다른 sequence 를 발급하도록 node 번호 전달
+        this.replayBuffer = new SseReplayBuffer(
+                sseProperties.getReplay(), clusterRelay == null ? null : clusterRelay.getNodeIndex()
+        );
+    }
+
     @PostConstruct
     void init() {
         if (commonPropertiesConfig.getSseEmitterTimeoutMs() != null) {
             sseTimeout = commonPropertiesConfig.getSseEmitterTimeoutMs();
             log.info("update SSE timeout (ms) : 60000 -> {}", sseTimeout);
         }
+
+        if (sseProperties.getHeartbeat().isEnabled()) {
+            heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, HEARTBEAT_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            final long tickIntervalMs = heartbeatScheduler.getTickIntervalMs();
+            heartbeatExecutor.scheduleWithFixedDelay(
+                    heartbeatScheduler::tick, tickIntervalMs, tickIntervalMs, TimeUnit.MILLISECONDS
+            );
+            log.info("start SSE heartbeat - interval (ms) : {}, idle timeout (ms) : {}, write timeout (ms) : {}",
+                     sseProperties.getHeartbeat().getIntervalMs(), sseProperties.getHeartbeat().getIdleTimeoutMs(),
+                     sseProperties.getHeartbeat().getWriteTimeoutMs());
+        }
+
+        if (clusterRelay != null) {
+            clusterRelay.start();
+        }
+    }
+
+    /**
+     * heartbeat / cluster relay / writer executor 종료
+     */
+    @PreDestroy
+    void close() {
+        if (heartbeatExecutor != null) {
+            heartbeatExecutor.shutdownNow();
+        }
+        if (clusterRelay != null) {
+            clusterRelay.close();
+        }
+        if (writerExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
     }
 
     /**
      * SseEmitter 생성 및 등록
+     * <p>
+     * 사용자의 기존 연결은 유지되며, <code>sse.max-connections-per-user</code> 를 넘는 경우 가장 오래된 연결이 종료됩니다.
      *
      * @param userId user ID
      * @return 등록된 SseEmitter
      */
     public SseEmitter createEmitter(final long userId) {
-        final SseEmitter emitter = registerEmitter(userId);
+        return createEmitter(userId, null);
+    }
+
+    /**
+     * SseEmitter 생성 및 등록 후 <code>lastEventId</code> 이후의 event replay
+     * <p>
+     * <code>lastEventId</code> 는 재연결한 client 의 <code>Last-Event-ID</code> header 값이며,
+     * 보관중인 사용자 / broadcast event 중 이후의 event 를 신규 event 보다 먼저 전송합니다.<br>
+     * 값이 없거나 숫자가 아닌 경우 replay 하지 않습니다.
+     *
+     * @param userId      user ID
+     * @param lastEventId client 가 마지막으로 수신한 event id ( nullable )
+     * @return 등록된 SseEmitter
+     */
+    public SseEmitter createEmitter(final long userId, final String lastEventId) {
+        final Long lastSequence = parseSequence(userId, lastEventId);
+
+        replayBuffer.purgeExpired(this::isConnected);
+        replayBuffer.open(userId);
+
+        final SseConnection connection = registerConnection(userId, lastSequence != null);
+        if (lastSequence != null) {
+            final List<SseFrame> frames = replayBuffer.getFramesAfter(userId, lastSequence);
+            log.info("SSE replay - userId : {}, lastEventId : {}, count : {}", userId, lastSequence, frames.size());
+            connection.replay(frames);
+        }
+        final SseEmitter emitter = connection.getEmitter();
 
         emitter.onTimeout(() -> {
             log.error("SSE connection timeout - userId: {}", userId);
             emitter.complete();
-            removeEmitter(userId);
+            removeConnection(connection);
         });
 
         emitter.onError(throwable -> {
             log.error("SSE connection error - userId: {}, error: {}", userId, throwable.getMessage());
-            removeEmitter(userId);
+            removeConnection(connection);
         });
 
         emitter.onCompletion(() -> {
             log.info("SSE connection completion - userId: {}", userId);
-            removeEmitter(userId);
+            removeConnection(connection);
         });
 
         return emitter;
@@ -64,42 +213,109 @@ public class SseEmitterManager {
 
     /**
      * 특정 사용자를 타겟으로 SSE 전송
+     * <p>
+     * 사용자의 모든 연결의 전송 대기 queue 에 추가만 하고 바로 반환하며, 전송 실패시 해당 연결은 제거됩니다.<br>
+     * 다른 node 에도 연결된 사용자인 경우 cluster bus 로 전달합니다.
      *
      * @param userId user ID
      * @param event  전송할 event
-     * @return 전송 성공 여부
+     * @return 1개 이상의 연결에 전송 대기 queue 추가 ( 또는 다른 node 로 전달 ) 여부
      */
     public boolean sendToUser(final long userId, final SseEvent event) {
-        final SseEmitter emitter = emitters.get(userId);
+        final long sequence = replayBuffer.nextSequence();
+        final boolean forwarded = clusterRelay != null && clusterRelay.forwardToUser(userId, event, sequence);
+        return deliverToUser(userId, event, sequence) || forwarded;
+    }
 
-        if (emitter == null) {
-            log.debug("SseEmitter not found - userId: {}", userId);
-            return false;
-        }
+    /**
+     * topic 을 구독한 사용자에게 SSE 전송
+     * <p>
+     * topic 의 구독자 연결에만 전송 대기 queue 를 추가하며, event 는 한 번만 인코딩됩니다.<br>
+     * topic event 는 replay 대상으로 보관하지 않습니다.<br>
+     * 다른 node 에 연결된 사용자가 있는 경우 cluster bus 로 전달하며, 구독 여부는 각 node 에서 확인합니다.
+     *
+     * @param topic topic ( ex. <code>role:ADMIN</code>, <code>department:12</code> )
+     * @param event 전송할 event
+     * @return 1개 이상의 연결에 전송 대기 queue 추가 ( 또는 다른 node 로 전달 ) 여부
+     */
+    public boolean sendToTopic(final String topic, final SseEvent event) {
+        final long sequence = replayBuffer.nextSequence();
+        final boolean forwarded = clusterRelay != null && clusterRelay.forwardToTopic(topic, event, sequence);
+        return deliverToTopic(topic, event, sequence) || forwarded;
+    }
 
-        try {
-            emitter.send(
-                    SseEmitter.event().name(event.eventType().name()).id(event.eventId()).data(event.contents())
-            );
-            log.debug("transmission successful - userId : {}, eventType : {}", userId, event.eventType());
-            return true;
-        } catch (Exception e) {
-            // 예상 Exception : IOException, IllegalStateException
-            log.error("transmission failure - userId : {}, error : {}, message : {}",
-                      userId, e.getClass().getSimpleName(), e.getMessage());
-            removeEmitter(userId);
-            return false;
+    /**
+     * topic 구독
+     * <p>
+     * 구독은 사용자의 연결이 모두 종료되면 해제되므로 <code>createEmitter</code> 이후에 호출해야 합니다.<br>
+     * 연결이 없는 사용자의 구독은 해제될 시점이 없어 남게 되므로 거부합니다.
+     *
+     * @param userId user ID
+     * @param topic  topic
+     * @return 구독 여부 ( 이미 구독중이거나 연결이 없는 경우 false )
+     */
+    public boolean subscribe(final long userId, final String topic) {
+        final boolean subscribed = topicIndex.subscribe(userId, topic, this::isConnected);
+        if (!subscribed && !isConnected(userId)) {
+            log.debug("SSE topic subscription ignored (not connected) - userId : {}, topic : {}", userId, topic);
         }
+        return subscribed;
+    }
+
+    /**
+     * topic 구독 해제
+     *
+     * @param userId user ID
+     * @param topic  topic
+     * @return 해제 여부 ( 구독중이 아닌 경우 false )
+     */
+    public boolean unsubscribe(final long userId, final String topic) {
+        return topicIndex.unsubscribe(userId, topic);
+    }
+
+    /**
+     * topic 구독 여부 확인
+     *
+     * @param userId user ID
+     * @param topic  topic
+     * @return 구독 여부
+     */
+    public boolean isSubscribed(final long userId, final String topic) {
+        return topicIndex.isSubscribed(userId, topic);
+    }
+
+    /**
+     * topic 구독자 수
+     *
+     * @param topic topic
+     * @return 구독자 수
+     */
+    public int getSubscriberCount(final String topic) {
+        return topicIndex.getSubscriberCount(topic);
+    }
+
+    /**
+     * 구독자가 있는 topic 개수
+     *
+     * @return topic 개수
+     */
+    public int getTopicCount() {
+        return topicIndex.getTopicCount();
     }
 
     /**
      * 모든 사용자에게 SSE 전송
+     * <p>
+     * 다른 node 에 연결된 사용자가 있는 경우 cluster bus 로 전달합니다.
      *
      * @param event 전송할 이벤트
      */
     public void sendToAll(final SseEvent event) {
-        log.info("SSE broadcast - eventType : {}, target count : {}", event.eventType(), emitters.size());
-        emitters.keySet().forEach(userId -> sendToUser(userId, event));
+        final long sequence = replayBuffer.nextSequence();
+        if (clusterRelay != null) {
+            clusterRelay.forwardToAll(event, sequence);
+        }
+        deliverToAll(event, sequence);
     }
 
     /**
@@ -122,13 +338,32 @@ public class SseEmitterManager {
         return createControlEvent(userId, SseEventType.DISCONNECT);
     }
 
+    /**
+     * 현재 연결 수 ( 사용자 1명이 여러 연결을 가질 수 있음 )
+     *
+     * @return 연결 수
+     */
+    public int getConnectionCount() {
+        return connectionRegistry.getConnectionCount();
+    }
+
+    /**
+     * 특정 사용자의 연결 수
+     *
+     * @param userId user ID
+     * @return 연결 수
+     */
+    public int getConnectionCount(final long userId) {
+        return connectionRegistry.get(userId).length;
+    }
+
     /**
      * 현재 연결된 사용자 수
      *
      * @return 연결된 사용자 수
      */
-    public int getConnectionCount() {
-        return emitters.size();
+    public int getConnectedUserCount() {
+        return connectionRegistry.getUserCount();
     }
 
     /**
@@ -138,47 +373,203 @@ public class SseEmitterManager {
      * @return 연결 여부
      */
     public boolean isConnected(final long userId) {
-        return emitters.containsKey(userId);
+        return connectionRegistry.get(userId).length > 0;
+    }
+
+    /**
+     * 전송 대기 queue 가 가득 차서 버려진 ( 교체된 ) event 개수
+     *
+     * @return drop 된 event 개수
+     */
+    public long getDroppedEventCount() {
+        return droppedEventCount.sum();
+    }
+
+    /**
+     * cluster bus 전달 대기 queue 가 가득 차서 버려진 message 개수
+     *
+     * @return drop 된 message 개수 ( cluster 를 사용하지 않는 경우 0 )
+     */
+    public long getDroppedClusterMessageCount() {
+        return clusterRelay == null ? 0L : clusterRelay.getDroppedMessageCount();
     }
 
     /**
-     * DISCONNECT 이벤트를 전송하고 연결 종료
+     * DISCONNECT 이벤트를 전송하고 사용자의 모든 연결 종료
+     * <p>
+     * 연결은 바로 제거되며, 대기중인 event 와 disconnect 이벤트가 전송된 뒤 emitter 가 종료됩니다.<br>
+     * 사용자의 topic 구독도 함께 해제되며, 다른 node 에도 연결된 사용자인 경우 cluster bus 로 전달합니다.
      *
      * @param userId          사용자 ID
      * @param disconnectEvent 전송할 disconnect 이벤트
      */
     public void disconnect(final long userId, final SseEvent disconnectEvent) {
-        final boolean sent = sendToUser(userId, disconnectEvent);   // disconnect event 전송
-        if (sent) {
-            removeEmitter(userId);
+        final long sequence = replayBuffer.nextSequence();
+        if (clusterRelay != null) {
+            clusterRelay.forwardDisconnect(userId, disconnectEvent, sequence);
         }
+        disconnectLocal(userId, disconnectEvent, sequence);
     }
 
-    // SseEmitter 의 기존 연결을 해제하고 신규로 등록
-    private SseEmitter registerEmitter(final long userId) {
-        // 1. 기존 연결 제거
-        if (emitters.containsKey(userId)) {
-            removeEmitter(userId);
+    // 이 node 의 사용자 연결에 전송
+    private boolean deliverToUser(final long userId, final SseEvent event, final long sequence) {
+        if (!isConnected(userId)) {
+            log.debug("SseEmitter not found - userId: {}", userId);
+            if (!event.eventType().isReplayable()) {
+                return false;
+            }
         }
 
-        // 2. emitter 생성 및 등록
-        final SseEmitter emitter = new SseEmitter(sseTimeout);
-        emitters.put(userId, emitter);
-        log.info("creating SSE connection - userId : {}, connections : {}", userId, emitters.size());
+        // 연결이 없는 경우에도 재연결시 replay 할 수 있도록 보관
+        return replayBuffer.publishToUser(userId, event, sequence, frame -> {
+            boolean queued = false;
+            for (final SseConnection connection : connectionRegistry.get(userId)) {
+                queued |= enqueue(connection, frame);
+            }
+            return queued;
+        });
+    }
 
-        return emitter;
+    // 이 node 의 topic 구독자 연결에 전송
+    private boolean deliverToTopic(final String topic, final SseEvent event, final long sequence) {
+        final long[] subscribers = topicIndex.getSubscribers(topic);
+        if (subscribers.length == 0) {
+            log.debug("SSE topic subscriber not found - topic : {}", topic);
+            return false;
+        }
+
+        log.info("SSE topic - topic : {}, eventType : {}, subscriber count : {}",
+                 topic, event.eventType(), subscribers.length);
+        return replayBuffer.publishUnbuffered(event, sequence, frame -> {
+            boolean queued = false;
+            for (final long userId : subscribers) {
+                for (final SseConnection connection : connectionRegistry.get(userId)) {
+                    queued |= enqueue(connection, frame);
+                }
+            }
+            return queued;
+        });
     }
 
-    // SseEmitter 를 map 에서 제거
-    private void removeEmitter(final long userId) {
-        final SseEmitter emitter = emitters.remove(userId);
-        if (emitter != null) {
-            try {
-                emitter.complete();
-            } catch (Exception e) {
-                log.debug("error during emitter completion processing (ignorable) - userId: {}", userId);
+    // 이 node 의 모든 연결에 전송
+    private void deliverToAll(final SseEvent event, final long sequence) {
+        log.info("SSE broadcast - eventType : {}, target count : {}", event.eventType(), getConnectionCount());
+        replayBuffer.publishToAll(event, sequence, frame -> {
+            connectionRegistry.forEach(connection -> enqueue(connection, frame));
+            return true;
+        });
+    }
+
+    // 이 node 의 사용자 연결 종료
+    private void disconnectLocal(final long userId, final SseEvent disconnectEvent, final long sequence) {
+        final SseConnection[] connections = connectionRegistry.removeAll(userId);
+        if (connections.length == 0) {
+            log.debug("SseEmitter not found - userId: {}", userId);
+            return;
+        }
+        if (clusterRelay != null) {
+            clusterRelay.announceDisconnected(userId);
+        }
+
+        replayBuffer.publishToUser(userId, disconnectEvent, sequence, frame -> {
+            for (final SseConnection connection : connections) {
+                connection.offer(frame, sseProperties.getSlowConsumerPolicy());    // disconnect event 전송
+            }
+            return true;
+        });
+        for (final SseConnection connection : connections) {
+            connection.completeAfterDrain();
+        }
+        topicIndex.unsubscribeAll(userId, this::isConnected);
+        log.info("remove SSE connection - userId : {}, removed : {}, connections : {}",
+                 userId, connections.length, getConnectionCount());
+    }
+
+    // 신규 연결 등록 ( 사용자별 최대 연결 개수를 넘는 경우 가장 오래된 연결 종료 )
+    private SseConnection registerConnection(final long userId, final boolean awaitReplay) {
+        final SseConnection connection = new SseConnection(
+                userId, new SseEmitter(sseProperties.getHeartbeat().isEnabled() ? NO_TIMEOUT : sseTimeout),
+                sseProperties.getQueueCapacity(), writerExecutor, this::removeConnection
+        );
+        if (awaitReplay) {
+            connection.awaitReplay();   // 등록 이후의 event 는 replay 뒤에 전송
+        }
+
+        for (final SseConnection evicted : connectionRegistry.add(connection)) {
+            evicted.close();
+            log.info("evict oldest SSE connection - userId : {}, limit : {}",
+                     userId, sseProperties.getMaxConnectionsPerUser());
+        }
+        if (clusterRelay != null) {
+            clusterRelay.announceConnected(userId);
+        }
+        log.info("creating SSE connection - userId : {}, connections : {}", userId, getConnectionCount());
+
+        return connection;
+    }
+
+    // 연결을 registry 에서 제거 ( 이미 제거된 연결은 무시 )
+    private void removeConnection(final SseConnection connection) {
+        if (connectionRegistry.remove(connection)) {
+            connection.close();
+            // 마지막 연결이 종료된 경우 구독 해제
+            topicIndex.unsubscribeAll(connection.getUserId(), this::isConnected);
+            if (clusterRelay != null && !isConnected(connection.getUserId())) {
+                clusterRelay.announceDisconnected(connection.getUserId());
+            }
+            log.info("remove SSE connection - userId : {}, connections : {}",
+                     connection.getUserId(), getConnectionCount());
+        }
+    }
+
+    // 다른 node 에서 수신한 message 를 이 node 의 연결에만 전달 ( 다시 cluster bus 로 전달하지 않음 )
+    private void deliverClusterMessage(final SseClusterMessage message) {
+        // 보낸 node 에서 발급한 sequence 를 그대로 사용하여 다른 node 로 재연결해도 Last-Event-ID 가 유효하도록 함
+        final long sequence = replayBuffer.adoptSequence(message.sequence());
+        switch (message.type()) {
+            case USER -> {
+                for (final long userId : message.userIds()) {
+                    deliverToUser(userId, message.event(), sequence);
+                }
+            }
+            case DISCONNECT -> {
+                for (final long userId : message.userIds()) {
+                    disconnectLocal(userId, message.event(), sequence);
+                }
             }
-            log.info("remove SSE connection - userId : {}, connections : {}", userId, emitters.size());
+            case TOPIC -> deliverToTopic(message.topic(), message.event(), sequence);
+            case ALL -> deliverToAll(message.event(), sequence);
+            default -> log.warn("unsupported SSE cluster message - type : {}", message.type());
+        }
+    }
+
+    private boolean enqueue(final SseConnection connection, final SseFrame frame) {
+        return switch (connection.offer(frame, sseProperties.getSlowConsumerPolicy())) {
+            case QUEUED -> true;
+            case DROPPED_OLDEST, COALESCED -> {
+                droppedEventCount.increment();
+                yield true;
+            }
+            case OVERFLOW -> {
+                log.warn("slow SSE consumer disconnected - userId : {}, pending : {}",
+                         connection.getUserId(), connection.getPendingCount());
+                removeConnection(connection);
+                yield false;
+            }
+            case CLOSED -> false;
+        };
+    }
+
+    // Last-Event-ID 를 sequence 로 변환 ( 없거나 숫자가 아닌 경우 null )
+    private Long parseSequence(final long userId, final String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            log.debug("invalid Last-Event-ID - userId : {}, lastEventId : {}", userId, lastEventId);
+            return null;
         }
     }
 
@@ -191,4 +582,10 @@ public class SseEmitterManager {
                 Map.of("userId", String.valueOf(userId))
         );
     }
+
+    private static ExecutorService createWriterExecutor(final int writerThreads) {
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(WRITER_THREAD_PREFIX);
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(writerThreads, threadFactory);
+    }
 }
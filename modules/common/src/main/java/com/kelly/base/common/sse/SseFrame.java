@@ -0,0 +1,101 @@
+package com.kelly.base.common.sse;
+
+import com.kelly.base.common.exception.CommonException;
+import com.kelly.base.common.response.CommonResultCode;
+import com.kelly.base.common.sse.dto.SseEvent;
+import com.kelly.base.common.sse.dto.SseEventType;
+import com.kelly.base.common.utils.JsonUtil;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SSE wire format ( <code>event:</code> / <code>id:</code> / <code>data:</code> ) 으로 미리 인코딩된 event
+ * <p>
+ * <code>SseEmitter.event()</code> 로 전송할 때와 동일한 형식의 byte 를 한 번만 생성하며,
+ * 생성된 frame 은 변경되지 않으므로 broadcast 시 모든 연결에서 같은 instance 를 공유합니다.<br>
+ * <code>id:</code> 에는 <code>SseEvent.eventId</code> 대신 단조 증가하는 sequence 를 기록하여
+ * 재연결시 <code>Last-Event-ID</code> 로 replay 위치를 찾을 수 있도록 합니다.<br>
+ * byte[] 는 <code>ByteArrayHttpMessageConverter</code> 를 통해 그대로 기록됩니다.
+ *
+ * @author 서강희
+ */
+final class SseFrame {
+    private static final Map<SseEventType, byte[]> EVENT_LINES = new EnumMap<>(SseEventType.class);
+
+    static {
+        for (final SseEventType eventType : SseEventType.values()) {
+            EVENT_LINES.put(eventType, ("event:" + eventType.name() + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static final byte[] ID_PREFIX = "id:".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] DATA_PREFIX = "\ndata:".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] FRAME_END = "\n\n".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 연결 유지를 위한 comment frame ( event type / sequence 없음, client 에는 event 로 전달되지 않음 )
+     */
+    static final SseFrame HEARTBEAT = new SseFrame(null, 0L, ":\n\n".getBytes(StandardCharsets.UTF_8));
+
+    @Getter
+    private final SseEventType eventType;
+
+    @Getter
+    private final long sequence;
+
+    private final byte[] bytes;
+
+    // 모든 연결에서 공유되는 전송 단위 ( ResponseBodyEmitter#send(Set) )
+    @Getter
+    private final Set<ResponseBodyEmitter.DataWithMediaType> items;
+
+    private SseFrame(final SseEventType eventType, final long sequence, final byte[] bytes) {
+        this.eventType = eventType;
+        this.sequence = sequence;
+        this.bytes = bytes;
+        this.items = Set.of(new ResponseBodyEmitter.DataWithMediaType(bytes, MediaType.TEXT_PLAIN));
+    }
+
+    /**
+     * SseEvent 를 wire format 으로 인코딩
+     *
+     * @param event    인코딩할 event
+     * @param sequence event 의 sequence ( <code>id:</code> 로 기록 )
+     * @return 인코딩된 frame
+     * @throws CommonException contents 직렬화 실패
+     */
+    static SseFrame of(final SseEvent event, final long sequence) throws CommonException {
+        final byte[] data;
+        try {
+            data = JsonUtil.objectMapper.writeValueAsBytes(event.contents());
+        } catch (Exception e) {
+            throw new CommonException(
+                    CommonResultCode.SYSTEM_ERROR, "[" + e.getClass().getSimpleName() + "] " + e.getMessage()
+            );
+        }
+
+        final byte[] id = Long.toString(sequence).getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(data.length + id.length + 64);
+        out.writeBytes(EVENT_LINES.get(event.eventType()));
+        out.writeBytes(ID_PREFIX);
+        out.writeBytes(id);
+        out.writeBytes(DATA_PREFIX);
+        out.writeBytes(data);
+        out.writeBytes(FRAME_END);
+        return new SseFrame(event.eventType(), sequence, out.toByteArray());
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
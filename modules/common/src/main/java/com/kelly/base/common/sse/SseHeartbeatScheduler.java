@@ -0,0 +1,88 @@
+package com.kelly.base.common.sse;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 모든 연결에 heartbeat 를 전송하고 응답 없는 연결을 정리하는 timer wheel
+ * <p>
+ * <code>SseConnectionRegistry</code> 의 shard 를 wheel 의 slot 으로 사용하여,
+ * tick 마다 shard 1개의 연결만 처리하므로 heartbeat 간격 동안 모든 연결을 고르게 나누어 확인합니다.<br>
+ * heartbeat 는 각 연결의 전송 대기 queue 에 추가만 하며 실제 전송은 writer executor 에서 처리됩니다.<br>
+ * <code>idleTimeoutMs</code> 동안 전송에 성공하지 못한 연결 ( proxy 에 의해 끊긴 half-open 연결,
+ * 전송이 멈춘 연결 ) 은 전송 실패를 기다리지 않고 종료합니다.<br>
+ * 전송 1건이 <code>writeTimeoutMs</code> 를 넘은 연결은 신규 event 를 받지 않도록 종료하며,
+ * 멈춘 write 는 같은 값으로 제한된 container 의 socket write timeout 으로 끝나 writer thread 가 반환됩니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+final class SseHeartbeatScheduler {
+    private final SseConnectionRegistry connectionRegistry;
+
+    private final SseProperties.Heartbeat properties;
+
+    private final Consumer<SseConnection> reaper;
+
+    private final LongSupplier currentTimeMillis;
+
+    private int slot = 0;   // scheduler thread 에서만 접근
+
+    SseHeartbeatScheduler(final SseConnectionRegistry connectionRegistry, final SseProperties.Heartbeat properties,
+                          final Consumer<SseConnection> reaper) {
+        this(connectionRegistry, properties, reaper, System::currentTimeMillis);
+    }
+
+    SseHeartbeatScheduler(final SseConnectionRegistry connectionRegistry, final SseProperties.Heartbeat properties,
+                          final Consumer<SseConnection> reaper, final LongSupplier currentTimeMillis) {
+        this.connectionRegistry = connectionRegistry;
+        this.properties = properties;
+        this.reaper = reaper;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    /**
+     * tick 간격 ( wheel 1회전이 heartbeat 간격이 되도록 slot 개수로 나눔 )
+     *
+     * @return tick 간격 (ms)
+     */
+    long getTickIntervalMs() {
+        return Math.max(1L, properties.getIntervalMs() / connectionRegistry.getShardCount());
+    }
+
+    /**
+     * 다음 slot 의 연결에 heartbeat 를 예약하고 응답 없는 연결 종료
+     * <p>
+     * scheduler thread 1개에서만 호출해야 합니다.
+     */
+    void tick() {
+        final int current = slot;
+        slot = (current + 1) % connectionRegistry.getShardCount();
+
+        final long now = currentTimeMillis.getAsLong();
+        try {
+            connectionRegistry.forEachInShard(current, connection -> {
+                final long writeStartedMs = connection.getWriteStartedMs();
+                final long idleMs = now - connection.getLastWriteMs();
+                if (writeStartedMs > 0L && now - writeStartedMs >= properties.getWriteTimeoutMs()) {
+                    // 전송중인 emitter 는 종료할 수 없으므로 writer thread 만 반환하고, 정리는 전송 실패 처리에 맡김
+                    log.warn("abort stalled SSE write - userId : {}, writing (ms) : {}, pending : {}",
+                             connection.getUserId(), now - writeStartedMs, connection.getPendingCount());
+                    connection.abortWrite();
+                } else if (writeStartedMs == 0L && idleMs >= properties.getIdleTimeoutMs()) {
+                    log.warn("reap idle SSE connection - userId : {}, idle (ms) : {}, pending : {}",
+                             connection.getUserId(), idleMs, connection.getPendingCount());
+                    reaper.accept(connection);
+                } else if (idleMs >= properties.getIntervalMs() / 2) {
+                    // 1회전 사이에 전송된 연결은 생략 ( 전송 간격이 heartbeat 간격을 넘지 않도록 절반 기준 )
+                    connection.heartbeat();
+                }
+            });
+        } catch (RuntimeException e) {
+            // exception 이 전파되면 이후 tick 이 실행되지 않으므로 다음 tick 에서 계속 처리
+            log.error("SSE heartbeat failure - slot : {}, message : {}", current, e.getMessage());
+        }
+    }
+}
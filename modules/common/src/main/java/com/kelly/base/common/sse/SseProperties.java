@@ -0,0 +1,203 @@
+package com.kelly.base.common.sse;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SSE 설정 프로퍼티
+ * application.yml의 sse.* 설정을 바인딩
+ *
+ * @author 서강희
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sse")
+public class SseProperties {
+
+    /**
+     * 연결 map 의 shard 개수 (2의 거듭제곱으로 올림)
+     */
+    private int shardCount = 16;
+
+    /**
+     * 사용자별 최대 연결 개수, 넘는 경우 가장 오래된 연결을 종료
+     */
+    private int maxConnectionsPerUser = 5;
+
+    /**
+     * 연결별 전송 대기 queue 크기
+     */
+    private int queueCapacity = 256;
+
+    /**
+     * 연결별 queue 를 비우는 writer thread 개수
+     */
+    private int writerThreads = 4;
+
+    /**
+     * 연결별 queue 가 가득 찼을 때의 처리 방식
+     */
+    private SlowConsumerPolicy slowConsumerPolicy = SlowConsumerPolicy.DROP_OLDEST;
+
+    /**
+     * 재연결시 replay 할 event buffer 설정
+     */
+    private final Replay replay = new Replay();
+
+    /**
+     * 연결 유지 ( heartbeat ) 및 응답 없는 연결 정리 설정
+     */
+    private final Heartbeat heartbeat = new Heartbeat();
+
+    /**
+     * 여러 node ( app instance ) 사이의 event 전달 설정
+     */
+    private final Cluster cluster = new Cluster();
+
+    @Getter
+    @Setter
+    public static class Replay {
+        /**
+         * 사용자별 event buffer 크기 (2의 거듭제곱으로 올림)
+         */
+        private int userBufferSize = 64;
+
+        /**
+         * 전체 사용자 대상 ( broadcast ) event buffer 크기 (2의 거듭제곱으로 올림)
+         */
+        private int globalBufferSize = 256;
+
+        /**
+         * event 보관 시간 (ms), 지난 event 는 replay 하지 않으며 연결이 없는 사용자의 buffer 는 제거
+         */
+        private long retentionMs = 300000L;
+    }
+
+    @Getter
+    @Setter
+    public static class Heartbeat {
+        /**
+         * heartbeat 사용 여부, 사용하는 경우 emitter timeout 없이 연결을 유지
+         */
+        private boolean enabled = true;
+
+        /**
+         * heartbeat 전송 간격 (ms), 최근에 전송된 연결은 생략
+         */
+        private long intervalMs = 15000L;
+
+        /**
+         * 전송에 성공하지 못한 시간이 넘으면 응답 없는 ( half-open ) 연결로 판단하여 종료 (ms)
+         */
+        private long idleTimeoutMs = 45000L;
+
+        /**
+         * 전송 1건이 끝나지 않은 시간이 넘으면 전송이 멈춘 연결로 판단하여 writer thread 를 반환하고 종료 (ms)
+         * <p>
+         * Tomcat 사용시 connector 의 socket timeout ( <code>connectionTimeout</code> ) 도 이 값 이하로 제한됩니다.
+         */
+        private long writeTimeoutMs = 10000L;
+    }
+
+    @Getter
+    @Setter
+    public static class Cluster {
+        /**
+         * 다른 node 에 연결된 사용자에게 event 전달 여부
+         */
+        private boolean enabled = false;
+
+        /**
+         * node 식별자, 없는 경우 시작시 생성
+         */
+        private String nodeId;
+
+        /**
+         * node 번호 (0 ~ 255), cluster 사용시 필수이며 node 마다 다른 값으로 설정
+         * <p>
+         * event sequence 의 하위 8 bit 에 기록되어 같은 시점에 여러 node 에서 발급된 sequence 를 구분합니다.
+         */
+        private Integer nodeIndex;
+
+        /**
+         * node 사이의 event 전달 방식
+         */
+        private BusType busType = BusType.UDP;
+
+        /**
+         * 전달 대기 queue 크기, 가득 찬 경우 신규 message 를 버림
+         */
+        private int queueCapacity = 10000;
+
+        /**
+         * 한 번에 전달할 최대 message 개수
+         */
+        private int batchSize = 256;
+
+        /**
+         * 전달할 message 가 없는 경우 대기하는 시간 (ms)
+         */
+        private long flushIntervalMs = 10L;
+
+        /**
+         * 연결된 사용자 전체 목록을 다른 node 에 전달하는 간격 (ms)
+         */
+        private long syncIntervalMs = 10000L;
+
+        /**
+         * message 를 받지 못한 시간이 넘으면 종료된 node 로 판단하여 routing 정보 제거 (ms)
+         */
+        private long nodeTimeoutMs = 35000L;
+
+        /**
+         * UDP bus 설정
+         */
+        private final Udp udp = new Udp();
+    }
+
+    @Getter
+    @Setter
+    public static class Udp {
+        /**
+         * bind 할 주소
+         */
+        private String bindAddress = "127.0.0.1";
+
+        /**
+         * bind 할 port
+         */
+        private int port = 7070;
+
+        /**
+         * 다른 node 의 주소 목록 ( host:port ), 목록에 없는 주소에서 받은 datagram 은 버림
+         */
+        private List<String> peers = new ArrayList<>();
+
+        /**
+         * datagram HMAC 계산에 사용할 secret ( 모든 node 가 같은 값 사용, 필수 )
+         */
+        private String secret;
+    }
+
+    /**
+     * node 사이의 event 전달 방식
+     */
+    public enum BusType {
+        UDP     // UDP datagram ( UdpSseClusterBus )
+    }
+
+    /**
+     * 연결별 queue 가 가득 찼을 때의 처리 방식
+     */
+    public enum SlowConsumerPolicy {
+        DROP_OLDEST,    // 가장 오래된 event 를 버리고 신규 event 를 추가
+        COALESCE,       // 대기중인 동일 type 의 event 를 신규 event 로 교체 (없으면 DROP_OLDEST)
+        DISCONNECT      // 연결을 종료
+    }
+}
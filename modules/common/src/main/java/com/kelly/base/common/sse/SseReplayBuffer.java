@@ -0,0 +1,309 @@
+package com.kelly.base.common.sse;
+
+import com.kelly.base.common.exception.CommonException;
+import com.kelly.base.common.sse.dto.SseEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 재연결시 replay 할 최근 event 를 보관하는 ring buffer
+ * <p>
+ * 모든 frame 은 단조 증가하는 sequence 를 <code>id:</code> 로 가지며,
+ * replay 대상 event 는 사용자별 ring 과 전체 사용자 ( broadcast ) ring 에 보관됩니다.<br>
+ * ring 안의 frame 은 sequence 순서로 정렬되어 있으므로 <code>Last-Event-ID</code> 이후의 frame 은
+ * 최신 frame 부터 역순으로 replay 할 개수만큼만 확인하여 찾습니다. ( NanoId 비교를 위한 전체 탐색 없음 )<br>
+ * 사용자 event 와 broadcast event 가 동시에 전송되는 경우 연결에 도착하는 순서가 sequence 와 다를 수 있으며,
+ * 이 경우 replay 는 중복 전송될 수 있습니다. ( at-least-once )<br>
+ * cluster 를 사용하는 경우 sequence 는 event 를 처음 전송한 node 에서 한 번만 발급하여 다른 node 에 함께 전달하므로,
+ * 다른 node 로 재연결해도 <code>Last-Event-ID</code> 가 같은 event 를 가리킵니다.<br>
+ * 이를 위해 sequence 하위 bit 에 node 번호 ( <code>sse.cluster.node-index</code> ) 를 기록하고
+ * ( 같은 시점에 발급된 node 별 sequence 구분 ),
+ * 다른 node 의 sequence 를 수신하면 이후 발급할 sequence 가 더 커지도록 맞춥니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+final class SseReplayBuffer {
+    private final LongSupplier currentTimeMillis;
+
+    // cluster 사용시 sequence 하위에 node 번호를 기록하는 bit 수
+    static final int NODE_TAG_BITS = 8;
+
+    static final int MAX_NODE_INDEX = (1 << NODE_TAG_BITS) - 1;
+
+    // app 재시작 이후에도 이전 sequence 보다 커지도록 시작 시간 기준으로 초기화 ( node 번호 제외 )
+    private final AtomicLong sequence;
+
+    private final int nodeTagBits;  // cluster 를 사용하지 않는 경우 0
+
+    private final long nodeTag;
+
+    private final Ring globalRing;
+
+    private final Map<Long, Ring> userRings = new ConcurrentHashMap<>();
+
+    private final int userBufferSize;
+
+    private final long retentionMs;
+
+    private final AtomicLong lastPurgeMs;
+
+    /**
+     * @param properties replay 설정
+     * @param nodeIndex  cluster node 번호 ( 0 ~ {@value #MAX_NODE_INDEX}, cluster 를 사용하지 않는 경우 null )
+     */
+    SseReplayBuffer(final SseProperties.Replay properties, final Integer nodeIndex) {
+        this(properties, System::currentTimeMillis, nodeIndex);
+    }
+
+    SseReplayBuffer(final SseProperties.Replay properties, final LongSupplier currentTimeMillis) {
+        this(properties, currentTimeMillis, null);
+    }
+
+    SseReplayBuffer(final SseProperties.Replay properties, final LongSupplier currentTimeMillis,
+                    final Integer nodeIndex) {
+        if (nodeIndex != null && (nodeIndex < 0 || nodeIndex > MAX_NODE_INDEX)) {
+            throw new IllegalArgumentException("SSE cluster node index out of range : " + nodeIndex);
+        }
+        this.currentTimeMillis = currentTimeMillis;
+        this.sequence = new AtomicLong(currentTimeMillis.getAsLong() * 1000L);
+        this.nodeTagBits = nodeIndex == null ? 0 : NODE_TAG_BITS;
+        this.nodeTag = nodeIndex == null ? 0L : nodeIndex;
+        this.globalRing = new Ring(properties.getGlobalBufferSize());
+        this.userBufferSize = properties.getUserBufferSize();
+        this.retentionMs = properties.getRetentionMs();
+        this.lastPurgeMs = new AtomicLong(currentTimeMillis.getAsLong());
+    }
+
+    /**
+     * 이 node 에서 전송하는 event 의 sequence 발급
+     *
+     * @return 발급된 sequence ( <code>id:</code> 로 기록되며 다른 node 에도 같은 값으로 전달 )
+     */
+    long nextSequence() {
+        return (sequence.incrementAndGet() << nodeTagBits) | nodeTag;
+    }
+
+    /**
+     * 다른 node 에서 발급된 sequence 를 이 node 에서 사용
+     * <p>
+     * 이후 이 node 에서 발급하는 sequence 가 수신한 sequence 보다 커지도록 맞춥니다.
+     *
+     * @param remoteSequence 다른 node 에서 발급된 sequence ( 0 이하는 발급되지 않은 경우 )
+     * @return 사용할 sequence ( 발급되지 않은 경우 이 node 에서 발급 )
+     */
+    long adoptSequence(final long remoteSequence) {
+        if (remoteSequence <= 0L) {
+            return nextSequence();
+        }
+        sequence.accumulateAndGet(remoteSequence >>> nodeTagBits, Math::max);
+        return remoteSequence;
+    }
+
+    /**
+     * 사용자 대상 event 를 인코딩하여 보관한 뒤 전달
+     * <p>
+     * 연결된 적이 없는 ( buffer 가 없는 ) 사용자의 event 는 보관하지 않습니다.
+     *
+     * @param userId   user ID
+     * @param event    전송할 event
+     * @param sequence event 의 sequence ( {@link #nextSequence()} 또는 {@link #adoptSequence(long)} )
+     * @param delivery 인코딩된 frame 을 연결에 전달
+     * @return delivery 결과 ( 인코딩 실패시 false )
+     */
+    boolean publishToUser(final long userId, final SseEvent event, final long sequence,
+                          final Predicate<SseFrame> delivery) {
+        return publish(event.eventType().isReplayable() ? userRings.get(userId) : null, event, sequence, delivery);
+    }
+
+    /**
+     * 전체 사용자 대상 event 를 인코딩하여 보관한 뒤 전달
+     *
+     * @param event    전송할 event
+     * @param sequence event 의 sequence ( {@link #nextSequence()} 또는 {@link #adoptSequence(long)} )
+     * @param delivery 인코딩된 frame 을 연결에 전달
+     * @return delivery 결과 ( 인코딩 실패시 false )
+     */
+    boolean publishToAll(final SseEvent event, final long sequence, final Predicate<SseFrame> delivery) {
+        return publish(event.eventType().isReplayable() ? globalRing : null, event, sequence, delivery);
+    }
+
+    /**
+     * 보관하지 않는 event 를 인코딩하여 전달 ( topic event 등 )
+     *
+     * @param event    전송할 event
+     * @param sequence event 의 sequence ( {@link #nextSequence()} 또는 {@link #adoptSequence(long)} )
+     * @param delivery 인코딩된 frame 을 연결에 전달
+     * @return delivery 결과 ( 인코딩 실패시 false )
+     */
+    boolean publishUnbuffered(final SseEvent event, final long sequence, final Predicate<SseFrame> delivery) {
+        return publish(null, event, sequence, delivery);
+    }
+
+    /**
+     * 사용자의 event 보관 시작 ( 이미 보관중인 경우 유지 )
+     *
+     * @param userId user ID
+     */
+    void open(final long userId) {
+        userRings.computeIfAbsent(userId, key -> new Ring(userBufferSize)).touch(currentTimeMillis.getAsLong());
+    }
+
+    /**
+     * <code>lastSequence</code> 이후에 보관된 사용자 / broadcast frame 을 sequence 순서로 조회
+     *
+     * @param userId       user ID
+     * @param lastSequence client 가 마지막으로 수신한 sequence ( <code>Last-Event-ID</code> )
+     * @return replay 할 frame 목록
+     */
+    List<SseFrame> getFramesAfter(final long userId, final long lastSequence) {
+        final long minTimestamp = currentTimeMillis.getAsLong() - retentionMs;
+        final List<SseFrame> globalFrames = globalRing.after(lastSequence, minTimestamp);
+        final Ring userRing = userRings.get(userId);
+        final List<SseFrame> userFrames = userRing == null ? List.of() : userRing.after(lastSequence, minTimestamp);
+
+        // 정렬된 두 목록을 sequence 순서로 병합
+        final List<SseFrame> frames = new ArrayList<>(globalFrames.size() + userFrames.size());
+        int globalIndex = 0;
+        int userIndex = 0;
+        while (globalIndex < globalFrames.size() || userIndex < userFrames.size()) {
+            final boolean takeGlobal = userIndex == userFrames.size() || (globalIndex < globalFrames.size()
+                    && globalFrames.get(globalIndex).getSequence() < userFrames.get(userIndex).getSequence());
+            frames.add(takeGlobal ? globalFrames.get(globalIndex++) : userFrames.get(userIndex++));
+        }
+        return frames;
+    }
+
+    /**
+     * 연결이 없고 보관 시간이 지난 사용자의 buffer 제거
+     * <p>
+     * 호출 비용을 줄이기 위해 보관 시간 간격으로 한 번만 실행됩니다.
+     *
+     * @param connected 사용자의 연결 여부
+     */
+    void purgeExpired(final LongPredicate connected) {
+        final long now = currentTimeMillis.getAsLong();
+        final long lastPurge = lastPurgeMs.get();
+        if (now - lastPurge < retentionMs || !lastPurgeMs.compareAndSet(lastPurge, now)) {
+            return;
+        }
+        final long idleSince = now - retentionMs;
+        userRings.entrySet().removeIf(
+                entry -> !connected.test(entry.getKey()) && entry.getValue().getLastAccessMs() < idleSince
+        );
+    }
+
+    /**
+     * event 를 보관중인 사용자 수
+     *
+     * @return 사용자 수
+     */
+    int getUserBufferCount() {
+        return userRings.size();
+    }
+
+    private boolean publish(final Ring ring, final SseEvent event, final long sequence,
+                            final Predicate<SseFrame> delivery) {
+        try {
+            final SseFrame frame = SseFrame.of(event, sequence);
+            if (ring == null) {
+                return delivery.test(frame);
+            }
+            // 보관 / 전달을 ring 단위로 묶어 같은 ring 의 frame 은 보관한 순서대로 연결에 전달
+            synchronized (ring) {
+                ring.append(frame, currentTimeMillis.getAsLong());
+                return delivery.test(frame);
+            }
+        } catch (CommonException e) {
+            log.error("SSE event encoding failure - eventType : {}, message : {}",
+                      event.eventType(), e.getExtraMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 고정 크기 frame ring ( 가득 차면 가장 오래된 frame 부터 덮어씀 )
+     */
+    static final class Ring {
+        private final long[] sequences;
+
+        private final long[] timestamps;
+
+        private final SseFrame[] frames;
+
+        private final int mask;
+
+        private long count = 0L;
+
+        private volatile long lastAccessMs = 0L;
+
+        Ring(final int capacity) {
+            int size = 1;
+            while (size < capacity) {
+                size <<= 1;
+            }
+            this.sequences = new long[size];
+            this.timestamps = new long[size];
+            this.frames = new SseFrame[size];
+            this.mask = size - 1;
+        }
+
+        synchronized void append(final SseFrame frame, final long timestamp) {
+            // sequence 발급 후 보관 전에 다른 frame 이 먼저 보관될 수 있으므로 ( 다른 node 의 event 등 ) 정렬 위치에 삽입
+            if (count >= frames.length && frame.getSequence() < sequences[(int) (count & mask)]) {
+                return;     // 가득 찬 경우 보관중인 가장 오래된 frame 보다 이전 frame 은 보관하지 않음
+            }
+            final long oldest = Math.max(0L, count + 1 - frames.length);    // 덮어쓰는 frame 이후부터 유지
+            long position = count;
+            while (position > oldest && sequences[(int) ((position - 1) & mask)] > frame.getSequence()) {
+                final int from = (int) ((position - 1) & mask);
+                final int to = (int) (position & mask);
+                sequences[to] = sequences[from];
+                timestamps[to] = timestamps[from];
+                frames[to] = frames[from];
+                position--;
+            }
+            final int index = (int) (position & mask);
+            sequences[index] = frame.getSequence();
+            timestamps[index] = timestamp;
+            frames[index] = frame;
+            count++;
+            lastAccessMs = timestamp;
+        }
+
+        // lastSequence 이후 / minTimestamp 이후에 보관된 frame 을 오래된 순서로 조회
+        synchronized List<SseFrame> after(final long lastSequence, final long minTimestamp) {
+            final long retained = Math.min(count, frames.length);
+            int found = 0;
+            while (found < retained) {
+                final int index = (int) ((count - 1 - found) & mask);
+                if (sequences[index] <= lastSequence || timestamps[index] < minTimestamp) {
+                    break;
+                }
+                found++;
+            }
+
+            final List<SseFrame> result = new ArrayList<>(found);
+            for (long position = count - found; position < count; position++) {
+                result.add(frames[(int) (position & mask)]);
+            }
+            return result;
+        }
+
+        void touch(final long timestamp) {
+            lastAccessMs = timestamp;
+        }
+
+        long getLastAccessMs() {
+            return lastAccessMs;
+        }
+    }
+}
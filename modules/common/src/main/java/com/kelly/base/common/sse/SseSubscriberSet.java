@@ -0,0 +1,165 @@
+package com.kelly.base.common.sse;
+
+/**
+ * topic 구독자 ( userId ) 를 boxing 없이 저장하는 open addressing long set
+ * <p>
+ * <code>HashSet&lt;Long&gt;</code> 은 구독자마다 <code>Long</code> / node 객체를 생성하지만,
+ * 이 set 은 <code>long[]</code> 1개에 linear probing 으로 저장하므로 구독자 수가 늘어도 메모리 사용량이 일정합니다.<br>
+ * 빈 slot 은 0 으로 표시하며 userId 0 은 별도 flag 로 관리합니다.<br>
+ * 모든 method 는 동기화되어 있으며, 전송시에는 {@link #toArray()} snapshot 을 사용합니다.
+ *
+ * @author 서강희
+ */
+final class SseSubscriberSet {
+    private static final long EMPTY = 0L;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+
+    private int size = 0;   // keys 에 저장된 개수 ( 0 제외 )
+
+    private boolean containsZero = false;
+
+    /**
+     * 구독자 추가
+     *
+     * @param value userId
+     * @return 추가 여부 ( 이미 있는 경우 false )
+     */
+    synchronized boolean add(final long value) {
+        if (value == EMPTY) {
+            final boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+
+        final int mask = keys.length - 1;
+        int index = slot(value, mask);
+        while (keys[index] != EMPTY) {
+            if (keys[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = value;
+        size++;
+        if (size * 4 >= keys.length * 3) {
+            resize(keys.length * 2);    // load factor 0.75
+        }
+        return true;
+    }
+
+    /**
+     * 구독자 제거
+     *
+     * @param value userId
+     * @return 제거 여부 ( 없는 경우 false )
+     */
+    synchronized boolean remove(final long value) {
+        if (value == EMPTY) {
+            final boolean removed = containsZero;
+            containsZero = false;
+            return removed;
+        }
+
+        final int mask = keys.length - 1;
+        int index = slot(value, mask);
+        while (keys[index] != value) {
+            if (keys[index] == EMPTY) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        // tombstone 없이 뒤따르는 entry 를 빈 자리로 당겨서 probe 경로 유지 ( backward shift )
+        int gap = index;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            final int home = slot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        size--;
+
+        if (keys.length > INITIAL_CAPACITY && size * 8 < keys.length) {
+            resize(keys.length / 2);    // 구독 해제 후 남은 메모리 반환
+        }
+        return true;
+    }
+
+    /**
+     * 구독 여부 확인
+     *
+     * @param value userId
+     * @return 구독 여부
+     */
+    synchronized boolean contains(final long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        final int mask = keys.length - 1;
+        int index = slot(value, mask);
+        while (keys[index] != EMPTY) {
+            if (keys[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * 구독자 수
+     *
+     * @return 구독자 수
+     */
+    synchronized int size() {
+        return containsZero ? size + 1 : size;
+    }
+
+    /**
+     * 구독자 snapshot ( 순서 없음 )
+     *
+     * @return userId 배열
+     */
+    synchronized long[] toArray() {
+        final long[] result = new long[size()];
+        int position = 0;
+        if (containsZero) {
+            result[position++] = EMPTY;
+        }
+        for (final long key : keys) {
+            if (key != EMPTY) {
+                result[position++] = key;
+            }
+        }
+        return result;
+    }
+
+    private void resize(final int capacity) {
+        final long[] previous = keys;
+        keys = new long[capacity];
+        final int mask = capacity - 1;
+        for (final long key : previous) {
+            if (key == EMPTY) {
+                continue;
+            }
+            int index = slot(key, mask);
+            while (keys[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+        }
+    }
+
+    // 연속된 userId 가 인접 slot 에 몰리지 않도록 hash 를 섞음 ( fibonacci hashing )
+    private static int slot(final long value, final int mask) {
+        final long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,151 @@
+package com.kelly.base.common.sse;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+/**
+ * topic 별 구독자 inverted index
+ * <p>
+ * topic → 구독자 ( <code>SseSubscriberSet</code> ) 와 사용자 → 구독 topic 을 함께 관리하여,
+ * topic 전송시에는 해당 topic 의 구독자만 조회하고 연결 종료시에는 사용자의 구독 topic 만 정리합니다.<br>
+ * 같은 사용자의 구독 변경은 사용자 entry 의 <code>compute</code> 안에서 처리되어 순서가 보장되고,
+ * 구독자가 없어진 topic 은 제거됩니다.
+ *
+ * @author 서강희
+ */
+final class SseTopicIndex {
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<String, SseSubscriberSet> subscribersByTopic = new ConcurrentHashMap<>();
+
+    // compute 안에서만 변경
+    private final Map<Long, Set<String>> topicsByUser = new ConcurrentHashMap<>();
+
+    /**
+     * topic 구독 ( <code>accept</code> 가 false 인 경우 거부 )
+     * <p>
+     * <code>accept</code> 는 사용자 entry 의 <code>compute</code> 안에서 확인되므로,
+     * 연결 종료시의 {@link #unsubscribeAll(long, LongPredicate)} 와 순서가 보장되어 종료된 사용자의 구독이 남지 않습니다.
+     *
+     * @param userId user ID
+     * @param topic  topic
+     * @param accept 구독 허용 조건 ( 연결 여부 등 )
+     * @return 구독 여부 ( 이미 구독중이거나 거부된 경우 false )
+     */
+    boolean subscribe(final long userId, final String topic, final LongPredicate accept) {
+        final boolean[] subscribed = {false};
+        topicsByUser.compute(userId, (key, topics) -> {
+            if (!accept.test(userId)) {
+                return topics;
+            }
+            final Set<String> next = topics == null ? new HashSet<>() : topics;
+            if (next.add(topic)) {
+                subscribersByTopic.compute(topic, (name, subscribers) -> {
+                    final SseSubscriberSet set = subscribers == null ? new SseSubscriberSet() : subscribers;
+                    set.add(userId);
+                    return set;
+                });
+                subscribed[0] = true;
+            }
+            return next;
+        });
+        return subscribed[0];
+    }
+
+    /**
+     * topic 구독 해제
+     *
+     * @param userId user ID
+     * @param topic  topic
+     * @return 해제 여부 ( 구독중이 아닌 경우 false )
+     */
+    boolean unsubscribe(final long userId, final String topic) {
+        final boolean[] unsubscribed = {false};
+        topicsByUser.computeIfPresent(userId, (key, topics) -> {
+            if (topics.remove(topic)) {
+                removeSubscriber(topic, userId);
+                unsubscribed[0] = true;
+            }
+            return topics.isEmpty() ? null : topics;
+        });
+        return unsubscribed[0];
+    }
+
+    /**
+     * 사용자의 모든 구독 해제 ( <code>retain</code> 이 true 인 경우 유지 )
+     * <p>
+     * <code>retain</code> 은 사용자 entry 의 <code>compute</code> 안에서 확인되므로,
+     * 확인 이후 해제 전에 같은 사용자의 구독이 추가되지 않습니다.
+     *
+     * @param userId user ID
+     * @param retain 구독 유지 조건 ( 연결 여부 등 )
+     * @return 해제된 topic 개수
+     */
+    int unsubscribeAll(final long userId, final LongPredicate retain) {
+        final int[] unsubscribed = {0};
+        topicsByUser.computeIfPresent(userId, (key, topics) -> {
+            if (retain.test(userId)) {
+                return topics;
+            }
+            for (final String topic : topics) {
+                removeSubscriber(topic, userId);
+            }
+            unsubscribed[0] = topics.size();
+            return null;
+        });
+        return unsubscribed[0];
+    }
+
+    /**
+     * topic 구독자 snapshot
+     *
+     * @param topic topic
+     * @return 구독자 userId 목록 ( 없으면 빈 배열 )
+     */
+    long[] getSubscribers(final String topic) {
+        final SseSubscriberSet subscribers = subscribersByTopic.get(topic);
+        return subscribers == null ? EMPTY : subscribers.toArray();
+    }
+
+    /**
+     * topic 구독 여부
+     *
+     * @param userId user ID
+     * @param topic  topic
+     * @return 구독 여부
+     */
+    boolean isSubscribed(final long userId, final String topic) {
+        final SseSubscriberSet subscribers = subscribersByTopic.get(topic);
+        return subscribers != null && subscribers.contains(userId);
+    }
+
+    /**
+     * topic 구독자 수
+     *
+     * @param topic topic
+     * @return 구독자 수
+     */
+    int getSubscriberCount(final String topic) {
+        final SseSubscriberSet subscribers = subscribersByTopic.get(topic);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    /**
+     * 구독자가 있는 topic 개수
+     *
+     * @return topic 개수
+     */
+    int getTopicCount() {
+        return subscribersByTopic.size();
+    }
+
+    private void removeSubscriber(final String topic, final long userId) {
+        subscribersByTopic.computeIfPresent(topic, (name, subscribers) -> {
+            subscribers.remove(userId);
+            return subscribers.size() == 0 ? null : subscribers;
+        });
+    }
+}
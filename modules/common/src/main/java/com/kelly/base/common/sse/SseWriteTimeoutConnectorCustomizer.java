@@ -0,0 +1,39 @@
+package com.kelly.base.common.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.AbstractProtocol;
+
+/**
+ * SSE 전송 1건의 최대 시간을 Tomcat connector 의 socket write timeout 으로 제한
+ * <p>
+ * Tomcat 은 blocking write 중 interrupt 를 무시하고 socket write timeout ( <code>connectionTimeout</code> ) 까지 대기하므로,
+ * writer thread 의 interrupt 만으로는 응답 없는 client 의 연결에서 writer thread 를 반환할 수 없습니다.<br>
+ * connector 의 <code>connectionTimeout</code> 이 <code>sse.heartbeat.write-timeout-ms</code> 보다 긴 경우 ( 제한 없음 포함 )
+ * 해당 값으로 줄여, 멈춘 write 가 container 에서 <code>SocketTimeoutException</code> 으로 끝나도록 합니다.<br>
+ * <code>connectionTimeout</code> 은 요청 수신 / keep-alive 대기에도 사용되므로 더 짧게 설정된 경우에는 변경하지 않습니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+public class SseWriteTimeoutConnectorCustomizer {
+    private final int writeTimeoutMs;
+
+    public SseWriteTimeoutConnectorCustomizer(final long writeTimeoutMs) {
+        this.writeTimeoutMs = (int) Math.min(writeTimeoutMs, Integer.MAX_VALUE);
+    }
+
+    /**
+     * connector 의 socket timeout 을 write timeout 이하로 제한
+     *
+     * @param connector Tomcat connector
+     */
+    public void customize(final Connector connector) {
+        if (connector.getProtocolHandler() instanceof AbstractProtocol<?> protocol
+                && (protocol.getConnectionTimeout() <= 0 || protocol.getConnectionTimeout() > writeTimeoutMs)) {
+            log.info("SSE write timeout applied to connector - port : {}, connectionTimeout : {} -> {}",
+                     connector.getPort(), protocol.getConnectionTimeout(), writeTimeoutMs);
+            protocol.setConnectionTimeout(writeTimeoutMs);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.kelly.base.common.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.kelly.base.common.interfaces.ISseClusterBus;
+import com.kelly.base.common.sse.dto.SseClusterMessage;
+import com.kelly.base.common.utils.JsonUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * UDP datagram 으로 다른 node 에 message 를 전달하는 cluster bus
+ * <p>
+ * message batch 는 JSON 배열 1개의 datagram 으로 <code>peers</code> 에 설정된 모든 node 에 전송되며,
+ * datagram 크기 제한을 넘는 batch 는 나누어 전송합니다.<br>
+ * 각 datagram 앞에는 공유 secret 으로 계산한 HMAC 을 붙이며, <code>peers</code> 에 없는 주소에서 받았거나
+ * HMAC 이 맞지 않는 datagram 은 버립니다. ( node 는 <code>peers</code> 에 설정된 주소로 bind 해야 함 )<br>
+ * 같은 host 의 여러 instance 또는 내부 network 의 고정된 node 구성에서 사용하는 단순한 transport 로,
+ * 전달 / 순서를 보장하지 않으며 ( 유실된 routing 정보는 다음 동기화에서 복구 ) 암호화하지 않으므로
+ * 외부에서 접근할 수 없는 주소에 bind 해야 합니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+public final class UdpSseClusterBus implements ISseClusterBus {
+    static final String RECEIVER_THREAD_NAME = "sse-cluster-receiver";
+
+    // IPv4 UDP datagram 의 최대 payload 크기
+    static final int MAX_DATAGRAM_SIZE = 65507;
+
+    static final String MAC_ALGORITHM = "HmacSHA256";
+
+    static final int MAC_LENGTH = 32;
+
+    private final DatagramChannel channel;
+
+    private final List<InetSocketAddress> peers;
+
+    // 수신 허용 주소 ( peers )
+    private final Set<InetSocketAddress> peerAddresses;
+
+    // publish ( relay thread ) / receive ( receiver thread ) 에서 각각 사용
+    private final Mac sendMac;
+
+    private final Mac receiveMac;
+
+    /**
+     * datagram socket 을 bind 하고 전송 대상 node 주소를 설정
+     *
+     * @param bindAddress bind 할 주소
+     * @param port        bind 할 port ( 0 인 경우 임의의 port )
+     * @param peers       다른 node 의 주소 목록 ( <code>host:port</code> )
+     * @param secret      node 사이에 공유하는 HMAC secret
+     * @throws IOException              socket 생성 / bind 실패
+     * @throws GeneralSecurityException HMAC 생성 실패
+     */
+    public UdpSseClusterBus(final String bindAddress, final int port, final List<String> peers,
+                            final String secret) throws IOException, GeneralSecurityException {
+        this(peers.stream().map(UdpSseClusterBus::parseAddress).toList(), openChannel(bindAddress, port), secret);
+    }
+
+    UdpSseClusterBus(final List<InetSocketAddress> peers, final DatagramChannel channel,
+                     final String secret) throws GeneralSecurityException {
+        if (secret == null || secret.isBlank()) {
+            closeQuietly(channel);
+            throw new IllegalArgumentException("SSE cluster UDP secret is required");
+        }
+        this.peers = peers;
+        this.peerAddresses = Set.copyOf(peers);
+        this.channel = channel;
+        this.sendMac = createMac(secret);
+        this.receiveMac = createMac(secret);
+    }
+
+    @Override
+    public void start(final Consumer<List<SseClusterMessage>> receiver) {
+        final Thread receiverThread = new Thread(() -> runReceiveLoop(receiver), RECEIVER_THREAD_NAME);
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+        log.info("start SSE cluster UDP bus - local address : {}, peers : {}", getLocalAddress(), peers);
+    }
+
+    @Override
+    public void publish(final List<SseClusterMessage> messages) {
+        if (messages.isEmpty() || !channel.isOpen()) {
+            return;
+        }
+
+        final byte[] datagram;
+        try {
+            datagram = JsonUtil.objectMapper.writeValueAsBytes(messages);
+        } catch (JsonProcessingException e) {
+            log.error("SSE cluster message encoding failure - count : {}, message : {}",
+                      messages.size(), e.getOriginalMessage());
+            return;
+        }
+
+        if (datagram.length + MAC_LENGTH > MAX_DATAGRAM_SIZE) {
+            if (messages.size() == 1) {
+                log.warn("SSE cluster message too large - type : {}, size : {}",
+                         messages.get(0).type(), datagram.length);
+                return;
+            }
+            final int half = messages.size() / 2;
+            publish(messages.subList(0, half));
+            publish(messages.subList(half, messages.size()));
+            return;
+        }
+
+        // HMAC + JSON
+        final byte[] signed = new byte[MAC_LENGTH + datagram.length];
+        synchronized (sendMac) {
+            System.arraycopy(sendMac.doFinal(datagram), 0, signed, 0, MAC_LENGTH);
+        }
+        System.arraycopy(datagram, 0, signed, MAC_LENGTH, datagram.length);
+        for (final InetSocketAddress peer : peers) {
+            try {
+                channel.send(ByteBuffer.wrap(signed), peer);
+            } catch (IOException e) {
+                log.error("SSE cluster send failure - peer : {}, message : {}", peer, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * bind 된 주소 ( port 0 으로 bind 한 경우 실제 port 확인 용도 )
+     *
+     * @return bind 된 주소 ( 종료된 경우 null )
+     */
+    public InetSocketAddress getLocalAddress() {
+        try {
+            return (InetSocketAddress) channel.getLocalAddress();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(channel);
+    }
+
+    private void runReceiveLoop(final Consumer<List<SseClusterMessage>> receiver) {
+        final ByteBuffer buffer = ByteBuffer.allocate(MAX_DATAGRAM_SIZE);
+        while (channel.isOpen()) {
+            try {
+                buffer.clear();
+                final SocketAddress sender = channel.receive(buffer);
+                if (!peerAddresses.contains(sender)) {
+                    log.debug("SSE cluster datagram from unknown address ignored - address : {}", sender);
+                    continue;
+                }
+                if (!verifyMac(buffer)) {
+                    log.warn("SSE cluster datagram with invalid HMAC ignored - address : {}", sender);
+                    continue;
+                }
+                final SseClusterMessage[] messages = JsonUtil.objectMapper.readValue(
+                        buffer.array(), MAC_LENGTH, buffer.position() - MAC_LENGTH, SseClusterMessage[].class
+                );
+                receiver.accept(Arrays.asList(messages));
+            } catch (ClosedChannelException e) {
+                return;     // close() 호출
+            } catch (IOException | RuntimeException e) {
+                // 잘못된 datagram 으로 수신이 중단되지 않도록 무시하고 계속 수신
+                log.error("SSE cluster receive failure - message : {}", e.getMessage());
+            }
+        }
+    }
+
+    // datagram 앞의 HMAC 과 나머지 payload 로 계산한 HMAC 비교 ( receiver thread 에서만 호출 )
+    private boolean verifyMac(final ByteBuffer buffer) {
+        if (buffer.position() < MAC_LENGTH) {
+            return false;
+        }
+        receiveMac.update(buffer.array(), MAC_LENGTH, buffer.position() - MAC_LENGTH);
+        return MessageDigest.isEqual(receiveMac.doFinal(), Arrays.copyOf(buffer.array(), MAC_LENGTH));
+    }
+
+    private static Mac createMac(final String secret) throws GeneralSecurityException {
+        final Mac mac = Mac.getInstance(MAC_ALGORITHM);
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM));
+        return mac;
+    }
+
+    private static void closeQuietly(final DatagramChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.error("SSE cluster UDP bus close failure - message : {}", e.getMessage());
+        }
+    }
+
+    private static DatagramChannel openChannel(final String bindAddress, final int port) throws IOException {
+        final DatagramChannel channel = DatagramChannel.open();
+        try {
+            channel.bind(new InetSocketAddress(bindAddress, port));
+            return channel;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // host:port 형식의 주소 변환
+    private static InetSocketAddress parseAddress(final String address) {
+        final int separator = address.lastIndexOf(':');
+        if (separator <= 0 || separator == address.length() - 1) {
+            throw new IllegalArgumentException("invalid SSE cluster peer address : " + address);
+        }
+        return new InetSocketAddress(address.substring(0, separator).trim(),
+                                     Integer.parseInt(address.substring(separator + 1).trim()));
+    }
+}
@@ -0,0 +1,27 @@
+package com.kelly.base.common.sse.dto;
+
+public record SseClusterMessage(
+        Type type,
+        String nodeId,
+        long[] userIds,
+        String topic,
+        SseEvent event,
+        long sequence
+) {
+    // type: message 유형
+    // nodeId: message 를 보낸 node 식별자
+    // userIds: 대상 사용자 ( USER, DISCONNECT ) 또는 routing 정보의 사용자 ( ROUTE_* )
+    // topic: 대상 topic ( TOPIC )
+    // event: 전달할 event ( ROUTE_* 는 null )
+    // sequence: 보낸 node 에서 발급한 event 의 sequence ( 모든 node 에서 같은 id: 로 전송, ROUTE_* 는 0 )
+
+    public enum Type {
+        USER,           // 특정 사용자에게 전송
+        TOPIC,          // topic 구독자에게 전송
+        ALL,            // 모든 사용자에게 전송
+        DISCONNECT,     // 사용자의 연결 종료
+        ROUTE_SYNC,     // node 의 연결된 사용자 목록 교체
+        ROUTE_ADD,      // node 에 연결된 사용자 추가
+        ROUTE_REMOVE    // node 에 연결된 사용자 제거
+    }
+}
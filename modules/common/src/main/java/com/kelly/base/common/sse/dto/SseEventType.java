@@ -6,10 +6,12 @@ import lombok.Getter;
 @AllArgsConstructor
 @Getter
 public enum SseEventType {
-    CONNECT("connect SSE"),
-    REFRESH_ANALYSIS("refresh analysis"),
-    REFRESH_LICENSE("refresh license"),
-    DISCONNECT("disconnect SSE");
+    CONNECT("connect SSE", false),
+    REFRESH_ANALYSIS("refresh analysis", true),
+    REFRESH_LICENSE("refresh license", true),
+    DISCONNECT("disconnect SSE", false);
 
     private final String description;
+
+    private final boolean replayable;   // 재연결시 replay 대상 여부 ( 연결 제어 event 는 제외 )
 }
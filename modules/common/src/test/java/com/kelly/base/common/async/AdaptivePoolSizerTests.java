@@ -0,0 +1,242 @@
+package com.kelly.base.common.async;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("AdaptivePoolSizerTests")
+class AdaptivePoolSizerTests {
+    private ThreadPoolTaskExecutor pool;
+
+    private AsyncTaskMetrics mockMetrics;
+
+    private AsyncProperties.Adaptive adaptive;
+
+    private AdaptivePoolSizer sizer;
+
+    @BeforeEach
+    void init() {
+        final AsyncProperties.Pool poolProperties = new AsyncProperties().getPool();
+        poolProperties.setCorePoolSize(2);
+        poolProperties.setMaxPoolSize(2);
+        poolProperties.setQueueCapacity(10);
+        pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(poolProperties.getCorePoolSize());
+        pool.setMaxPoolSize(poolProperties.getMaxPoolSize());
+        pool.setQueueCapacity(poolProperties.getQueueCapacity());
+        pool.initialize();
+
+        mockMetrics = mock(AsyncTaskMetrics.class);
+        adaptive = poolProperties.getAdaptive();
+        adaptive.setEnabled(true);
+        adaptive.setMaxPoolSize(5);
+        adaptive.setTargetWaitMs(100L);
+        adaptive.setIntervalMs(10L);
+        adaptive.setStep(2);
+        sizer = new AdaptivePoolSizer(pool, mockMetrics, poolProperties.getCorePoolSize(), adaptive);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sizer.close();
+        pool.shutdown();
+    }
+
+    private void assertPoolSize(final int expected) {
+        Assertions.assertEquals(expected, pool.getCorePoolSize());
+        Assertions.assertEquals(expected, pool.getMaxPoolSize());
+    }
+
+    @Nested
+    @DisplayName("AdjustTests")
+    class AdjustTests {
+        @Test
+        @DisplayName("adjust test - 평균 대기 시간이 목표를 넘으면 maxPoolSize 까지 늘림")
+        void growTest() {
+            // given
+            when(mockMetrics.takeAverageWaitMs()).thenReturn(150L);
+
+            // when, then - step 만큼 증가
+            sizer.adjust();
+            assertPoolSize(4);
+
+            // when, then - maxPoolSize 까지만 증가
+            sizer.adjust();
+            assertPoolSize(5);
+            sizer.adjust();
+            assertPoolSize(5);
+        }
+
+        @Test
+        @DisplayName("adjust test - 시작된 작업 없이 대기중인 작업만 있으면 포화 상태로 판단하여 늘림")
+        void growSaturatedTest() throws InterruptedException {
+            // given - 2개 thread 모두 오래 걸리는 작업을 실행중이고 1개 작업이 대기중
+            final CountDownLatch started = new CountDownLatch(2);
+            final CountDownLatch release = new CountDownLatch(1);
+            final CountDownLatch queuedStarted = new CountDownLatch(1);
+            for (int i = 0; i < 2; i++) {
+                pool.execute(() -> {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            pool.execute(queuedStarted::countDown);
+            Assertions.assertEquals(1, pool.getQueueSize());
+            when(mockMetrics.takeAverageWaitMs()).thenReturn(-1L);
+
+            // when
+            sizer.adjust();
+
+            // then - 늘어난 thread 에서 대기중인 작업 실행
+            assertPoolSize(4);
+            Assertions.assertTrue(queuedStarted.await(5, TimeUnit.SECONDS));
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("adjust test - 설정된 max 개수가 core 보다 큰 경우 max 는 줄이지 않음")
+        void configuredMaxPoolSizeTest() {
+            // given - core 2 / max 6
+            pool.setMaxPoolSize(6);
+            final AdaptivePoolSizer maxSizer = new AdaptivePoolSizer(pool, mockMetrics, 2, adaptive);
+            when(mockMetrics.takeAverageWaitMs()).thenReturn(150L, 10L);
+
+            // when, then - core 만 늘림
+            maxSizer.adjust();
+            Assertions.assertEquals(4, pool.getCorePoolSize());
+            Assertions.assertEquals(6, pool.getMaxPoolSize());
+
+            // when, then - core 만 줄임
+            maxSizer.adjust();
+            Assertions.assertEquals(2, pool.getCorePoolSize());
+            Assertions.assertEquals(6, pool.getMaxPoolSize());
+        }
+
+        @Test
+        @DisplayName("adjust test - 대기 시간이 목표의 절반 이하이면 최소 개수까지 줄임")
+        void shrinkTest() {
+            // given
+            pool.setMaxPoolSize(5);
+            pool.setCorePoolSize(5);
+            when(mockMetrics.takeAverageWaitMs()).thenReturn(50L, -1L, 10L);
+
+            // when, then
+            sizer.adjust();
+            assertPoolSize(3);
+
+            // when, then - 시작된 작업이 없는 경우도 줄임, 최소 개수까지만 줄임
+            sizer.adjust();
+            assertPoolSize(2);
+            sizer.adjust();
+            assertPoolSize(2);
+        }
+
+        @Test
+        @DisplayName("adjust test - 대기 시간이 목표 범위 안인 경우 유지")
+        void keepTest() {
+            // given
+            pool.setMaxPoolSize(4);
+            pool.setCorePoolSize(4);
+            when(mockMetrics.takeAverageWaitMs()).thenReturn(80L);
+
+            // when
+            sizer.adjust();
+
+            // then
+            assertPoolSize(4);
+        }
+
+        @Test
+        @DisplayName("adjust test - 실행중인 작업이 줄일 개수보다 많으면 유지")
+        void busyTest() throws InterruptedException {
+            // given - 4개 thread 모두 실행중
+            pool.setMaxPoolSize(4);
+            pool.setCorePoolSize(4);
+            final CountDownLatch started = new CountDownLatch(4);
+            final CountDownLatch release = new CountDownLatch(1);
+            for (int i = 0; i < 4; i++) {
+                pool.execute(() -> {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            when(mockMetrics.takeAverageWaitMs()).thenReturn(0L);
+
+            // when
+            sizer.adjust();
+
+            // then
+            assertPoolSize(4);
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("adjust test - 조절 실패")
+        void adjustFailureTest() {
+            // given
+            when(mockMetrics.takeAverageWaitMs()).thenThrow(new IllegalStateException("metric failure"));
+
+            // when, then
+            Assertions.assertDoesNotThrow(sizer::adjust);
+            assertPoolSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("LifecycleTests")
+    class LifecycleTests {
+        @Test
+        @DisplayName("start test - intervalMs 마다 조절")
+        void startTest() {
+            // given
+            Assertions.assertTrue(adaptive.isEnabled());
+            when(mockMetrics.takeAverageWaitMs()).thenReturn(150L);
+
+            // when
+            sizer.start();
+
+            // then
+            verify(mockMetrics, timeout(5000L).atLeast(2)).takeAverageWaitMs();
+            sizer.close();
+            Assertions.assertTrue(
+                    ((ScheduledExecutorService) ReflectionTestUtils.getField(sizer, "scheduler")).isShutdown()
+            );
+        }
+
+        @Test
+        @DisplayName("start test - thread pool 이 아닌 경우 조절하지 않음")
+        void notPoolTest() {
+            // given
+            final AdaptivePoolSizer notPoolSizer = new AdaptivePoolSizer(Runnable::run, mockMetrics, 2, adaptive);
+
+            // when
+            notPoolSizer.start();
+            notPoolSizer.close();
+
+            // then
+            Assertions.assertNull(ReflectionTestUtils.getField(notPoolSizer, "scheduler"));
+            verifyNoInteractions(mockMetrics);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.kelly.base.common.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@DisplayName("AsyncTaskMetricsTests")
+class AsyncTaskMetricsTests {
+    private MeterRegistry meterRegistry;
+
+    private AtomicLong nanoTime;
+
+    private AsyncTaskMetrics metrics;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        nanoTime = new AtomicLong();
+        metrics = new AsyncTaskMetrics(meterRegistry, nanoTime::get);
+    }
+
+    private double gauge(final String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    @Nested
+    @DisplayName("InstrumentTests")
+    class InstrumentTests {
+        @Test
+        @DisplayName("instrument test - 대기 시간 / 실행 시간 기록")
+        void instrumentTest() {
+            // given - 제출 시점 0ms
+            final Runnable instrumented = metrics.instrument(() -> nanoTime.addAndGet(
+                    TimeUnit.MILLISECONDS.toNanos(30L)
+            ));
+
+            // when - 20ms 대기 후 시작, 30ms 동안 실행
+            nanoTime.set(TimeUnit.MILLISECONDS.toNanos(20L));
+            instrumented.run();
+
+            // then
+            final Timer waitTimer = meterRegistry.get(AsyncTaskMetrics.WAIT_METRIC).timer();
+            final Timer executionTimer = meterRegistry.get(AsyncTaskMetrics.EXECUTION_METRIC).timer();
+            Assertions.assertEquals(1L, waitTimer.count());
+            Assertions.assertEquals(20.0, waitTimer.totalTime(TimeUnit.MILLISECONDS));
+            Assertions.assertEquals(1L, executionTimer.count());
+            Assertions.assertEquals(30.0, executionTimer.totalTime(TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        @DisplayName("instrument test - 작업이 실패해도 실행 시간 기록")
+        void instrumentFailureTest() {
+            // given
+            final Runnable instrumented = metrics.instrument(() -> {
+                throw new IllegalStateException("task failure");
+            });
+
+            // when
+            Assertions.assertThrows(IllegalStateException.class, instrumented::run);
+
+            // then
+            Assertions.assertEquals(1L, meterRegistry.get(AsyncTaskMetrics.EXECUTION_METRIC).timer().count());
+        }
+
+        @Test
+        @DisplayName("takeAverageWaitMs test - 마지막 조회 이후의 평균 대기 시간")
+        void takeAverageWaitMsTest() {
+            // given - 대기 시간 10ms, 30ms 인 작업
+            final Runnable first = metrics.instrument(() -> { });
+            nanoTime.set(TimeUnit.MILLISECONDS.toNanos(10L));
+            final Runnable second = metrics.instrument(() -> { });
+            first.run();
+            nanoTime.set(TimeUnit.MILLISECONDS.toNanos(40L));
+            second.run();
+
+            // when, then
+            Assertions.assertEquals(20L, metrics.takeAverageWaitMs());
+
+            // when, then - 조회 이후 시작된 작업이 없음
+            Assertions.assertEquals(-1L, metrics.takeAverageWaitMs());
+        }
+    }
+
+    @Nested
+    @DisplayName("BindTests")
+    class BindTests {
+        private ThreadPoolTaskExecutor pool;
+
+        @AfterEach
+        void tearDown() {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("bind test - thread pool 상태 gauge")
+        void bindPoolTest() throws InterruptedException {
+            // given
+            pool = new ThreadPoolTaskExecutor();
+            pool.setCorePoolSize(1);
+            pool.setMaxPoolSize(2);
+            pool.setQueueCapacity(10);
+            pool.initialize();
+            metrics.bind(pool);
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+
+            // when - 1개 실행중, 1개 대기
+            pool.execute(() -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            pool.execute(() -> { });
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // then
+            Assertions.assertEquals(1.0, gauge(AsyncTaskMetrics.QUEUE_SIZE_METRIC));
+            Assertions.assertEquals(1.0, gauge(AsyncTaskMetrics.ACTIVE_METRIC));
+            Assertions.assertEquals(1.0, gauge(AsyncTaskMetrics.POOL_SIZE_METRIC));
+            Assertions.assertEquals(1.0, gauge(AsyncTaskMetrics.CORE_POOL_SIZE_METRIC));
+            Assertions.assertEquals(2.0, gauge(AsyncTaskMetrics.MAX_POOL_SIZE_METRIC));
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("bind test - virtual thread executor 상태 gauge")
+        void bindVirtualTest() throws InterruptedException {
+            // given
+            final BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(
+                    task -> new Thread(task).start(), 1, 5
+            );
+            metrics.bind(executor);
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+
+            // when - 1개 실행중, 2개 대기
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            executor.execute(() -> { });
+            executor.execute(() -> { });
+
+            // then
+            Assertions.assertEquals(2.0, gauge(AsyncTaskMetrics.QUEUE_SIZE_METRIC));
+            Assertions.assertEquals(1.0, gauge(AsyncTaskMetrics.ACTIVE_METRIC));
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("constructor test - 기본 clock 사용")
+        void defaultClockTest() {
+            // when
+            final AsyncTaskMetrics defaultMetrics = new AsyncTaskMetrics(new SimpleMeterRegistry());
+            defaultMetrics.instrument(() -> { }).run();
+
+            // then
+            Assertions.assertTrue(defaultMetrics.takeAverageWaitMs() >= 0L);
+        }
+    }
+}
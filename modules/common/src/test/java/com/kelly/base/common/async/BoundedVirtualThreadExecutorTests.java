@@ -0,0 +1,216 @@
+package com.kelly.base.common.async;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("BoundedVirtualThreadExecutorTests")
+class BoundedVirtualThreadExecutorTests {
+    // 테스트 JDK 에서 virtual thread 를 사용할 수 없을 수 있으므로 작업마다 platform thread 생성
+    private SimpleAsyncTaskExecutor threadExecutor;
+
+    private AsyncProperties.Virtual virtual;
+
+    @BeforeEach
+    void init() {
+        threadExecutor = new SimpleAsyncTaskExecutor("test-virtual-");
+        virtual = new AsyncProperties().getVirtual();
+        virtual.setMaxConcurrency(2);
+        virtual.setQueueCapacity(1);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000L;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5L);
+        }
+        Assertions.assertTrue(condition.getAsBoolean());
+    }
+
+    @Nested
+    @DisplayName("ExecuteTests")
+    class ExecuteTests {
+        @Test
+        @DisplayName("execute test - maxConcurrency 만큼만 동시에 실행")
+        void concurrencyLimitTest() throws InterruptedException {
+            // given
+            final BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(
+                    threadExecutor, virtual.getMaxConcurrency(), virtual.getQueueCapacity()
+            );
+            final CountDownLatch release = new CountDownLatch(1);
+            final CountDownLatch finished = new CountDownLatch(3);
+            final AtomicInteger running = new AtomicInteger();
+            final AtomicInteger maxRunning = new AtomicInteger();
+
+            // when - maxConcurrency ( 2 ) + queueCapacity ( 1 ) 개의 작업 제출
+            for (int i = 0; i < 3; i++) {
+                executor.execute(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    await(release);
+                    running.decrementAndGet();
+                    finished.countDown();
+                });
+            }
+
+            // then - 2개만 실행되고 1개는 대기
+            waitUntil(() -> executor.getActiveCount() == 2);
+            Assertions.assertEquals(3, executor.getPendingCount());
+
+            // when - 대기중인 작업도 모두 실행
+            release.countDown();
+
+            // then
+            Assertions.assertTrue(finished.await(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(2, maxRunning.get());
+            waitUntil(() -> executor.getPendingCount() == 0);
+            Assertions.assertEquals(0, executor.getActiveCount());
+        }
+
+        @Test
+        @DisplayName("execute test - 실행 / 대기 가능한 개수를 넘으면 TaskRejectedException")
+        void rejectTest() throws InterruptedException {
+            // given
+            final BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(
+                    threadExecutor, virtual.getMaxConcurrency(), virtual.getQueueCapacity()
+            );
+            final CountDownLatch release = new CountDownLatch(1);
+            for (int i = 0; i < 3; i++) {
+                executor.execute(() -> await(release));
+            }
+
+            // when, then
+            Assertions.assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+            Assertions.assertEquals(3, executor.getPendingCount());
+
+            // when, then - 작업이 끝나면 다시 제출 가능
+            release.countDown();
+            waitUntil(() -> executor.getPendingCount() == 0);
+            final CountDownLatch executed = new CountDownLatch(1);
+            executor.execute(executed::countDown);
+            Assertions.assertTrue(executed.await(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("execute test - 작업이 실패해도 permit 반환")
+        void taskFailureTest() throws InterruptedException {
+            // given
+            final BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(threadExecutor, 1, 0);
+
+            // when
+            executor.execute(() -> {
+                throw new IllegalStateException("task failure");
+            });
+
+            // then
+            waitUntil(() -> executor.getPendingCount() == 0);
+            Assertions.assertEquals(0, executor.getActiveCount());
+        }
+
+        @Test
+        @DisplayName("execute test - decorator 는 제출 thread 에서 적용되고 permit 을 얻은 뒤 실행")
+        void taskDecoratorTest() throws InterruptedException {
+            // given
+            final AtomicReference<Thread> decoratingThread = new AtomicReference<>();
+            final AtomicReference<BoundedVirtualThreadExecutor> holder = new AtomicReference<>();
+            final AtomicInteger activeInTask = new AtomicInteger(-1);
+            final CountDownLatch executed = new CountDownLatch(1);
+            holder.set(new BoundedVirtualThreadExecutor(threadExecutor, 1, 0, runnable -> {
+                decoratingThread.set(Thread.currentThread());
+                return () -> {
+                    activeInTask.set(holder.get().getActiveCount());
+                    runnable.run();
+                };
+            }));
+
+            // when
+            holder.get().execute(executed::countDown);
+
+            // then - 제출 thread 에서 decorator 적용, permit 을 얻은 뒤 실행
+            Assertions.assertTrue(executed.await(5, TimeUnit.SECONDS));
+            Assertions.assertSame(Thread.currentThread(), decoratingThread.get());
+            Assertions.assertEquals(1, activeInTask.get());
+        }
+
+        @Test
+        @DisplayName("execute test - thread 생성 실패")
+        void threadExecutorFailureTest() {
+            // given
+            final Executor mockExecutor = mock(Executor.class);
+            doThrow(new TaskRejectedException("thread failure")).when(mockExecutor).execute(any());
+            final BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(mockExecutor, 1, 0);
+
+            // when, then
+            Assertions.assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+            Assertions.assertEquals(0, executor.getPendingCount());
+        }
+
+        @Test
+        @DisplayName("execute test - permit 대기중 interrupt 되면 실행하지 않음")
+        void interruptTest() throws InterruptedException {
+            // given - 대기중인 작업의 thread 를 확인하기 위해 thread 를 기록
+            final AtomicInteger executed = new AtomicInteger();
+            final Thread[] waitingThread = new Thread[1];
+            final Executor recordingExecutor = task -> {
+                final Thread thread = new Thread(task);
+                waitingThread[0] = thread;
+                thread.start();
+            };
+            final BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(recordingExecutor, 1, 1);
+            final CountDownLatch release = new CountDownLatch(1);
+            executor.execute(() -> await(release));
+            waitUntil(() -> executor.getActiveCount() == 1);
+            executor.execute(executed::incrementAndGet);
+
+            // when
+            waitUntil(() -> waitingThread[0].getState() == Thread.State.WAITING);
+            waitingThread[0].interrupt();
+            waitingThread[0].join(5000L);
+
+            // then
+            Assertions.assertEquals(0, executed.get());
+            Assertions.assertEquals(1, executor.getPendingCount());
+            release.countDown();
+            waitUntil(() -> executor.getPendingCount() == 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("ConstructorTests")
+    class ConstructorTests {
+        @ParameterizedTest
+        @CsvSource({
+                "0, 0",     // 실행 가능한 작업 없음
+                "1, -1",    // 잘못된 queue 크기
+        })
+        @DisplayName("constructor test - 잘못된 제한 값")
+        void invalidLimitTest(final int maxConcurrency, final int queueCapacity) {
+            // when, then
+            Assertions.assertThrows(IllegalArgumentException.class,
+                                    () -> new BoundedVirtualThreadExecutor(threadExecutor, maxConcurrency,
+                                                                           queueCapacity));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.kelly.base.common.async;
+
+import com.kelly.base.common.i18n.I18nContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+@DisplayName("ContextPropagatingTaskDecoratorTests")
+class ContextPropagatingTaskDecoratorTests {
+    private ContextPropagatingTaskDecorator taskDecorator;
+
+    @BeforeEach
+    void init() {
+        taskDecorator = new ContextPropagatingTaskDecorator();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        I18nContext.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    private static void runInThread(final Runnable runnable) throws InterruptedException {
+        final Thread thread = new Thread(runnable);
+        thread.start();
+        thread.join(5000L);
+    }
+
+    @Test
+    @DisplayName("decorate test - 제출한 thread 의 MDC / I18nContext / SecurityContext 전달")
+    void propagateTest() throws InterruptedException {
+        // given
+        MDC.put("traceId", "trace-1");
+        I18nContext.setLanguage("ko");
+        I18nContext.setRegulator("fda");
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("user-1", "password", "ROLE_USER")
+        );
+        final AtomicReference<String> userId = new AtomicReference<>();
+        final AtomicReference<String> traceId = new AtomicReference<>();
+        final AtomicReference<String> language = new AtomicReference<>();
+        final AtomicReference<String> regulator = new AtomicReference<>();
+        final Runnable decorated = taskDecorator.decorate(() -> {
+            traceId.set(MDC.get("traceId"));
+            language.set(I18nContext.getLanguage());
+            regulator.set(I18nContext.getRegulator());
+            userId.set(SecurityContextHolder.getContext().getAuthentication().getName());
+        });
+
+        // when - 제출 이후 변경된 값은 전달되지 않음
+        MDC.put("traceId", "trace-2");
+        I18nContext.setLanguage("en");
+        runInThread(decorated);
+
+        // then
+        Assertions.assertEquals("trace-1", traceId.get());
+        Assertions.assertEquals("ko", language.get());
+        Assertions.assertEquals("fda", regulator.get());
+        Assertions.assertEquals("user-1", userId.get());
+    }
+}
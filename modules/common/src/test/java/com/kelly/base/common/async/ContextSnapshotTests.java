@@ -0,0 +1,199 @@
+package com.kelly.base.common.async;
+
+import com.kelly.base.common.i18n.I18nContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@DisplayName("ContextSnapshotTests")
+class ContextSnapshotTests {
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        I18nContext.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    private static Authentication login(final String userId) {
+        final Authentication authentication = new TestingAuthenticationToken(userId, "password", "ROLE_USER");
+        final SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(authentication);
+        SecurityContextHolder.setContext(securityContext);
+        return authentication;
+    }
+
+    private static void runInThread(final Runnable runnable) throws InterruptedException {
+        final Thread thread = new Thread(runnable);
+        thread.start();
+        thread.join(5000L);
+    }
+
+    @Nested
+    @DisplayName("CaptureTests")
+    class CaptureTests {
+        @Test
+        @DisplayName("capture test - 설정된 context 가 없는 경우")
+        void captureEmptyTest() {
+            // when
+            final ContextSnapshot snapshot = ContextSnapshot.capture();
+
+            // then - 인증 정보가 없는 security context 도 전달하지 않음
+            Assertions.assertSame(ContextSnapshot.EMPTY, snapshot);
+            Assertions.assertNull(snapshot.mdc());
+            Assertions.assertNull(snapshot.securityContext());
+        }
+
+        @Test
+        @DisplayName("capture test - MDC / I18nContext / SecurityContext 복사")
+        void captureTest() {
+            // given
+            MDC.put("traceId", "trace-1");
+            I18nContext.setLanguage("ko");
+            I18nContext.setRegulator("fda");
+            final Authentication authentication = login("user-1");
+
+            // when
+            final ContextSnapshot snapshot = ContextSnapshot.capture();
+            MDC.put("traceId", "trace-2");
+
+            // then - capture 이후 변경된 값은 반영되지 않음
+            Assertions.assertEquals(Map.of("traceId", "trace-1"), snapshot.mdc());
+            Assertions.assertEquals("ko", snapshot.language());
+            Assertions.assertEquals("fda", snapshot.regulator());
+            Assertions.assertSame(authentication, snapshot.securityContext().getAuthentication());
+        }
+
+        @Test
+        @DisplayName("capture test - 일부 context 만 설정된 경우")
+        void capturePartialTest() {
+            // given
+            I18nContext.setRegulator("fda");
+
+            // when
+            final ContextSnapshot snapshot = ContextSnapshot.capture();
+
+            // then
+            Assertions.assertNotSame(ContextSnapshot.EMPTY, snapshot);
+            Assertions.assertNull(snapshot.language());
+            Assertions.assertEquals("fda", snapshot.regulator());
+        }
+
+        @Test
+        @DisplayName("constructor test - MDC 값은 변경 불가 / 빈 MDC 는 null")
+        void immutableTest() {
+            // given
+            final Map<String, String> mdc = new HashMap<>(Map.of("traceId", "trace-1"));
+
+            // when
+            final ContextSnapshot snapshot = new ContextSnapshot(mdc, null, null, null);
+
+            // then
+            Assertions.assertThrows(UnsupportedOperationException.class, () -> snapshot.mdc().put("key", "value"));
+            Assertions.assertNull(new ContextSnapshot(Map.of(), null, null, null).mdc());
+        }
+    }
+
+    @Nested
+    @DisplayName("AttachTests")
+    class AttachTests {
+        @Test
+        @DisplayName("attach test - 다른 thread 에 context 설정 후 정리")
+        void attachTest() throws InterruptedException {
+            // given
+            MDC.put("traceId", "trace-1");
+            I18nContext.setLanguage("ko");
+            final Authentication authentication = login("user-1");
+            final ContextSnapshot snapshot = ContextSnapshot.capture();
+            final AtomicReference<ContextSnapshot> attached = new AtomicReference<>();
+            final AtomicReference<ContextSnapshot> restored = new AtomicReference<>();
+
+            // when
+            runInThread(() -> {
+                try (ContextSnapshot.Scope ignored = snapshot.attach()) {
+                    attached.set(ContextSnapshot.capture());
+                }
+                restored.set(ContextSnapshot.capture());
+            });
+
+            // then
+            Assertions.assertEquals("trace-1", attached.get().mdc().get("traceId"));
+            Assertions.assertEquals("ko", attached.get().language());
+            Assertions.assertSame(authentication, attached.get().securityContext().getAuthentication());
+            Assertions.assertSame(ContextSnapshot.EMPTY, restored.get());
+        }
+
+        @Test
+        @DisplayName("attach test - 같은 thread 에서 실행시 이전 context 복원")
+        void restoreTest() {
+            // given - context 가 없는 상태의 snapshot
+            final ContextSnapshot snapshot = ContextSnapshot.capture();
+            MDC.put("traceId", "trace-1");
+            I18nContext.setLanguage("ko");
+            final Authentication authentication = login("user-1");
+            final AtomicReference<ContextSnapshot> attached = new AtomicReference<>();
+
+            // when - caller runs 처럼 현재 thread 에서 실행
+            snapshot.wrap(() -> attached.set(ContextSnapshot.capture())).run();
+
+            // then - 작업에는 빈 context, 실행 이후 현재 thread 의 context 복원
+            Assertions.assertSame(ContextSnapshot.EMPTY, attached.get());
+            Assertions.assertEquals("trace-1", MDC.get("traceId"));
+            Assertions.assertEquals("ko", I18nContext.getLanguage());
+            Assertions.assertSame(authentication, SecurityContextHolder.getContext().getAuthentication());
+        }
+
+        @Test
+        @DisplayName("wrap test - 작업이 실패해도 context 정리")
+        void wrapFailureTest() throws InterruptedException {
+            // given
+            I18nContext.setLanguage("ko");
+            final Runnable wrapped = ContextSnapshot.capture().wrap(() -> {
+                throw new IllegalStateException("task failure");
+            });
+            final AtomicReference<ContextSnapshot> restored = new AtomicReference<>();
+
+            // when
+            runInThread(() -> {
+                try {
+                    wrapped.run();
+                } catch (IllegalStateException ignored) {
+                    // 작업 실패
+                }
+                restored.set(ContextSnapshot.capture());
+            });
+
+            // then
+            Assertions.assertSame(ContextSnapshot.EMPTY, restored.get());
+        }
+
+        @Test
+        @DisplayName("wrap test - CompletableFuture 에서 결과 반환")
+        void wrapSupplierTest() throws Exception {
+            // given
+            I18nContext.setLanguage("ko");
+            login("user-1");
+
+            // when
+            final String result = CompletableFuture.supplyAsync(ContextSnapshot.capture().wrap(
+                    () -> I18nContext.getLanguage() + ":"
+                            + SecurityContextHolder.getContext().getAuthentication().getName()
+            )).get(5, TimeUnit.SECONDS);
+
+            // then
+            Assertions.assertEquals("ko:user-1", result);
+        }
+    }
+}
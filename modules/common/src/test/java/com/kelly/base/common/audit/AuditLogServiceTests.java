@@ -6,8 +6,10 @@ import ch.qos.logback.core.read.ListAppender;
 import com.kelly.base.common.audit.dto.AuditEventType;
 import com.kelly.base.common.audit.dto.AuditLogFormat;
 import com.kelly.base.common.audit.provider.DefaultAuditContextProvider;
+import com.kelly.base.common.audit.writer.LogbackAuditLogWriter;
 import com.kelly.base.common.config.CommonPropertiesConfig;
 import com.kelly.base.common.exception.CommonException;
+import com.kelly.base.common.interfaces.IAuditLogWriter;
 import com.kelly.base.common.utils.DateTimeUtil;
 import com.kelly.base.common.utils.JsonUtil;
 import org.junit.jupiter.api.AfterEach;
@@ -39,7 +41,9 @@ class AuditLogServiceTests {
         when(mockPropertiesConfig.getApplicationVersion()).thenReturn("1.0.0");
 
         // AuditLogService 초기화
-        auditLogService = new AuditLogService(mockPropertiesConfig, new DefaultAuditContextProvider());
+        auditLogService = new AuditLogService(
+                mockPropertiesConfig, new DefaultAuditContextProvider(), new LogbackAuditLogWriter()
+        );
 
         // log 수집을 위한 ListAppender 설정
         auditLogger = (Logger) LoggerFactory.getLogger("AUDIT_LOGGER");
@@ -265,4 +269,24 @@ class AuditLogServiceTests {
             Assertions.assertEquals("application shutdown initiated", auditLog.activityDetail().get("message"));
         }
     }
+
+    @Nested
+    @DisplayName("DrainTests")
+    class DrainTests {
+        @Test
+        @DisplayName("drain test - writer 종료")
+        void drainTest() {
+            // given
+            final IAuditLogWriter mockAuditLogWriter = mock(IAuditLogWriter.class);
+            final AuditLogService localAuditLogService = new AuditLogService(
+                    mock(CommonPropertiesConfig.class), new DefaultAuditContextProvider(), mockAuditLogWriter
+            );
+
+            // when
+            Assertions.assertDoesNotThrow(localAuditLogService::drain);
+
+            // then - writer 의 close 가 1번 호출되는지 확인
+            verify(mockAuditLogWriter, times(1)).close();
+        }
+    }
 }
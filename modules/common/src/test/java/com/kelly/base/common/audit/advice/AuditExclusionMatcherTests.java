@@ -0,0 +1,103 @@
+package com.kelly.base.common.audit.advice;
+
+import com.kelly.base.common.audit.AuditProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+@DisplayName("AuditExclusionMatcherTests")
+class AuditExclusionMatcherTests {
+    private AuditExclusionMatcher matcher;
+
+    @BeforeEach
+    void init() {
+        matcher = new AuditExclusionMatcher(new AuditProperties());     // 기본 제외 pattern 사용
+    }
+
+    private MockHttpServletRequest createRequest(final String uri, final String handlerPattern) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (handlerPattern != null) {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, handlerPattern);
+        }
+        return request;
+    }
+
+    @Nested
+    @DisplayName("IsExcludedTests")
+    class IsExcludedTests {
+        @ParameterizedTest
+        @CsvSource({
+                "/swagger-ui/index.html, true",
+                "/v3/api-docs, true",
+                "/v3/api-docs/swagger-config, true",
+                "/actuator/health, true",
+                "/api/test, false",
+                "/actuator-like/test, false",
+        })
+        @DisplayName("isExcluded test - handler pattern 정보가 없는 경우 uri 로 확인")
+        void isExcludedByUriTest(final String uri, final boolean expected) {
+            // when, then
+            Assertions.assertEquals(expected, matcher.isExcluded(createRequest(uri, null)));
+        }
+
+        @Test
+        @DisplayName("isExcluded test - context path 는 제외하고 확인")
+        void isExcludedWithContextPathTest() {
+            // given
+            final MockHttpServletRequest request = createRequest("/base/actuator/health", null);
+            request.setContextPath("/base");
+
+            // when, then
+            Assertions.assertTrue(matcher.isExcluded(request));
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                // 변수 / wildcard 가 없는 handler pattern
+                "/api/test, /api/test, false",
+                "/v3/api-docs, /v3/api-docs, true",
+                // 고정된 앞부분이 제외 pattern 에 포함되는 handler pattern
+                "/actuator/health, /actuator/{name}, true",
+                // 고정된 앞부분이 제외 pattern 과 겹치지 않는 handler pattern
+                "/api/accounts/1, /api/accounts/{id}, false",
+                // 고정된 앞부분이 겹치는 경우 uri 로 확인
+                "/v3/api-docs, /v3/{group}, true",
+                "/v3/other, /v3/{group}, false",
+        })
+        @DisplayName("isExcluded test - handler pattern 으로 확인")
+        void isExcludedByHandlerPatternTest(final String uri, final String handlerPattern, final boolean expected) {
+            // when, then
+            Assertions.assertEquals(expected, matcher.isExcluded(createRequest(uri, handlerPattern)));
+        }
+
+        @Test
+        @DisplayName("isExcluded test - handler pattern 별 결과 재사용")
+        void isExcludedCacheTest() {
+            // given - "/api/test" pattern 은 제외 대상이 아닌 것으로 판단
+            Assertions.assertFalse(matcher.isExcluded(createRequest("/api/test", "/api/test")));
+
+            // when, then - 같은 handler pattern 은 uri 와 관계없이 판단된 결과 사용
+            Assertions.assertFalse(matcher.isExcluded(createRequest("/actuator/health", "/api/test")));
+        }
+
+        @Test
+        @DisplayName("isExcluded test - 제외 pattern 이 없는 경우")
+        void isExcludedEmptyPatternsTest() {
+            // given
+            final AuditProperties auditProperties = new AuditProperties();
+            auditProperties.setExcludedUriPatterns(List.of());
+            final AuditExclusionMatcher emptyMatcher = new AuditExclusionMatcher(auditProperties);
+
+            // when, then
+            Assertions.assertFalse(emptyMatcher.isExcluded(createRequest("/actuator/health", null)));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.kelly.base.common.audit.advice;
+
+import com.kelly.base.common.audit.annotation.NoAudit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("AuditHandlerRegistryTests")
+class AuditHandlerRegistryTests {
+    // test 용 controller
+    static class TestController {
+        public void auditMethod() { /* implementation is not required */ }
+
+        @NoAudit
+        public void noAuditMethod() { /* implementation is not required */ }
+    }
+
+    // test 용 controller - class NoAudit
+    @NoAudit
+    static class NoAuditTestController {
+        public void innerMethod() { /* implementation is not required */ }
+    }
+
+    private MethodParameter returnType(final Method method) {
+        return new MethodParameter(method, -1);
+    }
+
+    @Nested
+    @DisplayName("IsAuditableTests")
+    class IsAuditableTests {
+        @Test
+        @DisplayName("isAuditable test - 시작 시점에 등록된 handler method")
+        @SuppressWarnings("unchecked")  // 테스트 코드 이므로 warning 단순 제거
+        void isAuditableRegisteredTest() throws NoSuchMethodException {
+            // given - handler mapping 에 등록된 handler method
+            final TestController controller = new TestController();
+            final Method auditMethod = TestController.class.getMethod("auditMethod");
+            final Method noAuditMethod = TestController.class.getMethod("noAuditMethod");
+
+            final RequestMappingHandlerMapping handlerMapping = mock(RequestMappingHandlerMapping.class);
+            when(handlerMapping.getHandlerMethods()).thenReturn(Map.of(
+                    RequestMappingInfo.paths("/audit").build(), new HandlerMethod(controller, auditMethod),
+                    RequestMappingInfo.paths("/no-audit").build(), new HandlerMethod(controller, noAuditMethod)
+            ));
+            final ObjectProvider<RequestMappingHandlerMapping> handlerMappings = mock(ObjectProvider.class);
+            when(handlerMappings.orderedStream()).thenReturn(Stream.of(handlerMapping));
+
+            final AuditHandlerRegistry registry = new AuditHandlerRegistry(handlerMappings);
+
+            // when
+            registry.afterSingletonsInstantiated();
+
+            // then
+            Assertions.assertTrue(registry.isAuditable(returnType(auditMethod)));
+            Assertions.assertFalse(registry.isAuditable(returnType(noAuditMethod)));
+        }
+
+        @Test
+        @DisplayName("isAuditable test - 등록되지 않은 handler method")
+        @SuppressWarnings("unchecked")  // 테스트 코드 이므로 warning 단순 제거
+        void isAuditableNotRegisteredTest() throws NoSuchMethodException {
+            // given
+            final AuditHandlerRegistry registry = new AuditHandlerRegistry(mock(ObjectProvider.class));
+
+            // when, then - class 의 @NoAudit 도 확인
+            Assertions.assertTrue(registry.isAuditable(returnType(TestController.class.getMethod("auditMethod"))));
+            Assertions.assertFalse(registry.isAuditable(returnType(TestController.class.getMethod("noAuditMethod"))));
+            Assertions.assertFalse(
+                    registry.isAuditable(returnType(NoAuditTestController.class.getMethod("innerMethod")))
+            );
+        }
+    }
+}
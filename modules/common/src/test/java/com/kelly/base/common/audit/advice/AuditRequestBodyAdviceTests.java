@@ -1,11 +1,15 @@
 package com.kelly.base.common.audit.advice;
 
+import com.kelly.base.common.audit.annotation.NoAudit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
@@ -13,6 +17,7 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 
 import static com.kelly.base.common.CommonConstants.AuditConstants.ATTR_AUDIT_REQ_BODY;
@@ -28,7 +33,7 @@ class AuditRequestBodyAdviceTests {
     void init() {
         servletRequest = new MockHttpServletRequest();
         final ServletRequestAttributes requestAttributes = new ServletRequestAttributes(servletRequest);
-        auditRequestBodyAdvice = new AuditRequestBodyAdvice();
+        auditRequestBodyAdvice = new AuditRequestBodyAdvice(new AuditHandlerRegistry(mock(ObjectProvider.class)));
 
         // RequestContextHolder 설정
         RequestContextHolder.setRequestAttributes(requestAttributes);
@@ -40,22 +45,37 @@ class AuditRequestBodyAdviceTests {
         RequestContextHolder.resetRequestAttributes();
     }
 
+    // test 용 controller
+    static class TestController {
+        public void auditMethod(final String body) { /* implementation is not required */ }
+
+        @NoAudit
+        public void noAuditMethod(final String body) { /* implementation is not required */ }
+    }
+
     @Nested
     @DisplayName("SupportsTests")
     class SupportsTests {
-        @Test
-        @DisplayName("supports test")
-        void supportsTest() {
+        @ParameterizedTest
+        @CsvSource({
+                "auditMethod, true",
+                "noAuditMethod, false",
+        })
+        @DisplayName("supports test - @NoAudit 인 경우 request body 저장 제외")
+        void supportsTest(final String methodName, final boolean expectedResult) throws NoSuchMethodException {
+            // given
+            final Method method = TestController.class.getMethod(methodName, String.class);
+            final MethodParameter methodParameter = new MethodParameter(method, 0);
+
             // when
             final Boolean result = Assertions.assertDoesNotThrow(
                     () -> auditRequestBodyAdvice.supports(
-                            mock(MethodParameter.class), mock(Type.class),
-                            JacksonJsonHttpMessageConverter.class
+                            methodParameter, String.class, JacksonJsonHttpMessageConverter.class
                     )
             );
 
-            // then - 항상 true 반환
-            Assertions.assertEquals(Boolean.TRUE, result);
+            // then
+            Assertions.assertEquals(expectedResult, result);
         }
     }
 
@@ -1,7 +1,11 @@
 package com.kelly.base.common.audit.advice;
 
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.kelly.base.common.audit.AuditLogService;
+import com.kelly.base.common.audit.AuditProperties;
+import com.kelly.base.common.audit.annotation.AuditCapture;
 import com.kelly.base.common.audit.annotation.NoAudit;
+import com.kelly.base.common.audit.capture.AuditPayloadCapturer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
@@ -22,6 +27,7 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Map;
 
 import static com.kelly.base.common.CommonConstants.AuditConstants.*;
@@ -43,7 +49,10 @@ class AuditResponseBodyAdviceTests {
 
         // mocking 된 객체들로 초기화
         mockAuditLogService = mock(AuditLogService.class);
-        auditResponseBodyAdvice = new AuditResponseBodyAdvice(mockAuditLogService);
+        auditResponseBodyAdvice = new AuditResponseBodyAdvice(
+                mockAuditLogService, new AuditPayloadCapturer(new AuditProperties()),
+                new AuditExclusionMatcher(new AuditProperties()), new AuditHandlerRegistry(mock(ObjectProvider.class))
+        );
 
         // RequestContextHolder 설정
         RequestContextHolder.setRequestAttributes(requestAttributes);
@@ -61,6 +70,12 @@ class AuditResponseBodyAdviceTests {
 
         @NoAudit
         public void noAuditMethod() { /* implementation is not required */ }
+
+        @AuditCapture(maxElements = 2)
+        public void captureMethod() { /* implementation is not required */ }
+
+        @AuditCapture(response = false)
+        public void noResponseMethod() { /* implementation is not required */ }
     }
 
     // test 용 controller - class NoAudit
@@ -212,5 +227,74 @@ class AuditResponseBodyAdviceTests {
             Assertions.assertEquals(requestBody, detail.get(DETAIL_KEY_REQ_BODY));
             Assertions.assertEquals(responseBody, detail.get(DETAIL_KEY_RESP_BODY));
         }
+
+        @Test
+        @DisplayName("beforeBodyWrite test - capture 가 활성화된 경우")
+        void beforeBodyWriteCaptureTest() throws NoSuchMethodException {
+            // given
+            final AuditProperties auditProperties = new AuditProperties();
+            auditProperties.getCapture().setEnabled(true);
+            final AuditResponseBodyAdvice captureAdvice = new AuditResponseBodyAdvice(
+                    mockAuditLogService, new AuditPayloadCapturer(auditProperties),
+                    new AuditExclusionMatcher(auditProperties), new AuditHandlerRegistry(mock(ObjectProvider.class))
+            );
+            servletRequest.setMethod("POST");
+            servletRequest.setRequestURI("/api/test");
+            servletRequest.setAttribute(ATTR_AUDIT_REQ_BODY, Map.of("loginId", "user01"));
+            final List<Integer> responseBody = List.of(1, 2, 3, 4);
+
+            final Method method = TestController.class.getMethod("captureMethod");
+            final MethodParameter methodParameter = new MethodParameter(method, -1);
+
+            // when
+            final Object result = captureAdvice.beforeBodyWrite(
+                    responseBody, methodParameter, MediaType.APPLICATION_JSON, JsonbHttpMessageConverter.class,
+                    new ServletServerHttpRequest(servletRequest), mock(ServerHttpResponse.class)
+            );
+
+            // then - body 는 그대로 반환되고, audit log 에는 직렬화된 payload 전달
+            Assertions.assertSame(responseBody, result);
+
+            @SuppressWarnings("unchecked")  // 테스트 코드 이므로 warning 단순 제거
+            ArgumentCaptor<Map<String, Object>> detailCaptor = ArgumentCaptor.forClass(Map.class);
+            verify(mockAuditLogService).logApiCall(anyString(), anyString(), detailCaptor.capture());
+
+            final Map<String, Object> detail = detailCaptor.getValue();
+            Assertions.assertEquals(new RawValue("{\"loginId\":\"user01\"}"), detail.get(DETAIL_KEY_REQ_BODY));
+            Assertions.assertEquals(new RawValue("[1,2]"), detail.get(DETAIL_KEY_RESP_BODY));
+        }
+
+        @ParameterizedTest
+        @CsvSource({ "true", "false" })
+        @DisplayName("beforeBodyWrite test - response 기록 제외")
+        void beforeBodyWriteNoResponseTest(final boolean captureEnabled) throws NoSuchMethodException {
+            // given
+            final AuditProperties auditProperties = new AuditProperties();
+            auditProperties.getCapture().setEnabled(captureEnabled);
+            final AuditResponseBodyAdvice captureAdvice = new AuditResponseBodyAdvice(
+                    mockAuditLogService, new AuditPayloadCapturer(auditProperties),
+                    new AuditExclusionMatcher(auditProperties), new AuditHandlerRegistry(mock(ObjectProvider.class))
+            );
+            setRequest("GET", "/api/system/audit", "192.168.1.119", "limit=10", null);
+
+            final Method method = TestController.class.getMethod("noResponseMethod");
+            final MethodParameter methodParameter = new MethodParameter(method, -1);
+
+            // when
+            captureAdvice.beforeBodyWrite(
+                    List.of(Map.of("Activity", "GET /api/test")), methodParameter, MediaType.APPLICATION_JSON,
+                    JsonbHttpMessageConverter.class, new ServletServerHttpRequest(servletRequest),
+                    mock(ServerHttpResponse.class)
+            );
+
+            // then - 호출 기록은 남고 response payload 는 제외
+            @SuppressWarnings("unchecked")  // 테스트 코드 이므로 warning 단순 제거
+            ArgumentCaptor<Map<String, Object>> detailCaptor = ArgumentCaptor.forClass(Map.class);
+            verify(mockAuditLogService).logApiCall(anyString(), anyString(), detailCaptor.capture());
+
+            final Map<String, Object> detail = detailCaptor.getValue();
+            Assertions.assertEquals("limit=10", detail.get(DETAIL_KEY_QUERY));
+            Assertions.assertFalse(detail.containsKey(DETAIL_KEY_RESP_BODY));
+        }
     }
 }
@@ -0,0 +1,309 @@
+package com.kelly.base.common.audit.capture;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.kelly.base.common.audit.AuditProperties;
+import com.kelly.base.common.audit.annotation.AuditCapture;
+import com.kelly.base.common.exception.CommonException;
+import com.kelly.base.common.response.PagedResult;
+import com.kelly.base.common.utils.JsonUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+@DisplayName("AuditPayloadCapturerTests")
+class AuditPayloadCapturerTests {
+    private AuditProperties auditProperties;
+
+    private AuditPayloadCapturer capturer;
+
+    @BeforeEach
+    void init() {
+        auditProperties = new AuditProperties();
+        auditProperties.getCapture().setEnabled(true);
+        capturer = new AuditPayloadCapturer(auditProperties);
+    }
+
+    private AuditCaptureBudget budget(final int maxBytes, final int maxElements, final Set<String> includeFields,
+                                      final Set<String> excludeFields) {
+        return new AuditCaptureBudget(maxBytes, maxElements, includeFields, excludeFields);
+    }
+
+    private MethodParameter handlerType(final Class<?> controller, final String methodName)
+            throws NoSuchMethodException {
+        return new MethodParameter(controller.getMethod(methodName), -1);
+    }
+
+    // test 용 controller
+    static class TestController {
+        public void defaultMethod() { /* implementation is not required */ }
+
+        @AuditCapture(maxBytes = 128, includeFields = "id")
+        public void captureMethod() { /* implementation is not required */ }
+    }
+
+    // test 용 controller - class AuditCapture
+    @AuditCapture(maxElements = 3, excludeFields = { "memo", "password" })
+    static class CaptureTestController {
+        public void innerMethod() { /* implementation is not required */ }
+    }
+
+    // 직렬화 실패 test 용 객체
+    static class BrokenPayload {
+        public String getValue() {
+            throw new IllegalStateException("broken");
+        }
+    }
+
+    // 직렬화 횟수 확인용 element
+    static class CountingElement {
+        private final AtomicInteger serialized;
+
+        CountingElement(final AtomicInteger serialized) {
+            this.serialized = serialized;
+        }
+
+        public int getId() {
+            return serialized.incrementAndGet();
+        }
+    }
+
+    // 배열 / collection 종류별 test 용 객체
+    static class ContainerPayload {
+        @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+        public Object items = new ArrayList<>(List.of("a", "b", "c"));
+
+        public String[] names = { "a", "b", "c" };
+
+        public Set<Integer> ids = new LinkedHashSet<>(List.of(1, 2, 3));
+
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        public List<String> empty = List.of();
+    }
+
+    @Nested
+    @DisplayName("CaptureTests")
+    class CaptureTests {
+        @Test
+        @DisplayName("capture test - 비활성화된 경우 payload 그대로 반환")
+        void captureDisabledTest() throws NoSuchMethodException {
+            // given
+            final AuditPayloadCapturer disabledCapturer = new AuditPayloadCapturer(new AuditProperties());
+            final Map<String, Object> payload = Map.of("id", 1);
+
+            // when
+            final Object result = disabledCapturer.capture(payload, handlerType(TestController.class, "defaultMethod"));
+
+            // then
+            Assertions.assertSame(payload, result);
+        }
+
+        @Test
+        @DisplayName("capture test - payload 가 null 인 경우")
+        void captureNullTest() throws NoSuchMethodException {
+            // when, then
+            Assertions.assertNull(capturer.capture(null, handlerType(TestController.class, "defaultMethod")));
+        }
+
+        @Test
+        @DisplayName("capture test - budget 이내인 경우 JsonUtil.convert 와 동일한 RawValue")
+        void captureWithinBudgetTest() throws NoSuchMethodException, CommonException {
+            // given - 초기 buffer 크기보다 큰 payload
+            final Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("id", 1);
+            payload.put("name", "a".repeat(2000));
+            payload.put("roles", List.of("ROLE_SITE_MANAGER", "ROLE_GENERAL_USER"));
+
+            // when
+            final Object result = capturer.capture(payload, handlerType(TestController.class, "defaultMethod"));
+
+            // then
+            Assertions.assertEquals(new RawValue(JsonUtil.convert(payload, false)), result);
+        }
+
+        @Test
+        @DisplayName("capture test - 배열 element 개수 제한")
+        void captureMaxElementsTest() {
+            // given
+            final Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("content", List.of(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7, 8, 9)));
+            payload.put("totalElements", 3);
+
+            // when
+            final Object result = capturer.capture(payload, budget(1024, 2, Set.of(), Set.of()));
+
+            // then - 중첩된 배열에도 각각 적용
+            Assertions.assertEquals(new RawValue("{\"content\":[[1,2],[4,5]],\"totalElements\":3}"), result);
+        }
+
+        @Test
+        @DisplayName("capture test - 개수 제한을 넘는 element 는 직렬화하지 않음")
+        void captureMaxElementsSerializationTest() {
+            // given - 10,000 건의 page
+            final AtomicInteger serialized = new AtomicInteger();
+            final List<CountingElement> content = IntStream.range(0, 10_000)
+                                                           .mapToObj(i -> new CountingElement(serialized))
+                                                           .toList();
+            final PagedResult<CountingElement> payload = new PagedResult<>(content, 10_000L, 100, 0, 100, true, false);
+
+            // when
+            final Object result = capturer.capture(payload, budget(16 * 1024, 2, Set.of(), Set.of()));
+
+            // then - 제한 이후의 element 는 serializer 가 호출되지 않음
+            Assertions.assertEquals(2, serialized.get());
+            final String json = Assertions.assertInstanceOf(RawValue.class, result).rawValue().toString();
+            Assertions.assertTrue(json.startsWith("{\"content\":[{\"id\":1},{\"id\":2}],\"totalElements\":10000"));
+        }
+
+        @Test
+        @DisplayName("capture test - 배열 / collection 종류별 element 개수 제한")
+        void captureMaxElementsContainerTest() {
+            // when
+            final Object result = capturer.capture(new ContainerPayload(), budget(1024, 2, Set.of(), Set.of()));
+
+            // then - type 정보가 있는 List, 객체 배열, Set ( 출력만 제외 ) 모두 적용
+            final String json = Assertions.assertInstanceOf(RawValue.class, result).rawValue().toString();
+            Assertions.assertTrue(json.startsWith("{\"items\":[\""));
+            Assertions.assertTrue(json.endsWith(",[\"a\",\"b\"]],\"names\":[\"a\",\"b\"],\"ids\":[1,2]}"));
+        }
+
+        @Test
+        @DisplayName("capture test - field include / exclude")
+        void captureFieldsTest() {
+            // given
+            final Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("id", 1);
+            payload.put("loginId", "user01");
+            payload.put("password", "secret");
+
+            // when
+            final Object excluded = capturer.capture(payload, budget(1024, 10, Set.of(), Set.of("password")));
+            final Object included = capturer.capture(payload, budget(1024, 10, Set.of("id", "password"),
+                                                                      Set.of("password")));
+
+            // then - exclude 가 include 보다 우선
+            Assertions.assertEquals(new RawValue("{\"id\":1,\"loginId\":\"user01\"}"), excluded);
+            Assertions.assertEquals(new RawValue("{\"id\":1}"), included);
+        }
+
+        @Test
+        @DisplayName("capture test - 큰 배열은 budget 초과시 직렬화 중단")
+        void captureTruncatedArrayTest() {
+            // given
+            final List<String> payload = IntStream.range(0, 10_000).mapToObj(i -> "element-" + i).toList();
+
+            // when
+            final Object result = capturer.capture(payload, budget(64, 100_000, Set.of(), Set.of()));
+
+            // then - 앞부분만 preview 로 저장
+            final Map<?, ?> truncated = Assertions.assertInstanceOf(Map.class, result);
+            Assertions.assertEquals(true, truncated.get(AuditPayloadCapturer.KEY_TRUNCATED));
+            Assertions.assertEquals(64, truncated.get(AuditPayloadCapturer.KEY_MAX_BYTES));
+            final String preview = (String) truncated.get(AuditPayloadCapturer.KEY_PREVIEW);
+            Assertions.assertTrue(preview.startsWith("[\"element-0\",\"element-1\""));
+            Assertions.assertTrue(preview.length() <= 64);
+        }
+
+        @Test
+        @DisplayName("capture test - 단일 값이 budget 을 넘는 경우")
+        void captureTruncatedValueTest() {
+            // given
+            final String payload = "b".repeat(1000);
+
+            // when
+            final Object result = capturer.capture(payload, budget(16, 10, Set.of(), Set.of()));
+
+            // then
+            final Map<?, ?> truncated = Assertions.assertInstanceOf(Map.class, result);
+            Assertions.assertEquals("\"" + "b".repeat(15), truncated.get(AuditPayloadCapturer.KEY_PREVIEW));
+        }
+
+        @Test
+        @DisplayName("capture test - 직렬화에 실패한 경우")
+        void captureErrorTest() {
+            // when
+            final Object result = capturer.capture(new BrokenPayload(), budget(1024, 10, Set.of(), Set.of()));
+
+            // then
+            final Map<?, ?> error = Assertions.assertInstanceOf(Map.class, result);
+            Assertions.assertTrue(error.containsKey(AuditPayloadCapturer.KEY_CAPTURE_ERROR));
+        }
+    }
+
+    @Nested
+    @DisplayName("ResolveBudgetTests")
+    class ResolveBudgetTests {
+        @Test
+        @DisplayName("resolveBudget test - annotation 이 없는 경우 설정값 사용")
+        void resolveDefaultBudgetTest() throws NoSuchMethodException {
+            // given
+            auditProperties.getCapture().setExcludeFields(List.of("password"));
+            final AuditPayloadCapturer propertiesCapturer = new AuditPayloadCapturer(auditProperties);
+
+            // when
+            final AuditCaptureBudget budget
+                    = propertiesCapturer.resolveBudget(handlerType(TestController.class, "defaultMethod"));
+
+            // then
+            Assertions.assertEquals(new AuditCaptureBudget(16 * 1024, 100, Set.of(), Set.of("password")), budget);
+        }
+
+        @Test
+        @DisplayName("resolveBudget test - method annotation")
+        void resolveMethodBudgetTest() throws NoSuchMethodException {
+            // when
+            final AuditCaptureBudget budget = capturer.resolveBudget(handlerType(TestController.class, "captureMethod"));
+
+            // then - 지정하지 않은 값은 설정값 사용 및 동일한 method 는 cache 사용
+            Assertions.assertEquals(new AuditCaptureBudget(128, 100, Set.of("id"), Set.of()), budget);
+            Assertions.assertSame(budget, capturer.resolveBudget(handlerType(TestController.class, "captureMethod")));
+        }
+
+        @Test
+        @DisplayName("resolveBudget test - class annotation")
+        void resolveClassBudgetTest() throws NoSuchMethodException {
+            // when
+            final AuditCaptureBudget budget
+                    = capturer.resolveBudget(handlerType(CaptureTestController.class, "innerMethod"));
+
+            // then
+            Assertions.assertEquals(
+                    new AuditCaptureBudget(16 * 1024, 3, Set.of(), Set.of("memo", "password")), budget
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("CaptureOutputStreamTests")
+    class CaptureOutputStreamTests {
+        @Test
+        @DisplayName("write test - maxBytes 를 넘으면 중단")
+        void writeExceededTest() {
+            // given
+            final AuditPayloadCapturer.CaptureOutputStream output = new AuditPayloadCapturer.CaptureOutputStream(2);
+
+            // when
+            output.write('a');
+            output.write('b');
+
+            // then
+            Assertions.assertThrows(RuntimeException.class, () -> output.write('c'));
+            Assertions.assertTrue(output.isExceeded());
+            Assertions.assertEquals(2, output.size());
+            Assertions.assertEquals("ab", output.toUtf8String());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import static org.mockito.Mockito.*;
 
@@ -45,6 +46,11 @@ class AppLifecycleListenerTests {
 
             // then - auditLogService.logSystemEventAppStart 가 1번 호출되는지 확인
             verify(mockAuditLogService, times(1)).logSystemEventAppShutdown();
+
+            // then - 종료 audit log 저장 이후 drain 이 1번 호출되는지 확인
+            final InOrder inOrder = inOrder(mockAuditLogService);
+            inOrder.verify(mockAuditLogService).logSystemEventAppShutdown();
+            inOrder.verify(mockAuditLogService).drain();
         }
     }
 }
@@ -0,0 +1,321 @@
+package com.kelly.base.common.audit.store;
+
+import com.kelly.base.common.audit.AuditProperties.ForcePolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AuditSegmentStoreTests")
+class AuditSegmentStoreTests {
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    @TempDir
+    private Path tempDir;
+
+    private AuditSegmentStore createStore(final int segmentSize, final int indexInterval, final long retentionMillis)
+            throws IOException {
+        return new AuditSegmentStore(tempDir, segmentSize, indexInterval, retentionMillis, ForcePolicy.SEAL, 0L, 4);
+    }
+
+    private byte[] toJson(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private long countSegmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".seg")).count();
+        }
+    }
+
+    @Nested
+    @DisplayName("AppendTests")
+    class AppendTests {
+        @Test
+        @DisplayName("append test - segment 가 가득 차면 새로운 segment 생성")
+        void appendRollTest() throws IOException {
+            // given - record 2개만 기록 가능한 segment
+            final long now = System.currentTimeMillis();
+            try (AuditSegmentStore store = createStore(32 + 2 * 21, 4, DAY_MILLIS)) {
+                // when
+                store.append(now, 1L, toJson("a"));
+                store.append(now + 1, 1L, toJson("b"));
+                store.append(now + 2, 1L, toJson("c"));
+
+                // then
+                Assertions.assertEquals(2, store.getSegmentCount());
+                Assertions.assertEquals(2, countSegmentFiles());
+                Assertions.assertEquals(List.of("a", "b", "c"), store.query(now, now + 2, null, 10));
+            }
+            Assertions.assertTrue(Files.exists(tempDir.resolve(AuditSegmentStore.toFileName(1))));
+        }
+
+        @Test
+        @DisplayName("append test - segment 보다 큰 record 인 경우")
+        void appendTooLargeTest() throws IOException {
+            // given
+            try (AuditSegmentStore store = createStore(64, 4, DAY_MILLIS)) {
+                // when, then
+                Assertions.assertThrows(
+                        IllegalArgumentException.class,
+                        () -> store.append(System.currentTimeMillis(), 1L, new byte[64])
+                );
+                Assertions.assertEquals(0, store.getSegmentCount());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("QueryTests")
+    class QueryTests {
+        @Test
+        @DisplayName("query test - 시간 범위 / accountId / limit 조건")
+        void queryTest() throws IOException {
+            // given
+            final long now = System.currentTimeMillis();
+            try (AuditSegmentStore store = createStore(32 + 3 * 21, 2, DAY_MILLIS)) {
+                for (int i = 0; i < 10; i++) {
+                    store.append(now + i, i % 2, toJson(String.valueOf(i)));
+                }
+
+                // when, then
+                Assertions.assertEquals(List.of("3", "4", "5"), store.query(now + 3, now + 5, null, 10));
+                Assertions.assertEquals(List.of("1", "3", "5", "7", "9"), store.query(now, now + 9, 1L, 10));
+                Assertions.assertEquals(List.of("0", "2"), store.query(now, now + 9, 0L, 2));
+                Assertions.assertEquals(List.of(), store.query(now, now + 9, 2L, 10));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("ReopenTests")
+    class ReopenTests {
+        @Test
+        @DisplayName("reopen test - 기존 segment 를 읽고 마지막 segment 에 이어서 기록")
+        void reopenTest() throws IOException {
+            // given
+            final long now = System.currentTimeMillis();
+            try (AuditSegmentStore store = createStore(32 + 2 * 21, 4, DAY_MILLIS)) {
+                store.append(now, 1L, toJson("a"));
+                store.append(now + 1, 1L, toJson("b"));
+                store.append(now + 2, 1L, toJson("c"));
+            }
+
+            // when
+            try (AuditSegmentStore store = createStore(32 + 2 * 21, 4, DAY_MILLIS)) {
+                store.append(now + 3, 2L, toJson("d"));
+                store.append(now + 4, 2L, toJson("e"));
+
+                // then - 마지막 segment 에 이어서 기록한 뒤 새로운 segment 생성
+                Assertions.assertEquals(3, store.getSegmentCount());
+                Assertions.assertEquals(List.of("a", "b", "c", "d", "e"), store.query(now, now + 4, null, 10));
+                Assertions.assertEquals(List.of("d", "e"), store.query(now, now + 4, 2L, 10));
+            }
+        }
+
+        @Test
+        @DisplayName("reopen test - 올바르지 않은 segment 파일은 제외")
+        void reopenInvalidFileTest() throws IOException {
+            // given
+            Files.writeString(tempDir.resolve(AuditSegmentStore.toFileName(3)), "invalid");
+            Files.writeString(tempDir.resolve("audit-invalid.seg"), "invalid");
+            Files.writeString(tempDir.resolve("other.txt"), "ignored");
+
+            // when
+            try (AuditSegmentStore store = createStore(1024, 4, DAY_MILLIS)) {
+                store.append(System.currentTimeMillis(), 1L, toJson("a"));
+
+                // then - 기존 파일과 겹치지 않는 sequence 로 생성
+                Assertions.assertEquals(1, store.getSegmentCount());
+            }
+            Assertions.assertTrue(Files.exists(tempDir.resolve(AuditSegmentStore.toFileName(4))));
+        }
+    }
+
+    @Nested
+    @DisplayName("RetentionTests")
+    class RetentionTests {
+        @Test
+        @DisplayName("retention test - 보관 기간이 지난 segment 삭제")
+        void applyRetentionTest() throws IOException {
+            // given - 보관 기간보다 오래된 record 를 가진 segment
+            final long old = System.currentTimeMillis() - 10 * DAY_MILLIS;
+            try (AuditSegmentStore store = createStore(32 + 2 * 21, 4, DAY_MILLIS)) {
+                store.append(old, 1L, toJson("a"));
+                store.append(old + 1, 1L, toJson("b"));
+                store.append(System.currentTimeMillis(), 1L, toJson("c"));     // rolling 시점에 이전 segment 삭제
+
+                // then
+                Assertions.assertEquals(1, store.getSegmentCount());
+                Assertions.assertEquals(1, countSegmentFiles());
+
+                // when - 기록중인 segment 는 삭제하지 않음
+                store.applyRetention(System.currentTimeMillis() + 10 * DAY_MILLIS);
+                Assertions.assertEquals(1, store.getSegmentCount());
+            }
+        }
+
+        @Test
+        @DisplayName("retention test - 시작 시점에 보관 기간이 지난 segment 삭제")
+        void applyRetentionOnStartTest() throws IOException {
+            // given
+            final long old = System.currentTimeMillis() - 10 * DAY_MILLIS;
+            try (AuditSegmentStore store = createStore(32 + 2 * 21, 4, 100 * DAY_MILLIS)) {
+                store.append(old, 1L, toJson("a"));
+                store.append(old + 1, 1L, toJson("b"));
+                store.append(old + 2, 1L, toJson("c"));
+            }
+
+            // when
+            try (AuditSegmentStore store = createStore(32 + 2 * 21, 4, DAY_MILLIS)) {
+                // then - 마지막 (기록중인) segment 만 유지
+                Assertions.assertEquals(1, store.getSegmentCount());
+                Assertions.assertEquals(List.of("c"), store.query(old, old + 2, null, 10));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("ForceTests")
+    class ForceTests {
+        @Test
+        @DisplayName("force test - INTERVAL 정책은 지정한 간격마다 기록중인 segment 반영")
+        void forceIntervalTest() throws IOException {
+            // given
+            final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+            final long now = System.currentTimeMillis();
+
+            try (AuditSegmentStore store = new AuditSegmentStore(
+                    tempDir, 1024, 4, DAY_MILLIS, ForcePolicy.INTERVAL, 500L, 4, scheduler
+            )) {
+                final ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+                verify(scheduler).scheduleWithFixedDelay(
+                        task.capture(), eq(500L), eq(500L), eq(TimeUnit.MILLISECONDS)
+                );
+
+                // when - 기록 전 / 후 반영
+                task.getValue().run();
+                store.append(now, 1L, toJson("a"));
+                task.getValue().run();
+
+                // then
+                Assertions.assertEquals(List.of("a"), store.query(now, now, null, 10));
+            }
+            verify(scheduler).shutdown();
+        }
+
+        @Test
+        @DisplayName("force test - INTERVAL 정책의 반영 thread 생성 및 종료")
+        void forceIntervalThreadTest() throws IOException {
+            // given
+            final long now = System.currentTimeMillis();
+
+            // when
+            try (AuditSegmentStore store = new AuditSegmentStore(
+                    tempDir, 1024, 4, DAY_MILLIS, ForcePolicy.INTERVAL, 10L, 4
+            )) {
+                store.append(now, 1L, toJson("a"));
+                store.flush();      // INTERVAL 정책에서는 처리할 내용 없음
+
+                // then
+                Assertions.assertEquals(List.of("a"), store.query(now, now, null, 10));
+            }
+        }
+
+        @Test
+        @DisplayName("force test - INTERVAL 정책의 간격이 없는 경우")
+        void forceIntervalInvalidTest() {
+            // when, then
+            Assertions.assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new AuditSegmentStore(tempDir, 1024, 4, DAY_MILLIS, ForcePolicy.INTERVAL, 0L, 4, null)
+            );
+        }
+
+        @Test
+        @DisplayName("force test - FLUSH 정책은 flush 마다 반영")
+        void forceOnFlushTest() throws IOException {
+            // given
+            final long now = System.currentTimeMillis();
+
+            try (AuditSegmentStore store = new AuditSegmentStore(
+                    tempDir, 1024, 4, DAY_MILLIS, ForcePolicy.FLUSH, 0L, 4
+            )) {
+                // when - 기록 전 / 후 flush
+                store.flush();
+                store.append(now, 1L, toJson("a"));
+                store.flush();
+
+                // then
+                Assertions.assertEquals(List.of("a"), store.query(now, now, null, 10));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("MappingTests")
+    class MappingTests {
+        @Test
+        @DisplayName("mapping test - 봉인된 segment 는 최근에 조회된 segment 만 mapping 유지")
+        void releaseMappingTest() throws IOException {
+            // given - record 1개만 기록 가능한 segment 4개 ( 마지막 segment 는 기록중 )
+            final long now = System.currentTimeMillis();
+            try (AuditSegmentStore store = new AuditSegmentStore(
+                    tempDir, 32 + 21, 4, DAY_MILLIS, ForcePolicy.SEAL, 0L, 2
+            )) {
+                for (int i = 0; i < 4; i++) {
+                    store.append(now + i, 1L, toJson(String.valueOf(i)));
+                }
+
+                // then - rolling 시점에 봉인된 segment 는 해제
+                Assertions.assertEquals(4, store.getSegmentCount());
+                Assertions.assertEquals(0, store.getMappedSegmentCount());
+
+                // when - 봉인된 segment 3개를 차례로 조회
+                Assertions.assertEquals(List.of("0"), store.query(now, now, null, 10));
+                Assertions.assertEquals(List.of("1"), store.query(now + 1, now + 1, null, 10));
+                Assertions.assertEquals(2, store.getMappedSegmentCount());
+                Assertions.assertEquals(List.of("2"), store.query(now + 2, now + 2, null, 10));
+
+                // then - 최대 2개만 유지하며 해제된 segment 도 다시 조회 가능
+                Assertions.assertEquals(2, store.getMappedSegmentCount());
+                Assertions.assertEquals(List.of("0", "1", "2", "3"), store.query(now, now + 3, null, 10));
+                Assertions.assertEquals(2, store.getMappedSegmentCount());
+            }
+        }
+
+        @Test
+        @DisplayName("mapping test - 보관 기간이 지나 삭제된 segment 는 mapping 목록에서 제외")
+        void releaseMappingOnRetentionTest() throws IOException {
+            // given
+            final long old = System.currentTimeMillis() - 10 * DAY_MILLIS;
+            try (AuditSegmentStore store = createStore(32 + 21, 4, 100 * DAY_MILLIS)) {
+                store.append(old, 1L, toJson("a"));
+                store.append(old + 1, 1L, toJson("b"));
+                Assertions.assertEquals(List.of("a", "b"), store.query(old, old + 1, null, 10));
+                Assertions.assertEquals(1, store.getMappedSegmentCount());
+
+                // when
+                store.applyRetention(System.currentTimeMillis() + 100 * DAY_MILLIS);
+
+                // then
+                Assertions.assertEquals(1, store.getSegmentCount());
+                Assertions.assertEquals(0, store.getMappedSegmentCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.kelly.base.common.audit.store;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("AuditSegmentTests")
+class AuditSegmentTests {
+    @TempDir
+    private Path tempDir;
+
+    private byte[] toJson(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("AppendTests")
+    class AppendTests {
+        @Test
+        @DisplayName("append test - 공간이 부족한 경우 false 반환")
+        void appendFullTest() throws IOException {
+            // given - header(32) + record(20 + 10) 1개만 기록 가능한 크기
+            final AuditSegment segment = AuditSegment.create(tempDir.resolve("test.seg"), 70, 4);
+
+            // when, then
+            Assertions.assertTrue(segment.append(1000L, 1L, toJson("0123456789")));
+            Assertions.assertFalse(segment.append(2000L, 1L, toJson("0123456789")));
+            Assertions.assertEquals(1, segment.getRecordCount());
+            Assertions.assertEquals(1000L, segment.getMaxTime());
+        }
+    }
+
+    @Nested
+    @DisplayName("ScanTests")
+    class ScanTests {
+        @Test
+        @DisplayName("scan test - 시간순이 아닌 record 도 조회")
+        void scanOutOfOrderTest() throws IOException {
+            // given - index block 당 record 2개
+            final AuditSegment segment = AuditSegment.create(tempDir.resolve("test.seg"), 4096, 2);
+            segment.append(5000L, 1L, toJson("a"));
+            segment.append(1000L, 2L, toJson("b"));
+            segment.append(2000L, 1L, toJson("c"));
+            segment.append(3000L, 1L, toJson("d"));
+            segment.append(4000L, 2L, toJson("e"));
+
+            // when
+            final List<String> results = new ArrayList<>();
+            final int found = segment.scan(1000L, 1500L, null, 10, results::add);
+
+            // then
+            Assertions.assertEquals(1, found);
+            Assertions.assertEquals(List.of("b"), results);
+        }
+
+        @Test
+        @DisplayName("scan test - accountId 가 없는 block 은 제외")
+        void scanSkipBlockTest() throws IOException {
+            // given
+            final AuditSegment segment = AuditSegment.create(tempDir.resolve("test.seg"), 4096, 2);
+            segment.append(1000L, 1L, toJson("a"));
+            segment.append(2000L, 1L, toJson("b"));
+            segment.append(3000L, 2L, toJson("c"));
+            segment.append(4000L, 2L, toJson("d"));
+            segment.append(5000L, 1L, toJson("e"));
+
+            // when
+            final List<String> results = new ArrayList<>();
+            segment.scan(0L, 10000L, 1L, 10, results::add);
+
+            // then
+            Assertions.assertEquals(List.of("a", "b", "e"), results);
+        }
+
+        @Test
+        @DisplayName("scan test - 범위 밖 / limit 0 / 없는 accountId 인 경우")
+        void scanEmptyTest() throws IOException {
+            // given
+            final AuditSegment segment = AuditSegment.create(tempDir.resolve("test.seg"), 4096, 2);
+            segment.append(1000L, 1L, toJson("a"));
+
+            // when, then
+            Assertions.assertEquals(0, segment.scan(2000L, 3000L, null, 10, json -> Assertions.fail()));
+            Assertions.assertEquals(0, segment.scan(0L, 3000L, null, 0, json -> Assertions.fail()));
+            Assertions.assertEquals(0, segment.scan(0L, 3000L, 2L, 10, json -> Assertions.fail()));
+        }
+
+        @Test
+        @DisplayName("scan test - 삭제된 segment 인 경우")
+        void scanDeletedTest() throws IOException {
+            // given
+            final Path path = tempDir.resolve("test.seg");
+            final AuditSegment segment = AuditSegment.create(path, 4096, 2);
+            segment.append(1000L, 1L, toJson("a"));
+
+            // when
+            segment.delete();
+
+            // then
+            Assertions.assertFalse(Files.exists(path));
+            Assertions.assertEquals(0, segment.scan(0L, 3000L, null, 10, json -> Assertions.fail()));
+            segment.force();    // 삭제 이후 호출되어도 예외 없음
+        }
+    }
+
+    @Nested
+    @DisplayName("OpenTests")
+    class OpenTests {
+        @Test
+        @DisplayName("open test - 봉인된 segment 는 조회시 index 생성")
+        void openSealedTest() throws IOException {
+            // given
+            final Path path = tempDir.resolve("test.seg");
+            final AuditSegment created = AuditSegment.create(path, 4096, 2);
+            created.append(1000L, 1L, toJson("a"));
+            created.append(2000L, 2L, toJson("b"));
+            created.append(3000L, 1L, toJson("c"));
+            created.force();
+
+            // when
+            final AuditSegment segment = AuditSegment.open(path, 2, false);
+            final List<String> results = new ArrayList<>();
+            segment.scan(0L, 5000L, 1L, 10, results::add);
+
+            // then
+            Assertions.assertEquals(3, segment.getRecordCount());
+            Assertions.assertEquals(3000L, segment.getMaxTime());
+            Assertions.assertEquals(List.of("a", "c"), results);
+        }
+
+        @Test
+        @DisplayName("open test - header 가 올바르지 않은 경우")
+        void openInvalidTest() throws IOException {
+            // given
+            final Path shortFile = Files.writeString(tempDir.resolve("short.seg"), "AUDT");
+            final Path invalidFile = Files.write(tempDir.resolve("invalid.seg"), new byte[AuditSegment.HEADER_SIZE]);
+
+            // when, then
+            Assertions.assertThrows(IOException.class, () -> AuditSegment.open(shortFile, 2, false));
+            Assertions.assertThrows(IOException.class, () -> AuditSegment.open(invalidFile, 2, true));
+        }
+    }
+
+    @Nested
+    @DisplayName("DeleteTests")
+    class DeleteTests {
+        @Test
+        @DisplayName("delete test - 파일 삭제에 실패한 경우")
+        void deleteFailTest() throws IOException {
+            // given - segment 경로를 비어있지 않은 directory 로 교체
+            final Path path = tempDir.resolve("test.seg");
+            final AuditSegment segment = AuditSegment.create(path, 4096, 2);
+            Files.delete(path);
+            Files.createDirectories(path.resolve("child"));
+
+            // when
+            segment.delete();
+
+            // then - 예외 없이 처리되고 경로는 유지
+            Assertions.assertTrue(Files.exists(path));
+        }
+    }
+}
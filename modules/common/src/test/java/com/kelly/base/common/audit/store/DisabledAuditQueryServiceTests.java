@@ -0,0 +1,28 @@
+package com.kelly.base.common.audit.store;
+
+import com.kelly.base.common.exception.CommonRuntimeException;
+import com.kelly.base.common.response.CommonResultCode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+
+@DisplayName("DisabledAuditQueryServiceTests")
+class DisabledAuditQueryServiceTests {
+    @Test
+    @DisplayName("findAuditLogs test - 항상 FEATURE_DISABLED")
+    void findAuditLogsTest() {
+        // given
+        final DisabledAuditQueryService queryService = new DisabledAuditQueryService();
+        final ZonedDateTime now = ZonedDateTime.now();
+
+        // when
+        final CommonRuntimeException exception = Assertions.assertThrows(
+                CommonRuntimeException.class, () -> queryService.findAuditLogs(now, now, null, 10)
+        );
+
+        // then
+        Assertions.assertEquals(CommonResultCode.FEATURE_DISABLED, exception.getResultCode());
+    }
+}
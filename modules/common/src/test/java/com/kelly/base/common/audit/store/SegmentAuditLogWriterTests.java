@@ -0,0 +1,122 @@
+package com.kelly.base.common.audit.store;
+
+import com.kelly.base.common.audit.AuditProperties.ForcePolicy;
+import com.kelly.base.common.audit.dto.AuditEventType;
+import com.kelly.base.common.audit.dto.AuditLogFormat;
+import com.kelly.base.common.exception.CommonException;
+import com.kelly.base.common.response.CommonResultCode;
+import com.kelly.base.common.utils.DateTimeUtil;
+import com.kelly.base.common.utils.JsonUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SegmentAuditLogWriterTests")
+class SegmentAuditLogWriterTests {
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    @TempDir
+    private Path tempDir;
+
+    private AuditLogFormat createAuditLog(final ZonedDateTime creationDateTime, final Long accountId) {
+        return new AuditLogFormat(
+                creationDateTime, AuditEventType.API_CALL, "192.168.1.119", "GET /api/test",
+                Map.of("key", "value"), "test v1.0.0", "userId: user01", accountId
+        );
+    }
+
+    @Nested
+    @DisplayName("WriteTests")
+    class WriteTests {
+        @Test
+        @DisplayName("write test - JsonUtil.convert 와 동일한 json 을 accountId 와 함께 저장")
+        void writeTest() throws IOException, CommonException {
+            // given
+            final ZonedDateTime now = DateTimeUtil.nowUtc();
+            final AuditLogFormat auditLog = createAuditLog(now, 999L);
+
+            try (AuditSegmentStore store = new AuditSegmentStore(
+                    tempDir, 4096, 4, DAY_MILLIS, ForcePolicy.FLUSH, 0L, 4
+            )) {
+                final SegmentAuditLogWriter writer = new SegmentAuditLogWriter(store);
+
+                // when
+                writer.write(auditLog);
+                writer.write(createAuditLog(now, null));
+                writer.flush();
+
+                // then - accountId 는 json 에 포함되지 않음
+                final long epochMillis = now.toInstant().toEpochMilli();
+                final List<String> results = store.query(epochMillis, epochMillis, 999L, 10);
+                Assertions.assertEquals(List.of(JsonUtil.convert(auditLog, false)), results);
+                Assertions.assertFalse(results.get(0).contains("AccountId"));
+                Assertions.assertEquals(
+                        1, store.query(epochMillis, epochMillis, AuditSegmentStore.NO_ACCOUNT_ID, 10).size()
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("write test - creationDateTime 이 없는 경우 현재 시간으로 저장")
+        void writeWithoutDateTimeTest() throws CommonException, IOException {
+            // given
+            final AuditSegmentStore store = mock(AuditSegmentStore.class);
+            final SegmentAuditLogWriter writer = new SegmentAuditLogWriter(store);
+            final long before = System.currentTimeMillis();
+
+            // when
+            writer.write(createAuditLog(null, 1L));
+
+            // then
+            verify(store).append(longThat(epochMillis -> epochMillis >= before), eq(1L), any(byte[].class));
+        }
+
+        @Test
+        @DisplayName("write test - 저장에 실패한 경우")
+        void writeFailTest() throws IOException {
+            // given
+            final AuditSegmentStore store = mock(AuditSegmentStore.class);
+            doThrow(new IOException("disk full")).when(store).append(anyLong(), anyLong(), any(byte[].class));
+            final SegmentAuditLogWriter writer = new SegmentAuditLogWriter(store);
+
+            // when
+            final CommonException exception = Assertions.assertThrows(
+                    CommonException.class, () -> writer.write(createAuditLog(DateTimeUtil.nowUtc(), 1L))
+            );
+
+            // then
+            Assertions.assertEquals(CommonResultCode.SYSTEM_ERROR, exception.getResultCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("CloseTests")
+    class CloseTests {
+        @Test
+        @DisplayName("close test - store 의 내용을 파일에 반영")
+        void closeTest() {
+            // given
+            final AuditSegmentStore store = mock(AuditSegmentStore.class);
+            final SegmentAuditLogWriter writer = new SegmentAuditLogWriter(store);
+
+            // when
+            writer.close();
+
+            // then
+            verify(store).flush();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.kelly.base.common.audit.store;
+
+import com.kelly.base.common.exception.CommonRuntimeException;
+import com.kelly.base.common.response.CommonResultCode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SegmentAuditQueryServiceTests")
+class SegmentAuditQueryServiceTests {
+    private final ZonedDateTime from = ZonedDateTime.parse("2026-01-01T00:00:00Z");
+
+    private final ZonedDateTime to = ZonedDateTime.parse("2026-01-02T00:00:00Z");
+
+    private AuditSegmentStore store;
+
+    private SegmentAuditQueryService queryService;
+
+    @BeforeEach
+    void init() {
+        store = mock(AuditSegmentStore.class);
+        queryService = new SegmentAuditQueryService(store, 100);
+    }
+
+    @Nested
+    @DisplayName("FindAuditLogsTests")
+    class FindAuditLogsTests {
+        @Test
+        @DisplayName("findAuditLogs test - json 을 순서가 유지된 map 으로 변환")
+        void findAuditLogsTest() throws IOException {
+            // given
+            when(store.query(from.toInstant().toEpochMilli(), to.toInstant().toEpochMilli(), 1L, 10))
+                    .thenReturn(List.of("{\"EventType\":\"API_CALL\",\"Activity\":\"GET /api/test\"}"));
+
+            // when
+            final List<Map<String, Object>> results = queryService.findAuditLogs(from, to, 1L, 10);
+
+            // then
+            Assertions.assertEquals(1, results.size());
+            Assertions.assertEquals(List.of("EventType", "Activity"), List.copyOf(results.get(0).keySet()));
+            Assertions.assertEquals("GET /api/test", results.get(0).get("Activity"));
+        }
+
+        @Test
+        @DisplayName("findAuditLogs test - 시간 범위가 올바르지 않은 경우")
+        void findAuditLogsInvalidRangeTest() {
+            // when, then
+            assertInvalidParameter(() -> queryService.findAuditLogs(to, from, null, 10));
+            assertInvalidParameter(() -> queryService.findAuditLogs(null, to, null, 10));
+            assertInvalidParameter(() -> queryService.findAuditLogs(from, null, null, 10));
+        }
+
+        @Test
+        @DisplayName("findAuditLogs test - limit 가 범위를 벗어난 경우")
+        void findAuditLogsInvalidLimitTest() {
+            // when, then
+            assertInvalidParameter(() -> queryService.findAuditLogs(from, to, null, 0));
+            assertInvalidParameter(() -> queryService.findAuditLogs(from, to, null, 101));
+        }
+
+        @Test
+        @DisplayName("findAuditLogs test - 조회에 실패한 경우")
+        void findAuditLogsFailTest() throws IOException {
+            // given
+            when(store.query(anyLong(), anyLong(), any(), anyInt())).thenThrow(new IOException("read fail"));
+
+            // when
+            final CommonRuntimeException exception = Assertions.assertThrows(
+                    CommonRuntimeException.class, () -> queryService.findAuditLogs(from, to, null, 10)
+            );
+
+            // then
+            Assertions.assertEquals(CommonResultCode.SYSTEM_ERROR, exception.getResultCode());
+        }
+
+        @Test
+        @DisplayName("findAuditLogs test - 저장된 json 이 올바르지 않은 경우")
+        void findAuditLogsInvalidJsonTest() throws IOException {
+            // given
+            when(store.query(anyLong(), anyLong(), any(), anyInt())).thenReturn(List.of("{invalid"));
+
+            // when
+            final CommonRuntimeException exception = Assertions.assertThrows(
+                    CommonRuntimeException.class, () -> queryService.findAuditLogs(from, to, null, 10)
+            );
+
+            // then
+            Assertions.assertEquals(CommonResultCode.SYSTEM_ERROR, exception.getResultCode());
+        }
+
+        private void assertInvalidParameter(final org.junit.jupiter.api.function.Executable executable) {
+            final CommonRuntimeException exception = Assertions.assertThrows(CommonRuntimeException.class, executable);
+            Assertions.assertEquals(CommonResultCode.INVALID_PARAMETER, exception.getResultCode());
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.kelly.base.common.audit.writer;
+
+import com.kelly.base.common.audit.AuditProperties;
+import com.kelly.base.common.audit.dto.AuditEventType;
+import com.kelly.base.common.audit.dto.AuditLogFormat;
+import com.kelly.base.common.exception.CommonException;
+import com.kelly.base.common.interfaces.IAuditLogWriter;
+import com.kelly.base.common.response.CommonResultCode;
+import com.kelly.base.common.utils.DateTimeUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AsyncAuditLogWriterTests")
+class AsyncAuditLogWriterTests {
+    private IAuditLogWriter mockDelegate;
+
+    private AuditProperties.Async asyncProperties;
+
+    private AsyncAuditLogWriter asyncAuditLogWriter;
+
+    @BeforeEach
+    void init() {
+        mockDelegate = mock(IAuditLogWriter.class);
+
+        asyncProperties = new AuditProperties().getAsync();
+        asyncProperties.setEnabled(true);
+        asyncProperties.setBufferSize(1);
+        asyncProperties.setBatchSize(16);
+        asyncProperties.setFlushIntervalMs(10L);
+        asyncProperties.setShutdownTimeoutMs(1000L);
+    }
+
+    @AfterEach
+    void release() {
+        if (asyncAuditLogWriter != null) {
+            asyncAuditLogWriter.close();
+        }
+    }
+
+    private AuditLogFormat createAuditLog(final String activity) {
+        return new AuditLogFormat(
+                DateTimeUtil.nowUtc(), AuditEventType.API_CALL, "192.168.1.119", activity,
+                Map.of("key", "value"), "test v1.0.0", null
+        );
+    }
+
+    /**
+     * writer thread 가 첫번째 record 를 처리하는 도중 멈춰있도록 설정
+     */
+    private CountDownLatch blockWriterThread() throws CommonException {
+        final CountDownLatch releaseLatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            releaseLatch.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(mockDelegate).write(any());
+        return releaseLatch;
+    }
+
+    /**
+     * 첫번째 record 는 writer thread 에서 처리중, 두번째 record 는 buffer 에 대기하도록 설정
+     */
+    private void fillBuffer() throws CommonException {
+        asyncAuditLogWriter.write(createAuditLog("first"));
+        verify(mockDelegate, timeout(1000).times(1)).write(any());
+        asyncAuditLogWriter.write(createAuditLog("second"));
+        Assertions.assertEquals(1, asyncAuditLogWriter.getPendingCount());
+    }
+
+    @Nested
+    @DisplayName("WriteTests")
+    class WriteTests {
+        @Test
+        @DisplayName("default test - 비동기 기록은 opt-in, buffer 가 가득 찬 경우 record 를 버리지 않음")
+        void defaultTest() {
+            // given
+            final AuditProperties.Async defaultProperties = new AuditProperties().getAsync();
+
+            // when, then
+            Assertions.assertFalse(defaultProperties.isEnabled());
+            Assertions.assertEquals(AuditProperties.Backpressure.BLOCK, defaultProperties.getBackpressure());
+        }
+
+        @Test
+        @DisplayName("write test - writer thread 에서 batch 기록")
+        void writeTest() throws CommonException {
+            // given
+            asyncProperties.setBufferSize(16);
+            asyncAuditLogWriter = new AsyncAuditLogWriter(mockDelegate, asyncProperties);
+
+            // when
+            for (int i = 0; i < 3; i++) {
+                asyncAuditLogWriter.write(createAuditLog("activity-" + i));
+            }
+
+            // then - writer thread 에서 모두 기록되고 flush 되는지 확인
+            verify(mockDelegate, timeout(1000).times(3)).write(any());
+            verify(mockDelegate, timeout(1000).atLeastOnce()).flush();
+            Assertions.assertEquals(0, asyncAuditLogWriter.getDroppedCount());
+        }
+
+        @Test
+        @DisplayName("write test - delegate 에서 exception 발생")
+        void writeDelegateExceptionTest() throws CommonException {
+            // given
+            doThrow(new CommonException(CommonResultCode.SYSTEM_ERROR, "test"))
+                    .doNothing()
+                    .when(mockDelegate).write(any());
+            asyncProperties.setBufferSize(16);
+            asyncAuditLogWriter = new AsyncAuditLogWriter(mockDelegate, asyncProperties);
+
+            // when
+            asyncAuditLogWriter.write(createAuditLog("error"));
+            asyncAuditLogWriter.write(createAuditLog("normal"));
+
+            // then - exception 이 발생해도 이후 record 는 계속 기록
+            verify(mockDelegate, timeout(1000).times(2)).write(any());
+        }
+
+        @Test
+        @DisplayName("write test - backpressure DROP")
+        void writeDropTest() throws CommonException {
+            // given
+            final CountDownLatch releaseLatch = blockWriterThread();
+            asyncProperties.setBackpressure(AuditProperties.Backpressure.DROP);
+            asyncAuditLogWriter = new AsyncAuditLogWriter(mockDelegate, asyncProperties);
+            fillBuffer();
+
+            // when - buffer 가 가득 찬 상태에서 기록 요청
+            asyncAuditLogWriter.write(createAuditLog("third"));
+
+            // then - drop counter 증가
+            Assertions.assertEquals(1, asyncAuditLogWriter.getDroppedCount());
+
+            // then - 대기중이던 record 는 정상 기록
+            releaseLatch.countDown();
+            verify(mockDelegate, timeout(1000).times(2)).write(any());
+        }
+
+        @Test
+        @DisplayName("write test - backpressure SPILL")
+        void writeSpillTest(@TempDir final Path tempDir) throws CommonException, IOException {
+            // given
+            final Path spillPath = tempDir.resolve("spill/audit-spill.log");
+            final CountDownLatch releaseLatch = blockWriterThread();
+            asyncProperties.setBackpressure(AuditProperties.Backpressure.SPILL);
+            asyncProperties.setSpillPath(spillPath.toString());
+            asyncAuditLogWriter = new AsyncAuditLogWriter(mockDelegate, asyncProperties);
+            fillBuffer();
+
+            // when - buffer 가 가득 찬 상태에서 기록 요청
+            asyncAuditLogWriter.write(createAuditLog("third"));
+            asyncAuditLogWriter.write(createAuditLog("fourth"));
+            releaseLatch.countDown();
+
+            // then - spill 파일에 json line 으로 기록
+            Assertions.assertEquals(2, asyncAuditLogWriter.getSpilledCount());
+            final List<String> lines = Files.readAllLines(spillPath);
+            Assertions.assertEquals(2, lines.size());
+            Assertions.assertTrue(lines.get(0).contains("\"Activity\":\"third\""));
+            Assertions.assertTrue(lines.get(1).contains("\"Activity\":\"fourth\""));
+        }
+
+        @Test
+        @DisplayName("write test - backpressure SPILL 파일 기록 실패")
+        void writeSpillFailTest(@TempDir final Path tempDir) throws CommonException, IOException {
+            // given - 디렉토리 경로를 spill 파일로 지정하여 기록 실패 유도
+            final CountDownLatch releaseLatch = blockWriterThread();
+            asyncProperties.setBackpressure(AuditProperties.Backpressure.SPILL);
+            asyncProperties.setSpillPath(Files.createDirectory(tempDir.resolve("dir")).toString());
+            asyncAuditLogWriter = new AsyncAuditLogWriter(mockDelegate, asyncProperties);
+            fillBuffer();
+
+            // when
+            Assertions.assertDoesNotThrow(() -> asyncAuditLogWriter.write(createAuditLog("third")));
+            releaseLatch.countDown();
+
+            // then - spill 실패시 drop 으로 처리
+            Assertions.assertEquals(0, asyncAuditLogWriter.getSpilledCount());
+            Assertions.assertEquals(1, asyncAuditLogWriter.getDroppedCount());
+        }
+
+        @Test
+        @DisplayName("write test - backpressure BLOCK")
+        void writeBlockTest() throws CommonException, InterruptedException {
+            // given
+            final CountDownLatch releaseLatch = blockWriterThread();
+            asyncProperties.setBackpressure(AuditProperties.Backpressure.BLOCK);
+            asyncAuditLogWriter = new AsyncAuditLogWriter(mockDelegate, asyncProperties);
+            fillBuffer();
+
+            // when - buffer 에 여유가 생길때까지 대기하는 thread
+            final Thread blockedThread = new Thread(() -> {
+                try {
+                    asyncAuditLogWriter.write(createAuditLog("third"));
+                } catch (CommonException e) {
+                    Assertions.fail(e);
+                }
+            });
+            blockedThread.start();
+            blockedThread.join(300);
+            Assertions.assertTrue(blockedThread.isAlive());
+
+            // then - writer thread 가 진행되면 대기하던 record 도 기록
+            releaseLatch.countDown();
+            blockedThread.join(1000);
+            Assertions.assertFalse(blockedThread.isAlive());
+            verify(mockDelegate, timeout(1000).times(3)).write(any());
+            Assertions.assertEquals(0, asyncAuditLogWriter.getDroppedCount());
+        }
+
+        @Test
+        @DisplayName("write test - backpressure BLOCK 중 interrupt 발생")
+        void writeBlockInterruptTest() throws CommonException, InterruptedException {
+            // given
+            final CountDownLatch releaseLatch = blockWriterThread();
+            asyncProperties.setBackpressure(AuditProperties.Backpressure.BLOCK);
+            asyncAuditLogWriter = new AsyncAuditLogWriter(mockDelegate, asyncProperties);
+            fillBuffer();
+
+            // when - interrupt 된 thread 에서 기록 요청
+            Thread.currentThread().interrupt();
+            asyncAuditLogWriter.write(createAuditLog("third"));
+
+            // then - drop 처리되고 interrupt 상태 유지
+            Assertions.assertTrue(Thread.interrupted());
+            Assertions.assertEquals(1, asyncAuditLogWriter.getDroppedCount());
+            releaseLatch.countDown();
+        }
+    }
+
+    @Nested
+    @DisplayName("CloseTests")
+    class CloseTests {
+        @Test
+        @DisplayName("close test - buffer 에 남아있는 record 모두 기록")
+        void closeDrainTest() throws CommonException {
+            // given
+            final CountDownLatch releaseLatch = blockWriterThread();
+            asyncAuditLogWriter = new AsyncAuditLogWriter(mockDelegate, asyncProperties);
+            fillBuffer();
+
+            // when
+            releaseLatch.countDown();
+            asyncAuditLogWriter.close();
+
+            // then - 대기중이던 record 까지 모두 기록
+            verify(mockDelegate, times(2)).write(any());
+            Assertions.assertEquals(0, asyncAuditLogWriter.getPendingCount());
+        }
+
+        @Test
+        @DisplayName("close test - 종료 이후 기록 요청은 바로 처리")
+        void writeAfterCloseTest() throws CommonException {
+            // given
+            asyncAuditLogWriter = new AsyncAuditLogWriter(mockDelegate, asyncProperties);
+            asyncAuditLogWriter.close();
+
+            // when
+            asyncAuditLogWriter.write(createAuditLog("after close"));
+
+            // then - 호출한 thread 에서 delegate 로 바로 기록
+            verify(mockDelegate, times(1)).write(any());
+        }
+
+        @Test
+        @DisplayName("close test - drop 된 record 보고")
+        void closeReportDroppedTest() throws CommonException {
+            // given
+            asyncProperties.setBackpressure(AuditProperties.Backpressure.DROP);
+            final CountDownLatch releaseLatch = blockWriterThread();
+            asyncAuditLogWriter = new AsyncAuditLogWriter(mockDelegate, asyncProperties);
+            fillBuffer();
+            asyncAuditLogWriter.write(createAuditLog("third"));
+
+            // when
+            releaseLatch.countDown();
+
+            // then - 여러번 호출해도 문제 없음
+            Assertions.assertDoesNotThrow(asyncAuditLogWriter::close);
+            Assertions.assertDoesNotThrow(asyncAuditLogWriter::close);
+            Assertions.assertEquals(1, asyncAuditLogWriter.getDroppedCount());
+        }
+
+        @Test
+        @DisplayName("close test - drain 대기중 interrupt 발생")
+        void closeInterruptTest() throws CommonException {
+            // given
+            asyncAuditLogWriter = new AsyncAuditLogWriter(mockDelegate, asyncProperties);
+
+            // when
+            Thread.currentThread().interrupt();
+            asyncAuditLogWriter.close();
+
+            // then - interrupt 상태 유지
+            Assertions.assertTrue(Thread.interrupted());
+        }
+    }
+
+    @Nested
+    @DisplayName("FlushTests")
+    class FlushTests {
+        @Test
+        @DisplayName("flush test - delegate flush 호출")
+        void flushTest() {
+            // given
+            asyncAuditLogWriter = new AsyncAuditLogWriter(mockDelegate, asyncProperties);
+
+            // when
+            asyncAuditLogWriter.flush();
+
+            // then
+            verify(mockDelegate, atLeastOnce()).flush();
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.kelly.base.common.audit.writer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+@DisplayName("RollingAuditFileChannelTests")
+class RollingAuditFileChannelTests {
+    private static final RollingAuditFileChannel.Retention NO_RETENTION
+            = new RollingAuditFileChannel.Retention(0, 0L, false);
+
+    private static final Instant NOW = Instant.parse("2026-10-18T01:02:03.004Z");
+
+    // NOW 에 rolling 된 파일 이름
+    private static final String ROLLED_PREFIX = "audit.jsonl.20261018-010203-004.";
+
+    @TempDir
+    private Path tempDir;
+
+    private ExecutorService maintenanceExecutor;
+
+    @BeforeEach
+    void init() {
+        maintenanceExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    private RollingAuditFileChannel createChannel(final Path filePath, final long maxFileSize,
+                                                  final RollingAuditFileChannel.Retention retention)
+            throws IOException {
+        return new RollingAuditFileChannel(filePath, maxFileSize, retention, Clock.fixed(NOW, ZoneOffset.UTC),
+                                           maintenanceExecutor);
+    }
+
+    // 파일을 닫고 남은 정리 작업이 끝날 때까지 대기
+    private void closeAndAwait(final RollingAuditFileChannel channel) throws IOException, InterruptedException {
+        channel.close();
+        Assertions.assertTrue(maintenanceExecutor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    private ByteBuffer toBuffer(final String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<Path> listFiles(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+
+    private List<String> listFileNames(final Path directory) throws IOException {
+        return listFiles(directory).stream().map(file -> file.getFileName().toString()).sorted().toList();
+    }
+
+    // 지정한 시간에 수정된 rolling 파일 생성
+    private void createRolledFile(final String name, final int size, final Instant modified) throws IOException {
+        final Path file = tempDir.resolve(name);
+        Files.write(file, new byte[size]);
+        Files.setLastModifiedTime(file, FileTime.from(modified));
+    }
+
+    @Nested
+    @DisplayName("WriteTests")
+    class WriteTests {
+        @Test
+        @DisplayName("write test - 기존 파일에 이어서 기록")
+        void writeAppendTest() throws IOException {
+            // given
+            final Path filePath = tempDir.resolve("audit/audit.jsonl");
+            Files.createDirectories(filePath.getParent());
+            Files.writeString(filePath, "line0\n");
+
+            // when
+            try (RollingAuditFileChannel channel = createChannel(filePath, 1024, NO_RETENTION)) {
+                Assertions.assertEquals(6, channel.write(toBuffer("line1\n")));
+                Assertions.assertTrue(channel.isOpen());
+            }
+
+            // then
+            Assertions.assertEquals(List.of("line0", "line1"), Files.readAllLines(filePath));
+        }
+
+        @Test
+        @DisplayName("write test - 최대 크기를 넘으면 rolling")
+        void writeRollingTest() throws IOException {
+            // given
+            final Path filePath = tempDir.resolve("audit.jsonl");
+
+            // when
+            try (RollingAuditFileChannel channel = createChannel(filePath, 10, NO_RETENTION)) {
+                channel.write(toBuffer("line1\n"));
+                channel.write(toBuffer("line2\n"));     // 12 byte -> rolling
+            }
+
+            // then - 현재 파일에는 마지막 내용만 남고 이전 내용은 rolling 된 파일에 존재
+            Assertions.assertEquals(List.of("line2"), Files.readAllLines(filePath));
+            final List<Path> files = listFiles(tempDir);
+            Assertions.assertEquals(2, files.size());
+            final Path rolledFile = files.stream().filter(file -> !file.equals(filePath)).findFirst().orElseThrow();
+            Assertions.assertEquals(ROLLED_PREFIX + "0", rolledFile.getFileName().toString());
+            Assertions.assertEquals(List.of("line1"), Files.readAllLines(rolledFile));
+        }
+
+        @Test
+        @DisplayName("write test - 같은 시간에 rolling 되어도 이름이 겹치지 않음")
+        void writeRollingSameTimeTest() throws IOException {
+            // given - 이전에 같은 시간으로 압축된 파일이 존재
+            final Path filePath = tempDir.resolve("audit.jsonl");
+            Files.writeString(tempDir.resolve(ROLLED_PREFIX + "0" + RollingAuditFileChannel.GZIP_SUFFIX), "");
+
+            // when - 고정된 시간에 2번 rolling
+            try (RollingAuditFileChannel channel = createChannel(filePath, 10, NO_RETENTION)) {
+                channel.write(toBuffer("line1\n"));
+                channel.write(toBuffer("line2\n"));
+                channel.write(toBuffer("line3\n"));
+            }
+
+            // then
+            Assertions.assertEquals(List.of("line1"), Files.readAllLines(tempDir.resolve(ROLLED_PREFIX + "1")));
+            Assertions.assertEquals(List.of("line2"), Files.readAllLines(tempDir.resolve(ROLLED_PREFIX + "2")));
+            Assertions.assertEquals(List.of("line3"), Files.readAllLines(filePath));
+        }
+
+        @Test
+        @DisplayName("write test - 빈 파일은 최대 크기를 넘어도 rolling 하지 않음")
+        void writeLargeRecordTest() throws IOException {
+            // given
+            final Path filePath = tempDir.resolve("audit.jsonl");
+
+            // when
+            try (RollingAuditFileChannel channel = createChannel(filePath, 4, NO_RETENTION)) {
+                channel.write(toBuffer("large record\n"));
+            }
+
+            // then
+            Assertions.assertEquals(1, listFiles(tempDir).size());
+        }
+    }
+
+    @Nested
+    @DisplayName("MaintainTests")
+    class MaintainTests {
+        @Test
+        @DisplayName("maintain test - rolling 된 파일 gzip 압축")
+        void compressTest() throws IOException, InterruptedException {
+            // given
+            final Path filePath = tempDir.resolve("audit.jsonl");
+            final RollingAuditFileChannel channel
+                    = createChannel(filePath, 10, new RollingAuditFileChannel.Retention(0, 0L, true));
+
+            // when
+            channel.write(toBuffer("line1\n"));
+            channel.write(toBuffer("line2\n"));
+            closeAndAwait(channel);
+
+            // then - 원본 / 임시 파일 없이 압축된 파일만 남음
+            final String gzipName = ROLLED_PREFIX + "0" + RollingAuditFileChannel.GZIP_SUFFIX;
+            Assertions.assertEquals(List.of("audit.jsonl", gzipName), listFileNames(tempDir));
+            try (InputStream is = new GZIPInputStream(Files.newInputStream(tempDir.resolve(gzipName)))) {
+                Assertions.assertEquals("line1\n", new String(is.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+
+        @Test
+        @DisplayName("maintain test - 보관 기간 / 전체 크기를 넘는 파일 삭제")
+        void retentionTest() throws IOException, InterruptedException {
+            // given - 보관 기간이 지난 파일 1개, 10 byte 파일 3개, rolling 파일이 아닌 파일
+            createRolledFile("audit.jsonl.20260101-000000-000.0.gz", 1, NOW.minus(Duration.ofDays(8)));
+            createRolledFile("audit.jsonl.20261015-000000-000.0.gz", 10, NOW.minus(Duration.ofDays(3)));
+            createRolledFile("audit.jsonl.20261016-000000-000.0.gz", 10, NOW.minus(Duration.ofDays(2)));
+            createRolledFile("audit.jsonl.20261017-000000-000.0", 10, NOW.minus(Duration.ofDays(1)));
+            createRolledFile("other.log", 100, NOW.minus(Duration.ofDays(30)));
+
+            // when - 시작시 정리
+            final RollingAuditFileChannel channel = createChannel(
+                    tempDir.resolve("audit.jsonl"), 1024, new RollingAuditFileChannel.Retention(7, 25L, false)
+            );
+            closeAndAwait(channel);
+
+            // then - 최신 파일부터 25 byte 까지만 보관
+            Assertions.assertEquals(List.of("audit.jsonl", "audit.jsonl.20261016-000000-000.0.gz",
+                                            "audit.jsonl.20261017-000000-000.0", "other.log"),
+                                    listFileNames(tempDir));
+        }
+
+        @Test
+        @DisplayName("maintain test - 제한이 없는 경우 삭제하지 않음")
+        void unlimitedRetentionTest() throws IOException, InterruptedException {
+            // given
+            createRolledFile("audit.jsonl.20200101-000000-000.0", 1000, NOW.minus(Duration.ofDays(3650)));
+
+            // when
+            closeAndAwait(createChannel(tempDir.resolve("audit.jsonl"), 1024, NO_RETENTION));
+
+            // then
+            Assertions.assertEquals(List.of("audit.jsonl", "audit.jsonl.20200101-000000-000.0"),
+                                    listFileNames(tempDir));
+        }
+
+        @Test
+        @DisplayName("maintain test - 정리에 실패해도 기록은 계속")
+        void maintainFailureTest() throws IOException, InterruptedException {
+            // given - 압축할 수 없는 rolling 파일 ( directory )
+            Files.createDirectories(tempDir.resolve("audit.jsonl.20261017-000000-000.0"));
+            final Path filePath = tempDir.resolve("audit.jsonl");
+            final RollingAuditFileChannel channel
+                    = createChannel(filePath, 1024, new RollingAuditFileChannel.Retention(0, 0L, true));
+
+            // when
+            channel.write(toBuffer("line1\n"));
+            closeAndAwait(channel);
+
+            // then
+            Assertions.assertEquals(List.of("line1"), Files.readAllLines(filePath));
+        }
+    }
+
+    @Nested
+    @DisplayName("CloseTests")
+    class CloseTests {
+        @Test
+        @DisplayName("close test")
+        void closeTest() throws IOException {
+            // given
+            final RollingAuditFileChannel channel
+                    = new RollingAuditFileChannel(tempDir.resolve("audit.jsonl"), 1024, NO_RETENTION);
+
+            // when
+            channel.close();
+
+            // then
+            Assertions.assertFalse(channel.isOpen());
+        }
+    }
+}
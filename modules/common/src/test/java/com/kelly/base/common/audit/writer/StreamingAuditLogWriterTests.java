@@ -0,0 +1,236 @@
+package com.kelly.base.common.audit.writer;
+
+import com.kelly.base.common.audit.dto.AuditEventType;
+import com.kelly.base.common.audit.dto.AuditLogFormat;
+import com.kelly.base.common.exception.CommonException;
+import com.kelly.base.common.response.CommonResultCode;
+import com.kelly.base.common.utils.DateTimeUtil;
+import com.kelly.base.common.utils.JsonUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StreamingAuditLogWriterTests")
+class StreamingAuditLogWriterTests {
+    private ByteArrayOutputStream output;
+
+    private WritableByteChannel channel;
+
+    @BeforeEach
+    void init() {
+        output = new ByteArrayOutputStream();
+        channel = Channels.newChannel(output);
+    }
+
+    private AuditLogFormat createAuditLog(final String activity) {
+        return new AuditLogFormat(
+                DateTimeUtil.nowUtc(), AuditEventType.API_CALL, "192.168.1.119", activity,
+                Map.of("requestPayload", Map.of("loginId", "user01")), "test v1.0.0", "userId: user01"
+        );
+    }
+
+    private List<String> getLines() {
+        return output.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    @Nested
+    @DisplayName("WriteTests")
+    class WriteTests {
+        @Test
+        @DisplayName("write test - JsonUtil.convert 와 동일한 json 출력")
+        void writeSameAsJsonUtilTest() throws CommonException {
+            // given
+            final StreamingAuditLogWriter writer = new StreamingAuditLogWriter(channel, 1024, true);
+            final AuditLogFormat auditLog = createAuditLog("POST /api/auth/login");
+
+            // when
+            writer.write(auditLog);
+
+            // then - 기존 방식과 동일한 문자열로 출력
+            final List<String> lines = getLines();
+            Assertions.assertEquals(1, lines.size());
+            Assertions.assertEquals(JsonUtil.convert(auditLog, false), lines.get(0));
+        }
+
+        @Test
+        @DisplayName("write test - null 필드 처리")
+        void writeNullFieldsTest() throws CommonException {
+            // given
+            final StreamingAuditLogWriter writer = new StreamingAuditLogWriter(channel, 1024, true);
+            final AuditLogFormat auditLog = new AuditLogFormat(null, null, null, null, null, null, null);
+
+            // when
+            writer.write(auditLog);
+
+            // then
+            Assertions.assertEquals(JsonUtil.convert(auditLog, false), getLines().get(0));
+        }
+
+        @Test
+        @DisplayName("write test - UTC 가 아닌 시간 정보는 UTC 로 변환")
+        void writeNonUtcDateTimeTest() throws CommonException {
+            // given
+            final StreamingAuditLogWriter writer = new StreamingAuditLogWriter(channel, 1024, true);
+            final ZonedDateTime seoulTime = ZonedDateTime.of(2025, 1, 2, 3, 4, 5, 6_000_000, ZoneId.of("Asia/Seoul"));
+            final AuditLogFormat auditLog = new AuditLogFormat(
+                    seoulTime, AuditEventType.SYSTEM_EVENT, "N/A", "Server Start", null, "test v1.0.0", null
+            );
+
+            // when
+            writer.write(auditLog);
+
+            // then
+            final AuditLogFormat result = JsonUtil.parse(getLines().get(0), AuditLogFormat.class);
+            Assertions.assertTrue(getLines().get(0).contains("\"CreationDateTime\":\"2025-01-01T18:04:05.006Z\""));
+            Assertions.assertEquals(seoulTime.toInstant(), result.creationDateTime().toInstant());
+        }
+
+        @Test
+        @DisplayName("write test - productVersion 변경")
+        void writeProductVersionChangedTest() throws CommonException {
+            // given
+            final StreamingAuditLogWriter writer = new StreamingAuditLogWriter(channel, 1024, true);
+            final AuditLogFormat firstLog = createAuditLog("first");
+            final AuditLogFormat secondLog = new AuditLogFormat(
+                    DateTimeUtil.nowUtc(), AuditEventType.API_CALL, "192.168.1.119", "second",
+                    null, "test v2.0.0", null
+            );
+
+            // when
+            writer.write(firstLog);
+            writer.write(firstLog);
+            writer.write(secondLog);
+
+            // then
+            final List<String> lines = getLines();
+            Assertions.assertEquals(3, lines.size());
+            Assertions.assertEquals("test v1.0.0", JsonUtil.parse(lines.get(1), AuditLogFormat.class).productVersion());
+            Assertions.assertEquals("test v2.0.0", JsonUtil.parse(lines.get(2), AuditLogFormat.class).productVersion());
+        }
+
+        @Test
+        @DisplayName("write test - buffer 크기를 넘기 전까지 channel 에 기록하지 않음")
+        void writeBufferedTest() throws CommonException {
+            // given
+            final StreamingAuditLogWriter writer = new StreamingAuditLogWriter(channel, 64 * 1024, false);
+
+            // when
+            writer.write(createAuditLog("first"));
+            writer.write(createAuditLog("second"));
+
+            // then - flush 호출 전에는 기록되지 않음
+            Assertions.assertEquals(0, output.size());
+
+            // then - flush 호출시 모두 기록
+            writer.flush();
+            Assertions.assertEquals(2, getLines().size());
+        }
+
+        @Test
+        @DisplayName("write test - buffer 크기를 넘으면 channel 에 기록")
+        void writeThresholdTest() throws CommonException {
+            // given - buffer 크기보다 큰 record 기록
+            final StreamingAuditLogWriter writer = new StreamingAuditLogWriter(channel, 16, false);
+
+            // when
+            writer.write(createAuditLog("first"));
+
+            // then - buffer 확장 후 channel 에 기록
+            Assertions.assertEquals(1, getLines().size());
+        }
+
+        @Test
+        @SuppressWarnings("CollectionAddedToSelf")
+        @DisplayName("write test - 직렬화 실패시 작성중인 record 폐기")
+        void writeExceptionTest() throws CommonException {
+            // given
+            final StreamingAuditLogWriter writer = new StreamingAuditLogWriter(channel, 1024, false);
+            final Map<String, Object> circularDetail = new HashMap<>();
+            circularDetail.put("error", circularDetail);  // json 파싱에서 오류가 발생하도록 순환 참조 맵 생성
+            final AuditLogFormat errorLog = new AuditLogFormat(
+                    DateTimeUtil.nowUtc(), AuditEventType.API_CALL, "192.168.1.119", "error",
+                    circularDetail, "test v1.0.0", null
+            );
+
+            // when
+            writer.write(createAuditLog("before"));
+            final CommonException exception = Assertions.assertThrows(
+                    CommonException.class, () -> writer.write(errorLog)
+            );
+            writer.write(createAuditLog("after"));
+            writer.flush();
+
+            // then - 실패한 record 는 남지 않고 이후 record 는 정상 기록
+            Assertions.assertEquals(CommonResultCode.SYSTEM_ERROR, exception.getResultCode());
+            final List<String> lines = getLines();
+            Assertions.assertEquals(2, lines.size());
+            Assertions.assertEquals("before", JsonUtil.parse(lines.get(0), AuditLogFormat.class).activity());
+            Assertions.assertEquals("after", JsonUtil.parse(lines.get(1), AuditLogFormat.class).activity());
+        }
+    }
+
+    @Nested
+    @DisplayName("FlushTests")
+    class FlushTests {
+        @Test
+        @DisplayName("flush test - channel 기록 실패")
+        void flushExceptionTest() throws IOException, CommonException {
+            // given
+            final WritableByteChannel mockChannel = mock(WritableByteChannel.class);
+            when(mockChannel.write(any(ByteBuffer.class))).thenThrow(new IOException("test"));
+            final StreamingAuditLogWriter writer = new StreamingAuditLogWriter(mockChannel, 1024, false);
+            writer.write(createAuditLog("first"));
+
+            // when, then - exception 이 app 동작에 영향을 미치지 않도록 log 만 출력
+            Assertions.assertDoesNotThrow(writer::flush);
+        }
+    }
+
+    @Nested
+    @DisplayName("CloseTests")
+    class CloseTests {
+        @Test
+        @DisplayName("close test - 남아있는 내용 기록 후 channel 종료")
+        void closeTest() throws CommonException {
+            // given
+            final StreamingAuditLogWriter writer = new StreamingAuditLogWriter(channel, 1024, false);
+            writer.write(createAuditLog("first"));
+
+            // when
+            writer.close();
+
+            // then
+            Assertions.assertEquals(1, getLines().size());
+            Assertions.assertFalse(channel.isOpen());
+        }
+
+        @Test
+        @DisplayName("close test - channel 종료 실패")
+        void closeExceptionTest() throws IOException {
+            // given
+            final WritableByteChannel mockChannel = mock(WritableByteChannel.class);
+            doThrow(new IOException("test")).when(mockChannel).close();
+            final StreamingAuditLogWriter writer = new StreamingAuditLogWriter(mockChannel, 1024, false);
+
+            // when, then
+            Assertions.assertDoesNotThrow(writer::close);
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.kelly.base.common.config;
 
+import com.kelly.base.common.async.AdaptivePoolSizer;
+import com.kelly.base.common.async.AsyncProperties;
+import com.kelly.base.common.async.AsyncTaskMetrics;
+import com.kelly.base.common.async.BoundedVirtualThreadExecutor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,7 +19,8 @@ import static com.kelly.base.common.CommonConstants.CommonAsync.*;
 @DisplayName("CommonAsyncConfigTests")
 class CommonAsyncConfigTests {
     private final ApplicationContextRunner contextRunner
-            = new ApplicationContextRunner().withUserConfiguration(CommonAsyncConfig.class);
+            = new ApplicationContextRunner().withUserConfiguration(CommonAsyncConfig.class)
+                                            .withBean(AsyncProperties.class);
 
     @Nested
     @DisplayName("InjectionTests")
@@ -79,5 +84,51 @@ class CommonAsyncConfigTests {
                     }
             );
         }
+
+        @Test
+        @DisplayName("injection test - virtual mode")
+        void injectionVirtualTest() {
+            // given
+            final AsyncProperties asyncProperties = new AsyncProperties();
+            asyncProperties.setMode(AsyncProperties.Mode.VIRTUAL);
+
+            // when
+            new ApplicationContextRunner().withUserConfiguration(CommonAsyncConfig.class)
+                                          .withBean(AsyncProperties.class, () -> asyncProperties)
+                                          .run(
+                    context -> {
+                        // then - injection 이 됐는지 확인
+                        final Executor commonAsync = context.getBean(Executor.class);
+                        Assertions.assertNotNull(commonAsync);
+
+                        // then - JDK 21 이상에서는 virtual thread executor, 미만인 경우 thread pool 로 실행
+                        if (Runtime.version().feature() >= 21) {
+                            Assertions.assertInstanceOf(BoundedVirtualThreadExecutor.class, commonAsync);
+                        } else {
+                            final ThreadPoolTaskExecutor castedAsync
+                                    = Assertions.assertInstanceOf(ThreadPoolTaskExecutor.class, commonAsync);
+                            Assertions.assertEquals(COMMON_ASYNC_THREAD_PREFIX, castedAsync.getThreadNamePrefix());
+                        }
+                    }
+            );
+        }
+
+        @Test
+        @DisplayName("injection test - metric / adaptive sizing")
+        void injectionAdaptiveTest() {
+            // when
+            contextRunner.withPropertyValues("async.pool.adaptive.enabled=true").run(
+                    context -> {
+                        // then - metric 및 thread 개수 조절 bean 생성
+                        Assertions.assertNotNull(context.getBean(AsyncTaskMetrics.class));
+                        Assertions.assertNotNull(context.getBean(AdaptivePoolSizer.class));
+                    }
+            );
+
+            // when - adaptive 를 사용하지 않는 경우
+            contextRunner.run(
+                    context -> Assertions.assertFalse(context.containsBean("commonAsyncPoolSizer"))
+            );
+        }
     }
 }
\ No newline at end of file
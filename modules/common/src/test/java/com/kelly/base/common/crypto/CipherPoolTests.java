@@ -0,0 +1,62 @@
+package com.kelly.base.common.crypto;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+
+@DisplayName("CipherPoolTests")
+class CipherPoolTests {
+    @Nested
+    @DisplayName("BorrowTests")
+    class BorrowTests {
+        @Test
+        @DisplayName("borrow test - 반납된 instance 재사용")
+        void reuseTest() throws GeneralSecurityException {
+            // given
+            final CipherPool cipherPool = new CipherPool("AES/GCM/NoPadding", 2);
+            final Cipher cipher = cipherPool.borrow();
+
+            // when
+            cipherPool.release(cipher);
+
+            // then
+            Assertions.assertEquals(1, cipherPool.idleCount());
+            Assertions.assertSame(cipher, cipherPool.borrow());
+            Assertions.assertEquals(0, cipherPool.idleCount());
+        }
+
+        @Test
+        @DisplayName("release test - 최대 개수를 넘는 instance 는 버림")
+        void maxIdleTest() throws GeneralSecurityException {
+            // given - 동시에 3개 사용
+            final CipherPool cipherPool = new CipherPool("AES/GCM/NoPadding", 2);
+            final Cipher first = cipherPool.borrow();
+            final Cipher second = cipherPool.borrow();
+            final Cipher third = cipherPool.borrow();
+            Assertions.assertNotSame(first, second);
+
+            // when
+            cipherPool.release(first);
+            cipherPool.release(second);
+            cipherPool.release(third);
+
+            // then
+            Assertions.assertEquals(2, cipherPool.idleCount());
+        }
+
+        @Test
+        @DisplayName("borrow test - 지원하지 않는 transformation")
+        void invalidTransformationTest() {
+            // given
+            final CipherPool cipherPool = new CipherPool("UNKNOWN/NONE/NoPadding", 2);
+
+            // when, then
+            Assertions.assertThrows(NoSuchAlgorithmException.class, cipherPool::borrow);
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.kelly.base.common.crypto;
 
 import com.kelly.base.common.config.CommonPropertiesConfig;
+import jakarta.xml.bind.DatatypeConverter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import static org.mockito.Mockito.*;
 
@@ -115,6 +122,88 @@ class CommonCryptoServiceTests {
             // then - Invalid AES key length: 15 bytes
             Assertions.assertNull(encStr);
         }
+
+        @Test
+        @DisplayName("encrypt test - fail : empty key")
+        void encFailEmptyKeyTest() {
+            // given
+            commonCryptoService.setCryptoKey("");
+            final byte[] testSource = "TEST".getBytes(StandardCharsets.UTF_8);
+
+            // when, then - 키가 없는 것으로 처리
+            Assertions.assertNull(commonCryptoService.encrypt(testSource));
+            Assertions.assertNull(commonCryptoService.encrypt(testSource, ""));
+            Assertions.assertEquals(0, commonCryptoService.decrypt("TEST").length);
+        }
+    }
+
+    @Nested
+    @DisplayName("ReuseTests")
+    class ReuseTests {
+        @Test
+        @DisplayName("reuse test - 내장된 키 / Cipher 재사용, 호출마다 다른 IV")
+        void reuseTest() {
+            // given
+            commonCryptoService.init();
+            final Object cryptoKey = ReflectionTestUtils.getField(commonCryptoService, "cryptoKey");
+            final CipherPool cipherPool = (CipherPool) ReflectionTestUtils.getField(commonCryptoService, "cipherPool");
+            final byte[] testSource = "TEST".getBytes(StandardCharsets.UTF_8);
+
+            // when
+            final String first = commonCryptoService.encrypt(testSource);
+            final String second = commonCryptoService.encrypt(testSource);
+
+            // then - 순차 호출은 Cipher 1개만 사용
+            Assertions.assertNotEquals(first, second);
+            Assertions.assertSame(cryptoKey, ReflectionTestUtils.getField(commonCryptoService, "cryptoKey"));
+            Assertions.assertNotNull(cipherPool);
+            Assertions.assertEquals(1, cipherPool.idleCount());
+            Assertions.assertEquals("TEST", new String(commonCryptoService.decrypt(first), StandardCharsets.UTF_8));
+            Assertions.assertEquals("TEST", new String(commonCryptoService.decrypt(second), StandardCharsets.UTF_8));
+            Assertions.assertEquals(1, cipherPool.idleCount());
+        }
+
+        @Test
+        @DisplayName("reuse test - 복호화 실패 후에도 재사용한 Cipher 로 정상 처리")
+        void reuseAfterFailureTest() {
+            // given - 암호문 변조
+            commonCryptoService.init();
+            final byte[] encrypted = DatatypeConverter.parseBase64Binary(
+                    commonCryptoService.encrypt("TEST".getBytes(StandardCharsets.UTF_8))
+            );
+            encrypted[encrypted.length - 1] ^= 0x01;
+            final String tampered = DatatypeConverter.printBase64Binary(encrypted);
+
+            // when, then - AEADBadTagException
+            Assertions.assertEquals(0, commonCryptoService.decrypt(tampered).length);
+
+            // when, then
+            final String encStr = commonCryptoService.encrypt("TEST".getBytes(StandardCharsets.UTF_8));
+            Assertions.assertEquals("TEST", new String(commonCryptoService.decrypt(encStr), StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("reuse test - 여러 thread 에서 동시에 암복호화")
+        void concurrentTest() {
+            // given
+            commonCryptoService.init();
+            final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            try {
+                // when, then - 64B ~ 1MB
+                final CompletableFuture<?>[] futures = IntStream.range(0, 200)
+                        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                            final byte[] source = new byte[i % 10 == 0 ? 1024 * 1024 : 64 * (i + 1)];
+                            new Random(i).nextBytes(source);
+                            final String encStr = commonCryptoService.encrypt(source);
+                            Assertions.assertArrayEquals(source, commonCryptoService.decrypt(encStr));
+                        }, executor))
+                        .toArray(CompletableFuture[]::new);
+                Assertions.assertDoesNotThrow(() -> CompletableFuture.allOf(futures).join());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
     }
 
     @Nested
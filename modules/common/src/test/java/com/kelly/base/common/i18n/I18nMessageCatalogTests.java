@@ -0,0 +1,342 @@
+package com.kelly.base.common.i18n;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kelly.base.common.exception.CommonRuntimeException;
+import com.kelly.base.common.interfaces.II18nMessageService.MessageBundle;
+import com.kelly.base.common.utils.JsonUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("I18nMessageCatalogTests")
+class I18nMessageCatalogTests {
+    private I18nMessageCatalog catalog;
+
+    @BeforeEach
+    void init() {
+        catalog = I18nMessageCatalog.builder("en")
+                .common("en", Map.of("TID_1", "Hello", "TID_2", "Hello, {0}", "TID_3", "common only"))
+                .common("ko", Map.of("TID_1", "안녕", "TID_2", "{0}, 안녕"))
+                .regulator("fda", "en", Map.of("TID_1", "Hello FDA", "EXT_1", "{0} / {1}"))
+                .regulator("fda", "ko", Map.of("EXT_1", "{1} / {0}"))
+                .regulator("mfds", "en", Map.of("EXT_2", "mfds only"))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("GetMessageTests")
+    class GetMessageTests {
+        @ParameterizedTest
+        @CsvSource({
+                "fda, en, TID_1, Hello FDA",    // 규제기관 우선
+                "fda, ko, TID_1, Hello FDA",    // 규제기관의 기본 언어가 공통보다 우선
+                "mfds, ko, TID_1, 안녕",         // 규제기관에 없으면 공통
+                "mfds, ja, TID_1, Hello",       // 미지원 언어 -> 기본 언어
+                "mfds, ko, TID_3, common only", // 공통의 기본 언어
+                "ce, ko, TID_1, 안녕",           // 없는 규제기관 -> 공통
+                ", ko, TID_1, 안녕",             // 규제기관 미설정 -> 공통
+                "fda, , TID_1, Hello FDA",      // 언어 미설정 -> 기본 언어
+                "fda, ko, EXT_2, ",             // 다른 규제기관의 message 는 조회하지 않음
+                "fda, ko, UNKNOWN, ",           // 없는 tid
+        })
+        @DisplayName("getMessage test - 규제기관 -> 공통, 요청 언어 -> 기본 언어 순서로 조회")
+        void fallbackTest(final String regulator, final String language, final String tid, final String expected) {
+            // when, then
+            Assertions.assertEquals(expected, catalog.getMessage(regulator, language, tid, null));
+        }
+
+        @Test
+        @DisplayName("getMessage test - argument format")
+        void formatTest() {
+            // when, then
+            Assertions.assertEquals("Hello, Waldo", catalog.getMessage("mfds", "en", "TID_2", new Object[]{ "Waldo" }));
+            Assertions.assertEquals("b / a", catalog.getMessage("fda", "ko", "EXT_1", new Object[]{ "a", "b" }));
+
+            // argument 가 없으면 MessageSource 와 동일하게 원문 반환
+            Assertions.assertEquals("{0}, 안녕", catalog.getMessage("mfds", "ko", "TID_2", new Object[]{ }));
+        }
+
+        @Test
+        @DisplayName("getMessage test - 여러 thread 에서 같은 message 를 동시에 format")
+        void concurrentFormatTest() {
+            // given
+            final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            try {
+                // when
+                final CompletableFuture<?>[] futures = IntStream.range(0, 1000)
+                        .mapToObj(i -> CompletableFuture.runAsync(() -> Assertions.assertEquals(
+                                i + " / " + (i + 1),
+                                catalog.getMessage("fda", "en", "EXT_1", new Object[]{ "" + i, "" + (i + 1) })
+                        ), executor))
+                        .toArray(CompletableFuture[]::new);
+
+                // then
+                Assertions.assertDoesNotThrow(() -> CompletableFuture.allOf(futures).join());
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("getRegulators / size test")
+        void summaryTest() {
+            // when, then
+            Assertions.assertEquals(Set.of("fda", "mfds"), catalog.getRegulators());
+            Assertions.assertEquals(9, catalog.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("ToBuilderTests")
+    class ToBuilderTests {
+        @Test
+        @DisplayName("toBuilder test - 변경한 파일만 교체하고 나머지는 기존 parsing 결과 사용")
+        void replaceTest() {
+            // when
+            final I18nMessageCatalog replaced = catalog.toBuilder()
+                    .common("ko", Map.of("TID_1", "안녕하세요"))
+                    .build();
+
+            // then - 새 catalog 만 변경, 기존 catalog 는 그대로
+            Assertions.assertEquals("안녕하세요", replaced.getMessage("mfds", "ko", "TID_1", null));
+            Assertions.assertEquals("안녕", catalog.getMessage("mfds", "ko", "TID_1", null));
+            Assertions.assertSame(catalog.find("fda", "en", "EXT_1"), replaced.find("fda", "en", "EXT_1"));
+        }
+
+        @Test
+        @DisplayName("toBuilder test - 삭제된 파일의 message 제외")
+        void removeTest() {
+            // when - mfds 는 마지막 언어까지 삭제, 없는 규제기관 삭제는 무시
+            final I18nMessageCatalog removed = catalog.toBuilder()
+                    .removeCommon("ko")
+                    .removeRegulator("fda", "ko")
+                    .removeRegulator("mfds", "en")
+                    .removeRegulator("ce", "en")
+                    .build();
+
+            // then
+            Assertions.assertEquals(Set.of("fda"), removed.getRegulators());
+            Assertions.assertEquals("Hello", removed.getMessage("mfds", "ko", "TID_1", null));
+            Assertions.assertEquals("a / b", removed.getMessage("fda", "ko", "EXT_1", new Object[]{ "a", "b" }));
+            Assertions.assertEquals(9, catalog.size());
+            Assertions.assertEquals(5, removed.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("FallbackChainTests")
+    class FallbackChainTests {
+        @ParameterizedTest
+        @CsvSource({
+                "fda, ko, 4",   // fda ko -> fda en -> common ko -> common en
+                "fda, en, 2",   // fda en -> common en
+                "fda, ja, 2",   // 미지원 언어 -> 기본 언어 순서
+                "mfds, ko, 3",  // mfds en -> common ko -> common en ( mfds ko 없음 )
+                "ce, ko, 2",    // 없는 규제기관 -> common ko -> common en
+                ", , 1",        // 규제기관 / 언어 미설정 -> common en
+        })
+        @DisplayName("chain test - ( 규제기관, 언어 ) 별 조회 순서를 미리 계산")
+        void chainTest(final String regulator, final String language, final int length) {
+            // when, then
+            Assertions.assertEquals(length, catalog.chain(regulator, language).length());
+            Assertions.assertSame(catalog.chain(regulator, language), catalog.chain(regulator, language));
+        }
+
+        @Test
+        @DisplayName("find test - 찾지 못한 token ID 는 기억해두고 map 조회 생략")
+        void missTest() {
+            // given
+            final I18nMessageCatalog.FallbackChain chain = catalog.chain("fda", "ko");
+
+            // when - 같은 token ID 를 여러번 조회
+            Assertions.assertNull(chain.find("UNKNOWN"));
+            Assertions.assertNull(chain.find("UNKNOWN"));
+            Assertions.assertNotNull(chain.find("TID_1"));
+
+            // then - 찾지 못한 token ID 만 1번 기록, 다른 조회 순서에는 영향 없음
+            Assertions.assertEquals(1, chain.missCount());
+            Assertions.assertEquals(0, catalog.chain("fda", "en").missCount());
+
+            // when, then - null 은 기록하지 않음
+            Assertions.assertNull(chain.find(null));
+            Assertions.assertEquals(1, chain.missCount());
+        }
+
+        @Test
+        @DisplayName("find test - 기억하는 token ID 개수 제한")
+        void missLimitTest() {
+            // given
+            final I18nMessageCatalog.FallbackChain chain = catalog.chain("fda", "ko");
+
+            // when
+            for (int i = 0; i < I18nMessageCatalog.FallbackChain.MAX_MISSES + 10; i++) {
+                Assertions.assertNull(chain.find("UNKNOWN_" + i));
+            }
+
+            // then
+            Assertions.assertEquals(I18nMessageCatalog.FallbackChain.MAX_MISSES, chain.missCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("BundleTests")
+    class BundleTests {
+        @Test
+        @DisplayName("getPattern test - format 하지 않은 원문 조회")
+        void getPatternTest() {
+            // when, then
+            Assertions.assertEquals("{1} / {0}", catalog.getPattern("fda", "ko", "EXT_1"));
+            Assertions.assertEquals("Hello FDA", catalog.getPattern("fda", "ko", "TID_1"));
+            Assertions.assertNull(catalog.getPattern("fda", "ko", "UNKNOWN"));
+        }
+
+        @Test
+        @DisplayName("getMessages test - 조회 순서를 적용한 전체 message ( 앞 순서 우선 )")
+        void getMessagesTest() {
+            // when
+            final Map<String, String> messages = catalog.getMessages("fda", "ko");
+
+            // then - token ID 순
+            Assertions.assertEquals(List.of("EXT_1", "TID_1", "TID_2", "TID_3"), List.copyOf(messages.keySet()));
+            Assertions.assertEquals("{1} / {0}", messages.get("EXT_1"));    // fda ko
+            Assertions.assertEquals("Hello FDA", messages.get("TID_1"));    // fda en
+            Assertions.assertEquals("{0}, 안녕", messages.get("TID_2"));     // common ko
+            Assertions.assertEquals("common only", messages.get("TID_3"));  // common en
+            Assertions.assertSame(messages, catalog.getMessages("fda", "ko"));
+            Assertions.assertThrows(UnsupportedOperationException.class, () -> messages.put("TID_4", "new"));
+        }
+
+        @Test
+        @DisplayName("getMessageBundle test - json / gzip 직렬화 및 재사용")
+        void getMessageBundleTest() throws IOException {
+            // when
+            final MessageBundle bundle = catalog.getMessageBundle("mfds", "en");
+
+            // then
+            final byte[] json = bundle.jsonStream().readAllBytes();
+            Assertions.assertEquals(json.length, bundle.jsonLength());
+            final Map<?, ?> messages = JsonUtil.objectMapper.readValue(json, Map.class);
+            Assertions.assertEquals(catalog.getMessages("mfds", "en"), messages);
+            try (InputStream is = new GZIPInputStream(bundle.gzipStream())) {
+                Assertions.assertArrayEquals(json, is.readAllBytes());
+            }
+            Assertions.assertEquals(bundle.gzipStream().readAllBytes().length, bundle.gzipLength());
+            Assertions.assertTrue(bundle.etag().startsWith("W/\""));
+            Assertions.assertSame(bundle, catalog.getMessageBundle("mfds", "en"));
+            Assertions.assertNotEquals(bundle.etag(), catalog.getMessageBundle("fda", "en").etag());
+        }
+
+        @Test
+        @DisplayName("MessageBundle test - 전달한 배열을 수정해도 bundle 내용은 유지")
+        void messageBundleCopyTest() throws IOException {
+            // given
+            final byte[] json = "{}".getBytes(StandardCharsets.UTF_8);
+            final byte[] gzip = new byte[]{ 0x1f, (byte) 0x8b };
+            final MessageBundle bundle = new MessageBundle("W/\"etag\"", json, gzip);
+
+            // when
+            json[0] = '[';
+            gzip[0] = 0;
+
+            // then
+            Assertions.assertArrayEquals("{}".getBytes(StandardCharsets.UTF_8), bundle.jsonStream().readAllBytes());
+            Assertions.assertArrayEquals(new byte[]{ 0x1f, (byte) 0x8b }, bundle.gzipStream().readAllBytes());
+        }
+
+        @Test
+        @DisplayName("getMessageBundle test - 내용이 같으면 catalog 가 교체되어도 같은 ETag")
+        void etagTest() {
+            // given
+            final MessageBundle bundle = catalog.getMessageBundle("fda", "ko");
+
+            // when
+            final I18nMessageCatalog same = catalog.toBuilder().build();
+            final I18nMessageCatalog changed = catalog.toBuilder()
+                                                      .regulator("fda", "ko", Map.of("EXT_1", "changed"))
+                                                      .build();
+
+            // then
+            Assertions.assertNotSame(bundle, same.getMessageBundle("fda", "ko"));
+            Assertions.assertEquals(bundle.etag(), same.getMessageBundle("fda", "ko").etag());
+            Assertions.assertNotEquals(bundle.etag(), changed.getMessageBundle("fda", "ko").etag());
+        }
+
+        @Test
+        @DisplayName("encode test - 직렬화 실패")
+        void encodeFailureTest() throws JsonProcessingException {
+            // given
+            final ObjectMapper mockObjectMapper = mock(ObjectMapper.class);
+            when(mockObjectMapper.writeValueAsBytes(any())).thenThrow(new JsonProcessingException("failure") {
+            });
+            final Map<String, String> messages = Map.of("TID_1", "Hello");
+
+            // when, then
+            Assertions.assertThrows(CommonRuntimeException.class,
+                                    () -> MessageBundleEncoder.encode(mockObjectMapper, messages));
+        }
+    }
+
+    @Nested
+    @DisplayName("CompiledMessageTests")
+    class CompiledMessageTests {
+        @ParameterizedTest
+        @CsvSource(quoteCharacter = '"', value = {
+                "Hello, true",
+                "\"Hello, {0}\", false",
+                "it''s, false",     // quote 는 MessageFormat 으로 처리
+        })
+        @DisplayName("compile test - placeholder / quote 가 없으면 상수")
+        void constantTest(final String pattern, final boolean constant) {
+            // when
+            final CompiledMessage message = CompiledMessage.compile(pattern, Locale.ENGLISH);
+
+            // then
+            Assertions.assertEquals(constant, message.isConstant());
+            Assertions.assertEquals(pattern, message.getPattern());
+            Assertions.assertEquals(pattern, message.format(null));
+        }
+
+        @Test
+        @DisplayName("compile test - 잘못된 pattern 은 원문을 반환하는 상수")
+        void invalidPatternTest() {
+            // when
+            final CompiledMessage message = CompiledMessage.compile("Hello, {0", Locale.ENGLISH);
+
+            // then
+            Assertions.assertTrue(message.isConstant());
+            Assertions.assertEquals("Hello, {0", message.format(new Object[]{ "Waldo" }));
+        }
+
+        @Test
+        @DisplayName("format test - quote 처리")
+        void quoteTest() {
+            // when, then
+            Assertions.assertEquals("it's Waldo",
+                                    CompiledMessage.compile("it''s {0}", Locale.ENGLISH)
+                                                   .format(new Object[]{ "Waldo" }));
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.kelly.base.common.i18n;
 
 import com.kelly.base.common.config.CommonBeanConfig;
 import com.kelly.base.common.exception.CommonRuntimeException;
+import com.kelly.base.common.i18n.config.I18nMessageCatalogLoader;
 import com.kelly.base.common.i18n.config.I18nMessageSourceConfig;
+import com.kelly.base.common.interfaces.II18nMessageService.MessageBundle;
 import com.kelly.base.common.response.CommonResultCode;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -14,15 +16,18 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Import;
-import org.springframework.context.support.ReloadableResourceBundleMessageSource;
-import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
 @EnableConfigurationProperties(value = I18nProperties.class)
@@ -56,6 +61,9 @@ class I18nMessageServiceTests {
                 "ae, fda, EXT_TID_90001, Hello there!",     // 아베스타어 미지원 -> 기본값(영어)
                 // 없는 tid
                 "en, mfds, UNKNOWN, UNKNOWN",
+                // 없는 규제기관 -> 공통
+                "ko, ce, TID_99991, 안녕",
+                "ko, ce, EXT_TID_90001, EXT_TID_90001",
         })
         @DisplayName("getMessage test - 일반적인 message 확인")
         void getMessageCommonTest(final String languageCode, final String regulator, final String tid,
@@ -102,6 +110,91 @@ class I18nMessageServiceTests {
             // then
             Assertions.assertEquals(expectedResult, result);
         }
+
+        @Test
+        @DisplayName("getMessage test - 언어 / 규제기관이 설정되지 않은 경우 기본 언어의 공통 message")
+        void getMessageWithoutContextTest() {
+            // given
+            I18nContext.clear();
+
+            // when, then
+            Assertions.assertEquals("Hello", i18nMessageService.getMessage("TID_99991"));
+            Assertions.assertEquals("Hello, 왈도", i18nMessageService.getMessage("TID_99992", "왈도"));
+        }
+    }
+
+    @Nested
+    @DisplayName("getMessagesTests")
+    class GetMessagesTests {
+        @Test
+        @DisplayName("getMessages test - token ID 목록 조회 ( 없는 token ID 는 그대로 반환 )")
+        void getMessagesTest() {
+            // given
+            I18nContext.setLanguage("ko");
+            I18nContext.setRegulator("fda");
+
+            // when
+            final Map<String, String> messages = i18nMessageService.getMessages(
+                    List.of("TID_99992", "EXT_TID_90001", "UNKNOWN")
+            );
+
+            // then - 요청한 순서, format 하지 않은 원문
+            Assertions.assertEquals(List.of("TID_99992", "EXT_TID_90001", "UNKNOWN"), List.copyOf(messages.keySet()));
+            Assertions.assertEquals("{0}, 안녕", messages.get("TID_99992"));
+            Assertions.assertEquals("안녕하신가!", messages.get("EXT_TID_90001"));
+            Assertions.assertEquals("UNKNOWN", messages.get("UNKNOWN"));
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "EXT_TID_, 4",
+                "TID_9999, 2",
+                "EXT_TID_9000, 4",
+                "NONE_, 0",
+                ", 6",          // namespace 미설정 -> 전체
+        })
+        @DisplayName("getMessagesByNamespace test - token ID prefix 로 조회")
+        void getMessagesByNamespaceTest(final String namespace, final int size) {
+            // given
+            I18nContext.setLanguage("ko");
+            I18nContext.setRegulator("mfds");
+
+            // when
+            final Map<String, String> messages = i18nMessageService.getMessagesByNamespace(namespace);
+
+            // then
+            Assertions.assertEquals(size, messages.size());
+            messages.keySet().forEach(tid -> Assertions.assertTrue(namespace == null || tid.startsWith(namespace)));
+        }
+
+        @Test
+        @DisplayName("getMessagesByNamespace test - 빈 namespace 는 전체 조회")
+        void getMessagesByEmptyNamespaceTest() {
+            // given
+            I18nContext.clear();
+
+            // when
+            final Map<String, String> messages = i18nMessageService.getMessagesByNamespace("");
+
+            // then - 기본 언어의 공통 message
+            Assertions.assertEquals(Map.of("TID_99991", "Hello", "TID_99992", "Hello, {0}"), messages);
+        }
+
+        @Test
+        @DisplayName("getMessageBundle test - ( 규제기관, 언어 ) 별 bundle")
+        void getMessageBundleTest() {
+            // given
+            I18nContext.setLanguage("en");
+            I18nContext.setRegulator("fda");
+
+            // when
+            final MessageBundle bundle = i18nMessageService.getMessageBundle();
+
+            // then
+            Assertions.assertSame(bundle, i18nMessageService.getMessageBundle());
+            I18nContext.setLanguage("ko");
+            Assertions.assertNotEquals(bundle.etag(), i18nMessageService.getMessageBundle().etag());
+        }
     }
 
     @Nested
@@ -115,28 +208,110 @@ class I18nMessageServiceTests {
         }
 
         @Test
-        @DisplayName("reload test - exception 발생")
-        void reloadExceptionTest() {
-            // given - clearCache 처리시 exception 발생
-            final ReloadableResourceBundleMessageSource mockMessageSource
-                    = mock(ReloadableResourceBundleMessageSource.class);
-            doThrow(UnsupportedOperationException.class).when(mockMessageSource).clearCache();
+        @DisplayName("reload test - 새로 읽은 catalog 로 교체")
+        void reloadSwapTest() throws IOException {
+            // given - 최초 로딩 후 message 가 변경됨
+            final I18nMessageCatalogLoader mockLoader = mock(I18nMessageCatalogLoader.class);
+            when(mockLoader.load()).thenReturn(
+                    I18nMessageCatalog.builder("en").common("en", Map.of("TID_1", "before")).build(),
+                    I18nMessageCatalog.builder("en").common("en", Map.of("TID_1", "after")).build()
+            );
+            final I18nMessageService localI18nMessageService = new I18nMessageService(
+                    mockLoader, new I18nProperties()
+            );
+            localI18nMessageService.init();
+            I18nContext.setLanguage("en");
+            Assertions.assertEquals("before", localI18nMessageService.getMessage("TID_1"));
+
+            // when
+            localI18nMessageService.reload();
+
+            // then
+            Assertions.assertEquals("after", localI18nMessageService.getMessage("TID_1"));
+        }
 
+        @Test
+        @DisplayName("reload test - exception 발생")
+        void reloadExceptionTest() throws IOException {
+            // given - 최초 로딩은 성공, reload 시 파일 읽기 실패
+            final I18nMessageCatalogLoader mockLoader = mock(I18nMessageCatalogLoader.class);
+            when(mockLoader.load())
+                    .thenReturn(I18nMessageCatalog.builder("en").common("en", Map.of("TID_1", "before")).build())
+                    .thenThrow(new IOException("read failure"));
             final I18nMessageService localI18nMessageService = new I18nMessageService(
-                    null,
-                    Map.of(
-                            "1", mock(ResourceBundleMessageSource.class),
-                            "2", mockMessageSource
-                    ),
-                    null
+                    mockLoader, new I18nProperties()
             );
+            localI18nMessageService.init();
 
             // when
             final CommonRuntimeException exception
                     = Assertions.assertThrows(CommonRuntimeException.class, localI18nMessageService::reload);
 
-            // then
+            // then - 기존 catalog 유지
             Assertions.assertEquals(CommonResultCode.INTERNAL_SERVER_ERROR, exception.getResultCode());
+            I18nContext.setLanguage("en");
+            Assertions.assertEquals("before", localI18nMessageService.getMessage("TID_1"));
+        }
+
+        @Test
+        @DisplayName("reload test - 변경된 파일만 다시 읽어 교체")
+        void reloadFilesTest() throws IOException {
+            // given
+            final List<Path> files = List.of(Path.of("common", "messages_en.json"));
+            final I18nMessageCatalog before = I18nMessageCatalog.builder("en")
+                    .common("en", Map.of("TID_1", "before")).build();
+            final I18nMessageCatalogLoader mockLoader = mock(I18nMessageCatalogLoader.class);
+            when(mockLoader.load()).thenReturn(before);
+            when(mockLoader.reload(eq(before), eq(files)))
+                    .thenReturn(before.toBuilder().common("en", Map.of("TID_1", "after")).build());
+            final I18nMessageService localI18nMessageService = new I18nMessageService(
+                    mockLoader, new I18nProperties()
+            );
+            localI18nMessageService.init();
+
+            // when
+            localI18nMessageService.reload(files);
+
+            // then
+            I18nContext.setLanguage("en");
+            Assertions.assertEquals("after", localI18nMessageService.getMessage("TID_1"));
+        }
+
+        @Test
+        @DisplayName("reload test - 변경된 파일 읽기 실패시 기존 catalog 유지")
+        void reloadFilesExceptionTest() throws IOException {
+            // given
+            final I18nMessageCatalogLoader mockLoader = mock(I18nMessageCatalogLoader.class);
+            when(mockLoader.load())
+                    .thenReturn(I18nMessageCatalog.builder("en").common("en", Map.of("TID_1", "before")).build());
+            when(mockLoader.reload(any(), any())).thenThrow(new IOException("read failure"));
+            final I18nMessageService localI18nMessageService = new I18nMessageService(
+                    mockLoader, new I18nProperties()
+            );
+            localI18nMessageService.init();
+
+            // when, then
+            Assertions.assertThrows(CommonRuntimeException.class,
+                                    () -> localI18nMessageService.reload(List.of(Path.of("messages_en.json"))));
+            I18nContext.setLanguage("en");
+            Assertions.assertEquals("before", localI18nMessageService.getMessage("TID_1"));
+        }
+
+        @Test
+        @DisplayName("init test - 최초 로딩 실패시 빈 catalog 로 시작")
+        void initExceptionTest() throws IOException {
+            // given
+            final I18nMessageCatalogLoader mockLoader = mock(I18nMessageCatalogLoader.class);
+            when(mockLoader.load()).thenThrow(new IOException("read failure"));
+            final I18nMessageService localI18nMessageService = new I18nMessageService(
+                    mockLoader, new I18nProperties()
+            );
+
+            // when
+            Assertions.assertDoesNotThrow(localI18nMessageService::init);
+
+            // then - token ID 반환
+            Assertions.assertEquals("TID_1", localI18nMessageService.getMessage("TID_1"));
         }
     }
 }
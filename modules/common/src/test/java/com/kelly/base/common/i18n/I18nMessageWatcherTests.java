@@ -0,0 +1,246 @@
+package com.kelly.base.common.i18n;
+
+import com.kelly.base.common.exception.CommonRuntimeException;
+import com.kelly.base.common.i18n.config.I18nMessageCatalogLoader;
+import com.kelly.base.common.response.CommonResultCode;
+import com.kelly.base.common.utils.JsonUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("I18nMessageWatcherTests")
+class I18nMessageWatcherTests {
+    @TempDir
+    private Path tempDir;
+
+    private I18nMessageService messageService;
+
+    private I18nMessageWatcher watcher;
+
+    @BeforeEach
+    void init() throws IOException {
+        Files.createDirectories(tempDir.resolve("common"));
+        Files.createDirectories(tempDir.resolve("product"));
+        Files.writeString(tempDir.resolve("common/messages_en.json"), "{\"TID_1\": \"Hello\"}");
+        Files.writeString(tempDir.resolve("product/messages_fda_en.properties"), "EXT_1=Hello FDA");
+
+        final I18nProperties i18nProperties = new I18nProperties();
+        i18nProperties.setResourcePath("file:" + tempDir);
+        i18nProperties.getWatch().setEnabled(true);
+        i18nProperties.getWatch().setDebounceMs(50L);
+        messageService = new I18nMessageService(
+                new I18nMessageCatalogLoader(i18nProperties, JsonUtil.objectMapper,
+                                             new PathMatchingResourcePatternResolver()),
+                i18nProperties
+        );
+        messageService.init();
+        Assertions.assertTrue(i18nProperties.getWatch().isEnabled());
+        watcher = new I18nMessageWatcher(
+                new FileSystemResource(tempDir), messageService, i18nProperties.getWatch().getDebounceMs()
+        );
+        I18nContext.setLanguage("en");
+        I18nContext.setRegulator("fda");
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.close();
+        I18nContext.clear();
+    }
+
+    private static void waitUntil(final BooleanSupplier condition) throws InterruptedException {
+        // file system 에 따라 WatchService 가 polling 으로 동작할 수 있으므로 넉넉하게 대기
+        final long deadline = System.currentTimeMillis() + 15000L;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20L);
+        }
+        Assertions.assertTrue(condition.getAsBoolean());
+    }
+
+    @Nested
+    @DisplayName("WatchTests")
+    class WatchTests {
+        @Test
+        @DisplayName("watch test - 변경 / 생성 / 삭제된 파일 반영")
+        void watchTest() throws IOException, InterruptedException {
+            // given
+            watcher.start();
+
+            // when, then - 수정
+            Files.writeString(tempDir.resolve("common/messages_en.json"), "{\"TID_1\": \"Hi\"}");
+            waitUntil(() -> "Hi".equals(messageService.getMessage("TID_1")));
+
+            // when, then - 생성
+            Files.writeString(tempDir.resolve("product/messages_fda_ko.properties"), "EXT_1=안녕 FDA");
+            I18nContext.setLanguage("ko");
+            waitUntil(() -> "안녕 FDA".equals(messageService.getMessage("EXT_1")));
+
+            // when, then - 삭제
+            Files.delete(tempDir.resolve("product/messages_fda_ko.properties"));
+            waitUntil(() -> "Hello FDA".equals(messageService.getMessage("EXT_1")));
+        }
+
+        @Test
+        @DisplayName("close test - 감시 thread 종료")
+        void closeTest() throws IOException, InterruptedException {
+            // given - product 디렉터리가 없어도 common 만 감시
+            Files.delete(tempDir.resolve("product/messages_fda_en.properties"));
+            Files.delete(tempDir.resolve("product"));
+            watcher.start();
+            final Thread thread = (Thread) ReflectionTestUtils.getField(watcher, "thread");
+            Assertions.assertNotNull(thread);
+            Assertions.assertEquals(I18nMessageWatcher.WATCHER_THREAD_NAME, thread.getName());
+
+            // when
+            watcher.close();
+
+            // then
+            thread.join(5000L);
+            Assertions.assertFalse(thread.isAlive());
+        }
+
+        @Test
+        @DisplayName("start test - file system 경로가 아닌 경우 감시하지 않음")
+        void notFileTest() {
+            // given
+            final Resource mockResource = mock(Resource.class);
+            when(mockResource.isFile()).thenReturn(false);
+            final I18nMessageWatcher notFileWatcher = new I18nMessageWatcher(mockResource, messageService, 50L);
+
+            // when
+            notFileWatcher.start();
+            notFileWatcher.close();
+
+            // then
+            Assertions.assertNull(ReflectionTestUtils.getField(notFileWatcher, "thread"));
+        }
+
+        @Test
+        @DisplayName("start test - 디렉터리 확인 실패")
+        void startFailureTest() throws IOException {
+            // given
+            final Resource mockResource = mock(Resource.class);
+            when(mockResource.isFile()).thenReturn(true);
+            when(mockResource.getFile()).thenThrow(new IOException("file failure"));
+            final I18nMessageWatcher failureWatcher = new I18nMessageWatcher(mockResource, messageService, 50L);
+
+            // when
+            Assertions.assertDoesNotThrow(failureWatcher::start);
+
+            // then
+            Assertions.assertNull(ReflectionTestUtils.getField(failureWatcher, "thread"));
+        }
+
+        @Test
+        @DisplayName("close test - WatchService 종료 실패")
+        void closeFailureTest() throws IOException {
+            // given
+            final WatchService mockWatchService = mock(WatchService.class);
+            doThrow(new IOException("close failure")).when(mockWatchService).close();
+            ReflectionTestUtils.setField(watcher, "watchService", mockWatchService);
+
+            // when, then
+            Assertions.assertDoesNotThrow(watcher::close);
+        }
+
+        @Test
+        @DisplayName("run test - 대기중 interrupt 되면 종료")
+        void interruptTest() throws InterruptedException {
+            // given
+            final WatchService mockWatchService = mock(WatchService.class);
+            when(mockWatchService.take()).thenThrow(new InterruptedException("interrupted"));
+            ReflectionTestUtils.setField(watcher, "watchService", mockWatchService);
+
+            // when
+            watcher.run();
+
+            // then - interrupt 상태 유지
+            Assertions.assertTrue(Thread.interrupted());
+        }
+    }
+
+    @Nested
+    @DisplayName("PublishTests")
+    class PublishTests {
+        @Test
+        @DisplayName("collect test - 변경된 파일 경로 / 유실된 event 확인")
+        void collectTest() {
+            // given
+            final WatchEvent<?> modifyEvent = mock(WatchEvent.class);
+            doReturn(StandardWatchEventKinds.ENTRY_MODIFY).when(modifyEvent).kind();
+            doReturn(Path.of("messages_en.json")).when(modifyEvent).context();
+            final WatchEvent<?> overflowEvent = mock(WatchEvent.class);
+            doReturn(StandardWatchEventKinds.OVERFLOW).when(overflowEvent).kind();
+            final WatchKey mockKey = mock(WatchKey.class);
+            when(mockKey.watchable()).thenReturn(tempDir.resolve("common"));
+            doReturn(List.of(modifyEvent)).when(mockKey).pollEvents();
+            final Set<Path> changed = new LinkedHashSet<>();
+
+            // when, then
+            Assertions.assertFalse(I18nMessageWatcher.collect(mockKey, changed));
+            Assertions.assertEquals(Set.of(tempDir.resolve("common/messages_en.json")), changed);
+
+            // when, then - 유실된 event
+            doReturn(List.of(overflowEvent)).when(mockKey).pollEvents();
+            Assertions.assertTrue(I18nMessageWatcher.collect(mockKey, changed));
+            verify(mockKey, times(2)).reset();
+        }
+
+        @Test
+        @DisplayName("publish test - 변경된 파일만 / 유실된 event 가 있으면 전체 reload")
+        void publishTest() {
+            // given
+            final I18nMessageService mockService = mock(I18nMessageService.class);
+            final I18nMessageWatcher mockWatcher = new I18nMessageWatcher(
+                    new FileSystemResource(tempDir), mockService, 50L
+            );
+            final Set<Path> changed = Set.of(tempDir.resolve("common/messages_en.json"));
+
+            // when
+            mockWatcher.publish(changed, false);
+            mockWatcher.publish(changed, true);
+
+            // then
+            verify(mockService).reload(changed);
+            verify(mockService).reload();
+        }
+
+        @Test
+        @DisplayName("publish test - reload 실패시 기존 catalog 유지")
+        void publishFailureTest() {
+            // given
+            final I18nMessageService mockService = mock(I18nMessageService.class);
+            final Set<Path> changed = Set.of(tempDir.resolve("common/messages_en.json"));
+            doThrow(new CommonRuntimeException(CommonResultCode.INTERNAL_SERVER_ERROR, "reload failure"))
+                    .when(mockService).reload(changed);
+            final I18nMessageWatcher mockWatcher = new I18nMessageWatcher(
+                    new FileSystemResource(tempDir), mockService, 50L
+            );
+
+            // when, then
+            Assertions.assertDoesNotThrow(() -> mockWatcher.publish(changed, false));
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.kelly.base.common.i18n.config;
+
+import com.kelly.base.common.i18n.I18nMessageCatalog;
+import com.kelly.base.common.i18n.I18nProperties;
+import com.kelly.base.common.utils.JsonUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("I18nMessageCatalogLoaderTests")
+class I18nMessageCatalogLoaderTests {
+    private I18nProperties i18nProperties;
+
+    @BeforeEach
+    void init() {
+        i18nProperties = new I18nProperties();
+        i18nProperties.setResourcePath("classpath:config/i18n");
+    }
+
+    @Nested
+    @DisplayName("LoadTests")
+    class LoadTests {
+        @Test
+        @DisplayName("load test - 공통 json / 규제기관 properties 로딩")
+        void loadTest() throws IOException {
+            // given
+            final I18nMessageCatalogLoader loader = new I18nMessageCatalogLoader(
+                    i18nProperties, JsonUtil.objectMapper, new PathMatchingResourcePatternResolver()
+            );
+
+            // when
+            final I18nMessageCatalog catalog = loader.load();
+
+            // then - common 2개 언어 * 2개, product 4개 파일 * 4개
+            Assertions.assertEquals(Set.of("fda", "mfds"), catalog.getRegulators());
+            Assertions.assertEquals(20, catalog.size());
+            Assertions.assertEquals("안녕하신가!", catalog.getMessage("fda", "ko", "EXT_TID_90001", null));
+            Assertions.assertEquals("Hello, 왈도", catalog.getMessage("mfds", "en", "TID_99992", new Object[]{ "왈도" }));
+        }
+
+        @Test
+        @DisplayName("load test - 파일 이름 포맷이 맞지 않는 리소스는 제외")
+        void invalidFilenameTest() throws IOException {
+            // given - 파일 이름이 없거나 포맷이 맞지 않는 리소스
+            final Resource noNameResource = mock(Resource.class);
+            when(noNameResource.getFilename()).thenReturn(null);
+            final Resource invalidNameResource = mock(Resource.class);
+            when(invalidNameResource.getFilename()).thenReturn("2nd_messages.properties");
+            final ResourcePatternResolver mockResolver = mock(ResourcePatternResolver.class);
+            when(mockResolver.getResources(anyString())).thenReturn(
+                    new Resource[]{ noNameResource, invalidNameResource }
+            );
+            final I18nMessageCatalogLoader loader = new I18nMessageCatalogLoader(
+                    i18nProperties, JsonUtil.objectMapper, mockResolver
+            );
+
+            // when
+            final I18nMessageCatalog catalog = loader.load();
+
+            // then
+            Assertions.assertEquals(0, catalog.size());
+        }
+
+        @Test
+        @DisplayName("load test - ResourceLoader 가 잘못 injection 되어 빈 catalog")
+        void loaderErrorTest() throws IOException {
+            // given
+            final I18nMessageCatalogLoader loader = new I18nMessageCatalogLoader(
+                    i18nProperties, JsonUtil.objectMapper, mock(ResourceLoader.class)   // ResourcePatternResolver 가 아님
+            );
+
+            // when
+            final I18nMessageCatalog catalog = loader.load();
+
+            // then
+            Assertions.assertEquals(0, catalog.size());
+            Assertions.assertTrue(catalog.getRegulators().isEmpty());
+        }
+
+        @Test
+        @DisplayName("load test - 파일 scan 실패")
+        void scanFailureTest() throws IOException {
+            // given
+            final ResourcePatternResolver mockResolver = mock(ResourcePatternResolver.class);
+            when(mockResolver.getResources(anyString())).thenThrow(new IOException("scan failure"));
+            final I18nMessageCatalogLoader loader = new I18nMessageCatalogLoader(
+                    i18nProperties, JsonUtil.objectMapper, mockResolver
+            );
+
+            // when, then
+            Assertions.assertThrows(IOException.class, loader::load);
+        }
+    }
+
+    @Nested
+    @DisplayName("ReloadTests")
+    class ReloadTests {
+        @TempDir
+        private Path tempDir;
+
+        private I18nMessageCatalogLoader loader;
+
+        private I18nMessageCatalog catalog;
+
+        @BeforeEach
+        void init() throws IOException {
+            Files.createDirectories(tempDir.resolve("common"));
+            Files.createDirectories(tempDir.resolve("product"));
+            Files.writeString(tempDir.resolve("common/messages_en.json"), "{\"TID_1\": \"Hello\"}");
+            Files.writeString(tempDir.resolve("product/messages_fda_en.properties"), "EXT_1=Hello FDA");
+            i18nProperties.setResourcePath("file:" + tempDir);
+            loader = new I18nMessageCatalogLoader(
+                    i18nProperties, JsonUtil.objectMapper, new PathMatchingResourcePatternResolver()
+            );
+            catalog = loader.load();
+        }
+
+        @Test
+        @DisplayName("reload test - 생성 / 수정된 파일만 다시 읽음")
+        void changedFileTest() throws IOException {
+            // given
+            final Path common = tempDir.resolve("common/messages_en.json");
+            final Path product = tempDir.resolve("product/messages_fda_ko.properties");
+            Files.writeString(common, "{\"TID_1\": \"Hi\"}");
+            Files.writeString(product, "EXT_1=안녕 FDA");
+
+            // when
+            final I18nMessageCatalog reloaded = loader.reload(catalog, List.of(common, product));
+
+            // then
+            Assertions.assertEquals("Hi", reloaded.getMessage(null, "en", "TID_1", null));
+            Assertions.assertEquals("안녕 FDA", reloaded.getMessage("fda", "ko", "EXT_1", null));
+            Assertions.assertEquals("Hello", catalog.getMessage(null, "en", "TID_1", null));
+        }
+
+        @Test
+        @DisplayName("reload test - 삭제된 파일의 message 제외")
+        void deletedFileTest() throws IOException {
+            // given
+            final Path common = tempDir.resolve("common/messages_en.json");
+            final Path product = tempDir.resolve("product/messages_fda_en.properties");
+            Files.delete(common);
+            Files.delete(product);
+
+            // when
+            final I18nMessageCatalog reloaded = loader.reload(catalog, List.of(common, product));
+
+            // then
+            Assertions.assertEquals(0, reloaded.size());
+            Assertions.assertTrue(reloaded.getRegulators().isEmpty());
+        }
+
+        @Test
+        @DisplayName("reload test - message 파일이 아닌 변경은 기존 catalog 유지")
+        void ignoredFileTest() throws IOException {
+            // given - 편집기 임시 파일, 다른 디렉터리, 디렉터리가 없는 경로
+            final List<Path> files = List.of(
+                    tempDir.resolve("common/messages_en.json.swp"),
+                    tempDir.resolve("product/messages.properties"),
+                    tempDir.resolve("messages_en.json"),
+                    Path.of("messages_en.json")
+            );
+
+            // when, then
+            Assertions.assertSame(catalog, loader.reload(catalog, files));
+        }
+
+        @Test
+        @DisplayName("reload test - 저장중인 파일 읽기 실패")
+        void invalidFileTest() throws IOException {
+            // given
+            final Path common = tempDir.resolve("common/messages_en.json");
+            Files.writeString(common, "{\"TID_1\": ");
+
+            // when, then
+            Assertions.assertThrows(IOException.class, () -> loader.reload(catalog, List.of(common)));
+        }
+    }
+}
@@ -0,0 +1,458 @@
+package com.kelly.base.common.sse;
+
+import com.kelly.base.common.interfaces.ISseClusterBus;
+import com.kelly.base.common.sse.dto.SseClusterMessage;
+import com.kelly.base.common.sse.dto.SseEvent;
+import com.kelly.base.common.sse.dto.SseEventType;
+import com.kelly.base.common.utils.DateTimeUtil;
+import com.kelly.base.common.utils.ValueGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("SseClusterRelayTests")
+class SseClusterRelayTests {
+    private static final String NODE_ID = "node-a";
+
+    private static final String REMOTE_NODE_ID = "node-b";
+
+    private SseProperties.Cluster properties;
+
+    private ISseClusterBus mockClusterBus;
+
+    private List<List<SseClusterMessage>> published;
+
+    private List<SseClusterMessage> delivered;
+
+    private long[] localUsers;
+
+    private AtomicLong clock;   // 현재 시간 (ms)
+
+    private SseClusterRelay relay;
+
+    @BeforeEach
+    void init() {
+        properties = new SseProperties.Cluster();
+        properties.setNodeId(NODE_ID);
+        properties.setNodeIndex(1);
+        properties.setBatchSize(2);
+        properties.setSyncIntervalMs(1000L);
+        properties.setNodeTimeoutMs(3000L);
+        mockClusterBus = mock(ISseClusterBus.class);
+        published = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> published.add(List.copyOf(invocation.getArgument(0))))
+                .when(mockClusterBus).publish(anyList());
+        delivered = new ArrayList<>();
+        localUsers = new long[0];
+        clock = new AtomicLong(10000L);
+        relay = createRelay(delivered::add);
+    }
+
+    private SseClusterRelay createRelay(final Consumer<SseClusterMessage> delivery) {
+        return new SseClusterRelay(properties, mockClusterBus, delivery, () -> localUsers, clock::get);
+    }
+
+    private static SseEvent createEvent() {
+        return new SseEvent(SseEventType.REFRESH_ANALYSIS, ValueGenerator.getNanoId(), DateTimeUtil.nowUtc(), Map.of());
+    }
+
+    private static SseClusterMessage remoteMessage(final SseClusterMessage.Type type, final long... userIds) {
+        return new SseClusterMessage(type, REMOTE_NODE_ID, userIds, null, null, 0L);
+    }
+
+    private List<SseClusterMessage> publishedMessages() {
+        return published.stream().flatMap(List::stream).toList();
+    }
+
+    @Test
+    @DisplayName("constructor test - nodeId 가 없는 경우 생성")
+    void nodeIdTest() {
+        // given
+        properties.setNodeId(" ");
+        final SseClusterRelay blank = createRelay(delivered::add);
+        properties.setNodeId(null);
+        final SseClusterRelay empty = new SseClusterRelay(properties, mockClusterBus, delivered::add, () -> localUsers);
+
+        // when
+        final Object blankNodeId = ReflectionTestUtils.getField(blank, "nodeId");
+        final Object emptyNodeId = ReflectionTestUtils.getField(empty, "nodeId");
+
+        // then
+        Assertions.assertNotNull(blankNodeId);
+        Assertions.assertFalse(blankNodeId.toString().isBlank());
+        Assertions.assertNotNull(emptyNodeId);
+        Assertions.assertNotEquals(blankNodeId, emptyNodeId);
+        Assertions.assertEquals(NODE_ID, ReflectionTestUtils.getField(relay, "nodeId"));
+    }
+
+    @Test
+    @DisplayName("constructor test - node 번호가 없거나 8 bit 범위를 넘는 경우 시작 실패")
+    void nodeIndexTest() {
+        // given - 범위의 마지막 값은 사용 가능
+        properties.setNodeIndex(SseReplayBuffer.MAX_NODE_INDEX);
+        Assertions.assertEquals(SseReplayBuffer.MAX_NODE_INDEX, createRelay(delivered::add).getNodeIndex());
+
+        // when, then
+        for (final Integer nodeIndex : new Integer[]{ null, -1, SseReplayBuffer.MAX_NODE_INDEX + 1 }) {
+            properties.setNodeIndex(nodeIndex);
+            Assertions.assertThrows(IllegalArgumentException.class, () -> createRelay(delivered::add));
+        }
+    }
+
+    @Nested
+    @DisplayName("ForwardTests")
+    class ForwardTests {
+        @Test
+        @DisplayName("forward test - 다른 node 에 연결이 없는 사용자는 전달하지 않음")
+        void forwardLocalOnlyTest() {
+            // when
+            final boolean toUser = relay.forwardToUser(1L, createEvent(), 1L);
+            final boolean disconnect = relay.forwardDisconnect(1L, createEvent(), 1L);
+            final boolean toTopic = relay.forwardToTopic("role:ADMIN", createEvent(), 1L);
+            final boolean toAll = relay.forwardToAll(createEvent(), 1L);
+            relay.flush();
+
+            // then - network 사용 없음
+            Assertions.assertFalse(toUser);
+            Assertions.assertFalse(disconnect);
+            Assertions.assertFalse(toTopic);
+            Assertions.assertFalse(toAll);
+            verify(mockClusterBus, never()).publish(anyList());
+        }
+
+        @Test
+        @DisplayName("forward test - 다른 node 에 연결된 사용자에게만 전달")
+        void forwardRemoteTest() {
+            // given - node-b 에 사용자 2 연결
+            relay.receive(List.of(remoteMessage(SseClusterMessage.Type.ROUTE_SYNC, 2L)));
+            final SseEvent event = createEvent();
+
+            // when
+            final boolean local = relay.forwardToUser(1L, event, 1L);
+            final boolean remote = relay.forwardToUser(2L, event, 11L);
+            final boolean disconnect = relay.forwardDisconnect(2L, event, 12L);
+            final boolean toTopic = relay.forwardToTopic("role:ADMIN", event, 13L);
+            final boolean toAll = relay.forwardToAll(event, 14L);
+            relay.flush();
+
+            // then - batchSize 단위로 전달
+            Assertions.assertFalse(local);
+            Assertions.assertTrue(remote);
+            Assertions.assertTrue(disconnect);
+            Assertions.assertTrue(toTopic);
+            Assertions.assertTrue(toAll);
+            Assertions.assertEquals(2, published.size());
+            final List<SseClusterMessage> messages = publishedMessages();
+            Assertions.assertEquals(List.of(SseClusterMessage.Type.USER, SseClusterMessage.Type.DISCONNECT,
+                                            SseClusterMessage.Type.TOPIC, SseClusterMessage.Type.ALL),
+                                    messages.stream().map(SseClusterMessage::type).toList());
+            Assertions.assertArrayEquals(new long[]{2L}, messages.get(0).userIds());
+            Assertions.assertSame(event, messages.get(0).event());
+            Assertions.assertEquals("role:ADMIN", messages.get(2).topic());
+            // 이 node 에서 발급한 sequence 를 함께 전달
+            Assertions.assertEquals(List.of(11L, 12L, 13L, 14L),
+                                    messages.stream().map(SseClusterMessage::sequence).toList());
+            Assertions.assertTrue(messages.stream().allMatch(message -> NODE_ID.equals(message.nodeId())));
+        }
+
+        @Test
+        @DisplayName("announce test - 연결 / 종료 변경분 전달")
+        void announceTest() {
+            // when
+            relay.announceConnected(1L);
+            relay.announceDisconnected(1L);
+            relay.flush();
+
+            // then
+            final List<SseClusterMessage> messages = publishedMessages();
+            Assertions.assertEquals(SseClusterMessage.Type.ROUTE_ADD, messages.get(0).type());
+            Assertions.assertEquals(SseClusterMessage.Type.ROUTE_REMOVE, messages.get(1).type());
+            Assertions.assertArrayEquals(new long[]{1L}, messages.get(1).userIds());
+        }
+
+        @Test
+        @DisplayName("forward test - 전달 대기 queue 가 가득 찬 경우 버림")
+        void forwardQueueFullTest() {
+            // given
+            properties.setQueueCapacity(1);
+            final SseClusterRelay smallRelay = createRelay(delivered::add);
+
+            // when
+            smallRelay.announceConnected(1L);
+            smallRelay.announceConnected(2L);
+
+            // then
+            Assertions.assertEquals(1L, smallRelay.getDroppedMessageCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("ReceiveTests")
+    class ReceiveTests {
+        @Test
+        @DisplayName("receive test - routing 정보 반영")
+        void receiveRouteTest() {
+            // when
+            relay.receive(List.of(
+                    remoteMessage(SseClusterMessage.Type.ROUTE_SYNC, 1L, 2L),
+                    remoteMessage(SseClusterMessage.Type.ROUTE_ADD, 3L),
+                    remoteMessage(SseClusterMessage.Type.ROUTE_REMOVE, 1L)
+            ));
+
+            // then
+            Assertions.assertFalse(relay.forwardToUser(1L, createEvent(), 1L));
+            Assertions.assertTrue(relay.forwardToUser(2L, createEvent(), 1L));
+            Assertions.assertTrue(relay.forwardToUser(3L, createEvent(), 1L));
+            Assertions.assertTrue(delivered.isEmpty());
+        }
+
+        @Test
+        @DisplayName("receive test - event message 는 이 node 의 연결로 전달")
+        void receiveDeliveryTest() {
+            // given
+            final SseClusterMessage message = new SseClusterMessage(
+                    SseClusterMessage.Type.USER, REMOTE_NODE_ID, new long[]{1L}, null, createEvent(), 1L
+            );
+
+            // when
+            relay.receive(List.of(message));
+
+            // then
+            Assertions.assertEquals(List.of(message), delivered);
+        }
+
+        @Test
+        @DisplayName("receive test - 자신이 보낸 message / 형식이 잘못된 message 무시")
+        void receiveIgnoreTest() {
+            // given
+            final List<SseClusterMessage> messages = new ArrayList<>();
+            messages.add(null);
+            messages.add(new SseClusterMessage(null, REMOTE_NODE_ID, new long[]{1L}, null, null, 0L));
+            messages.add(new SseClusterMessage(
+                    SseClusterMessage.Type.ROUTE_ADD, null, new long[]{1L}, null, null, 0L
+            ));
+            messages.add(new SseClusterMessage(
+                    SseClusterMessage.Type.ROUTE_ADD, NODE_ID, new long[]{1L}, null, null, 0L
+            ));
+
+            // when
+            relay.receive(messages);
+
+            // then
+            Assertions.assertFalse(relay.forwardToUser(1L, createEvent(), 1L));
+            Assertions.assertTrue(delivered.isEmpty());
+        }
+
+        @Test
+        @DisplayName("receive test - userIds 가 없는 routing message")
+        void receiveNoUsersTest() {
+            // when
+            relay.receive(List.of(remoteMessage(SseClusterMessage.Type.ROUTE_ADD, (long[]) null)));
+
+            // then
+            Assertions.assertFalse(relay.forwardToAll(createEvent(), 1L));
+        }
+
+        @Test
+        @DisplayName("receive test - 처리 중 exception 이 발생해도 나머지 message 처리")
+        void receiveExceptionTest() {
+            // given
+            final SseClusterRelay failingRelay = createRelay(message -> {
+                throw new IllegalStateException("delivery failure");
+            });
+
+            // when
+            failingRelay.receive(List.of(
+                    new SseClusterMessage(
+                            SseClusterMessage.Type.ALL, REMOTE_NODE_ID, null, null, createEvent(), 1L
+                    ),
+                    remoteMessage(SseClusterMessage.Type.ROUTE_ADD, 1L)
+            ));
+
+            // then
+            Assertions.assertTrue(failingRelay.forwardToUser(1L, createEvent(), 1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("RunOnceTests")
+    class RunOnceTests {
+        @Test
+        @DisplayName("runOnce test - 처음 실행시 전체 목록을 chunk 단위로 동기화")
+        void runOnceSyncTest() throws InterruptedException {
+            // given - chunk 3개
+            properties.setBatchSize(10);
+            localUsers = LongStream.rangeClosed(1L, SseClusterRelay.SYNC_CHUNK_SIZE * 2L + 1L).toArray();
+
+            // when
+            relay.runOnce(0L);
+
+            // then - 첫 chunk 는 교체, 이후 chunk 는 추가
+            final List<SseClusterMessage> messages = publishedMessages();
+            Assertions.assertEquals(List.of(SseClusterMessage.Type.ROUTE_SYNC, SseClusterMessage.Type.ROUTE_ADD,
+                                            SseClusterMessage.Type.ROUTE_ADD),
+                                    messages.stream().map(SseClusterMessage::type).toList());
+            Assertions.assertEquals(SseClusterRelay.SYNC_CHUNK_SIZE, messages.get(0).userIds().length);
+            Assertions.assertEquals(SseClusterRelay.SYNC_CHUNK_SIZE, messages.get(1).userIds().length);
+            Assertions.assertArrayEquals(new long[]{SseClusterRelay.SYNC_CHUNK_SIZE * 2L + 1L},
+                                         messages.get(2).userIds());
+        }
+
+        @Test
+        @DisplayName("runOnce test - 동기화 간격 이후에 다시 동기화하고 응답 없는 node 제거")
+        void runOnceIntervalTest() throws InterruptedException {
+            // given
+            relay.runOnce(0L);
+            relay.receive(List.of(remoteMessage(SseClusterMessage.Type.ROUTE_SYNC, 2L)));
+            relay.runOnce(0L);     // 새로운 node 확인 후 동기화
+            published.clear();
+
+            // when, then - 동기화 간격 이전
+            clock.addAndGet(999L);
+            relay.runOnce(0L);
+            Assertions.assertTrue(published.isEmpty());
+
+            // when, then - 동기화 간격 이후 ( node-b 는 아직 유지 )
+            clock.addAndGet(1L);
+            relay.runOnce(0L);
+            Assertions.assertEquals(SseClusterMessage.Type.ROUTE_SYNC, publishedMessages().get(0).type());
+            Assertions.assertTrue(relay.forwardToUser(2L, createEvent(), 1L));
+
+            // when, then - nodeTimeout 이후
+            clock.addAndGet(3000L);
+            relay.runOnce(0L);
+            Assertions.assertFalse(relay.forwardToUser(2L, createEvent(), 1L));
+        }
+
+        @Test
+        @DisplayName("runOnce test - 전달할 message 가 없는 경우 대기 후 반환")
+        void runOnceEmptyTest() throws InterruptedException {
+            // given - 처음 동기화
+            relay.runOnce(0L);
+            published.clear();
+
+            // when
+            relay.runOnce(1L);
+
+            // then
+            verify(mockClusterBus, times(1)).publish(anyList());
+            Assertions.assertTrue(published.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("LifecycleTests")
+    class LifecycleTests {
+        @Test
+        @DisplayName("start, close test - relay thread 에서 전달하고 종료시 연결 없음을 알림")
+        void startCloseTest() throws InterruptedException {
+            // given
+            properties.setFlushIntervalMs(1L);
+
+            // when
+            relay.start();
+            relay.announceConnected(1L);
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (publishedMessages().size() < 2 && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(1L);
+            }
+            relay.close();
+
+            // then - 시작시 동기화 / 연결 변경분 / 종료시 빈 목록 동기화
+            verify(mockClusterBus, times(1)).start(any());
+            verify(mockClusterBus, times(1)).close();
+            final List<SseClusterMessage> messages = publishedMessages();
+            Assertions.assertEquals(3, messages.size());
+            Assertions.assertTrue(messages.stream().anyMatch(
+                    message -> message.type() == SseClusterMessage.Type.ROUTE_ADD
+            ));
+            final SseClusterMessage last = messages.get(messages.size() - 1);
+            Assertions.assertEquals(SseClusterMessage.Type.ROUTE_SYNC, last.type());
+            Assertions.assertEquals(0, last.userIds().length);
+            final Thread relayThread = (Thread) ReflectionTestUtils.getField(relay, "relayThread");
+            Assertions.assertNotNull(relayThread);
+            Assertions.assertFalse(relayThread.isAlive());
+        }
+
+        @Test
+        @DisplayName("start test - 전달 중 exception 이 발생해도 relay thread 유지")
+        void relayExceptionTest() throws InterruptedException {
+            // given
+            properties.setFlushIntervalMs(1L);
+            doThrow(new IllegalStateException("bus failure")).doAnswer(invocation -> published.add(List.of()))
+                    .when(mockClusterBus).publish(anyList());
+
+            // when
+            relay.start();
+            relay.announceConnected(1L);
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (published.isEmpty() && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(1L);
+            }
+
+            // then
+            Assertions.assertFalse(published.isEmpty());
+            relay.close();
+        }
+
+        @Test
+        @DisplayName("start test - interrupt 되면 relay thread 종료")
+        void relayInterruptTest() throws InterruptedException {
+            // given
+            properties.setFlushIntervalMs(10000L);
+            relay.start();
+            final Thread relayThread = (Thread) ReflectionTestUtils.getField(relay, "relayThread");
+            Assertions.assertNotNull(relayThread);
+
+            // when
+            relayThread.interrupt();
+            relayThread.join(TimeUnit.SECONDS.toMillis(5));
+
+            // then
+            Assertions.assertFalse(relayThread.isAlive());
+            relay.close();
+        }
+
+        @Test
+        @DisplayName("close test - interrupt 된 thread 에서 종료")
+        void closeInterruptedTest() {
+            // given
+            properties.setFlushIntervalMs(10000L);
+            relay.start();
+
+            // when
+            Thread.currentThread().interrupt();
+            relay.close();
+
+            // then - interrupt 상태 유지
+            Assertions.assertTrue(Thread.interrupted());
+            verify(mockClusterBus, times(1)).close();
+            ((Thread) ReflectionTestUtils.getField(relay, "relayThread")).interrupt();
+        }
+
+        @Test
+        @DisplayName("close test - 시작하지 않은 relay 종료")
+        void closeNotStartedTest() {
+            // when
+            relay.close();
+
+            // then
+            verify(mockClusterBus, times(1)).close();
+            Assertions.assertEquals(SseClusterMessage.Type.ROUTE_SYNC, publishedMessages().get(0).type());
+        }
+    }
+}
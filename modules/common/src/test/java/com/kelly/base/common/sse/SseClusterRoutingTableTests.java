@@ -0,0 +1,94 @@
+package com.kelly.base.common.sse;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SseClusterRoutingTableTests")
+class SseClusterRoutingTableTests {
+    private SseClusterRoutingTable routingTable;
+
+    @BeforeEach
+    void init() {
+        routingTable = new SseClusterRoutingTable();
+    }
+
+    @Test
+    @DisplayName("touch test - 처음 확인된 node 여부")
+    void touchTest() {
+        // when, then
+        Assertions.assertTrue(routingTable.touch("node-b", 1L));
+        Assertions.assertFalse(routingTable.touch("node-b", 2L));
+        Assertions.assertEquals(1, routingTable.getNodeCount());
+    }
+
+    @Test
+    @DisplayName("add, remove test - node 별 연결된 사용자 변경")
+    void addRemoveTest() {
+        // when
+        routingTable.add("node-b", new long[]{1L, 2L});
+        routingTable.add("node-c", new long[]{2L});
+        routingTable.remove("node-b", new long[]{2L, 3L});
+
+        // then - 사용자 2 는 node-c 에 남아있음
+        Assertions.assertTrue(routingTable.isRemote(1L));
+        Assertions.assertTrue(routingTable.isRemote(2L));
+        Assertions.assertFalse(routingTable.isRemote(3L));
+
+        // when, then
+        routingTable.remove("node-c", new long[]{2L});
+        Assertions.assertFalse(routingTable.isRemote(2L));
+    }
+
+    @Test
+    @DisplayName("replace test - node 의 연결된 사용자 목록 교체")
+    void replaceTest() {
+        // given
+        routingTable.add("node-b", new long[]{1L, 2L});
+
+        // when
+        routingTable.replace("node-b", new long[]{3L});
+
+        // then
+        Assertions.assertFalse(routingTable.isRemote(1L));
+        Assertions.assertTrue(routingTable.isRemote(3L));
+
+        // when, then - 연결 없음
+        routingTable.replace("node-b", new long[0]);
+        Assertions.assertFalse(routingTable.hasRemoteUsers());
+        Assertions.assertEquals(1, routingTable.getNodeCount());
+    }
+
+    @Test
+    @DisplayName("hasRemoteUsers test - 연결된 사용자가 있는 node 존재 여부")
+    void hasRemoteUsersTest() {
+        // given - 연결된 사용자가 없는 node
+        routingTable.touch("node-b", 1L);
+        Assertions.assertFalse(routingTable.hasRemoteUsers());
+
+        // when
+        routingTable.add("node-c", new long[]{1L});
+
+        // then
+        Assertions.assertTrue(routingTable.hasRemoteUsers());
+    }
+
+    @Test
+    @DisplayName("expire test - 기준 시간 이후 message 가 없는 node 제거")
+    void expireTest() {
+        // given
+        routingTable.touch("node-b", 1000L);
+        routingTable.add("node-b", new long[]{1L});
+        routingTable.touch("node-c", 2000L);
+
+        // when
+        final int expired = routingTable.expire(1500L);
+
+        // then
+        Assertions.assertEquals(1, expired);
+        Assertions.assertEquals(1, routingTable.getNodeCount());
+        Assertions.assertFalse(routingTable.isRemote(1L));
+        Assertions.assertEquals(0, routingTable.expire(1500L));
+    }
+}
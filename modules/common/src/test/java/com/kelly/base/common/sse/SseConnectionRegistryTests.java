@@ -0,0 +1,234 @@
+package com.kelly.base.common.sse;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SseConnectionRegistryTests")
+class SseConnectionRegistryTests {
+    private static SseConnection createConnection(final long userId) {
+        return new SseConnection(userId, mock(SseEmitter.class), 1, Runnable::run, ignored -> { });
+    }
+
+    @Test
+    @DisplayName("shard test - shard 개수는 2의 거듭제곱으로 올림")
+    void shardCountTest() {
+        // when
+        final SseConnectionRegistry registry = new SseConnectionRegistry(5, 1);
+
+        // then
+        Assertions.assertEquals(8, registry.getShardCount());
+    }
+
+    @Nested
+    @DisplayName("AddTests")
+    class AddTests {
+        @Test
+        @DisplayName("add test - 동일 사용자의 연결은 등록 순서대로 유지")
+        void addTest() {
+            // given
+            final SseConnectionRegistry registry = new SseConnectionRegistry(4, 3);
+            final SseConnection first = createConnection(1L);
+            final SseConnection second = createConnection(1L);
+
+            // when
+            final SseConnection[] firstEvicted = registry.add(first);
+            final SseConnection[] secondEvicted = registry.add(second);
+
+            // then
+            Assertions.assertEquals(0, firstEvicted.length);
+            Assertions.assertEquals(0, secondEvicted.length);
+            Assertions.assertArrayEquals(new SseConnection[]{first, second}, registry.get(1L));
+            Assertions.assertEquals(2, registry.getConnectionCount());
+            Assertions.assertEquals(1, registry.getUserCount());
+        }
+
+        @Test
+        @DisplayName("add test - 최대 연결 개수를 넘는 경우 가장 오래된 연결 제거")
+        void addEvictTest() {
+            // given
+            final SseConnectionRegistry registry = new SseConnectionRegistry(4, 2);
+            final SseConnection first = createConnection(1L);
+            final SseConnection second = createConnection(1L);
+            final SseConnection third = createConnection(1L);
+            registry.add(first);
+            registry.add(second);
+
+            // when
+            final SseConnection[] evicted = registry.add(third);
+
+            // then
+            Assertions.assertArrayEquals(new SseConnection[]{first}, evicted);
+            Assertions.assertArrayEquals(new SseConnection[]{second, third}, registry.get(1L));
+        }
+
+        @Test
+        @DisplayName("add test - 최대 연결 개수가 1 미만인 경우 1로 처리")
+        void addMinimumLimitTest() {
+            // given
+            final SseConnectionRegistry registry = new SseConnectionRegistry(4, 0);
+            final SseConnection first = createConnection(1L);
+            final SseConnection second = createConnection(1L);
+            registry.add(first);
+
+            // when
+            final SseConnection[] evicted = registry.add(second);
+
+            // then
+            Assertions.assertArrayEquals(new SseConnection[]{first}, evicted);
+            Assertions.assertArrayEquals(new SseConnection[]{second}, registry.get(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("RemoveTests")
+    class RemoveTests {
+        @Test
+        @DisplayName("remove test - 중간 연결 제거")
+        void removeTest() {
+            // given
+            final SseConnectionRegistry registry = new SseConnectionRegistry(4, 3);
+            final SseConnection first = createConnection(1L);
+            final SseConnection second = createConnection(1L);
+            final SseConnection third = createConnection(1L);
+            registry.add(first);
+            registry.add(second);
+            registry.add(third);
+
+            // when
+            final boolean result = registry.remove(second);
+
+            // then
+            Assertions.assertTrue(result);
+            Assertions.assertArrayEquals(new SseConnection[]{first, third}, registry.get(1L));
+        }
+
+        @Test
+        @DisplayName("remove test - 마지막 연결 제거시 사용자 제거")
+        void removeLastTest() {
+            // given
+            final SseConnectionRegistry registry = new SseConnectionRegistry(4, 3);
+            final SseConnection connection = createConnection(1L);
+            registry.add(connection);
+
+            // when
+            final boolean result = registry.remove(connection);
+
+            // then
+            Assertions.assertTrue(result);
+            Assertions.assertEquals(0, registry.get(1L).length);
+            Assertions.assertEquals(0, registry.getUserCount());
+        }
+
+        @Test
+        @DisplayName("remove test - 등록되지 않은 연결")
+        void removeNotRegisteredTest() {
+            // given - 동일 사용자의 다른 연결만 등록
+            final SseConnectionRegistry registry = new SseConnectionRegistry(4, 3);
+            final SseConnection registered = createConnection(1L);
+            registry.add(registered);
+
+            // when
+            final boolean result = registry.remove(createConnection(1L));
+            final boolean otherUserResult = registry.remove(createConnection(2L));
+
+            // then
+            Assertions.assertFalse(result);
+            Assertions.assertFalse(otherUserResult);
+            Assertions.assertArrayEquals(new SseConnection[]{registered}, registry.get(1L));
+        }
+
+        @Test
+        @DisplayName("removeAll test - 사용자의 모든 연결 제거")
+        void removeAllTest() {
+            // given
+            final SseConnectionRegistry registry = new SseConnectionRegistry(4, 3);
+            final SseConnection first = createConnection(1L);
+            final SseConnection second = createConnection(1L);
+            registry.add(first);
+            registry.add(second);
+
+            // when
+            final SseConnection[] removed = registry.removeAll(1L);
+            final SseConnection[] notFound = registry.removeAll(1L);
+
+            // then
+            Assertions.assertArrayEquals(new SseConnection[]{first, second}, removed);
+            Assertions.assertEquals(0, notFound.length);
+            Assertions.assertEquals(0, registry.getConnectionCount());
+        }
+    }
+
+    @Test
+    @DisplayName("forEach test - 모든 사용자의 모든 연결 순회")
+    void forEachTest() {
+        // given
+        final SseConnectionRegistry registry = new SseConnectionRegistry(2, 3);
+        final List<SseConnection> connections = List.of(
+                createConnection(1L), createConnection(1L), createConnection(2L), createConnection(3L)
+        );
+        connections.forEach(registry::add);
+
+        // when
+        final List<SseConnection> visited = new ArrayList<>();
+        registry.forEach(visited::add);
+
+        // then
+        Assertions.assertEquals(connections.size(), visited.size());
+        Assertions.assertTrue(visited.containsAll(connections));
+    }
+
+    @Test
+    @DisplayName("getUserIds test - 연결된 사용자 목록")
+    void getUserIdsTest() {
+        // given - 사용자 1 은 연결 2개
+        final SseConnectionRegistry registry = new SseConnectionRegistry(4, 3);
+        registry.add(createConnection(1L));
+        registry.add(createConnection(1L));
+        registry.add(createConnection(2L));
+        registry.add(createConnection(7L));
+
+        // when
+        final long[] userIds = registry.getUserIds();
+
+        // then
+        Arrays.sort(userIds);
+        Assertions.assertArrayEquals(new long[]{1L, 2L, 7L}, userIds);
+        Assertions.assertEquals(0, new SseConnectionRegistry(4, 3).getUserIds().length);
+    }
+
+    @Test
+    @DisplayName("forEachInShard test - shard 별 순회 결과를 합치면 전체 연결")
+    void forEachInShardTest() {
+        // given
+        final SseConnectionRegistry registry = new SseConnectionRegistry(4, 3);
+        final List<SseConnection> connections = new ArrayList<>();
+        for (long userId = 1L; userId <= 16L; userId++) {
+            final SseConnection connection = createConnection(userId);
+            connections.add(connection);
+            registry.add(connection);
+        }
+
+        // when
+        final List<SseConnection> visited = new ArrayList<>();
+        final List<Integer> shardSizes = new ArrayList<>();
+        for (int shardIndex = 0; shardIndex < registry.getShardCount(); shardIndex++) {
+            final int before = visited.size();
+            registry.forEachInShard(shardIndex, visited::add);
+            shardSizes.add(visited.size() - before);
+        }
+
+        // then - 각 연결은 1개의 shard 에서만 순회
+        Assertions.assertEquals(connections.size(), visited.size());
+        Assertions.assertTrue(visited.containsAll(connections));
+        Assertions.assertTrue(shardSizes.stream().allMatch(size -> size < connections.size()));
+    }
+}
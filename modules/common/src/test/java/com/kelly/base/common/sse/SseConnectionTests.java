@@ -0,0 +1,522 @@
+package com.kelly.base.common.sse;
+
+import com.kelly.base.common.sse.SseConnection.OfferResult;
+import com.kelly.base.common.sse.SseProperties.SlowConsumerPolicy;
+import com.kelly.base.common.sse.dto.SseEvent;
+import com.kelly.base.common.sse.dto.SseEventType;
+import com.kelly.base.common.utils.DateTimeUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("SseConnectionTests")
+class SseConnectionTests {
+    private SseEmitter mockEmitter;
+
+    private Consumer<SseConnection> mockFailureListener;
+
+    private List<Runnable> tasks;   // writer executor 에 전달된 작업 ( 직접 실행 )
+
+    @BeforeEach
+    void init() {
+        mockEmitter = mock(SseEmitter.class);
+        @SuppressWarnings("unchecked") final Consumer<SseConnection> listener = mock(Consumer.class);
+        mockFailureListener = listener;
+        tasks = new ArrayList<>();
+    }
+
+    private SseConnection createConnection(final int capacity) {
+        return new SseConnection(1L, mockEmitter, capacity, tasks::add, mockFailureListener);
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static SseFrame createFrame(final SseEventType eventType, final long sequence) {
+        return Assertions.assertDoesNotThrow(
+                () -> SseFrame.of(new SseEvent(eventType, "event-id", DateTimeUtil.nowUtc(), Map.of()), sequence)
+        );
+    }
+
+    // emitter 로 전송된 event 의 id 목록
+    private List<String> sentEventIds() throws IOException {
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> captor
+                = ArgumentCaptor.forClass(Set.class);
+        verify(mockEmitter, atLeast(0)).send(captor.capture());
+        return captor.getAllValues().stream()
+                .map(items -> items.stream()
+                        .map(item -> new String((byte[]) item.getData(), StandardCharsets.UTF_8))
+                        .collect(Collectors.joining()))
+                .map(frame -> frame.substring(frame.indexOf("id:") + 3, frame.indexOf('\n', frame.indexOf("id:"))))
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("OfferTests")
+    class OfferTests {
+        @Test
+        @DisplayName("offer test - queue 에 추가 후 writer 에서 순서대로 전송")
+        void offerQueuedTest() throws IOException {
+            // given
+            final SseConnection connection = createConnection(4);
+
+            // when
+            final OfferResult first = connection.offer(
+                    createFrame(SseEventType.CONNECT, 1L), SlowConsumerPolicy.DROP_OLDEST
+            );
+            final OfferResult second = connection.offer(
+                    createFrame(SseEventType.REFRESH_ANALYSIS, 2L), SlowConsumerPolicy.DROP_OLDEST
+            );
+
+            // then - writer 는 1개만 예약됨
+            Assertions.assertEquals(OfferResult.QUEUED, first);
+            Assertions.assertEquals(OfferResult.QUEUED, second);
+            Assertions.assertEquals(1, tasks.size());
+            Assertions.assertEquals(2, connection.getPendingCount());
+
+            // then - 전송
+            runTasks();
+            Assertions.assertEquals(List.of("1", "2"), sentEventIds());
+            Assertions.assertEquals(0, connection.getPendingCount());
+        }
+
+        @Test
+        @DisplayName("offer test - 종료된 연결")
+        void offerClosedTest() {
+            // given
+            final SseConnection connection = createConnection(4);
+            connection.close();
+
+            // when
+            final OfferResult result = connection.offer(
+                    createFrame(SseEventType.CONNECT, 1L), SlowConsumerPolicy.DROP_OLDEST
+            );
+
+            // then
+            Assertions.assertEquals(OfferResult.CLOSED, result);
+            Assertions.assertTrue(tasks.isEmpty());
+        }
+
+        @Test
+        @DisplayName("offer test - writer executor 가 작업을 거부하는 경우")
+        void offerRejectedTest() {
+            // given
+            final Executor rejectingExecutor = task -> {
+                throw new RejectedExecutionException("shutdown");
+            };
+            final SseConnection connection
+                    = new SseConnection(1L, mockEmitter, 4, rejectingExecutor, mockFailureListener);
+
+            // when
+            final OfferResult first = Assertions.assertDoesNotThrow(
+                    () -> connection.offer(createFrame(SseEventType.CONNECT, 1L), SlowConsumerPolicy.DROP_OLDEST)
+            );
+            final OfferResult second = Assertions.assertDoesNotThrow(
+                    () -> connection.offer(createFrame(SseEventType.CONNECT, 2L), SlowConsumerPolicy.DROP_OLDEST)
+            );
+
+            // then - event 는 queue 에 남아있음
+            Assertions.assertEquals(OfferResult.QUEUED, first);
+            Assertions.assertEquals(OfferResult.QUEUED, second);
+            Assertions.assertEquals(2, connection.getPendingCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("SlowConsumerPolicyTests")
+    class SlowConsumerPolicyTests {
+        @Test
+        @DisplayName("DROP_OLDEST - 가장 오래된 event 를 버림")
+        void dropOldestTest() throws IOException {
+            // given
+            final SseConnection connection = createConnection(2);
+            connection.offer(createFrame(SseEventType.REFRESH_ANALYSIS, 1L), SlowConsumerPolicy.DROP_OLDEST);
+            connection.offer(createFrame(SseEventType.REFRESH_LICENSE, 2L), SlowConsumerPolicy.DROP_OLDEST);
+
+            // when
+            final OfferResult result = connection.offer(
+                    createFrame(SseEventType.REFRESH_ANALYSIS, 3L), SlowConsumerPolicy.DROP_OLDEST
+            );
+
+            // then
+            Assertions.assertEquals(OfferResult.DROPPED_OLDEST, result);
+            Assertions.assertEquals(2, connection.getPendingCount());
+            runTasks();
+            Assertions.assertEquals(List.of("2", "3"), sentEventIds());
+        }
+
+        @Test
+        @DisplayName("DROP_OLDEST - 버릴 event 가 없는 경우 그대로 추가")
+        void dropOldestEmptyQueueTest() throws IOException {
+            // writer 가 동시에 queue 를 비운 상황 ( capacity 0 으로 재현 )
+            // given
+            final SseConnection connection = createConnection(0);
+
+            // when
+            final OfferResult result = connection.offer(
+                    createFrame(SseEventType.REFRESH_ANALYSIS, 1L), SlowConsumerPolicy.DROP_OLDEST
+            );
+
+            // then
+            Assertions.assertEquals(OfferResult.QUEUED, result);
+            runTasks();
+            Assertions.assertEquals(List.of("1"), sentEventIds());
+        }
+
+        @Test
+        @DisplayName("COALESCE - 대기중인 동일 type 의 event 를 교체")
+        void coalesceTest() throws IOException {
+            // given
+            final SseConnection connection = createConnection(2);
+            connection.offer(createFrame(SseEventType.REFRESH_ANALYSIS, 1L), SlowConsumerPolicy.COALESCE);
+            connection.offer(createFrame(SseEventType.REFRESH_LICENSE, 2L), SlowConsumerPolicy.COALESCE);
+
+            // when
+            final OfferResult result = connection.offer(
+                    createFrame(SseEventType.REFRESH_ANALYSIS, 3L), SlowConsumerPolicy.COALESCE
+            );
+
+            // then - e1 의 위치에서 e3 가 전송됨
+            Assertions.assertEquals(OfferResult.COALESCED, result);
+            Assertions.assertEquals(2, connection.getPendingCount());
+            runTasks();
+            Assertions.assertEquals(List.of("3", "2"), sentEventIds());
+        }
+
+        @Test
+        @DisplayName("COALESCE - 동일 type 의 event 가 없는 경우 가장 오래된 event 를 버림")
+        void coalesceFallbackTest() throws IOException {
+            // given
+            final SseConnection connection = createConnection(2);
+            connection.offer(createFrame(SseEventType.REFRESH_ANALYSIS, 1L), SlowConsumerPolicy.COALESCE);
+            connection.offer(createFrame(SseEventType.REFRESH_LICENSE, 2L), SlowConsumerPolicy.COALESCE);
+
+            // when
+            final OfferResult result = connection.offer(
+                    createFrame(SseEventType.DISCONNECT, 3L), SlowConsumerPolicy.COALESCE
+            );
+
+            // then
+            Assertions.assertEquals(OfferResult.DROPPED_OLDEST, result);
+            runTasks();
+            Assertions.assertEquals(List.of("2", "3"), sentEventIds());
+        }
+
+        @Test
+        @DisplayName("DISCONNECT - event 를 추가하지 않음")
+        void disconnectTest() throws IOException {
+            // given
+            final SseConnection connection = createConnection(1);
+            connection.offer(createFrame(SseEventType.REFRESH_ANALYSIS, 1L), SlowConsumerPolicy.DISCONNECT);
+
+            // when
+            final OfferResult result = connection.offer(
+                    createFrame(SseEventType.REFRESH_ANALYSIS, 2L), SlowConsumerPolicy.DISCONNECT
+            );
+
+            // then
+            Assertions.assertEquals(OfferResult.OVERFLOW, result);
+            runTasks();
+            Assertions.assertEquals(List.of("1"), sentEventIds());
+        }
+    }
+
+    @Nested
+    @DisplayName("DrainTests")
+    class DrainTests {
+        @Test
+        @DisplayName("drain test - batch 크기를 넘는 경우 나누어 전송")
+        void drainBatchTest() throws IOException {
+            // given
+            final SseConnection connection = createConnection(SseConnection.DRAIN_BATCH_SIZE * 2);
+            for (int i = 0; i <= SseConnection.DRAIN_BATCH_SIZE; i++) {
+                connection.offer(createFrame(SseEventType.REFRESH_ANALYSIS, i), SlowConsumerPolicy.DROP_OLDEST);
+            }
+
+            // when - 1번째 batch
+            tasks.remove(0).run();
+
+            // then - 남은 event 를 위해 재예약
+            Assertions.assertEquals(1, tasks.size());
+            Assertions.assertEquals(1, connection.getPendingCount());
+
+            // when - 2번째 batch
+            runTasks();
+
+            // then
+            Assertions.assertEquals(SseConnection.DRAIN_BATCH_SIZE + 1, sentEventIds().size());
+        }
+
+        @Test
+        @DisplayName("drain test - 전송 실패시 listener 호출 후 중단")
+        void drainFailureTest() throws IOException {
+            // given
+            doThrow(IOException.class).when(mockEmitter).send(anySet());
+            final SseConnection connection = createConnection(4);
+            connection.offer(createFrame(SseEventType.REFRESH_ANALYSIS, 1L), SlowConsumerPolicy.DROP_OLDEST);
+            connection.offer(createFrame(SseEventType.REFRESH_ANALYSIS, 2L), SlowConsumerPolicy.DROP_OLDEST);
+
+            // when
+            runTasks();
+
+            // then
+            verify(mockFailureListener, times(1)).accept(connection);
+            verify(mockEmitter, times(1)).send(anySet());
+            Assertions.assertEquals(1, connection.getPendingCount());
+        }
+
+        @Test
+        @DisplayName("drain test - 종료된 연결은 전송하지 않음")
+        void drainTerminatedTest() throws IOException {
+            // given
+            final SseConnection connection = createConnection(4);
+            connection.offer(createFrame(SseEventType.REFRESH_ANALYSIS, 1L), SlowConsumerPolicy.DROP_OLDEST);
+
+            // when
+            connection.close();
+            runTasks();
+
+            // then
+            verify(mockEmitter, never()).send(anySet());
+            verify(mockEmitter, times(1)).complete();
+        }
+    }
+
+    @Nested
+    @DisplayName("ReplayTests")
+    class ReplayTests {
+        @Test
+        @DisplayName("replay test - replay 전까지 전송을 보류하고 replay frame 을 먼저 전송")
+        void replayTest() throws IOException {
+            // given
+            final SseConnection connection = createConnection(4);
+            connection.awaitReplay();
+            connection.offer(createFrame(SseEventType.REFRESH_ANALYSIS, 3L), SlowConsumerPolicy.DROP_OLDEST);
+
+            // then - replay 전에는 writer 를 예약하지 않음
+            Assertions.assertTrue(tasks.isEmpty());
+
+            // when
+            connection.replay(List.of(
+                    createFrame(SseEventType.REFRESH_ANALYSIS, 1L), createFrame(SseEventType.REFRESH_LICENSE, 2L)
+            ));
+            runTasks();
+
+            // then
+            Assertions.assertEquals(List.of("1", "2", "3"), sentEventIds());
+            Assertions.assertEquals(0, connection.getPendingCount());
+        }
+
+        @Test
+        @DisplayName("replay test - replay 와 queue 에 모두 있는 frame 은 한 번만 전송")
+        void replayDuplicateTest() throws IOException {
+            // given
+            final SseConnection connection = createConnection(4);
+            final SseFrame duplicated = createFrame(SseEventType.REFRESH_ANALYSIS, 2L);
+            connection.awaitReplay();
+            connection.offer(duplicated, SlowConsumerPolicy.DROP_OLDEST);
+            connection.offer(createFrame(SseEventType.REFRESH_LICENSE, 3L), SlowConsumerPolicy.DROP_OLDEST);
+
+            // when
+            connection.replay(List.of(createFrame(SseEventType.REFRESH_LICENSE, 1L), duplicated));
+            runTasks();
+
+            // then
+            Assertions.assertEquals(List.of("1", "2", "3"), sentEventIds());
+        }
+
+        @Test
+        @DisplayName("replay test - replay 전송 실패시 listener 호출 후 중단")
+        void replayFailureTest() throws IOException {
+            // given
+            doThrow(IOException.class).when(mockEmitter).send(anySet());
+            final SseConnection connection = createConnection(4);
+            connection.awaitReplay();
+            connection.offer(createFrame(SseEventType.REFRESH_ANALYSIS, 3L), SlowConsumerPolicy.DROP_OLDEST);
+
+            // when
+            connection.replay(List.of(
+                    createFrame(SseEventType.REFRESH_ANALYSIS, 1L), createFrame(SseEventType.REFRESH_LICENSE, 2L)
+            ));
+            runTasks();
+
+            // then - queue 의 event 는 전송하지 않음
+            verify(mockFailureListener, times(1)).accept(connection);
+            verify(mockEmitter, times(1)).send(anySet());
+            Assertions.assertEquals(1, connection.getPendingCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("HeartbeatTests")
+    class HeartbeatTests {
+        @Test
+        @DisplayName("heartbeat test - 대기중인 event 가 없는 경우 comment 전송")
+        void heartbeatTest() throws IOException {
+            // given
+            final SseConnection connection = createConnection(4);
+            final long createdMs = connection.getLastWriteMs();
+
+            // when
+            connection.heartbeat();
+            runTasks();
+
+            // then - 전송 성공 시간 갱신
+            verify(mockEmitter, times(1)).send(SseFrame.HEARTBEAT.getItems());
+            Assertions.assertEquals(":\n\n", SseFrame.HEARTBEAT.toString());
+            Assertions.assertTrue(connection.getLastWriteMs() >= createdMs);
+            Assertions.assertEquals(0, connection.getPendingCount());
+        }
+
+        @Test
+        @DisplayName("heartbeat test - 대기중인 event 가 있는 경우 추가하지 않음")
+        void heartbeatPendingTest() throws IOException {
+            // given
+            final SseConnection connection = createConnection(4);
+            connection.offer(createFrame(SseEventType.REFRESH_ANALYSIS, 1L), SlowConsumerPolicy.DROP_OLDEST);
+
+            // when
+            connection.heartbeat();
+            runTasks();
+
+            // then
+            Assertions.assertEquals(List.of("1"), sentEventIds());
+        }
+
+        @Test
+        @DisplayName("heartbeat test - 종료된 연결")
+        void heartbeatClosedTest() {
+            // given
+            final SseConnection connection = createConnection(4);
+            connection.close();
+
+            // when
+            connection.heartbeat();
+
+            // then
+            Assertions.assertTrue(tasks.isEmpty());
+            Assertions.assertEquals(0, connection.getPendingCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("AbortWriteTests")
+    class AbortWriteTests {
+        @Test
+        @DisplayName("abortWrite test - 전송중인 writer thread 를 interrupt 하여 반환")
+        void abortWriteTest() throws Exception {
+            // given - client 가 응답하지 않아 interrupt 될 때까지 전송이 끝나지 않는 emitter
+            final CountDownLatch writing = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                writing.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    throw new IOException("write interrupted", e);
+                }
+                return null;
+            }).when(mockEmitter).send(anySet());
+
+            // given - 별도 thread 에서 전송하고, 전송 후 thread 의 interrupt 상태 기록
+            final CompletableFuture<Boolean> interruptedAfterDrain = new CompletableFuture<>();
+            final Executor threadExecutor = task -> new Thread(() -> {
+                task.run();
+                interruptedAfterDrain.complete(Thread.currentThread().isInterrupted());
+            }).start();
+            final SseConnection connection
+                    = new SseConnection(1L, mockEmitter, 4, threadExecutor, mockFailureListener);
+            connection.offer(createFrame(SseEventType.CONNECT, 1L), SlowConsumerPolicy.DROP_OLDEST);
+            Assertions.assertTrue(writing.await(1, TimeUnit.SECONDS));
+            Assertions.assertTrue(connection.getWriteStartedMs() > 0L);
+
+            // when
+            connection.abortWrite();
+
+            // then - 전송 실패로 처리되고, writer thread 의 interrupt 상태는 해제
+            Assertions.assertFalse(interruptedAfterDrain.get(1, TimeUnit.SECONDS));
+            verify(mockFailureListener, times(1)).accept(connection);
+            Assertions.assertEquals(0L, connection.getWriteStartedMs());
+            Assertions.assertEquals(
+                    OfferResult.CLOSED,
+                    connection.offer(createFrame(SseEventType.CONNECT, 2L), SlowConsumerPolicy.DROP_OLDEST)
+            );
+        }
+
+        @Test
+        @DisplayName("abortWrite test - 전송중이 아닌 경우")
+        void abortWriteIdleTest() throws IOException {
+            // given
+            final SseConnection connection = createConnection(4);
+
+            // when
+            connection.abortWrite();
+
+            // then - 신규 event 는 받지 않고, emitter 종료는 호출한 thread 에서 하지 않음
+            Assertions.assertEquals(
+                    OfferResult.CLOSED,
+                    connection.offer(createFrame(SseEventType.CONNECT, 1L), SlowConsumerPolicy.DROP_OLDEST)
+            );
+            verify(mockEmitter, never()).send(anySet());
+            verify(mockEmitter, never()).complete();
+        }
+    }
+
+    @Nested
+    @DisplayName("CloseTests")
+    class CloseTests {
+        @Test
+        @DisplayName("completeAfterDrain test - 대기중인 event 전송 후 종료")
+        void completeAfterDrainTest() throws IOException {
+            // given
+            final SseConnection connection = createConnection(4);
+            connection.offer(createFrame(SseEventType.DISCONNECT, 1L), SlowConsumerPolicy.DROP_OLDEST);
+
+            // when
+            connection.completeAfterDrain();
+            final OfferResult result = connection.offer(
+                    createFrame(SseEventType.REFRESH_ANALYSIS, 2L), SlowConsumerPolicy.DROP_OLDEST
+            );
+            runTasks();
+
+            // then - 종료 이후 추가된 event 는 전송하지 않음
+            Assertions.assertEquals(OfferResult.CLOSED, result);
+            Assertions.assertEquals(List.of("1"), sentEventIds());
+            verify(mockEmitter, times(1)).complete();
+        }
+
+        @Test
+        @DisplayName("close test - emitter 종료 중 exception 발생")
+        void closeExceptionTest() {
+            // given
+            doThrow(RuntimeException.class).when(mockEmitter).complete();
+            final SseConnection connection = createConnection(4);
+
+            // when, then
+            Assertions.assertDoesNotThrow(connection::close);
+        }
+    }
+}
@@ -1,22 +1,37 @@
 package com.kelly.base.common.sse;
 
 import com.kelly.base.common.config.CommonPropertiesConfig;
+import com.kelly.base.common.interfaces.ISseClusterBus;
+import com.kelly.base.common.sse.dto.SseClusterMessage;
 import com.kelly.base.common.sse.dto.SseEvent;
 import com.kelly.base.common.sse.dto.SseEventType;
 import com.kelly.base.common.utils.DateTimeUtil;
 import com.kelly.base.common.utils.ValueGenerator;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import static org.mockito.Mockito.*;
@@ -25,12 +40,44 @@ import static org.mockito.Mockito.*;
 class SseEmitterManagerTests {
     private CommonPropertiesConfig mockCommonPropertiesConfig;
 
+    private SseProperties sseProperties;
+
     private SseEmitterManager sseEmitterManager;
 
+    // cluster bus bean 이 없는 경우
+    private ObjectProvider<ISseClusterBus> noClusterBus;
+
     @BeforeEach
+    @SuppressWarnings("unchecked")
     void init() {
         mockCommonPropertiesConfig = mock(CommonPropertiesConfig.class);
-        sseEmitterManager = new SseEmitterManager(mockCommonPropertiesConfig);
+        noClusterBus = mock(ObjectProvider.class);
+        sseProperties = new SseProperties();
+        // writer executor 를 호출한 thread 에서 바로 실행하여 전송 결과를 확인
+        sseEmitterManager = new SseEmitterManager(mockCommonPropertiesConfig, sseProperties, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // init 에서 시작된 heartbeat scheduler 종료
+        sseEmitterManager.close();
+    }
+
+    private SseConnectionRegistry registryOf(final SseEmitterManager manager) {
+        final SseConnectionRegistry registry
+                = (SseConnectionRegistry) ReflectionTestUtils.getField(manager, "connectionRegistry");
+        Assertions.assertNotNull(registry);
+        return registry;
+    }
+
+    // mock emitter 를 가진 연결을 강제 등록
+    private SseConnection putConnection(final long userId, final SseEmitter emitter) {
+        final SseConnection connection = new SseConnection(
+                userId, emitter, sseProperties.getQueueCapacity(), Runnable::run,
+                ignored -> ReflectionTestUtils.invokeMethod(sseEmitterManager, "removeConnection", ignored)
+        );
+        registryOf(sseEmitterManager).add(connection);
+        return connection;
     }
 
     @Nested
@@ -68,11 +115,88 @@ class SseEmitterManagerTests {
             final Long sseTimeout = (Long) ReflectionTestUtils.getField(sseEmitterManager, "sseTimeout");
             Assertions.assertEquals(60000L, sseTimeout);
         }
+
+        @Test
+        @DisplayName("init test - heartbeat 사용시 scheduler 시작")
+        void initHeartbeatTest() {
+            // when
+            sseEmitterManager.init();
+
+            // then
+            final ScheduledExecutorService heartbeatExecutor
+                    = (ScheduledExecutorService) ReflectionTestUtils.getField(sseEmitterManager, "heartbeatExecutor");
+            Assertions.assertNotNull(heartbeatExecutor);
+            Assertions.assertFalse(heartbeatExecutor.isShutdown());
+
+            // when - 종료
+            sseEmitterManager.close();
+
+            // then
+            Assertions.assertTrue(heartbeatExecutor.isShutdown());
+        }
+
+        @Test
+        @DisplayName("init test - heartbeat 미사용")
+        void initHeartbeatDisabledTest() {
+            // given
+            sseProperties.getHeartbeat().setEnabled(false);
+
+            // when
+            sseEmitterManager.init();
+
+            // then
+            Assertions.assertNull(ReflectionTestUtils.getField(sseEmitterManager, "heartbeatExecutor"));
+        }
+    }
+
+    @Nested
+    @DisplayName("CloseTests")
+    class CloseTests {
+        @Test
+        @DisplayName("close test - 생성된 writer executor 종료")
+        void closeWriterExecutorTest() {
+            // given - writer executor 를 직접 생성하는 constructor
+            final SseEmitterManager manager
+                    = new SseEmitterManager(mockCommonPropertiesConfig, sseProperties, noClusterBus);
+            final ExecutorService writerExecutor
+                    = (ExecutorService) ReflectionTestUtils.getField(manager, "writerExecutor");
+            Assertions.assertNotNull(writerExecutor);
+
+            // when
+            manager.close();
+
+            // then
+            Assertions.assertTrue(writerExecutor.isShutdown());
+        }
+
+        @Test
+        @DisplayName("close test - 외부에서 전달된 executor 는 종료하지 않음")
+        void closeExternalExecutorTest() {
+            // when, then
+            Assertions.assertDoesNotThrow(
+                    () -> sseEmitterManager.close()
+            );
+        }
     }
 
     @Nested
     @DisplayName("CreateEmitterTests")
     class CreateEmitterTests {
+        @Test
+        @DisplayName("createEmitter test - heartbeat 사용 여부에 따른 emitter timeout")
+        void createEmitterTimeoutTest() {
+            // when - heartbeat 사용 ( 기본값 )
+            final SseEmitter withHeartbeat = sseEmitterManager.createEmitter(1L);
+
+            // when - heartbeat 미사용
+            sseProperties.getHeartbeat().setEnabled(false);
+            final SseEmitter withoutHeartbeat = sseEmitterManager.createEmitter(2L);
+
+            // then - heartbeat 사용시 idle 연결은 scheduler 가 정리하므로 timeout 없음
+            Assertions.assertEquals(SseEmitterManager.NO_TIMEOUT, withHeartbeat.getTimeout());
+            Assertions.assertEquals(60000L, withoutHeartbeat.getTimeout());
+        }
+
         @Test
         @DisplayName("createEmitter test - 신규 emitter 등록")
         void createEmitterNewOneTest() {
@@ -81,36 +205,48 @@ class SseEmitterManagerTests {
                     () -> sseEmitterManager.createEmitter(1L)
             );
 
-            // then - map 에 등록됐는지 확인
-            @SuppressWarnings("unchecked")  // warning 제거
-            final Map<Long, SseEmitter> emitters
-                    = (Map<Long, SseEmitter>) ReflectionTestUtils.getField(sseEmitterManager, "emitters");
-            Assertions.assertNotNull(emitters);
-            final SseEmitter expectedResult = emitters.get(1L);
-            Assertions.assertEquals(expectedResult, result);
+            // then - registry 에 등록됐는지 확인
+            final SseConnection[] connections = registryOf(sseEmitterManager).get(1L);
+            Assertions.assertEquals(1, connections.length);
+            Assertions.assertEquals(connections[0].getEmitter(), result);
         }
 
         @Test
-        @DisplayName("createEmitter test - 동일한 userId 로 emitter 등록 시도")
-        void createEmitterDuplicatedTest() {
-            // 이미 SseEmitter 가 등록되어 있을 경우, 기존 값을 삭제하고 등록하는지 확인
+        @DisplayName("createEmitter test - 동일한 userId 로 여러 emitter 등록")
+        void createEmitterMultipleTest() {
+            // 이미 SseEmitter 가 등록되어 있어도 기존 연결을 유지하는지 확인 ( browser tab 여러개 )
             // given
-            final SseEmitter firstSseEmitter = Assertions.assertDoesNotThrow(
-                    () -> sseEmitterManager.createEmitter(1L)
-            );
+            final SseEmitter firstSseEmitter = sseEmitterManager.createEmitter(1L);
 
             // when
-            final SseEmitter secondSseEmitter = Assertions.assertDoesNotThrow(
-                    () -> sseEmitterManager.createEmitter(1L)
-            );
+            final SseEmitter secondSseEmitter = sseEmitterManager.createEmitter(1L);
 
-            // then - secondSseEmitter 가 map 에 등록됐는지 확인
-            @SuppressWarnings("unchecked")  // warning 제거
-            final Map<Long, SseEmitter> emitters
-                    = (Map<Long, SseEmitter>) ReflectionTestUtils.getField(sseEmitterManager, "emitters");
-            Assertions.assertNotNull(emitters);
-            final SseEmitter expectedResult = emitters.get(1L);
-            Assertions.assertEquals(expectedResult, secondSseEmitter);
+            // then - 등록 순서대로 모두 유지
+            final SseConnection[] connections = registryOf(sseEmitterManager).get(1L);
+            Assertions.assertEquals(2, connections.length);
+            Assertions.assertEquals(firstSseEmitter, connections[0].getEmitter());
+            Assertions.assertEquals(secondSseEmitter, connections[1].getEmitter());
+            Assertions.assertEquals(2, sseEmitterManager.getConnectionCount());
+            Assertions.assertEquals(2, sseEmitterManager.getConnectionCount(1L));
+            Assertions.assertEquals(1, sseEmitterManager.getConnectedUserCount());
+        }
+
+        @Test
+        @DisplayName("createEmitter test - 사용자별 최대 연결 개수를 넘는 경우")
+        void createEmitterLimitTest() {
+            // given - 사용자별 1개로 제한
+            sseProperties.setMaxConnectionsPerUser(1);
+            final SseEmitterManager manager
+                    = new SseEmitterManager(mockCommonPropertiesConfig, sseProperties, Runnable::run);
+            final SseEmitter firstSseEmitter = manager.createEmitter(1L);
+
+            // when
+            final SseEmitter secondSseEmitter = manager.createEmitter(1L);
+
+            // then - 가장 오래된 연결이 제거됨
+            final SseConnection[] connections = registryOf(manager).get(1L);
+            Assertions.assertEquals(1, connections.length);
+            Assertions.assertEquals(secondSseEmitter, connections[0].getEmitter());
 
             // then - firstSseEmitter 는 complete 처리됐으므로 send 시 exception 발생
             Assertions.assertThrows(
@@ -140,9 +276,10 @@ class SseEmitterManagerTests {
 
         @Test
         @DisplayName("sendToUser - emitter 가 있는 경우")
-        void sendToUserSuccessTest() {
+        void sendToUserSuccessTest() throws IOException {
             // given - SseEmitter 등록
-            sseEmitterManager.createEmitter(1L);
+            final SseEmitter mockSseEmitter = mock(SseEmitter.class);
+            putConnection(1L, mockSseEmitter);
             final SseEvent sseEvent = sseEmitterManager.createConnectEvent(1L);
 
             // when
@@ -152,20 +289,64 @@ class SseEmitterManagerTests {
 
             // then
             Assertions.assertTrue(result);
+            verify(mockSseEmitter, times(1)).send(anySet());
+        }
+
+        @Test
+        @DisplayName("sendToUser - 사용자의 모든 연결로 전송")
+        void sendToUserFanOutTest() throws IOException {
+            // given - 동일 사용자의 연결 2개와 다른 사용자의 연결 1개
+            final SseEmitter firstSseEmitter = mock(SseEmitter.class);
+            final SseEmitter secondSseEmitter = mock(SseEmitter.class);
+            final SseEmitter otherSseEmitter = mock(SseEmitter.class);
+            putConnection(1L, firstSseEmitter);
+            putConnection(1L, secondSseEmitter);
+            putConnection(2L, otherSseEmitter);
+
+            // when
+            final boolean result = sseEmitterManager.sendToUser(1L, sseEmitterManager.createConnectEvent(1L));
+
+            // then
+            Assertions.assertTrue(result);
+            verify(firstSseEmitter, times(1)).send(anySet());
+            verify(secondSseEmitter, times(1)).send(anySet());
+            verify(otherSseEmitter, never()).send(anySet());
+        }
+
+        @Test
+        @DisplayName("sendToUser - writer thread 에서 전송")
+        void sendToUserWriterThreadTest() throws Exception {
+            // given - writer executor 를 직접 생성하는 manager 에 SseEmitter 등록
+            final SseEmitterManager manager
+                    = new SseEmitterManager(mockCommonPropertiesConfig, sseProperties, noClusterBus);
+            final SseEmitter mockSseEmitter = mock(SseEmitter.class);
+            final CompletableFuture<String> sentThreadName = new CompletableFuture<>();
+            doAnswer(invocation -> sentThreadName.complete(Thread.currentThread().getName()))
+                    .when(mockSseEmitter).send(anySet());
+            final SseConnection connection = new SseConnection(
+                    1L, mockSseEmitter, sseProperties.getQueueCapacity(),
+                    (Executor) ReflectionTestUtils.getField(manager, "writerExecutor"),
+                    ignored -> { }
+            );
+            registryOf(manager).add(connection);
+
+            // when
+            final boolean result = manager.sendToUser(1L, manager.createConnectEvent(1L));
+
+            // then - 호출한 thread 가 아닌 writer thread 에서 전송
+            Assertions.assertTrue(result);
+            final String threadName = sentThreadName.get(1, TimeUnit.SECONDS);
+            Assertions.assertTrue(threadName.startsWith(SseEmitterManager.WRITER_THREAD_PREFIX));
+            manager.close();
         }
 
         @Test
         @DisplayName("sendToUser - emitter 처리 중 exception 이 발생하는 경우")
         void sendToUserExceptionTest() throws IOException {
-            // given - SseEmitter mocking
+            // given - SseEmitter mocking 후 강제 등록
             final SseEmitter mockSseEmitter = mock(SseEmitter.class);
-            doThrow(IOException.class).when(mockSseEmitter).send(any(SseEmitter.SseEventBuilder.class));
-
-            // given - SseEmitter 강제 등록
-            @SuppressWarnings("unchecked") final Map<Long, SseEmitter> emitters =
-                    (Map<Long, SseEmitter>) ReflectionTestUtils.getField(sseEmitterManager, "emitters");
-            Assertions.assertNotNull(emitters);
-            emitters.put(1L, mockSseEmitter);
+            doThrow(IOException.class).when(mockSseEmitter).send(anySet());
+            putConnection(1L, mockSseEmitter);
 
             // given - SseEvent 생성
             final SseEvent sseEvent = sseEmitterManager.createConnectEvent(1L);
@@ -175,20 +356,104 @@ class SseEmitterManagerTests {
                     () -> sseEmitterManager.sendToUser(1L, sseEvent)
             );
 
-            // then - IOException 으로 인한 전송 실패
+            // then - queue 에는 추가됐지만 IOException 으로 인한 전송 실패로 연결 제거
+            Assertions.assertTrue(result);
+            Assertions.assertFalse(sseEmitterManager.isConnected(1L));
+            verify(mockSseEmitter, times(1)).complete();
+        }
+
+        @Test
+        @DisplayName("sendToUser - event 인코딩에 실패한 경우")
+        void sendToUserEncodingFailureTest() throws IOException {
+            // given
+            final SseEmitter mockSseEmitter = mock(SseEmitter.class);
+            putConnection(1L, mockSseEmitter);
+
+            // when
+            final boolean result = sseEmitterManager.sendToUser(1L, SseFrameTests.createBrokenEvent());
+
+            // then - 전송하지 않고 연결은 유지
+            Assertions.assertFalse(result);
+            Assertions.assertTrue(sseEmitterManager.isConnected(1L));
+            verify(mockSseEmitter, never()).send(anySet());
+        }
+
+        @Test
+        @DisplayName("sendToUser - 종료된 연결인 경우")
+        void sendToUserClosedTest() {
+            // given - 종료 처리된 연결이 map 에 남아있는 경우
+            final SseConnection connection = putConnection(1L, mock(SseEmitter.class));
+            connection.close();
+
+            // when
+            final boolean result = sseEmitterManager.sendToUser(1L, sseEmitterManager.createConnectEvent(1L));
+
+            // then
             Assertions.assertFalse(result);
         }
     }
 
+    @Nested
+    @DisplayName("SlowConsumerTests")
+    class SlowConsumerTests {
+        private List<Runnable> tasks;
+
+        private SseEmitterManager manager;
+
+        @BeforeEach
+        void init() {
+            // writer 가 실행되지 않는 느린 client 를 재현
+            tasks = new ArrayList<>();
+            sseProperties.setQueueCapacity(1);
+            manager = new SseEmitterManager(mockCommonPropertiesConfig, sseProperties, tasks::add);
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = SseProperties.SlowConsumerPolicy.class, names = {"DROP_OLDEST", "COALESCE"})
+        @DisplayName("queue 가 가득 찬 경우 - event 를 버리고 연결 유지")
+        void dropTest(final SseProperties.SlowConsumerPolicy policy) {
+            // given
+            sseProperties.setSlowConsumerPolicy(policy);
+            manager.createEmitter(1L);
+            Assertions.assertTrue(manager.sendToUser(1L, manager.createConnectEvent(1L)));
+
+            // when
+            final boolean result = manager.sendToUser(1L, manager.createConnectEvent(1L));
+
+            // then
+            Assertions.assertTrue(result);
+            Assertions.assertTrue(manager.isConnected(1L));
+            Assertions.assertEquals(1L, manager.getDroppedEventCount());
+        }
+
+        @Test
+        @DisplayName("queue 가 가득 찬 경우 - DISCONNECT 정책은 연결 종료")
+        void disconnectTest() {
+            // given
+            sseProperties.setSlowConsumerPolicy(SseProperties.SlowConsumerPolicy.DISCONNECT);
+            manager.createEmitter(1L);
+            Assertions.assertTrue(manager.sendToUser(1L, manager.createConnectEvent(1L)));
+
+            // when
+            final boolean result = manager.sendToUser(1L, manager.createConnectEvent(1L));
+
+            // then
+            Assertions.assertFalse(result);
+            Assertions.assertFalse(manager.isConnected(1L));
+            Assertions.assertEquals(0L, manager.getDroppedEventCount());
+        }
+    }
+
     @Nested
     @DisplayName("DisconnectTests")
     class DisconnectTests {
         @Test
         @DisplayName("disconnect test - 등록된 emitter 해제 성공")
-        void disconnectSuccessTest() {
+        void disconnectSuccessTest() throws IOException {
             // disconnect 시에 특별한 문제가 없는 경우
             // given - 등록
-            sseEmitterManager.createEmitter(1L);
+            final SseEmitter mockSseEmitter = mock(SseEmitter.class);
+            putConnection(1L, mockSseEmitter);
             Assertions.assertEquals(1, sseEmitterManager.getConnectionCount());
 
             // when
@@ -199,8 +464,30 @@ class SseEmitterManagerTests {
                     }
             );
 
-            // then - 연결된 connection 이 없어야 됨
+            // then - disconnect event 전송 후 종료, 연결된 connection 이 없어야 됨
             Assertions.assertEquals(0, sseEmitterManager.getConnectionCount());
+            verify(mockSseEmitter, times(1)).send(anySet());
+            verify(mockSseEmitter, times(1)).complete();
+        }
+
+        @Test
+        @DisplayName("disconnect test - 사용자의 모든 연결 해제")
+        void disconnectAllTest() throws IOException {
+            // given - 동일 사용자의 연결 2개
+            final SseEmitter firstSseEmitter = mock(SseEmitter.class);
+            final SseEmitter secondSseEmitter = mock(SseEmitter.class);
+            putConnection(1L, firstSseEmitter);
+            putConnection(1L, secondSseEmitter);
+
+            // when
+            sseEmitterManager.disconnect(1L, sseEmitterManager.createDisconnectEvent(1L));
+
+            // then - 모든 연결에 disconnect event 전송 후 종료
+            Assertions.assertFalse(sseEmitterManager.isConnected(1L));
+            for (final SseEmitter emitter : List.of(firstSseEmitter, secondSseEmitter)) {
+                verify(emitter, times(1)).send(anySet());
+                verify(emitter, times(1)).complete();
+            }
         }
 
         @Test
@@ -244,15 +531,10 @@ class SseEmitterManagerTests {
         @Test
         @DisplayName("disconnect - emitter 해제 중 exception 발생 : RuntimeException(mock)")
         void disconnectMockExceptionTest() {
-            // given - SseEmitter mocking
+            // given - SseEmitter mocking 후 강제 등록
             final SseEmitter mockSseEmitter = mock(SseEmitter.class);
             doThrow(RuntimeException.class).when(mockSseEmitter).complete();
-
-            // given - SseEmitter 강제 등록
-            @SuppressWarnings("unchecked") final Map<Long, SseEmitter> emitters =
-                    (Map<Long, SseEmitter>) ReflectionTestUtils.getField(sseEmitterManager, "emitters");
-            Assertions.assertNotNull(emitters);
-            emitters.put(1L, mockSseEmitter);
+            putConnection(1L, mockSseEmitter);
 
             // when
             Assertions.assertDoesNotThrow(
@@ -265,6 +547,255 @@ class SseEmitterManagerTests {
             // then - 연결된 connection 이 없어야 됨
             Assertions.assertEquals(0, sseEmitterManager.getConnectionCount());
         }
+
+        @Test
+        @DisplayName("disconnect - disconnect event 인코딩에 실패한 경우")
+        void disconnectEncodingFailureTest() throws IOException {
+            // given
+            final SseEmitter mockSseEmitter = mock(SseEmitter.class);
+            putConnection(1L, mockSseEmitter);
+
+            // when
+            sseEmitterManager.disconnect(1L, SseFrameTests.createBrokenEvent());
+
+            // then - event 전송 없이 종료
+            Assertions.assertEquals(0, sseEmitterManager.getConnectionCount());
+            verify(mockSseEmitter, never()).send(anySet());
+            verify(mockSseEmitter, times(1)).complete();
+        }
+    }
+
+    @Nested
+    @DisplayName("ReplayTests")
+    class ReplayTests {
+        private SseEmitterManager manager;
+
+        @BeforeEach
+        void init() {
+            // writer 를 실행하지 않고 replay 대상 frame 만 확인
+            manager = new SseEmitterManager(mockCommonPropertiesConfig, sseProperties, task -> { });
+        }
+
+        private SseEvent createEvent(final SseEventType eventType) {
+            return new SseEvent(eventType, ValueGenerator.getNanoId(), DateTimeUtil.nowUtc(), Map.of());
+        }
+
+        // 가장 최근에 등록된 연결의 replay 대상 frame
+        private List<SseFrame> replayFramesOf(final long userId) {
+            final SseConnection[] connections = registryOf(manager).get(userId);
+            @SuppressWarnings("unchecked") final List<SseFrame> frames = (List<SseFrame>) ReflectionTestUtils.getField(
+                    connections[connections.length - 1], "replayFrames"
+            );
+            return frames;
+        }
+
+        @Test
+        @DisplayName("createEmitter test - Last-Event-ID 이후의 사용자 / broadcast event 를 순서대로 replay")
+        void replayTest() {
+            // given - 사용자 event, broadcast event, 제어 event 전송
+            manager.createEmitter(1L);
+            manager.sendToUser(1L, createEvent(SseEventType.REFRESH_ANALYSIS));
+            manager.sendToAll(createEvent(SseEventType.REFRESH_LICENSE));
+            manager.sendToUser(1L, manager.createConnectEvent(1L));
+
+            // when - 처음부터 replay
+            manager.createEmitter(1L, "0");
+
+            // then - 제어 event 는 replay 하지 않음
+            final List<SseFrame> frames = replayFramesOf(1L);
+            Assertions.assertEquals(
+                    List.of(SseEventType.REFRESH_ANALYSIS, SseEventType.REFRESH_LICENSE),
+                    frames.stream().map(SseFrame::getEventType).toList()
+            );
+            Assertions.assertTrue(frames.get(0).getSequence() < frames.get(1).getSequence());
+
+            // when - 1번째 event 이후부터 replay
+            manager.createEmitter(1L, " " + frames.get(0).getSequence() + " ");
+
+            // then
+            Assertions.assertEquals(List.of(frames.get(1)), replayFramesOf(1L));
+        }
+
+        @Test
+        @DisplayName("createEmitter test - 연결이 끊긴 동안 전송된 event 를 replay")
+        void replayAfterDisconnectTest() {
+            // given - 연결 후 종료
+            manager.createEmitter(1L);
+            manager.disconnect(1L, manager.createDisconnectEvent(1L));
+
+            // when - 연결이 없는 동안 전송
+            final boolean result = manager.sendToUser(1L, createEvent(SseEventType.REFRESH_ANALYSIS));
+            manager.createEmitter(1L, "0");
+
+            // then - 전송 대상은 없지만 재연결시 replay
+            Assertions.assertFalse(result);
+            final List<SseFrame> frames = replayFramesOf(1L);
+            Assertions.assertEquals(1, frames.size());
+            Assertions.assertEquals(SseEventType.REFRESH_ANALYSIS, frames.get(0).getEventType());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", " ", "not-a-number"})
+        @DisplayName("createEmitter test - Last-Event-ID 가 비어있거나 숫자가 아닌 경우 replay 하지 않음")
+        void replayInvalidLastEventIdTest(final String lastEventId) {
+            // given
+            manager.createEmitter(1L);
+            manager.sendToUser(1L, createEvent(SseEventType.REFRESH_ANALYSIS));
+
+            // when
+            final SseEmitter result = Assertions.assertDoesNotThrow(
+                    () -> manager.createEmitter(1L, lastEventId)
+            );
+
+            // then
+            Assertions.assertNotNull(result);
+            Assertions.assertNull(replayFramesOf(1L));
+            Assertions.assertEquals(2, manager.getConnectionCount(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("TopicTests")
+    class TopicTests {
+        private SseEvent createTopicEvent() {
+            return new SseEvent(
+                    SseEventType.REFRESH_ANALYSIS, ValueGenerator.getNanoId(), DateTimeUtil.nowUtc(), Map.of()
+            );
+        }
+
+        @Test
+        @DisplayName("sendToTopic test - 구독자의 모든 연결에만 전송")
+        void sendToTopicTest() throws IOException {
+            // given - 구독자 1 ( 연결 2개 ), 연결이 없어 구독이 거부된 사용자 3, 미구독자 2
+            final SseEmitter firstSseEmitter = mock(SseEmitter.class);
+            final SseEmitter secondSseEmitter = mock(SseEmitter.class);
+            final SseEmitter otherSseEmitter = mock(SseEmitter.class);
+            putConnection(1L, firstSseEmitter);
+            putConnection(1L, secondSseEmitter);
+            putConnection(2L, otherSseEmitter);
+            Assertions.assertTrue(sseEmitterManager.subscribe(1L, "role:ADMIN"));
+            Assertions.assertFalse(sseEmitterManager.subscribe(3L, "role:ADMIN"));
+            Assertions.assertTrue(sseEmitterManager.subscribe(2L, "department:12"));
+            @SuppressWarnings("unchecked") final ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> first
+                    = ArgumentCaptor.forClass(Set.class);
+            @SuppressWarnings("unchecked") final ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> second
+                    = ArgumentCaptor.forClass(Set.class);
+
+            // when
+            final boolean result = sseEmitterManager.sendToTopic("role:ADMIN", createTopicEvent());
+
+            // then - 1번만 인코딩된 같은 frame
+            Assertions.assertTrue(result);
+            verify(firstSseEmitter).send(first.capture());
+            verify(secondSseEmitter).send(second.capture());
+            Assertions.assertSame(first.getValue(), second.getValue());
+            verify(otherSseEmitter, never()).send(anySet());
+            Assertions.assertEquals(1, sseEmitterManager.getSubscriberCount("role:ADMIN"));
+            Assertions.assertEquals(2, sseEmitterManager.getTopicCount());
+        }
+
+        @Test
+        @DisplayName("sendToTopic test - 구독자가 없거나 연결된 구독자가 없는 경우")
+        void sendToTopicNoSubscriberTest() {
+            // given - 구독 이후 연결이 종료된 구독자 ( 전송 대상 snapshot 에는 남아있을 수 있음 )
+            final SseConnection connection = putConnection(3L, mock(SseEmitter.class));
+            sseEmitterManager.subscribe(3L, "department:12");
+            registryOf(sseEmitterManager).remove(connection);
+
+            // when
+            final boolean noSubscriber = sseEmitterManager.sendToTopic("role:ADMIN", createTopicEvent());
+            final boolean noConnection = sseEmitterManager.sendToTopic("department:12", createTopicEvent());
+
+            // then
+            Assertions.assertFalse(noSubscriber);
+            Assertions.assertFalse(noConnection);
+        }
+
+        @Test
+        @DisplayName("subscribe test - 연결이 없는 사용자의 구독은 거부")
+        void subscribeWithoutConnectionTest() {
+            // when - 연결 전 구독
+            final boolean beforeConnect = sseEmitterManager.subscribe(1L, "role:ADMIN");
+
+            // then - 구독 정보가 남지 않음
+            Assertions.assertFalse(beforeConnect);
+            Assertions.assertFalse(sseEmitterManager.isSubscribed(1L, "role:ADMIN"));
+            Assertions.assertEquals(0, sseEmitterManager.getTopicCount());
+
+            // when, then - 연결 후에는 구독 가능
+            putConnection(1L, mock(SseEmitter.class));
+            Assertions.assertTrue(sseEmitterManager.subscribe(1L, "role:ADMIN"));
+            Assertions.assertFalse(sseEmitterManager.subscribe(1L, "role:ADMIN"));     // 이미 구독중
+            Assertions.assertTrue(sseEmitterManager.isSubscribed(1L, "role:ADMIN"));
+        }
+
+        @Test
+        @DisplayName("sendToTopic test - event 인코딩에 실패한 경우")
+        void sendToTopicEncodingFailureTest() throws IOException {
+            // given
+            final SseEmitter mockSseEmitter = mock(SseEmitter.class);
+            putConnection(1L, mockSseEmitter);
+            sseEmitterManager.subscribe(1L, "role:ADMIN");
+
+            // when
+            final boolean result = sseEmitterManager.sendToTopic("role:ADMIN", SseFrameTests.createBrokenEvent());
+
+            // then
+            Assertions.assertFalse(result);
+            verify(mockSseEmitter, never()).send(anySet());
+        }
+
+        @Test
+        @DisplayName("unsubscribe test - 구독 해제 후 전송하지 않음")
+        void unsubscribeTest() throws IOException {
+            // given
+            final SseEmitter mockSseEmitter = mock(SseEmitter.class);
+            putConnection(1L, mockSseEmitter);
+            sseEmitterManager.subscribe(1L, "role:ADMIN");
+
+            // when
+            final boolean unsubscribed = sseEmitterManager.unsubscribe(1L, "role:ADMIN");
+            final boolean result = sseEmitterManager.sendToTopic("role:ADMIN", createTopicEvent());
+
+            // then
+            Assertions.assertTrue(unsubscribed);
+            Assertions.assertFalse(result);
+            Assertions.assertFalse(sseEmitterManager.isSubscribed(1L, "role:ADMIN"));
+            verify(mockSseEmitter, never()).send(anySet());
+        }
+
+        @Test
+        @DisplayName("removeConnection test - 마지막 연결이 종료된 경우에만 구독 해제")
+        void removeConnectionUnsubscribeTest() {
+            // given - 연결 2개
+            final SseConnection first = putConnection(1L, mock(SseEmitter.class));
+            final SseConnection second = putConnection(1L, mock(SseEmitter.class));
+            sseEmitterManager.subscribe(1L, "role:ADMIN");
+
+            // when, then - 연결이 남아있으면 유지
+            ReflectionTestUtils.invokeMethod(sseEmitterManager, "removeConnection", first);
+            Assertions.assertTrue(sseEmitterManager.isSubscribed(1L, "role:ADMIN"));
+
+            // when, then - 마지막 연결 종료
+            ReflectionTestUtils.invokeMethod(sseEmitterManager, "removeConnection", second);
+            Assertions.assertFalse(sseEmitterManager.isSubscribed(1L, "role:ADMIN"));
+            Assertions.assertEquals(0, sseEmitterManager.getTopicCount());
+        }
+
+        @Test
+        @DisplayName("disconnect test - 사용자의 모든 구독 해제")
+        void disconnectUnsubscribeTest() {
+            // given
+            putConnection(1L, mock(SseEmitter.class));
+            sseEmitterManager.subscribe(1L, "role:ADMIN");
+            sseEmitterManager.subscribe(1L, "department:12");
+
+            // when
+            sseEmitterManager.disconnect(1L, sseEmitterManager.createDisconnectEvent(1L));
+
+            // then
+            Assertions.assertEquals(0, sseEmitterManager.getTopicCount());
+        }
     }
 
     @Nested
@@ -272,16 +803,18 @@ class SseEmitterManagerTests {
     class IntegrationTests {
         @Test
         @DisplayName("sendToAll, getConnectionCount, isConnected test - 전체 통합 검증")
-        void broadcastTest() {
+        void broadcastTest() throws IOException {
             // when - 등록 #1
-            sseEmitterManager.createEmitter(1L);
+            final SseEmitter firstSseEmitter = mock(SseEmitter.class);
+            putConnection(1L, firstSseEmitter);
 
             // then - 등록 여부 확인 #1
             Assertions.assertEquals(1, sseEmitterManager.getConnectionCount());
             Assertions.assertTrue(sseEmitterManager.isConnected(1L));
 
             // when - 등록 #2
-            sseEmitterManager.createEmitter(2L);
+            final SseEmitter secondSseEmitter = mock(SseEmitter.class);
+            putConnection(2L, secondSseEmitter);
 
             // then - 등록 여부 확인 #2
             Assertions.assertEquals(2, sseEmitterManager.getConnectionCount());
@@ -294,6 +827,48 @@ class SseEmitterManagerTests {
             Assertions.assertDoesNotThrow(
                     () -> sseEmitterManager.sendToAll(sseEvent)
             );
+            verify(firstSseEmitter, times(1)).send(anySet());
+            verify(secondSseEmitter, times(1)).send(anySet());
+        }
+
+        @Test
+        @DisplayName("sendToAll test - 모든 연결에 동일한 frame 을 전송")
+        void broadcastSharedFrameTest() throws IOException {
+            // given
+            final SseEmitter firstSseEmitter = mock(SseEmitter.class);
+            final SseEmitter secondSseEmitter = mock(SseEmitter.class);
+            putConnection(1L, firstSseEmitter);
+            putConnection(2L, secondSseEmitter);
+            @SuppressWarnings("unchecked") final ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> first
+                    = ArgumentCaptor.forClass(Set.class);
+            @SuppressWarnings("unchecked") final ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> second
+                    = ArgumentCaptor.forClass(Set.class);
+
+            // when
+            sseEmitterManager.sendToAll(new SseEvent(
+                    SseEventType.REFRESH_LICENSE, ValueGenerator.getNanoId(), DateTimeUtil.nowUtc(), Map.of("k", "v")
+            ));
+
+            // then - 1번만 인코딩된 같은 instance
+            verify(firstSseEmitter).send(first.capture());
+            verify(secondSseEmitter).send(second.capture());
+            Assertions.assertSame(first.getValue(), second.getValue());
+        }
+
+        @Test
+        @DisplayName("sendToAll test - event 인코딩에 실패한 경우")
+        void broadcastEncodingFailureTest() throws IOException {
+            // given
+            final SseEmitter mockSseEmitter = mock(SseEmitter.class);
+            putConnection(1L, mockSseEmitter);
+
+            // when
+            Assertions.assertDoesNotThrow(
+                    () -> sseEmitterManager.sendToAll(SseFrameTests.createBrokenEvent())
+            );
+
+            // then
+            verify(mockSseEmitter, never()).send(anySet());
         }
     }
 
@@ -346,18 +921,250 @@ class SseEmitterManagerTests {
     }
 
     @Nested
-    @DisplayName("RemoveEmitterTests")
-    class RemoveEmitterTests {
+    @DisplayName("ClusterTests")
+    class ClusterTests {
+        private ISseClusterBus mockClusterBus;
+
+        private List<SseClusterMessage> published;
+
+        @BeforeEach
+        void initCluster() {
+            mockClusterBus = mock(ISseClusterBus.class);
+            published = new ArrayList<>();
+            doAnswer(invocation -> published.addAll(invocation.getArgument(0)))
+                    .when(mockClusterBus).publish(anyList());
+            sseProperties.getCluster().setNodeId("node-a");
+            sseProperties.getCluster().setNodeIndex(1);
+            sseEmitterManager.close();
+            sseEmitterManager = new SseEmitterManager(mockCommonPropertiesConfig, sseProperties, Runnable::run,
+                                                      mockClusterBus);
+        }
+
+        private SseClusterRelay relay() {
+            final SseClusterRelay relay = (SseClusterRelay) ReflectionTestUtils.getField(
+                    sseEmitterManager, "clusterRelay"
+            );
+            Assertions.assertNotNull(relay);
+            return relay;
+        }
+
+        // 다른 node 에서 message 수신
+        private void receive(final SseClusterMessage.Type type, final long[] userIds, final String topic,
+                             final SseEvent event) {
+            relay().receive(List.of(new SseClusterMessage(type, "node-b", userIds, topic, event, 0L)));
+        }
+
+        // 전달 대기중인 message 를 bus 로 전달한 뒤 type 목록 반환
+        private List<SseClusterMessage.Type> flushedTypes() {
+            relay().flush();
+            return published.stream().map(SseClusterMessage::type).toList();
+        }
+
+        private SseEvent createRefreshEvent() {
+            return new SseEvent(
+                    SseEventType.REFRESH_ANALYSIS, ValueGenerator.getNanoId(), DateTimeUtil.nowUtc(), Map.of()
+            );
+        }
+
+        @Test
+        @DisplayName("constructor test - cluster bus bean 이 있는 경우 relay 생성")
+        void constructorTest() {
+            // given
+            @SuppressWarnings("unchecked") final ObjectProvider<ISseClusterBus> withBus = mock(ObjectProvider.class);
+            when(withBus.getIfAvailable()).thenReturn(mockClusterBus);
+
+            // when
+            final SseEmitterManager manager = new SseEmitterManager(mockCommonPropertiesConfig, sseProperties, withBus);
+
+            // then
+            Assertions.assertNotNull(ReflectionTestUtils.getField(manager, "clusterRelay"));
+            Assertions.assertEquals(0L, manager.getDroppedClusterMessageCount());
+            Assertions.assertNull(ReflectionTestUtils.getField(
+                    new SseEmitterManager(mockCommonPropertiesConfig, sseProperties, Runnable::run), "clusterRelay"
+            ));
+            manager.close();
+        }
+
+        @Test
+        @DisplayName("init, close test - cluster bus 수신 시작 / 종료")
+        void initCloseTest() {
+            // when
+            sseEmitterManager.init();
+            sseEmitterManager.close();
+
+            // then
+            verify(mockClusterBus, times(1)).start(any());
+            verify(mockClusterBus, atLeastOnce()).close();
+        }
+
+        @Test
+        @DisplayName("sendToUser test - 이 node 에만 연결된 사용자는 cluster bus 로 전달하지 않음")
+        void sendToUserLocalTest() {
+            // given - 연결 등록시 routing 정보 전달
+            sseEmitterManager.createEmitter(1L);
+            Assertions.assertEquals(List.of(SseClusterMessage.Type.ROUTE_ADD), flushedTypes());
+            published.clear();
+
+            // when
+            final boolean local = sseEmitterManager.sendToUser(1L, createRefreshEvent());
+            final boolean notConnected = sseEmitterManager.sendToUser(2L, sseEmitterManager.createConnectEvent(2L));
+
+            // then - network 사용 없음
+            Assertions.assertTrue(local);
+            Assertions.assertFalse(notConnected);
+            Assertions.assertTrue(flushedTypes().isEmpty());
+            Assertions.assertEquals(0L, sseEmitterManager.getDroppedClusterMessageCount());
+        }
+
+        @Test
+        @DisplayName("sendToUser test - 다른 node 에 연결된 사용자에게 전달")
+        void sendToUserRemoteTest() throws IOException {
+            // given - 사용자 1 은 이 node 와 node-b, 사용자 2 는 node-b 에 연결
+            final SseEmitter mockSseEmitter = mock(SseEmitter.class);
+            putConnection(1L, mockSseEmitter);
+            receive(SseClusterMessage.Type.ROUTE_SYNC, new long[]{1L, 2L}, null, null);
+
+            // when
+            final boolean both = sseEmitterManager.sendToUser(1L, createRefreshEvent());
+            final boolean remote = sseEmitterManager.sendToUser(2L, sseEmitterManager.createConnectEvent(2L));
+
+            // then
+            Assertions.assertTrue(both);
+            Assertions.assertTrue(remote);
+            verify(mockSseEmitter, times(1)).send(anySet());
+            Assertions.assertEquals(List.of(SseClusterMessage.Type.USER, SseClusterMessage.Type.USER), flushedTypes());
+            Assertions.assertArrayEquals(new long[]{2L}, published.get(1).userIds());
+            Assertions.assertTrue(published.get(1).sequence() > published.get(0).sequence());
+        }
+
+        @Test
+        @DisplayName("sendToAll, sendToTopic, disconnect test - 다른 node 에 연결된 사용자가 있는 경우에만 전달")
+        void forwardTest() {
+            // given - 다른 node 에 연결된 사용자 없음
+            sseEmitterManager.sendToAll(createRefreshEvent());
+            sseEmitterManager.disconnect(2L, sseEmitterManager.createDisconnectEvent(2L));
+            Assertions.assertFalse(sseEmitterManager.sendToTopic("role:ADMIN", createRefreshEvent()));
+            Assertions.assertTrue(flushedTypes().isEmpty());
+
+            // given - node-b 에 사용자 2 연결
+            receive(SseClusterMessage.Type.ROUTE_ADD, new long[]{2L}, null, null);
+
+            // when
+            sseEmitterManager.sendToAll(createRefreshEvent());
+            final boolean topic = sseEmitterManager.sendToTopic("role:ADMIN", createRefreshEvent());
+            sseEmitterManager.disconnect(2L, sseEmitterManager.createDisconnectEvent(2L));
+
+            // then - 구독 여부는 수신한 node 에서 확인
+            Assertions.assertTrue(topic);
+            Assertions.assertEquals(List.of(SseClusterMessage.Type.ALL, SseClusterMessage.Type.TOPIC,
+                                            SseClusterMessage.Type.DISCONNECT), flushedTypes());
+        }
+
+        @Test
+        @DisplayName("receive test - 다른 node 의 event 는 이 node 의 연결에만 전송")
+        void receiveTest() throws IOException {
+            // given - 사용자 1 은 이 node 와 node-b 에 연결
+            final SseEmitter mockSseEmitter = mock(SseEmitter.class);
+            putConnection(1L, mockSseEmitter);
+            sseEmitterManager.subscribe(1L, "role:ADMIN");
+            receive(SseClusterMessage.Type.ROUTE_SYNC, new long[]{1L}, null, null);
+
+            // when
+            receive(SseClusterMessage.Type.USER, new long[]{1L}, null, createRefreshEvent());
+            receive(SseClusterMessage.Type.TOPIC, new long[0], "role:ADMIN", createRefreshEvent());
+            receive(SseClusterMessage.Type.ALL, new long[0], null, createRefreshEvent());
+
+            // then - 다시 cluster bus 로 전달하지 않음
+            verify(mockSseEmitter, times(3)).send(anySet());
+            Assertions.assertTrue(flushedTypes().isEmpty());
+        }
+
+        @Test
+        @DisplayName("receive test - 보낸 node 의 sequence 로 보관하여 다른 node 로 재연결해도 replay")
+        void receiveSequenceTest() {
+            // given - 이 node 에 연결된 적이 있는 사용자 1 에게 node-b 가 보낸 event
+            sseEmitterManager.createEmitter(1L);
+            final SseReplayBuffer replayBuffer
+                    = (SseReplayBuffer) ReflectionTestUtils.getField(sseEmitterManager, "replayBuffer");
+            Assertions.assertNotNull(replayBuffer);
+            final long remoteSequence = new SseReplayBuffer(sseProperties.getReplay(), 2).nextSequence();
+
+            // when
+            relay().receive(List.of(new SseClusterMessage(
+                    SseClusterMessage.Type.USER, "node-b", new long[]{1L}, null, createRefreshEvent(), remoteSequence
+            )));
+
+            // then - node-b 에서 받은 id 이후로 replay 하면 같은 sequence 의 frame 을 찾고, 이후 발급은 더 큰 값
+            Assertions.assertEquals(
+                    List.of(remoteSequence),
+                    replayBuffer.getFramesAfter(1L, remoteSequence - 1L).stream().map(SseFrame::getSequence).toList()
+            );
+            Assertions.assertTrue(replayBuffer.nextSequence() > remoteSequence);
+        }
+
+        @Test
+        @DisplayName("receive test - 다른 node 의 disconnect 는 이 node 의 연결 종료")
+        void receiveDisconnectTest() {
+            // given
+            final SseEmitter mockSseEmitter = mock(SseEmitter.class);
+            putConnection(1L, mockSseEmitter);
+
+            // when
+            final SseEvent disconnectEvent = sseEmitterManager.createDisconnectEvent(1L);
+            receive(SseClusterMessage.Type.DISCONNECT, new long[]{1L}, null, disconnectEvent);
+
+            // then - 연결이 없음을 알림
+            Assertions.assertFalse(sseEmitterManager.isConnected(1L));
+            verify(mockSseEmitter, times(1)).complete();
+            Assertions.assertEquals(List.of(SseClusterMessage.Type.ROUTE_REMOVE), flushedTypes());
+        }
+
+        @Test
+        @DisplayName("removeConnection test - 마지막 연결이 종료된 경우에만 연결 없음을 알림")
+        void removeConnectionTest() {
+            // given
+            final SseConnection first = putConnection(1L, mock(SseEmitter.class));
+            final SseConnection second = putConnection(1L, mock(SseEmitter.class));
+
+            // when, then
+            ReflectionTestUtils.invokeMethod(sseEmitterManager, "removeConnection", first);
+            Assertions.assertTrue(flushedTypes().isEmpty());
+            ReflectionTestUtils.invokeMethod(sseEmitterManager, "removeConnection", second);
+            Assertions.assertEquals(List.of(SseClusterMessage.Type.ROUTE_REMOVE), flushedTypes());
+        }
+
+        @Test
+        @DisplayName("deliverClusterMessage test - 전송 대상이 아닌 message")
+        void deliverUnsupportedTest() {
+            // given
+            final SseClusterMessage message = new SseClusterMessage(
+                    SseClusterMessage.Type.ROUTE_SYNC, "node-b", new long[]{1L}, null, null, 0L
+            );
+
+            // when, then
+            Assertions.assertDoesNotThrow(
+                    () -> ReflectionTestUtils.invokeMethod(sseEmitterManager, "deliverClusterMessage", message)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("RemoveConnectionTests")
+    class RemoveConnectionTests {
         @Test
-        @DisplayName("removeEmitter test - 등록된 emitter 가 없는 경우")
-        void removeEmitterNullTest() {
-            // removeEmitter 가 호출될 때 대부분의 경우 emitter 존재 여부를 확인하고 처리함
-            // runtime 에 타이밍상 문제가 될 부분도 존재하므로 테스트 코드로 확인
+        @DisplayName("removeConnection test - 등록된 연결이 없는 경우")
+        void removeConnectionNotRegisteredTest() {
+            // removeConnection 이 호출될 때 대부분의 경우 등록된 연결을 대상으로 처리함
+            // runtime 에 타이밍상 문제가 될 부분 ( 이미 제거 / 재등록 ) 도 존재하므로 테스트 코드로 확인
+            // given
+            final SseEmitter mockSseEmitter = mock(SseEmitter.class);
+            final SseConnection connection = new SseConnection(999L, mockSseEmitter, 1, Runnable::run, ignored -> { });
 
             // when, then - exception 이 발생하지 않아야 함
             Assertions.assertDoesNotThrow(
-                    () -> ReflectionTestUtils.invokeMethod(sseEmitterManager, "removeEmitter", 999L)
+                    () -> ReflectionTestUtils.invokeMethod(sseEmitterManager, "removeConnection", connection)
             );
+            verify(mockSseEmitter, never()).complete();
         }
     }
 }
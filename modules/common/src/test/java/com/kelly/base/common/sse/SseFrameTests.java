@@ -0,0 +1,71 @@
+package com.kelly.base.common.sse;
+
+import com.kelly.base.common.exception.CommonException;
+import com.kelly.base.common.response.CommonResultCode;
+import com.kelly.base.common.sse.dto.SseEvent;
+import com.kelly.base.common.sse.dto.SseEventType;
+import com.kelly.base.common.utils.DateTimeUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+@DisplayName("SseFrameTests")
+class SseFrameTests {
+    // contents 직렬화시 exception 이 발생하는 event
+    static SseEvent createBrokenEvent() {
+        final Map<String, String> brokenContents = new HashMap<>() {
+            @Override
+            public Set<Entry<String, String>> entrySet() {
+                throw new IllegalStateException("broken contents");
+            }
+        };
+        brokenContents.put("key", "value");
+        return new SseEvent(SseEventType.REFRESH_ANALYSIS, "broken", DateTimeUtil.nowUtc(), brokenContents);
+    }
+
+    @Test
+    @DisplayName("of test - SseEmitter.event() 와 동일한 wire format 으로 인코딩")
+    void ofTest() {
+        // given
+        final SseEvent event = new SseEvent(
+                SseEventType.CONNECT, "event-id", DateTimeUtil.nowUtc(), Map.of("userId", "1")
+        );
+
+        // when
+        final SseFrame frame = Assertions.assertDoesNotThrow(
+                () -> SseFrame.of(event, 7L)
+        );
+
+        // then - id 는 eventId 대신 sequence
+        Assertions.assertEquals(SseEventType.CONNECT, frame.getEventType());
+        Assertions.assertEquals(7L, frame.getSequence());
+        Assertions.assertEquals("event:CONNECT\nid:7\ndata:{\"userId\":\"1\"}\n\n", frame.toString());
+
+        // then - byte[] 1개를 text/plain 으로 전송
+        final Set<ResponseBodyEmitter.DataWithMediaType> items = frame.getItems();
+        Assertions.assertEquals(1, items.size());
+        final ResponseBodyEmitter.DataWithMediaType item = items.iterator().next();
+        Assertions.assertEquals(MediaType.TEXT_PLAIN, item.getMediaType());
+        Assertions.assertEquals(frame.toString(), new String((byte[]) item.getData(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("of test - contents 직렬화 실패")
+    void ofFailureTest() {
+        // when
+        final CommonException exception = Assertions.assertThrows(
+                CommonException.class,
+                () -> SseFrame.of(createBrokenEvent(), 1L)
+        );
+
+        // then
+        Assertions.assertEquals(CommonResultCode.SYSTEM_ERROR, exception.getResultCode());
+    }
+}
@@ -0,0 +1,201 @@
+package com.kelly.base.common.sse;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("SseHeartbeatSchedulerTests")
+class SseHeartbeatSchedulerTests {
+    private SseProperties.Heartbeat properties;
+
+    private AtomicLong clock;   // 현재 시간 (ms)
+
+    private List<SseConnection> reaped;
+
+    @BeforeEach
+    void init() {
+        properties = new SseProperties.Heartbeat();
+        properties.setIntervalMs(1000L);
+        properties.setIdleTimeoutMs(3000L);
+        properties.setWriteTimeoutMs(2000L);
+        clock = new AtomicLong();
+        reaped = new ArrayList<>();
+    }
+
+    private SseHeartbeatScheduler createScheduler(final SseConnectionRegistry registry) {
+        return new SseHeartbeatScheduler(registry, properties, reaped::add, clock::get);
+    }
+
+    private static SseConnection createConnection(final long userId, final SseEmitter emitter) {
+        return new SseConnection(userId, emitter, 4, Runnable::run, ignored -> { });
+    }
+
+    @Test
+    @DisplayName("getTickIntervalMs test - heartbeat 간격을 slot ( shard ) 개수로 나눔")
+    void getTickIntervalMsTest() {
+        // given
+        final SseHeartbeatScheduler scheduler = createScheduler(new SseConnectionRegistry(4, 1));
+
+        // when
+        final long tickIntervalMs = scheduler.getTickIntervalMs();
+        properties.setIntervalMs(2L);
+        final long minimumTickIntervalMs = scheduler.getTickIntervalMs();
+
+        // then
+        Assertions.assertEquals(250L, tickIntervalMs);
+        Assertions.assertEquals(1L, minimumTickIntervalMs);
+    }
+
+    @Test
+    @DisplayName("constructor test - 기본 clock 사용")
+    void defaultClockTest() {
+        // given - 방금 생성된 연결
+        final SseConnectionRegistry registry = new SseConnectionRegistry(1, 1);
+        final SseEmitter mockEmitter = mock(SseEmitter.class);
+        registry.add(createConnection(1L, mockEmitter));
+        final SseHeartbeatScheduler scheduler = new SseHeartbeatScheduler(registry, properties, reaped::add);
+
+        // when
+        scheduler.tick();
+
+        // then - 유휴 시간이 없으므로 처리하지 않음
+        verifyNoInteractions(mockEmitter);
+        Assertions.assertTrue(reaped.isEmpty());
+    }
+
+    @Nested
+    @DisplayName("TickTests")
+    class TickTests {
+        @Test
+        @DisplayName("tick test - 유휴 연결에만 heartbeat 전송")
+        void tickHeartbeatTest() throws IOException {
+            // given
+            final SseConnectionRegistry registry = new SseConnectionRegistry(1, 2);
+            final SseEmitter idleEmitter = mock(SseEmitter.class);
+            final SseEmitter activeEmitter = mock(SseEmitter.class);
+            final SseConnection idle = createConnection(1L, idleEmitter);
+            final SseConnection active = createConnection(2L, activeEmitter);
+            registry.add(idle);
+            registry.add(active);
+
+            // given - idle 은 interval 의 절반, active 는 그 이전까지 전송 없음
+            clock.set(idle.getLastWriteMs() + 500L);
+            ReflectionTestUtils.setField(active, "lastWriteMs", clock.get() - 499L);
+
+            // when
+            createScheduler(registry).tick();
+
+            // then
+            verify(idleEmitter, times(1)).send(SseFrame.HEARTBEAT.getItems());
+            verify(activeEmitter, never()).send(anySet());
+            Assertions.assertTrue(reaped.isEmpty());
+        }
+
+        @Test
+        @DisplayName("tick test - 유휴 시간이 idleTimeout 을 넘은 연결 종료")
+        void tickReapTest() throws IOException {
+            // given
+            final SseConnectionRegistry registry = new SseConnectionRegistry(1, 1);
+            final SseEmitter mockEmitter = mock(SseEmitter.class);
+            final SseConnection connection = createConnection(1L, mockEmitter);
+            registry.add(connection);
+            clock.set(connection.getLastWriteMs() + 3000L);
+
+            // when
+            createScheduler(registry).tick();
+
+            // then - heartbeat 없이 종료
+            Assertions.assertEquals(List.of(connection), reaped);
+            verify(mockEmitter, never()).send(anySet());
+        }
+
+        @Test
+        @DisplayName("tick test - 전송 1건이 writeTimeout 을 넘은 연결은 writer thread 반환")
+        void tickWriteTimeoutTest() {
+            // given - 전송이 writeTimeout 동안 끝나지 않은 연결
+            final SseConnectionRegistry registry = new SseConnectionRegistry(1, 1);
+            final SseEmitter mockEmitter = mock(SseEmitter.class);
+            final SseConnection connection = spy(createConnection(1L, mockEmitter));
+            registry.add(connection);
+            ReflectionTestUtils.setField(connection, "writeStartedMs", connection.getLastWriteMs());
+            clock.set(connection.getLastWriteMs() + 3000L);
+
+            // when
+            createScheduler(registry).tick();
+
+            // then - 전송중인 emitter 는 종료하지 않고 ( lock 대기 방지 ) writer thread 만 반환
+            verify(connection, times(1)).abortWrite();
+            Assertions.assertTrue(reaped.isEmpty());
+            verify(mockEmitter, never()).complete();
+        }
+
+        @Test
+        @DisplayName("tick test - writeTimeout 이전의 전송중인 연결은 유휴 시간과 상관없이 유지")
+        void tickWritingTest() {
+            // given - 유휴 시간은 idleTimeout 을 넘었지만 전송 시작 후 writeTimeout 이전
+            final SseConnectionRegistry registry = new SseConnectionRegistry(1, 1);
+            final SseConnection connection = spy(createConnection(1L, mock(SseEmitter.class)));
+            registry.add(connection);
+            clock.set(connection.getLastWriteMs() + 3000L);
+            ReflectionTestUtils.setField(connection, "writeStartedMs", clock.get() - 1999L);
+
+            // when
+            createScheduler(registry).tick();
+
+            // then
+            verify(connection, never()).abortWrite();
+            Assertions.assertTrue(reaped.isEmpty());
+        }
+
+        @Test
+        @DisplayName("tick test - tick 마다 다음 slot ( shard ) 만 처리")
+        void tickSlotTest() {
+            // given - user 1 은 shard 1, user 2 는 shard 0
+            final SseConnectionRegistry registry = new SseConnectionRegistry(2, 1);
+            final SseConnection first = createConnection(1L, mock(SseEmitter.class));
+            final SseConnection second = createConnection(2L, mock(SseEmitter.class));
+            registry.add(first);
+            registry.add(second);
+            clock.set(Math.max(first.getLastWriteMs(), second.getLastWriteMs()) + 3000L);
+            final SseHeartbeatScheduler scheduler = createScheduler(registry);
+
+            // when, then - 1회전
+            scheduler.tick();
+            Assertions.assertEquals(List.of(second), reaped);
+            scheduler.tick();
+            Assertions.assertEquals(List.of(second, first), reaped);
+
+            // when, then - 다시 처음 slot
+            scheduler.tick();
+            Assertions.assertEquals(List.of(second, first, second), reaped);
+        }
+
+        @Test
+        @DisplayName("tick test - 처리 중 exception 이 발생해도 다음 tick 은 실행")
+        void tickExceptionTest() {
+            // given
+            final SseConnectionRegistry registry = new SseConnectionRegistry(1, 1);
+            final SseConnection connection = createConnection(1L, mock(SseEmitter.class));
+            registry.add(connection);
+            clock.set(connection.getLastWriteMs() + 3000L);
+            final SseHeartbeatScheduler scheduler = new SseHeartbeatScheduler(registry, properties, ignored -> {
+                throw new IllegalStateException("reaper failure");
+            }, clock::get);
+
+            // when, then
+            Assertions.assertDoesNotThrow(scheduler::tick);
+            Assertions.assertDoesNotThrow(scheduler::tick);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.kelly.base.common.sse;
+
+import com.kelly.base.common.sse.dto.SseEvent;
+import com.kelly.base.common.sse.dto.SseEventType;
+import com.kelly.base.common.utils.DateTimeUtil;
+import com.kelly.base.common.utils.ValueGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@DisplayName("SseReplayBufferTests")
+class SseReplayBufferTests {
+    private AtomicLong clock;   // 현재 시간 (ms)
+
+    private SseProperties.Replay properties;
+
+    private SseReplayBuffer replayBuffer;
+
+    private List<SseFrame> delivered;
+
+    @BeforeEach
+    void init() {
+        clock = new AtomicLong(1_000_000L);
+        properties = new SseProperties.Replay();
+        properties.setUserBufferSize(3);        // 4 로 올림
+        properties.setGlobalBufferSize(2);
+        properties.setRetentionMs(1000L);
+        replayBuffer = new SseReplayBuffer(properties, clock::get);
+        delivered = new ArrayList<>();
+    }
+
+    private static SseEvent createEvent(final SseEventType eventType) {
+        return new SseEvent(eventType, ValueGenerator.getNanoId(), DateTimeUtil.nowUtc(), Map.of());
+    }
+
+    private boolean deliver(final SseFrame frame) {
+        delivered.add(frame);
+        return true;
+    }
+
+    private boolean publishToUser(final long userId, final SseEventType eventType) {
+        return replayBuffer.publishToUser(userId, createEvent(eventType), replayBuffer.nextSequence(), this::deliver);
+    }
+
+    private void publishToAll(final SseEventType eventType) {
+        replayBuffer.publishToAll(createEvent(eventType), replayBuffer.nextSequence(), this::deliver);
+    }
+
+    private static List<Long> sequencesOf(final List<SseFrame> frames) {
+        return frames.stream().map(SseFrame::getSequence).toList();
+    }
+
+    @Nested
+    @DisplayName("PublishTests")
+    class PublishTests {
+        @Test
+        @DisplayName("publish test - sequence 는 시작 시간 기준으로 단조 증가")
+        void publishSequenceTest() {
+            // when
+            publishToAll(SseEventType.REFRESH_LICENSE);
+            publishToUser(1L, SseEventType.CONNECT);
+
+            // then
+            Assertions.assertEquals(List.of(1_000_000_001L, 1_000_000_002L), sequencesOf(delivered));
+        }
+
+        @Test
+        @DisplayName("nextSequence test - cluster 사용시 하위 bit 에 node 번호 기록")
+        void nextSequenceNodeTagTest() {
+            // given
+            final SseReplayBuffer nodeA = new SseReplayBuffer(properties, clock::get, 1);
+            final SseReplayBuffer nodeB = new SseReplayBuffer(properties, clock::get, SseReplayBuffer.MAX_NODE_INDEX);
+            final long nodeTagMask = (1L << SseReplayBuffer.NODE_TAG_BITS) - 1;
+
+            // when - 같은 시점에 발급
+            final long first = nodeA.nextSequence();
+            final long second = nodeA.nextSequence();
+            final long other = nodeB.nextSequence();
+
+            // then - node 별로 다른 sequence, node 안에서는 단조 증가
+            Assertions.assertEquals(1_000_000_001L, first >>> SseReplayBuffer.NODE_TAG_BITS);
+            Assertions.assertEquals(1L, first & nodeTagMask);
+            Assertions.assertEquals(1L, second & nodeTagMask);
+            Assertions.assertEquals(SseReplayBuffer.MAX_NODE_INDEX, other & nodeTagMask);
+            Assertions.assertTrue(second > first);
+            Assertions.assertNotEquals(first, other);
+        }
+
+        @Test
+        @DisplayName("constructor test - node 번호가 8 bit 범위를 넘는 경우")
+        void nodeIndexOutOfRangeTest() {
+            // when, then
+            Assertions.assertThrows(IllegalArgumentException.class,
+                                    () -> new SseReplayBuffer(properties, clock::get, -1));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                                    () -> new SseReplayBuffer(properties, SseReplayBuffer.MAX_NODE_INDEX + 1));
+        }
+
+        @Test
+        @DisplayName("adoptSequence test - 다른 node 의 sequence 를 사용하고 이후 발급 sequence 를 맞춤")
+        void adoptSequenceTest() {
+            // given - 시계가 빠른 다른 node 에서 발급된 sequence
+            final SseReplayBuffer nodeA = new SseReplayBuffer(properties, clock::get, 1);
+            clock.addAndGet(1000L);
+            final long remote = new SseReplayBuffer(properties, clock::get, 2).nextSequence();
+
+            // when
+            final long adopted = nodeA.adoptSequence(remote);
+            final long next = nodeA.nextSequence();
+
+            // then
+            Assertions.assertEquals(remote, adopted);
+            Assertions.assertTrue(next > remote);
+        }
+
+        @Test
+        @DisplayName("adoptSequence test - sequence 가 없는 message 는 이 node 에서 발급")
+        void adoptSequenceMissingTest() {
+            // when
+            final long adopted = replayBuffer.adoptSequence(0L);
+
+            // then
+            Assertions.assertEquals(1_000_000_001L, adopted);
+        }
+
+        @Test
+        @DisplayName("publishToUser test - buffer 가 있는 사용자의 replay 대상 event 만 보관")
+        void publishToUserTest() {
+            // given
+            replayBuffer.open(1L);
+
+            // when
+            final boolean stored = publishToUser(1L, SseEventType.REFRESH_ANALYSIS);
+            publishToUser(1L, SseEventType.CONNECT);
+            replayBuffer.publishToUser(2L, createEvent(SseEventType.REFRESH_ANALYSIS), 1L, frame -> false);
+
+            // then - 보관 여부와 상관없이 전달
+            Assertions.assertTrue(stored);
+            Assertions.assertEquals(2, delivered.size());
+            Assertions.assertEquals(List.of(delivered.get(0)), replayBuffer.getFramesAfter(1L, 0L));
+            Assertions.assertTrue(replayBuffer.getFramesAfter(2L, 0L).isEmpty());
+            Assertions.assertEquals(1, replayBuffer.getUserBufferCount());
+        }
+
+        @Test
+        @DisplayName("publishToAll test - 제어 event 는 보관하지 않음")
+        void publishToAllTest() {
+            // when
+            publishToAll(SseEventType.REFRESH_LICENSE);
+            publishToAll(SseEventType.DISCONNECT);
+
+            // then
+            Assertions.assertEquals(2, delivered.size());
+            Assertions.assertEquals(List.of(delivered.get(0)), replayBuffer.getFramesAfter(1L, 0L));
+        }
+
+        @Test
+        @DisplayName("publishUnbuffered test - 보관하지 않고 전달")
+        void publishUnbufferedTest() {
+            // given
+            replayBuffer.open(1L);
+
+            // when
+            final boolean result = replayBuffer.publishUnbuffered(
+                    createEvent(SseEventType.REFRESH_ANALYSIS), 1L, SseReplayBufferTests.this::deliver
+            );
+
+            // then
+            Assertions.assertTrue(result);
+            Assertions.assertEquals(1, delivered.size());
+            Assertions.assertTrue(replayBuffer.getFramesAfter(1L, 0L).isEmpty());
+        }
+
+        @Test
+        @DisplayName("publish test - event 인코딩에 실패한 경우")
+        void publishEncodingFailureTest() {
+            // given
+            replayBuffer.open(1L);
+
+            // when
+            final boolean toUser = replayBuffer.publishToUser(
+                    1L, SseFrameTests.createBrokenEvent(), 1L, SseReplayBufferTests.this::deliver
+            );
+            final boolean toAll = replayBuffer.publishToAll(
+                    SseFrameTests.createBrokenEvent(), 1L, SseReplayBufferTests.this::deliver
+            );
+
+            // then - 보관 / 전달하지 않음
+            Assertions.assertFalse(toUser);
+            Assertions.assertFalse(toAll);
+            Assertions.assertTrue(delivered.isEmpty());
+            Assertions.assertTrue(replayBuffer.getFramesAfter(1L, 0L).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("GetFramesAfterTests")
+    class GetFramesAfterTests {
+        @Test
+        @DisplayName("getFramesAfter test - 사용자 / broadcast frame 을 sequence 순서로 병합")
+        void getFramesAfterMergeTest() {
+            // given
+            replayBuffer.open(1L);
+            publishToUser(1L, SseEventType.REFRESH_ANALYSIS);
+            publishToAll(SseEventType.REFRESH_LICENSE);
+            publishToAll(SseEventType.REFRESH_LICENSE);
+            publishToUser(1L, SseEventType.REFRESH_ANALYSIS);
+
+            // when
+            final List<SseFrame> all = replayBuffer.getFramesAfter(1L, 0L);
+            final List<SseFrame> afterFirst = replayBuffer.getFramesAfter(1L, delivered.get(0).getSequence());
+            final List<SseFrame> latest = replayBuffer.getFramesAfter(1L, delivered.get(3).getSequence());
+
+            // then
+            Assertions.assertEquals(delivered, all);
+            Assertions.assertEquals(delivered.subList(1, 4), afterFirst);
+            Assertions.assertTrue(latest.isEmpty());
+        }
+
+        @Test
+        @DisplayName("getFramesAfter test - sequence 순서와 다르게 보관된 frame 은 sequence 순서로 조회")
+        void getFramesAfterOutOfOrderTest() {
+            // given - 다른 node 에서 먼저 발급된 sequence 가 늦게 도착 ( 사용자 buffer 4개 )
+            replayBuffer.open(1L);
+            final SseEvent event = createEvent(SseEventType.REFRESH_ANALYSIS);
+            for (final long sequence : new long[]{ 10L, 30L, 20L, 40L, 50L, 15L }) {
+                replayBuffer.publishToUser(1L, event, sequence, SseReplayBufferTests.this::deliver);
+            }
+
+            // when
+            final List<SseFrame> all = replayBuffer.getFramesAfter(1L, 0L);
+            final List<SseFrame> afterSecond = replayBuffer.getFramesAfter(1L, 20L);
+
+            // then - sequence 가 큰 frame 4개만 보관하고, 전달은 도착 순서
+            Assertions.assertEquals(List.of(20L, 30L, 40L, 50L), sequencesOf(all));
+            Assertions.assertEquals(List.of(30L, 40L, 50L), sequencesOf(afterSecond));
+            Assertions.assertEquals(List.of(10L, 30L, 20L, 40L, 50L, 15L), sequencesOf(delivered));
+        }
+
+        @Test
+        @DisplayName("getFramesAfter test - buffer 크기를 넘은 frame 은 덮어씀")
+        void getFramesAfterOverflowTest() {
+            // given - 사용자 buffer 4개
+            replayBuffer.open(1L);
+            for (int i = 0; i < 6; i++) {
+                publishToUser(1L, SseEventType.REFRESH_ANALYSIS);
+            }
+
+            // when
+            final List<SseFrame> frames = replayBuffer.getFramesAfter(1L, 0L);
+
+            // then - 최근 4개만 보관
+            Assertions.assertEquals(delivered.subList(2, 6), frames);
+        }
+
+        @Test
+        @DisplayName("getFramesAfter test - 보관 시간이 지난 frame 은 제외")
+        void getFramesAfterRetentionTest() {
+            // given
+            replayBuffer.open(1L);
+            publishToUser(1L, SseEventType.REFRESH_ANALYSIS);
+            clock.addAndGet(600L);
+            publishToUser(1L, SseEventType.REFRESH_ANALYSIS);
+
+            // when - 1번째 frame 의 보관 시간 경과
+            clock.addAndGet(600L);
+            final List<SseFrame> frames = replayBuffer.getFramesAfter(1L, 0L);
+
+            // then
+            Assertions.assertEquals(List.of(delivered.get(1)), frames);
+        }
+    }
+
+    @Nested
+    @DisplayName("PurgeExpiredTests")
+    class PurgeExpiredTests {
+        @Test
+        @DisplayName("purgeExpired test - 연결이 없고 보관 시간이 지난 사용자의 buffer 제거")
+        void purgeExpiredTest() {
+            // given - 사용자 1 ( 연결 ), 2 ( 연결 없음 ), 3 ( 최근 사용 )
+            replayBuffer.open(1L);
+            replayBuffer.open(2L);
+            clock.addAndGet(1500L);
+            replayBuffer.open(3L);
+
+            // when
+            replayBuffer.purgeExpired(userId -> userId == 1L);
+
+            // then
+            Assertions.assertEquals(2, replayBuffer.getUserBufferCount());
+            Assertions.assertTrue(replayBuffer.getFramesAfter(2L, 0L).isEmpty());
+        }
+
+        @Test
+        @DisplayName("purgeExpired test - 보관 시간 간격 이내에는 다시 실행하지 않음")
+        void purgeExpiredIntervalTest() {
+            // given - 1번째 purge ( 사용자 2 는 연결중 )
+            replayBuffer.open(1L);
+            replayBuffer.open(2L);
+            clock.addAndGet(1001L);
+            replayBuffer.purgeExpired(userId -> userId == 2L);
+            Assertions.assertEquals(1, replayBuffer.getUserBufferCount());
+
+            // when - 사용자 2 의 연결이 끊겼지만 purge 간격 이내
+            clock.addAndGet(1L);
+            replayBuffer.purgeExpired(userId -> false);
+
+            // then
+            Assertions.assertEquals(1, replayBuffer.getUserBufferCount());
+        }
+    }
+}
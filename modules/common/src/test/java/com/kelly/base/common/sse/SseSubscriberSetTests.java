@@ -0,0 +1,119 @@
+package com.kelly.base.common.sse;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@DisplayName("SseSubscriberSetTests")
+class SseSubscriberSetTests {
+    private static int capacityOf(final SseSubscriberSet set) {
+        final long[] keys = (long[]) ReflectionTestUtils.getField(set, "keys");
+        Assertions.assertNotNull(keys);
+        return keys.length;
+    }
+
+    private static Set<Long> toSet(final SseSubscriberSet set) {
+        return Arrays.stream(set.toArray()).boxed().collect(Collectors.toSet());
+    }
+
+    @Test
+    @DisplayName("add, remove test - 중복 추가 / 없는 값 제거")
+    void addRemoveTest() {
+        // given
+        final SseSubscriberSet set = new SseSubscriberSet();
+
+        // when, then - 추가
+        Assertions.assertTrue(set.add(1L));
+        Assertions.assertFalse(set.add(1L));
+        Assertions.assertTrue(set.contains(1L));
+        Assertions.assertFalse(set.contains(2L));
+        Assertions.assertEquals(1, set.size());
+
+        // when, then - 제거
+        Assertions.assertFalse(set.remove(2L));
+        Assertions.assertTrue(set.remove(1L));
+        Assertions.assertFalse(set.remove(1L));
+        Assertions.assertFalse(set.contains(1L));
+        Assertions.assertEquals(0, set.size());
+    }
+
+    @Test
+    @DisplayName("add, remove test - 빈 slot 표시와 같은 값 ( 0 )")
+    void zeroTest() {
+        // given
+        final SseSubscriberSet set = new SseSubscriberSet();
+        set.add(7L);
+
+        // when, then
+        Assertions.assertFalse(set.contains(0L));
+        Assertions.assertTrue(set.add(0L));
+        Assertions.assertFalse(set.add(0L));
+        Assertions.assertTrue(set.contains(0L));
+        Assertions.assertEquals(2, set.size());
+        Assertions.assertEquals(Set.of(0L, 7L), toSet(set));
+
+        Assertions.assertTrue(set.remove(0L));
+        Assertions.assertFalse(set.remove(0L));
+        Assertions.assertEquals(Set.of(7L), toSet(set));
+    }
+
+    @Test
+    @DisplayName("resize test - 구독자 수에 따라 배열 크기 증가 / 감소")
+    void resizeTest() {
+        // given
+        final SseSubscriberSet set = new SseSubscriberSet();
+        final int initialCapacity = capacityOf(set);
+
+        // when - 증가
+        for (long userId = 1L; userId <= 1000L; userId++) {
+            set.add(userId);
+        }
+
+        // then - load factor 0.75 이하
+        final int grownCapacity = capacityOf(set);
+        Assertions.assertTrue(grownCapacity >= 1000 * 4 / 3);
+        Assertions.assertEquals(1000, set.size());
+
+        // when - 감소
+        for (long userId = 1L; userId <= 1000L; userId++) {
+            set.remove(userId);
+        }
+
+        // then
+        Assertions.assertEquals(initialCapacity, capacityOf(set));
+        Assertions.assertEquals(0, set.toArray().length);
+    }
+
+    @Test
+    @DisplayName("random test - HashSet 과 동일한 결과 ( 충돌 / backward shift 검증 )")
+    void randomOperationTest() {
+        // given
+        final Random random = new Random(20241018L);
+        final SseSubscriberSet set = new SseSubscriberSet();
+        final Set<Long> expected = new HashSet<>();
+
+        // when
+        for (int i = 0; i < 50_000; i++) {
+            final long userId = random.nextInt(2_000) - 1;
+            if (random.nextInt(3) == 0) {
+                Assertions.assertEquals(expected.remove(userId), set.remove(userId));
+            } else {
+                Assertions.assertEquals(expected.add(userId), set.add(userId));
+            }
+        }
+
+        // then
+        Assertions.assertEquals(expected.size(), set.size());
+        Assertions.assertEquals(expected, toSet(set));
+        for (long userId = -1L; userId < 2_000L; userId++) {
+            Assertions.assertEquals(expected.contains(userId), set.contains(userId));
+        }
+    }
+}
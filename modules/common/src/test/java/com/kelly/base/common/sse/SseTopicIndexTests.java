@@ -0,0 +1,142 @@
+package com.kelly.base.common.sse;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+@DisplayName("SseTopicIndexTests")
+class SseTopicIndexTests {
+    private static final LongPredicate CONNECTED = userId -> true;
+
+    private SseTopicIndex topicIndex;
+
+    @BeforeEach
+    void init() {
+        topicIndex = new SseTopicIndex();
+    }
+
+    @Nested
+    @DisplayName("SubscribeTests")
+    class SubscribeTests {
+        @Test
+        @DisplayName("subscribe test - topic 별 구독자 등록")
+        void subscribeTest() {
+            // when
+            final boolean first = topicIndex.subscribe(1L, "role:ADMIN", CONNECTED);
+            final boolean duplicated = topicIndex.subscribe(1L, "role:ADMIN", CONNECTED);
+            topicIndex.subscribe(2L, "role:ADMIN", CONNECTED);
+            topicIndex.subscribe(1L, "department:12", CONNECTED);
+
+            // then
+            Assertions.assertTrue(first);
+            Assertions.assertFalse(duplicated);
+            Assertions.assertEquals(2, topicIndex.getTopicCount());
+            Assertions.assertEquals(2, topicIndex.getSubscriberCount("role:ADMIN"));
+            final long[] subscribers = topicIndex.getSubscribers("role:ADMIN");
+            Arrays.sort(subscribers);
+            Assertions.assertArrayEquals(new long[]{1L, 2L}, subscribers);
+            Assertions.assertTrue(topicIndex.isSubscribed(1L, "department:12"));
+            Assertions.assertFalse(topicIndex.isSubscribed(2L, "department:12"));
+        }
+
+        @Test
+        @DisplayName("subscribe test - 허용 조건을 만족하지 않는 경우 구독하지 않음")
+        void subscribeRejectedTest() {
+            // given
+            topicIndex.subscribe(1L, "role:ADMIN", CONNECTED);
+
+            // when - 구독이 없는 사용자 / 구독이 있는 사용자 모두 거부
+            final boolean rejected = topicIndex.subscribe(2L, "role:ADMIN", userId -> false);
+            final boolean rejectedExisting = topicIndex.subscribe(1L, "department:12", userId -> false);
+
+            // then
+            Assertions.assertFalse(rejected);
+            Assertions.assertFalse(rejectedExisting);
+            Assertions.assertEquals(1, topicIndex.getTopicCount());
+            Assertions.assertEquals(1, topicIndex.getSubscriberCount("role:ADMIN"));
+            Assertions.assertFalse(topicIndex.isSubscribed(2L, "role:ADMIN"));
+            Assertions.assertEquals(0, topicIndex.unsubscribeAll(2L, userId -> false));
+        }
+
+        @Test
+        @DisplayName("subscribe test - 구독자가 없는 topic")
+        void noSubscriberTest() {
+            // when, then
+            Assertions.assertEquals(0, topicIndex.getSubscribers("role:ADMIN").length);
+            Assertions.assertEquals(0, topicIndex.getSubscriberCount("role:ADMIN"));
+            Assertions.assertFalse(topicIndex.isSubscribed(1L, "role:ADMIN"));
+        }
+    }
+
+    @Nested
+    @DisplayName("UnsubscribeTests")
+    class UnsubscribeTests {
+        @Test
+        @DisplayName("unsubscribe test - 마지막 구독자가 해제되면 topic 제거")
+        void unsubscribeTest() {
+            // given
+            topicIndex.subscribe(1L, "role:ADMIN", CONNECTED);
+            topicIndex.subscribe(1L, "department:12", CONNECTED);
+            topicIndex.subscribe(2L, "role:ADMIN", CONNECTED);
+
+            // when
+            final boolean unsubscribed = topicIndex.unsubscribe(1L, "role:ADMIN");
+            topicIndex.unsubscribe(1L, "department:12");
+
+            // then
+            Assertions.assertTrue(unsubscribed);
+            Assertions.assertFalse(topicIndex.isSubscribed(1L, "role:ADMIN"));
+            Assertions.assertEquals(1, topicIndex.getSubscriberCount("role:ADMIN"));
+            Assertions.assertEquals(1, topicIndex.getTopicCount());
+        }
+
+        @Test
+        @DisplayName("unsubscribe test - 구독중이 아닌 경우")
+        void unsubscribeNotSubscribedTest() {
+            // given
+            topicIndex.subscribe(1L, "role:ADMIN", CONNECTED);
+
+            // when, then
+            Assertions.assertFalse(topicIndex.unsubscribe(1L, "department:12"));
+            Assertions.assertFalse(topicIndex.unsubscribe(2L, "role:ADMIN"));
+            Assertions.assertTrue(topicIndex.isSubscribed(1L, "role:ADMIN"));
+        }
+
+        @Test
+        @DisplayName("unsubscribeAll test - 사용자의 모든 구독 해제")
+        void unsubscribeAllTest() {
+            // given
+            topicIndex.subscribe(1L, "role:ADMIN", CONNECTED);
+            topicIndex.subscribe(1L, "department:12", CONNECTED);
+            topicIndex.subscribe(2L, "role:ADMIN", CONNECTED);
+
+            // when
+            final int unsubscribed = topicIndex.unsubscribeAll(1L, userId -> false);
+
+            // then
+            Assertions.assertEquals(2, unsubscribed);
+            Assertions.assertEquals(1, topicIndex.getTopicCount());
+            Assertions.assertTrue(topicIndex.isSubscribed(2L, "role:ADMIN"));
+            Assertions.assertEquals(0, topicIndex.unsubscribeAll(1L, userId -> false));
+        }
+
+        @Test
+        @DisplayName("unsubscribeAll test - 유지 조건을 만족하는 경우 해제하지 않음")
+        void unsubscribeAllRetainTest() {
+            // given
+            topicIndex.subscribe(1L, "role:ADMIN", CONNECTED);
+
+            // when
+            final int unsubscribed = topicIndex.unsubscribeAll(1L, userId -> userId == 1L);
+
+            // then
+            Assertions.assertEquals(0, unsubscribed);
+            Assertions.assertTrue(topicIndex.isSubscribed(1L, "role:ADMIN"));
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.kelly.base.common.sse;
+
+import com.kelly.base.common.sse.dto.SseEvent;
+import com.kelly.base.common.sse.dto.SseEventType;
+import com.kelly.base.common.utils.DateTimeUtil;
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.Wrapper;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.AbstractProtocol;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("SseWriteTimeoutConnectorCustomizerTests")
+class SseWriteTimeoutConnectorCustomizerTests {
+    private static final long WRITE_TIMEOUT_MS = 500L;
+
+    @TempDir
+    private Path tempDir;
+
+    private static AbstractProtocol<?> protocolOf(final Connector connector) {
+        return (AbstractProtocol<?>) connector.getProtocolHandler();
+    }
+
+    @Nested
+    @DisplayName("CustomizeTests")
+    class CustomizeTests {
+        @Test
+        @DisplayName("customize test - 더 긴 connectionTimeout 을 write timeout 으로 제한")
+        void customizeLongerTimeoutTest() {
+            // given
+            final Connector connector = new Connector();
+            protocolOf(connector).setConnectionTimeout(60000);
+
+            // when
+            new SseWriteTimeoutConnectorCustomizer(WRITE_TIMEOUT_MS).customize(connector);
+
+            // then
+            Assertions.assertEquals(WRITE_TIMEOUT_MS, protocolOf(connector).getConnectionTimeout());
+        }
+
+        @Test
+        @DisplayName("customize test - 제한 없는 connectionTimeout 을 write timeout 으로 제한")
+        void customizeInfiniteTimeoutTest() {
+            // given
+            final Connector connector = new Connector();
+            protocolOf(connector).setConnectionTimeout(-1);
+
+            // when
+            new SseWriteTimeoutConnectorCustomizer(WRITE_TIMEOUT_MS).customize(connector);
+
+            // then
+            Assertions.assertEquals(WRITE_TIMEOUT_MS, protocolOf(connector).getConnectionTimeout());
+        }
+
+        @Test
+        @DisplayName("customize test - 더 짧은 connectionTimeout 은 유지")
+        void customizeShorterTimeoutTest() {
+            // given
+            final Connector connector = new Connector();
+            protocolOf(connector).setConnectionTimeout(100);
+
+            // when
+            new SseWriteTimeoutConnectorCustomizer(WRITE_TIMEOUT_MS).customize(connector);
+
+            // then
+            Assertions.assertEquals(100, protocolOf(connector).getConnectionTimeout());
+        }
+    }
+
+    @Nested
+    @DisplayName("EmbeddedTomcatTests")
+    class EmbeddedTomcatTests {
+        @Test
+        @DisplayName("write timeout test - 수신하지 않는 client 로의 전송이 write timeout 후 실패하여 writer thread 반환")
+        void stalledClientTest() throws Exception {
+            // given - write timeout 이 적용된 Tomcat 과 SseEmitter 를 반환하는 controller
+            final AnnotationConfigWebApplicationContext webContext = new AnnotationConfigWebApplicationContext();
+            webContext.register(StreamConfig.class);
+            final Tomcat tomcat = startTomcat(webContext);
+            final ExecutorService writerExecutor = Executors.newSingleThreadExecutor();
+
+            try (Socket client = new Socket()) {
+                // 응답을 읽지 않는 client ( 수신 buffer 를 최소화 )
+                client.setReceiveBufferSize(1024);
+                client.connect(new InetSocketAddress("127.0.0.1", tomcat.getConnector().getLocalPort()));
+                final OutputStream os = client.getOutputStream();
+                os.write("GET /sse HTTP/1.1\r\nHost: localhost\r\nAccept: text/event-stream\r\n\r\n"
+                                 .getBytes(StandardCharsets.US_ASCII));
+                os.flush();
+
+                final SseEmitter emitter = webContext.getBean(StreamController.class).emitter
+                        .get(5, TimeUnit.SECONDS);
+                final CountDownLatch failed = new CountDownLatch(1);
+                final SseConnection connection
+                        = new SseConnection(1L, emitter, 10000, writerExecutor, failure -> failed.countDown());
+                final SseFrame frame = SseFrame.of(new SseEvent(SseEventType.REFRESH_ANALYSIS, "event-id",
+                                                                DateTimeUtil.nowUtc(),
+                                                                Map.of("data", "x".repeat(64 * 1024))), 1L);
+
+                // when - socket buffer 가 가득 찰 때까지 전송
+                final long startMs = System.currentTimeMillis();
+                for (int i = 0; i < 1000; i++) {
+                    connection.offer(frame, SseProperties.SlowConsumerPolicy.DROP_OLDEST);
+                }
+
+                // then - Tomcat 기본 timeout ( 60초 ) 까지 기다리지 않고 전송 실패
+                Assertions.assertTrue(failed.await(10, TimeUnit.SECONDS));
+                Assertions.assertTrue(System.currentTimeMillis() - startMs >= WRITE_TIMEOUT_MS);
+            } finally {
+                writerExecutor.shutdownNow();
+                tomcat.stop();
+                tomcat.destroy();
+            }
+        }
+
+        private Tomcat startTomcat(final AnnotationConfigWebApplicationContext webContext) throws LifecycleException {
+            final Tomcat tomcat = new Tomcat();
+            tomcat.setBaseDir(tempDir.toString());
+            tomcat.setPort(0);
+            new SseWriteTimeoutConnectorCustomizer(WRITE_TIMEOUT_MS).customize(tomcat.getConnector());
+
+            final Context context = tomcat.addContext("", tempDir.toAbsolutePath().toString());
+            final Wrapper dispatcher = Tomcat.addServlet(context, "dispatcher", new DispatcherServlet(webContext));
+            dispatcher.setAsyncSupported(true);
+            dispatcher.setLoadOnStartup(1);
+            context.addServletMappingDecoded("/", "dispatcher");
+
+            tomcat.start();
+            return tomcat;
+        }
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class StreamConfig {
+        @Bean
+        StreamController streamController() {
+            return new StreamController();
+        }
+    }
+
+    @RestController
+    static class StreamController {
+        private final CompletableFuture<SseEmitter> emitter = new CompletableFuture<>();
+
+        @GetMapping(value = "/sse", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        public SseEmitter connect() {
+            final SseEmitter sseEmitter = new SseEmitter(0L);
+            emitter.complete(sseEmitter);
+            return sseEmitter;
+        }
+    }
+}
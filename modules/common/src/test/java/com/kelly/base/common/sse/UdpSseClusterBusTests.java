@@ -0,0 +1,338 @@
+package com.kelly.base.common.sse;
+
+import com.kelly.base.common.sse.dto.SseClusterMessage;
+import com.kelly.base.common.sse.dto.SseEvent;
+import com.kelly.base.common.sse.dto.SseEventType;
+import com.kelly.base.common.utils.DateTimeUtil;
+import com.kelly.base.common.utils.JsonUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("UdpSseClusterBusTests")
+class UdpSseClusterBusTests {
+    private static final String LOOPBACK = "127.0.0.1";
+
+    private static final String SECRET = "sse-cluster-secret";
+
+    private UdpSseClusterBus receiverBus;
+
+    private UdpSseClusterBus senderBus;
+
+    private BlockingQueue<List<SseClusterMessage>> received;
+
+    @BeforeEach
+    void init() throws IOException, GeneralSecurityException {
+        received = new LinkedBlockingQueue<>();
+        // 기본 설정 ( loopback ) 에서 임의의 port 사용
+        final SseProperties.Udp udp = new SseProperties.Udp();
+        udp.setPort(0);
+        udp.setSecret(SECRET);
+        final DatagramChannel receiverChannel = DatagramChannel.open()
+                                                               .bind(new InetSocketAddress(udp.getBindAddress(), 0));
+        senderBus = new UdpSseClusterBus(
+                LOOPBACK, udp.getPort(), List.of(LOOPBACK + ":" + receiverChannel.socket().getLocalPort()),
+                udp.getSecret()
+        );
+        // 수신 node 는 송신 node 의 주소만 허용
+        receiverBus = new UdpSseClusterBus(List.of(senderBus.getLocalAddress()), receiverChannel, udp.getSecret());
+        receiverBus.start(received::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        senderBus.close();
+        receiverBus.close();
+    }
+
+    private static SseClusterMessage createMessage(final long userId, final String value) {
+        final SseEvent event = new SseEvent(
+                SseEventType.REFRESH_ANALYSIS, "event-" + userId, DateTimeUtil.nowUtc(), Map.of("value", value)
+        );
+        return new SseClusterMessage(SseClusterMessage.Type.USER, "node-a", new long[]{userId}, null, event, userId);
+    }
+
+    // HMAC + JSON datagram 생성
+    private static ByteBuffer sign(final String secret, final byte[] json) throws GeneralSecurityException {
+        final Mac mac = Mac.getInstance(UdpSseClusterBus.MAC_ALGORITHM);
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), UdpSseClusterBus.MAC_ALGORITHM));
+        return ByteBuffer.allocate(UdpSseClusterBus.MAC_LENGTH + json.length).put(mac.doFinal(json)).put(json).flip();
+    }
+
+    @Nested
+    @DisplayName("PublishTests")
+    class PublishTests {
+        @Test
+        @DisplayName("publish test - batch 를 datagram 1개로 전달")
+        void publishTest() throws InterruptedException {
+            // given
+            final SseClusterMessage user = createMessage(1L, "value");
+            final SseClusterMessage route = new SseClusterMessage(
+                    SseClusterMessage.Type.ROUTE_SYNC, "node-a", new long[]{1L, 2L}, null, null, 0L
+            );
+
+            // when
+            senderBus.publish(List.of(user, route));
+
+            // then
+            final List<SseClusterMessage> messages = received.poll(5, TimeUnit.SECONDS);
+            Assertions.assertNotNull(messages);
+            Assertions.assertEquals(2, messages.size());
+            Assertions.assertEquals(SseClusterMessage.Type.USER, messages.get(0).type());
+            Assertions.assertEquals("node-a", messages.get(0).nodeId());
+            Assertions.assertArrayEquals(new long[]{1L}, messages.get(0).userIds());
+            Assertions.assertEquals(user.sequence(), messages.get(0).sequence());
+            Assertions.assertEquals(user.event().eventId(), messages.get(0).event().eventId());
+            Assertions.assertEquals(user.event().contents(), messages.get(0).event().contents());
+            Assertions.assertEquals(user.event().timestamp().toInstant(),
+                                    messages.get(0).event().timestamp().toInstant());
+            Assertions.assertArrayEquals(new long[]{1L, 2L}, messages.get(1).userIds());
+            Assertions.assertNull(messages.get(1).event());
+        }
+
+        @Test
+        @DisplayName("publish test - datagram 크기 제한을 넘는 batch 는 나누어 전달")
+        void publishSplitTest() throws InterruptedException {
+            // given - message 1개는 약 10KB
+            final List<SseClusterMessage> batch = new ArrayList<>();
+            for (long userId = 1L; userId <= 10L; userId++) {
+                batch.add(createMessage(userId, "x".repeat(10000)));
+            }
+
+            // when
+            senderBus.publish(batch);
+
+            // then
+            final List<Long> userIds = new ArrayList<>();
+            int datagrams = 0;
+            while (userIds.size() < batch.size()) {
+                final List<SseClusterMessage> messages = received.poll(5, TimeUnit.SECONDS);
+                Assertions.assertNotNull(messages);
+                messages.forEach(message -> userIds.add(message.userIds()[0]));
+                datagrams++;
+            }
+            Assertions.assertTrue(datagrams > 1);
+            Assertions.assertEquals(LongStream.rangeClosed(1L, 10L).boxed().toList(),
+                                    userIds.stream().sorted().toList());
+        }
+
+        @Test
+        @DisplayName("publish test - 잘못된 datagram 을 수신해도 계속 수신")
+        void receiveInvalidDatagramTest() throws IOException, InterruptedException {
+            // given
+            try (DatagramChannel channel = DatagramChannel.open()) {
+                channel.send(ByteBuffer.wrap("invalid".getBytes(StandardCharsets.UTF_8)),
+                             receiverBus.getLocalAddress());
+            }
+
+            // when
+            senderBus.publish(List.of(createMessage(1L, "value")));
+
+            // then
+            final List<SseClusterMessage> messages = received.poll(5, TimeUnit.SECONDS);
+            Assertions.assertNotNull(messages);
+            Assertions.assertArrayEquals(new long[]{1L}, messages.get(0).userIds());
+        }
+
+        @Test
+        @DisplayName("receive test - peers 에 없는 주소에서 받은 datagram 은 무시")
+        void receiveUnknownAddressTest() throws IOException, GeneralSecurityException, InterruptedException {
+            // given - 같은 secret 을 사용하지만 수신 node 의 peers 에 없는 node
+            final UdpSseClusterBus unknownBus = new UdpSseClusterBus(
+                    LOOPBACK, 0, List.of(LOOPBACK + ":" + receiverBus.getLocalAddress().getPort()), SECRET
+            );
+
+            // when
+            try {
+                unknownBus.publish(List.of(createMessage(1L, "forged")));
+            } finally {
+                unknownBus.close();
+            }
+            senderBus.publish(List.of(createMessage(2L, "value")));
+
+            // then - peers 의 message 만 수신
+            final List<SseClusterMessage> messages = received.poll(5, TimeUnit.SECONDS);
+            Assertions.assertNotNull(messages);
+            Assertions.assertArrayEquals(new long[]{2L}, messages.get(0).userIds());
+            Assertions.assertNull(received.poll(200, TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        @DisplayName("receive test - HMAC 이 맞지 않는 datagram 은 무시")
+        void receiveInvalidMacTest() throws IOException, GeneralSecurityException, InterruptedException {
+            // given - 송신 node 의 주소에서 직접 전송
+            final InetSocketAddress senderAddress = senderBus.getLocalAddress();
+            senderBus.close();
+            final byte[] forged = JsonUtil.objectMapper.writeValueAsBytes(List.of(createMessage(1L, "forged")));
+            final byte[] valid = JsonUtil.objectMapper.writeValueAsBytes(List.of(createMessage(2L, "value")));
+
+            try (DatagramChannel channel = DatagramChannel.open().bind(senderAddress)) {
+                // when - 다른 secret, HMAC 길이보다 짧은 datagram, 잘못된 json, 올바른 datagram 순서로 전송
+                channel.send(sign("wrong-secret", forged), receiverBus.getLocalAddress());
+                channel.send(ByteBuffer.wrap(new byte[]{ 1, 2, 3 }), receiverBus.getLocalAddress());
+                channel.send(sign(SECRET, "invalid".getBytes(StandardCharsets.UTF_8)), receiverBus.getLocalAddress());
+                channel.send(sign(SECRET, valid), receiverBus.getLocalAddress());
+            }
+
+            // then
+            final List<SseClusterMessage> messages = received.poll(5, TimeUnit.SECONDS);
+            Assertions.assertNotNull(messages);
+            Assertions.assertArrayEquals(new long[]{2L}, messages.get(0).userIds());
+            Assertions.assertNull(received.poll(200, TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        @DisplayName("publish test - 빈 batch 또는 종료된 bus")
+        void publishSkipTest() throws IOException, GeneralSecurityException {
+            // given
+            final DatagramChannel mockChannel = mock(DatagramChannel.class);
+            final UdpSseClusterBus bus = new UdpSseClusterBus(List.of(new InetSocketAddress(LOOPBACK, 7070)),
+                                                              mockChannel, SECRET);
+
+            // when - 빈 batch
+            bus.publish(List.of());
+
+            // when - 종료된 bus
+            when(mockChannel.isOpen()).thenReturn(false);
+            bus.publish(List.of(createMessage(1L, "value")));
+
+            // then
+            verify(mockChannel, never()).send(any(), any());
+        }
+
+        @Test
+        @DisplayName("publish test - 크기 제한을 넘는 message 1개는 전달하지 않음")
+        void publishTooLargeTest() throws IOException, GeneralSecurityException {
+            // given
+            final DatagramChannel mockChannel = mock(DatagramChannel.class);
+            when(mockChannel.isOpen()).thenReturn(true);
+            final UdpSseClusterBus bus = new UdpSseClusterBus(List.of(new InetSocketAddress(LOOPBACK, 7070)),
+                                                              mockChannel, SECRET);
+
+            // when
+            bus.publish(List.of(createMessage(1L, "x".repeat(UdpSseClusterBus.MAX_DATAGRAM_SIZE))));
+
+            // then
+            verify(mockChannel, never()).send(any(), any());
+        }
+
+        @Test
+        @DisplayName("publish test - 직렬화 실패")
+        void publishEncodingFailureTest() throws IOException, GeneralSecurityException {
+            // given
+            final DatagramChannel mockChannel = mock(DatagramChannel.class);
+            when(mockChannel.isOpen()).thenReturn(true);
+            final UdpSseClusterBus bus = new UdpSseClusterBus(List.of(new InetSocketAddress(LOOPBACK, 7070)),
+                                                              mockChannel, SECRET);
+            final SseClusterMessage mockMessage = mock(SseClusterMessage.class);
+            when(mockMessage.type()).thenThrow(new IllegalStateException("encoding failure"));
+
+            // when
+            bus.publish(List.of(mockMessage));
+
+            // then
+            verify(mockChannel, never()).send(any(), any());
+        }
+
+        @Test
+        @DisplayName("publish test - 전송 실패한 node 가 있어도 나머지 node 에 전송")
+        void publishSendFailureTest() throws IOException, GeneralSecurityException {
+            // given
+            final DatagramChannel mockChannel = mock(DatagramChannel.class);
+            when(mockChannel.isOpen()).thenReturn(true);
+            final InetSocketAddress first = new InetSocketAddress(LOOPBACK, 7070);
+            final InetSocketAddress second = new InetSocketAddress(LOOPBACK, 7071);
+            when(mockChannel.send(any(), eq(first))).thenThrow(new IOException("send failure"));
+            final UdpSseClusterBus bus = new UdpSseClusterBus(List.of(first, second), mockChannel, SECRET);
+
+            // when
+            bus.publish(List.of(createMessage(1L, "value")));
+
+            // then
+            verify(mockChannel, times(1)).send(any(), eq(second));
+        }
+    }
+
+    @Nested
+    @DisplayName("LifecycleTests")
+    class LifecycleTests {
+        @Test
+        @DisplayName("constructor test - 이미 사용중인 port")
+        void bindFailureTest() {
+            // given
+            final int port = receiverBus.getLocalAddress().getPort();
+
+            // when, then
+            Assertions.assertThrows(IOException.class, () -> new UdpSseClusterBus(LOOPBACK, port, List.of(), SECRET));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"localhost", ":7070", "localhost:"})
+        @DisplayName("constructor test - 잘못된 peer 주소")
+        void invalidPeerTest(final String peer) {
+            // when, then
+            Assertions.assertThrows(IllegalArgumentException.class,
+                                    () -> new UdpSseClusterBus(LOOPBACK, 0, List.of(peer), SECRET));
+        }
+
+        @Test
+        @DisplayName("constructor test - secret 이 없는 경우")
+        void missingSecretTest() throws IOException {
+            // given
+            final DatagramChannel mockChannel = mock(DatagramChannel.class);
+
+            // when, then - 설정 오류로 시작하지 않고 socket 은 닫음
+            Assertions.assertThrows(IllegalArgumentException.class,
+                                    () -> new UdpSseClusterBus(LOOPBACK, 0, List.of(), null));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                                    () -> new UdpSseClusterBus(List.of(), mockChannel, " "));
+            verify(mockChannel, times(1)).close();
+        }
+
+        @Test
+        @DisplayName("close test - 종료 이후 주소 없음 / 여러 번 호출")
+        void closeTest() {
+            // when
+            receiverBus.close();
+            receiverBus.close();
+
+            // then
+            Assertions.assertNull(receiverBus.getLocalAddress());
+        }
+
+        @Test
+        @DisplayName("close test - socket 종료 실패")
+        void closeFailureTest() throws IOException, GeneralSecurityException {
+            // given
+            final DatagramChannel mockChannel = mock(DatagramChannel.class);
+            doThrow(new IOException("close failure")).when(mockChannel).close();
+            final UdpSseClusterBus bus = new UdpSseClusterBus(List.of(), mockChannel, SECRET);
+
+            // when, then
+            Assertions.assertDoesNotThrow(bus::close);
+        }
+    }
+}
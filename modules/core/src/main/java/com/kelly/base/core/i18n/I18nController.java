@@ -0,0 +1,140 @@
+package com.kelly.base.core.i18n;
+
+import com.kelly.base.common.exception.CommonRuntimeException;
+import com.kelly.base.common.interfaces.II18nMessageService;
+import com.kelly.base.common.interfaces.II18nMessageService.MessageBundle;
+import com.kelly.base.common.response.CommonResponse;
+import com.kelly.base.common.response.CommonResultCode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.kelly.base.core.internal.Constants.UrlInfo.URI_ROOT_I18N;
+
+/**
+ * i18n controller
+ * <p>
+ * UI 초기 로딩시 현재 언어 / 규제기관의 message 를 한번에 조회합니다.
+ *
+ * @author 서강희
+ */
+@RequiredArgsConstructor
+@Tag(name = "I18n", description = "API for i18n message")
+@RestController
+@RequestMapping(value = URI_ROOT_I18N)
+public class I18nController {
+    private static final String GZIP = "gzip";
+
+    private static final String ANY_ENCODING = "*";
+
+    private static final String QUALITY_PARAMETER = "q=";
+
+    private final II18nMessageService i18nMessageService;    // common package service
+
+    /**
+     * 현재 언어 / 규제기관의 전체 message 조회
+     * <p>
+     * 미리 직렬화 / 압축된 json 을 그대로 반환하며, <code>If-None-Match</code> 가 ETag 와 같으면 304 를 반환합니다.
+     * ETag 는 message 내용으로 계산하므로 reload 로 내용이 바뀐 경우에만 다시 내려받습니다.
+     * 공유중인 bundle 배열을 복사하지 않도록 읽기 전용 stream 으로 응답합니다.
+     * 언어 / 규제기관에 따라 내용이 다르므로 공유 cache ( proxy / CDN ) 에는 저장하지 않습니다.
+     *
+     * @param acceptEncoding <code>Accept-Encoding</code> header ( gzip 의 q-value 가 0 보다 크면 압축된 json 반환 )
+     * @return token ID -> message 원문 json
+     */
+    @GetMapping("/messages")
+    @Operation(summary = "다국어 message 전체 조회", description = "현재 언어 / 규제기관의 전체 message 를 조회합니다")
+    public ResponseEntity<Resource> getMessageBundle(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding) {
+        final MessageBundle bundle = i18nMessageService.getMessageBundle();
+        final ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                                                                 .eTag(bundle.etag())
+                                                                 .cacheControl(CacheControl.noCache().cachePrivate())
+                                                                 .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                                                                 .contentType(MediaType.APPLICATION_JSON);
+        // 304 응답은 ETag 를 확인하여 spring 에서 처리
+        if (acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                          .contentLength(bundle.gzipLength())
+                          .body(new InputStreamResource(bundle.gzipStream()));
+        }
+        return builder.contentLength(bundle.jsonLength()).body(new InputStreamResource(bundle.jsonStream()));
+    }
+
+    /**
+     * token ID 목록 또는 namespace 로 message 조회
+     *
+     * @param tids      조회할 token ID 목록 ( 지정한 경우 namespace 는 무시 )
+     * @param namespace 조회할 token ID prefix
+     * @return token ID -> message 원문 ( 없는 message 는 token ID )
+     */
+    @GetMapping("/messages/lookup")
+    @Operation(summary = "다국어 message 조회", description = "token ID 목록 또는 namespace 로 message 를 조회합니다")
+    public CommonResponse<Map<String, String>> lookupMessages(
+            @Parameter(description = "조회할 token ID 목록", example = "TID_00001,TID_00002")
+            @RequestParam(required = false) final List<String> tids,
+            @Parameter(description = "조회할 token ID prefix", example = "EXT_TID_")
+            @RequestParam(required = false) final String namespace) {
+        if (tids != null && !tids.isEmpty()) {
+            return new CommonResponse<>(CommonResultCode.SUCCESS, i18nMessageService.getMessages(tids));
+        }
+        if (namespace == null || namespace.isBlank()) {
+            throw new CommonRuntimeException(CommonResultCode.INVALID_PARAMETER, "tids or namespace is required");
+        }
+        return new CommonResponse<>(CommonResultCode.SUCCESS, i18nMessageService.getMessagesByNamespace(namespace));
+    }
+
+    /**
+     * <code>Accept-Encoding</code> 의 gzip 허용 여부
+     * <p>
+     * gzip 이 없는 경우 <code>*</code> 의 q-value 를 사용하며, q-value 가 0 인 경우 ( <code>gzip;q=0</code> ) 거부로 판단합니다.
+     */
+    private static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Double gzipQuality = null;
+        double anyQuality = 0;
+        for (final String coding : acceptEncoding.split(",")) {
+            final String[] parts = coding.split(";");
+            final String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (GZIP.equals(name)) {
+                gzipQuality = parseQuality(parts);
+            } else if (ANY_ENCODING.equals(name)) {
+                anyQuality = parseQuality(parts);
+            }
+        }
+        return (gzipQuality != null ? gzipQuality : anyQuality) > 0;
+    }
+
+    private static double parseQuality(final String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            final String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, QUALITY_PARAMETER, 0, QUALITY_PARAMETER.length())) {
+                try {
+                    return Double.parseDouble(parameter.substring(QUALITY_PARAMETER.length()));
+                } catch (NumberFormatException e) {
+                    return 0;   // 올바르지 않은 q-value 는 허용하지 않음
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -14,5 +14,6 @@ public final class Constants {
         public static final String WITH_SUB_PATHS = "/**";
 
         public static final String URI_ROOT_SYSTEM = URI_PREFIX_API + "/system";    // API - system
+        public static final String URI_ROOT_I18N = URI_PREFIX_API + "/i18n";        // API - i18n
     }
 }
@@ -13,4 +13,10 @@ public class CoreSwaggerConfig {
         String[] paths = { URI_ROOT_SYSTEM + WITH_SUB_PATHS };
         return GroupedOpenApi.builder().group("system").pathsToMatch(paths).build();
     }
+
+    @Bean
+    public GroupedOpenApi i18nOpenApi() {
+        String[] paths = { URI_ROOT_I18N + WITH_SUB_PATHS };
+        return GroupedOpenApi.builder().group("i18n").pathsToMatch(paths).build();
+    }
 }
@@ -5,6 +5,7 @@
  * 주요 기능:
  * <ul>
  *   <li>시스템 설정 (system)</li>
+ *   <li>다국어 message 조회 (i18n)</li>
  * </ul>
  * <p>
  * 의존 모듈:
@@ -14,6 +15,7 @@
  *   <li>common::responses</li>
  *   <li>common::interfaces</li>
  *   <li>common::utils</li>
+ *   <li>common::audit-annotation</li>
  *   <li>identity</li>
  * </ul>
  *
@@ -23,7 +25,7 @@
         displayName = "Core Module",
         allowedDependencies = {
                 "common", "common::exceptions", "common::responses", "common::interfaces", "common::utils",
-                "identity"
+                "common::audit-annotation", "identity"
         }
 )
 package com.kelly.base.core;
\ No newline at end of file
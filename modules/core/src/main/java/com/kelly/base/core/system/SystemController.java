@@ -1,17 +1,31 @@
 package com.kelly.base.core.system;
 
+import com.kelly.base.common.audit.annotation.AuditCapture;
+import com.kelly.base.common.interfaces.IAuditQueryService;
 import com.kelly.base.common.interfaces.II18nMessageService;
 import com.kelly.base.common.response.CommonResponse;
 import com.kelly.base.common.response.CommonResultCode;
 import com.kelly.base.identity.RequirePermission;
+import com.kelly.base.identity.RequirePermissionInfo;
+import com.kelly.base.identity.RequirePermissionRegistry;
+import com.kelly.base.identity.RolePermissionChangedEvent;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
 import static com.kelly.base.core.internal.Constants.UrlInfo.URI_ROOT_SYSTEM;
 
 /**
@@ -27,6 +41,12 @@ import static com.kelly.base.core.internal.Constants.UrlInfo.URI_ROOT_SYSTEM;
 public class SystemController {
     private final II18nMessageService i18nMessageService;    // common package service
 
+    private final IAuditQueryService auditQueryService;      // common package service
+
+    private final RequirePermissionRegistry requirePermissionRegistry;  // identity module
+
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * 메시지 리소스 동적 리로드
      * 외부 리소스 파일 변경 후 애플리케이션 재시작 없이 메시지 갱신
@@ -41,4 +61,61 @@ public class SystemController {
         i18nMessageService.reload();
         return new CommonResponse<>(CommonResultCode.SUCCESS);
     }
+
+    /**
+     * role-permission cache 리로드
+     * role / permission 변경 후 애플리케이션 재시작 없이 로그인 권한 정보 갱신
+     *
+     * @return 성공 응답
+     */
+    @PostMapping("/permission-cache/reload")
+    @RequirePermission("MANAGE_SYSTEM")
+    @Operation(summary = "권한 cache 리로드", description = "role 별 permission cache 를 DB 에서 다시 읽어옵니다")
+    public CommonResponse<Void> reloadPermissionCache() {
+        log.info("reloading role-permission cache via API");
+        eventPublisher.publishEvent(RolePermissionChangedEvent.all());
+        return new CommonResponse<>(CommonResultCode.SUCCESS);
+    }
+
+    /**
+     * 권한이 필요한 method 목록 조회
+     * 보안 / 용량 검토를 위해 <code>@RequirePermission</code> 이 적용된 method 와 필요한 권한을 반환
+     *
+     * @return method 이름 순으로 정렬된 목록
+     */
+    @GetMapping("/permissions")
+    @RequirePermission("MANAGE_SYSTEM")
+    @Operation(summary = "권한 적용 method 조회", description = "@RequirePermission 이 적용된 method 와 필요한 권한을 조회합니다")
+    public CommonResponse<List<RequirePermissionInfo>> getRequirePermissions() {
+        return new CommonResponse<>(CommonResultCode.SUCCESS, requirePermissionRegistry.getRequirePermissions());
+    }
+
+    /**
+     * 저장된 audit log 조회
+     * <p>
+     * <code>audit.writer-type</code> 이 segment 인 경우에만 사용 가능합니다.
+     *
+     * @param from      조회 시작 시간 (ISO-8601)
+     * @param to        조회 종료 시간 (ISO-8601)
+     * @param accountId 조회할 사용자의 accountId
+     * @param limit     최대 조회 개수
+     * @return 기록된 순서의 audit log 목록
+     */
+    @GetMapping("/audit")
+    @RequirePermission("MANAGE_SYSTEM")
+    @AuditCapture(response = false)     // 조회한 audit log 가 다시 audit log 에 저장되지 않도록 호출 기록만 남김
+    @Operation(summary = "audit log 조회", description = "시간 범위 및 accountId 로 audit log 를 조회합니다")
+    public CommonResponse<List<Map<String, Object>>> getAuditLogs(
+            @Parameter(description = "조회 시작 시간", example = "2026-01-01T00:00:00Z")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final ZonedDateTime from,
+            @Parameter(description = "조회 종료 시간", example = "2026-01-02T00:00:00Z")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final ZonedDateTime to,
+            @Parameter(description = "조회할 사용자의 accountId")
+            @RequestParam(required = false) final Long accountId,
+            @Parameter(description = "최대 조회 개수")
+            @RequestParam(defaultValue = "100") final int limit) {
+        return new CommonResponse<>(
+                CommonResultCode.SUCCESS, auditQueryService.findAuditLogs(from, to, accountId, limit)
+        );
+    }
 }
@@ -0,0 +1,190 @@
+package com.kelly.base.core.i18n;
+
+import com.kelly.base.common.audit.AuditLogService;
+import com.kelly.base.common.audit.advice.AuditExclusionMatcher;
+import com.kelly.base.common.audit.advice.AuditHandlerRegistry;
+import com.kelly.base.common.audit.capture.AuditPayloadCapturer;
+import com.kelly.base.common.exception.CommonExceptionHandler;
+import com.kelly.base.common.i18n.I18nProperties;
+import com.kelly.base.common.interfaces.II18nMessageService;
+import com.kelly.base.common.interfaces.II18nMessageService.MessageBundle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.security.autoconfigure.SecurityAutoConfiguration;
+import org.springframework.boot.security.autoconfigure.SecurityProperties;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static com.kelly.base.core.internal.Constants.UrlInfo.URI_ROOT_I18N;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = I18nController.class, excludeAutoConfiguration = SecurityAutoConfiguration.class)
+@EnableConfigurationProperties({ I18nProperties.class, SecurityProperties.class })  // interceptor 처리시 필요
+@AutoConfigureMockMvc(addFilters = false)   // bean 만 생성하고, security filter 는 비활성화
+@Import(CommonExceptionHandler.class)       // http status 처리
+@DisplayName("I18nControllerTests")
+class I18nControllerTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AuditLogService auditLogService;
+
+    @MockitoBean
+    private AuditPayloadCapturer auditPayloadCapturer;
+
+    @MockitoBean
+    private AuditExclusionMatcher auditExclusionMatcher;
+
+    @MockitoBean
+    private AuditHandlerRegistry auditHandlerRegistry;
+
+    @MockitoBean
+    private II18nMessageService i18nMessageService;
+
+    @Nested
+    @DisplayName("getMessageBundleTests")
+    class GetMessageBundleTests {
+        private final String testUri = URI_ROOT_I18N + "/messages";
+
+        private final byte[] json = "{\"TID_1\":\"Hello\"}".getBytes(StandardCharsets.UTF_8);
+
+        private final byte[] gzip = new byte[]{ 0x1f, (byte) 0x8b, 0x08 };
+
+        private final MessageBundle bundle = new MessageBundle("W/\"etag-1\"", json, gzip);
+
+        @BeforeEach
+        void init() {
+            Mockito.when(i18nMessageService.getMessageBundle()).thenReturn(bundle);
+        }
+
+        @Test
+        @DisplayName("[get] getMessageBundle test - gzip 을 지원하는 경우 압축된 json")
+        void gzipTest() throws Exception {
+            // when, then
+            mockMvc.perform(get(testUri).header(HttpHeaders.ACCEPT_ENCODING, "GZIP, deflate, br"))
+                   .andExpect(status().isOk())
+                   .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                   .andExpect(header().string(HttpHeaders.ETAG, bundle.etag()))
+                   .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                   .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                   .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, gzip.length))
+                   .andExpect(content().bytes(gzip));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "gzip;q=0.5", "deflate, *", "br;q=1.0, gzip ; Q=0.1", "identity, *;q=0.3" })
+        @DisplayName("[get] getMessageBundle test - q-value 가 0 보다 큰 경우 압축된 json")
+        void gzipQualityTest(final String acceptEncoding) throws Exception {
+            // when, then
+            mockMvc.perform(get(testUri).header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                   .andExpect(status().isOk())
+                   .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                   .andExpect(content().bytes(gzip));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "gzip;q=0", "gzip;q=0.000, deflate", "*;q=1, gzip;q=0", "deflate, br",
+                                 "gzip;q=invalid", "*;q=0" })
+        @DisplayName("[get] getMessageBundle test - gzip 을 거부하는 경우 json")
+        void gzipRejectedTest(final String acceptEncoding) throws Exception {
+            // when, then
+            mockMvc.perform(get(testUri).header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                   .andExpect(status().isOk())
+                   .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                   .andExpect(content().bytes(json));
+        }
+
+        @Test
+        @DisplayName("[get] getMessageBundle test - gzip 을 지원하지 않는 경우 json")
+        void plainTest() throws Exception {
+            // when, then
+            mockMvc.perform(get(testUri))
+                   .andExpect(status().isOk())
+                   .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                   .andExpect(header().string(HttpHeaders.ETAG, bundle.etag()))
+                   .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, json.length))
+                   .andExpect(jsonPath("$.TID_1").value("Hello"));
+        }
+
+        @Test
+        @DisplayName("[get] getMessageBundle test - ETag 가 같으면 304")
+        void notModifiedTest() throws Exception {
+            // when, then
+            mockMvc.perform(get(testUri).header(HttpHeaders.IF_NONE_MATCH, bundle.etag()))
+                   .andExpect(status().isNotModified())   // 304 not modified
+                   .andExpect(content().bytes(new byte[0]));
+        }
+
+        @Test
+        @DisplayName("[get] getMessageBundle test - ETag 가 다르면 다시 전송")
+        void modifiedTest() throws Exception {
+            // when, then
+            mockMvc.perform(get(testUri).header(HttpHeaders.IF_NONE_MATCH, "W/\"etag-0\""))
+                   .andExpect(status().isOk())
+                   .andExpect(content().bytes(json));
+        }
+    }
+
+    @Nested
+    @DisplayName("lookupMessagesTests")
+    class LookupMessagesTests {
+        private final String testUri = URI_ROOT_I18N + "/messages/lookup";
+
+        @Test
+        @DisplayName("[get] lookupMessages test - token ID 목록으로 조회")
+        void tidsTest() throws Exception {
+            // given
+            Mockito.when(i18nMessageService.getMessages(List.of("TID_1", "UNKNOWN")))
+                   .thenReturn(Map.of("TID_1", "Hello", "UNKNOWN", "UNKNOWN"));
+
+            // when, then
+            mockMvc.perform(get(testUri).param("tids", "TID_1,UNKNOWN").param("namespace", "EXT_"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.result.TID_1").value("Hello"))
+                   .andExpect(jsonPath("$.result.UNKNOWN").value("UNKNOWN"));
+            Mockito.verify(i18nMessageService, Mockito.never()).getMessagesByNamespace(Mockito.anyString());
+        }
+
+        @Test
+        @DisplayName("[get] lookupMessages test - namespace 로 조회")
+        void namespaceTest() throws Exception {
+            // given
+            Mockito.when(i18nMessageService.getMessagesByNamespace("EXT_"))
+                   .thenReturn(Map.of("EXT_1", "Hello FDA"));
+
+            // when, then
+            mockMvc.perform(get(testUri).param("tids", "").param("namespace", "EXT_"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.result.EXT_1").value("Hello FDA"));
+        }
+
+        @Test
+        @DisplayName("[get] lookupMessages test - 조회 조건이 없는 경우")
+        void invalidParameterTest() throws Exception {
+            // when, then
+            mockMvc.perform(get(testUri)).andExpect(status().isBadRequest());    // 400 bad request
+            mockMvc.perform(get(testUri).param("namespace", " ")).andExpect(status().isBadRequest());
+        }
+    }
+}
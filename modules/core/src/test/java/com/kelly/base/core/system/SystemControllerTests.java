@@ -1,14 +1,27 @@
 package com.kelly.base.core.system;
 
 import com.kelly.base.common.audit.AuditLogService;
+import com.kelly.base.common.audit.annotation.AuditCapture;
+import com.kelly.base.common.audit.advice.AuditExclusionMatcher;
+import com.kelly.base.common.audit.advice.AuditHandlerRegistry;
+import com.kelly.base.common.audit.capture.AuditPayloadCapturer;
 import com.kelly.base.common.exception.CommonExceptionHandler;
+import com.kelly.base.common.exception.CommonRuntimeException;
 import com.kelly.base.common.i18n.I18nProperties;
+import com.kelly.base.common.interfaces.IAuditQueryService;
 import com.kelly.base.common.interfaces.II18nMessageService;
+import com.kelly.base.common.response.CommonResultCode;
 import com.kelly.base.identity.PermissionCheckAspect;
+import com.kelly.base.identity.RequirePermissionRegistry;
+import com.kelly.base.identity.RolePermissionChangedEvent;
+import com.kelly.base.identity.internal.adapter.security.PermissionCodeRegistry;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.security.autoconfigure.SecurityAutoConfiguration;
@@ -22,19 +35,30 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static com.kelly.base.core.internal.Constants.UrlInfo.URI_ROOT_SYSTEM;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = SystemController.class, excludeAutoConfiguration = SecurityAutoConfiguration.class)
 @EnableConfigurationProperties({ I18nProperties.class, SecurityProperties.class })  // interceptor 처리시 필요
 @AutoConfigureMockMvc(addFilters = false)   // bean 만 생성하고, security filter 는 비활성화
-@Import({PermissionCheckAspect.class, CommonExceptionHandler.class })   // permission aspect 및 http status 처리
+@Import({  // permission aspect 및 http status 처리
+        PermissionCheckAspect.class, PermissionCodeRegistry.class, RequirePermissionRegistry.class,
+        CommonExceptionHandler.class
+})
 @EnableAspectJAutoProxy
+@RecordApplicationEvents
 @DisplayName("SystemControllerTests")
 class SystemControllerTests {
     @Autowired
@@ -43,9 +67,24 @@ class SystemControllerTests {
     @MockitoBean
     private AuditLogService auditLogService;
 
+    @MockitoBean
+    private AuditPayloadCapturer auditPayloadCapturer;
+
+    @MockitoBean
+    private AuditExclusionMatcher auditExclusionMatcher;
+
+    @MockitoBean
+    private AuditHandlerRegistry auditHandlerRegistry;
+
     @MockitoBean
     private II18nMessageService i18nMessageService;
 
+    @MockitoBean
+    private IAuditQueryService auditQueryService;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @AfterEach
     void clearContext() {
         // permission 설정 정리
@@ -94,4 +133,180 @@ class SystemControllerTests {
             mockMvc.perform(post(testUri)).andExpect(status().isUnauthorized()); // 401 unauthorized
         }
     }
+
+    @Nested
+    @DisplayName("reloadPermissionCacheTests")
+    class ReloadPermissionCacheTests {
+        private final String testUri = URI_ROOT_SYSTEM + "/permission-cache/reload";
+
+        @Test
+        @DisplayName("[post] reloadPermissionCache test - 권한이 있는 경우")
+        void reloadPermissionCacheWithPermissionTest() throws Exception {
+            // given - authentication
+            final Authentication authentication = new UsernamePasswordAuthenticationToken(
+                    "testUser",
+                    "password",
+                    List.of(new SimpleGrantedAuthority("MANAGE_SYSTEM"))
+            );
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+
+            // when
+            mockMvc.perform(post(testUri)).andExpect(status().isOk());   // 200 OK
+
+            // then - 전체 role 갱신 event 가 발행되었는지 확인
+            Assertions.assertEquals(1L, applicationEvents.stream(RolePermissionChangedEvent.class)
+                                                         .filter(event -> event.roleCode() == null).count());
+        }
+
+        @Test
+        @DisplayName("[post] reloadPermissionCache test - 권한이 없는 경우")
+        void reloadPermissionCacheWithoutPermissionTest() throws Exception {
+            // given - authentication
+            final Authentication authentication = new UsernamePasswordAuthenticationToken(
+                    "testUser",
+                    "password",
+                    List.of(new SimpleGrantedAuthority("MANAGE_MY_ACCOUNT"))
+            );
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+
+            // when, then
+            mockMvc.perform(post(testUri)).andExpect(status().isForbidden());    // 403 forbidden
+            Assertions.assertEquals(0L, applicationEvents.stream(RolePermissionChangedEvent.class).count());
+        }
+    }
+
+    @Nested
+    @DisplayName("getRequirePermissionsTests")
+    class GetRequirePermissionsTests {
+        private final String testUri = URI_ROOT_SYSTEM + "/permissions";
+
+        @Test
+        @DisplayName("[get] getRequirePermissions test - 권한이 있는 경우")
+        void getRequirePermissionsWithPermissionTest() throws Exception {
+            // given - authentication
+            final Authentication authentication = new UsernamePasswordAuthenticationToken(
+                    "testUser",
+                    "password",
+                    List.of(new SimpleGrantedAuthority("MANAGE_SYSTEM"))
+            );
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+
+            // when, then - 기동 시점에 수집된 SystemController 의 method 가 포함되어 있는지 확인
+            mockMvc.perform(get(testUri))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.result[*].method")
+                                      .value(hasItem(SystemController.class.getName() + "#reloadMessages")))
+                   .andExpect(jsonPath("$.result[0].permissions[0]").value("MANAGE_SYSTEM"));
+        }
+
+        @Test
+        @DisplayName("[get] getRequirePermissions test - 권한이 없는 경우")
+        void getRequirePermissionsWithoutPermissionTest() throws Exception {
+            // given - authentication
+            final Authentication authentication = new UsernamePasswordAuthenticationToken(
+                    "testUser",
+                    "password",
+                    List.of(new SimpleGrantedAuthority("MANAGE_MY_ACCOUNT"))
+            );
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+
+            // when, then
+            mockMvc.perform(get(testUri)).andExpect(status().isForbidden());    // 403 forbidden
+        }
+    }
+
+    @Nested
+    @DisplayName("getAuditLogsTests")
+    class GetAuditLogsTests {
+        private final String testUri = URI_ROOT_SYSTEM + "/audit";
+
+        private final String from = "2026-01-01T00:00:00Z";
+
+        private final String to = "2026-01-02T00:00:00Z";
+
+        private void setAuthentication(final String permission) {
+            final Authentication authentication = new UsernamePasswordAuthenticationToken(
+                    "testUser",
+                    "password",
+                    List.of(new SimpleGrantedAuthority(permission))
+            );
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
+
+        @Test
+        @DisplayName("[get] getAuditLogs test - 권한이 있는 경우")
+        void getAuditLogsWithPermissionTest() throws Exception {
+            // given
+            setAuthentication("MANAGE_SYSTEM");
+            Mockito.when(auditQueryService.findAuditLogs(
+                    ArgumentMatchers.any(ZonedDateTime.class), ArgumentMatchers.any(ZonedDateTime.class),
+                    ArgumentMatchers.eq(999L), ArgumentMatchers.eq(10)
+            )).thenReturn(List.of(Map.of("Activity", "GET /api/test")));
+
+            // when, then
+            mockMvc.perform(get(testUri).param("from", from).param("to", to)
+                                        .param("accountId", "999").param("limit", "10"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.result[0].Activity").value("GET /api/test"));
+            Mockito.verify(auditQueryService).findAuditLogs(
+                    ZonedDateTime.parse(from), ZonedDateTime.parse(to), 999L, 10
+            );
+        }
+
+        @Test
+        @DisplayName("[get] getAuditLogs test - 기본 limit 적용")
+        void getAuditLogsDefaultLimitTest() throws Exception {
+            // given
+            setAuthentication("MANAGE_SYSTEM");
+            Mockito.when(auditQueryService.findAuditLogs(
+                    ArgumentMatchers.any(ZonedDateTime.class), ArgumentMatchers.any(ZonedDateTime.class),
+                    ArgumentMatchers.isNull(), ArgumentMatchers.anyInt()
+            )).thenReturn(List.of());
+
+            // when, then
+            mockMvc.perform(get(testUri).param("from", from).param("to", to)).andExpect(status().isOk());
+            Mockito.verify(auditQueryService).findAuditLogs(
+                    ArgumentMatchers.any(ZonedDateTime.class), ArgumentMatchers.any(ZonedDateTime.class),
+                    ArgumentMatchers.isNull(), ArgumentMatchers.eq(100)
+            );
+        }
+
+        @Test
+        @DisplayName("[get] getAuditLogs test - 조회 기능이 비활성화된 경우")
+        void getAuditLogsFeatureDisabledTest() throws Exception {
+            // given
+            setAuthentication("MANAGE_SYSTEM");
+            Mockito.when(auditQueryService.findAuditLogs(
+                    ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.anyInt()
+            )).thenThrow(new CommonRuntimeException(CommonResultCode.FEATURE_DISABLED));
+
+            // when, then
+            mockMvc.perform(get(testUri).param("from", from).param("to", to))
+                   .andExpect(status().isServiceUnavailable());   // 503 service unavailable
+        }
+
+        @Test
+        @DisplayName("getAuditLogs test - 조회 결과는 audit log 에 다시 저장하지 않음")
+        void getAuditLogsNoResponseCaptureTest() throws NoSuchMethodException {
+            // given
+            final AuditCapture auditCapture = SystemController.class.getMethod(
+                    "getAuditLogs", ZonedDateTime.class, ZonedDateTime.class, Long.class, int.class
+            ).getAnnotation(AuditCapture.class);
+
+            // when, then
+            Assertions.assertNotNull(auditCapture);
+            Assertions.assertFalse(auditCapture.response());
+        }
+
+        @Test
+        @DisplayName("[get] getAuditLogs test - 권한이 없는 경우")
+        void getAuditLogsWithoutPermissionTest() throws Exception {
+            // given
+            setAuthentication("MANAGE_MY_ACCOUNT");
+
+            // when, then
+            mockMvc.perform(get(testUri).param("from", from).param("to", to))
+                   .andExpect(status().isForbidden());    // 403 forbidden
+        }
+    }
 }
\ No newline at end of file
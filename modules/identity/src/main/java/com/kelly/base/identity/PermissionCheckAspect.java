@@ -1,26 +1,30 @@
 package com.kelly.base.identity;
 
 import com.kelly.base.common.exception.CommonRuntimeException;
+import com.kelly.base.identity.internal.adapter.security.CustomUserDetails;
+import com.kelly.base.identity.internal.adapter.security.PermissionCodeRegistry;
+import com.kelly.base.identity.internal.adapter.security.PermissionMask;
 import com.kelly.base.identity.internal.response.IdentityResultCode;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import static com.kelly.base.common.CommonConstants.OrderInfo.ASPECT_ORDER_PERMISSION_CHECK;
 
 /**
  * RequirePermission 어노테이션을 처리하는 Aspect
+ * <p>
+ * 필요한 권한은 {@link RequirePermissionRegistry} 에서 method 별로 미리 계산된 mask 를 사용하고,
+ * 사용자의 권한은 로그인 시 계산된 <code>CustomUserDetails</code> 의 mask 를 사용하여 bit 연산으로 비교합니다.
  *
  * @author 서강희
  */
@@ -28,40 +32,39 @@ import static com.kelly.base.common.CommonConstants.OrderInfo.ASPECT_ORDER_PERMI
 @Aspect
 @Component
 @Order(ASPECT_ORDER_PERMISSION_CHECK)
+@RequiredArgsConstructor
 public class PermissionCheckAspect {
+    private final PermissionCodeRegistry permissionCodeRegistry;
+
+    private final RequirePermissionRegistry requirePermissionRegistry;
+
     /**
      * RequirePermission 어노테이션이 적용된 메서드 실행 전에 권한 체크
      *
+     * @param joinPoint         대상 메서드 정보
      * @param requirePermission 어노테이션
      * @throws CommonRuntimeException 권한이 없는 경우
      */
     @Before("@annotation(requirePermission)")
-    public void checkPermission(final RequirePermission requirePermission) {
+    public void checkPermission(final JoinPoint joinPoint, final RequirePermission requirePermission) {
         final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         checkAuthentication(authentication);    // 인증 정보 확인
 
-        // 사용자의 권한 목록 추출
-        final Collection<? extends GrantedAuthority> authorities
-                = Objects.requireNonNull(authentication).getAuthorities();
-        final Set<String> userAuthorities = authorities.stream()
-                                                       .map(GrantedAuthority::getAuthority)
-                                                       .collect(Collectors.toSet());
-        log.debug("user authorities: {}", userAuthorities);
+        // 사용자의 권한 mask
+        final PermissionMask userMask = getUserMask(Objects.requireNonNull(authentication));
 
-        // 필요한 권한 목록
-        final String[] requiredPermissions = requirePermission.value();
-        final PermOperator operator = requirePermission.operator();
+        // 필요한 권한 정보 (기동 시점에 미리 계산됨)
+        final RequirePermissionMetadata metadata = requirePermissionRegistry.get(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), requirePermission
+        );
 
         // 권한 체크
-        final boolean hasPermission = checkPermissions(userAuthorities, requiredPermissions, operator);
+        final boolean hasPermission = checkPermissions(userMask, metadata.requiredMask(), metadata.operator());
 
         if (!hasPermission) {
-            final String detailedMessage = String.format(
-                    "access denied. required permissions (%s): %s",
-                    operator, Arrays.toString(requiredPermissions)
-            );
-            log.error("permission check failed for user '{}': {}", authentication.getName(), detailedMessage);
-            throw new CommonRuntimeException(IdentityResultCode.NO_PERMISSION, detailedMessage);
+            log.error("permission check failed for user '{}': {}",
+                      authentication.getName(), metadata.deniedMessage());
+            throw new CommonRuntimeException(IdentityResultCode.NO_PERMISSION, metadata.deniedMessage());
         }
 
         log.debug("permission check passed for user '{}'", authentication.getName());
@@ -82,23 +85,39 @@ public class PermissionCheckAspect {
         }
     }
 
+    /**
+     * 사용자의 권한 mask 반환
+     * <p>
+     * 로그인 시 계산된 mask 가 없는 경우 (session 복원, 외부 인증 등) authorities 로 계산합니다.
+     *
+     * @param authentication 인증 정보
+     * @return 사용자의 권한 mask
+     */
+    PermissionMask getUserMask(final Authentication authentication) {
+        if (authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                && userDetails.getAuthorityMask() != null) {
+            return userDetails.getAuthorityMask();
+        }
+        return permissionCodeRegistry.maskOfAuthorities(authentication.getAuthorities());
+    }
+
     /**
      * 권한 체크 로직
      *
-     * @param userAuthorities     사용자가 가진 권한들
-     * @param requiredPermissions 필요한 권한들
-     * @param operator            논리 연산자 (AND/OR)
+     * @param userMask     사용자가 가진 권한들
+     * @param requiredMask 필요한 권한들
+     * @param operator     논리 연산자 (AND/OR)
      * @return 권한이 있으면 true, 없으면 false
      */
     boolean checkPermissions(
-            final Set<String> userAuthorities, final String[] requiredPermissions, final PermOperator operator
+            final PermissionMask userMask, final PermissionMask requiredMask, final PermOperator operator
     ) {
         if (operator == PermOperator.AND) {
             // AND: 모든 권한을 가지고 있어야 함
-            return Arrays.stream(requiredPermissions).allMatch(userAuthorities::contains);
+            return userMask.containsAll(requiredMask);
         } else {
             // OR: 하나 이상의 권한을 가지고 있으면 됨
-            return Arrays.stream(requiredPermissions).anyMatch(userAuthorities::contains);
+            return userMask.intersects(requiredMask);
         }
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.kelly.base.identity;
+
+import java.util.List;
+
+/**
+ * <code>@RequirePermission</code> 이 적용된 method 정보
+ *
+ * @param method      method 이름 ({class 이름}#{method 이름})
+ * @param permissions 필요한 권한 코드 목록
+ * @param operator    권한 논리 연산자
+ * @author 서강희
+ */
+public record RequirePermissionInfo(String method, List<String> permissions, PermOperator operator) {
+}
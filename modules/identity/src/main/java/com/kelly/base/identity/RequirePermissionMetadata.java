@@ -0,0 +1,17 @@
+package com.kelly.base.identity;
+
+import com.kelly.base.identity.internal.adapter.security.PermissionMask;
+
+/**
+ * 권한 체크에 필요한 값을 미리 계산한 <code>@RequirePermission</code> 정보
+ *
+ * @param info         method / 권한 정보
+ * @param requiredMask  필요한 권한 mask
+ * @param deniedMessage 권한이 없을 때 사용할 message
+ * @author 서강희
+ */
+record RequirePermissionMetadata(RequirePermissionInfo info, PermissionMask requiredMask, String deniedMessage) {
+    PermOperator operator() {
+        return info.operator();
+    }
+}
@@ -0,0 +1,103 @@
+package com.kelly.base.identity;
+
+import com.kelly.base.identity.internal.adapter.security.PermissionCodeRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <code>@RequirePermission</code> 이 적용된 method 정보를 기동 시점에 미리 계산해두는 registry
+ * <p>
+ * bean 이 생성될 때 annotation 이 적용된 method 를 찾아서 권한 mask / 연산자 / 실패 message 를 계산하고,
+ * 모든 singleton 생성이 끝나면 불변 table 로 고정합니다.<br>
+ * 기동 이후 생성되는 bean (prototype, lazy) 의 method 는 처음 호출될 때 계산됩니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequirePermissionRegistry implements BeanPostProcessor, SmartInitializingSingleton {
+    private static final String DENIED_MESSAGE_FORMAT = "access denied. required permissions (%s): %s";
+
+    private final PermissionCodeRegistry permissionCodeRegistry;
+
+    // 기동 중에 수집되거나 기동 이후 추가된 method
+    private final Map<Method, RequirePermissionMetadata> collected = new ConcurrentHashMap<>();
+
+    // 기동 완료 시점에 고정된 table
+    private volatile Map<Method, RequirePermissionMetadata> metadataTable = Map.of();
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        final Class<?> targetClass = AopUtils.getTargetClass(bean);
+        if (!AnnotationUtils.isCandidateClass(targetClass, RequirePermission.class)) {
+            return bean;
+        }
+
+        final MethodIntrospector.MetadataLookup<RequirePermission> lookup
+                = method -> method.getAnnotation(RequirePermission.class);
+        final Map<Method, RequirePermission> annotated = MethodIntrospector.selectMethods(targetClass, lookup);
+        annotated.forEach((method, requirePermission) -> collected.put(method, compile(method, requirePermission)));
+        return bean;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        metadataTable = Map.copyOf(collected);
+        log.info("@RequirePermission methods registered : {}, permission codes : {}",
+                 metadataTable.size(), permissionCodeRegistry.size());
+    }
+
+    /**
+     * 권한 체크에 사용할 정보 반환
+     *
+     * @param method            대상 method
+     * @param requirePermission method 에 적용된 annotation (table 에 없는 경우 사용)
+     * @return 미리 계산된 권한 정보
+     */
+    RequirePermissionMetadata get(final Method method, final RequirePermission requirePermission) {
+        final RequirePermissionMetadata metadata = metadataTable.get(method);
+        if (metadata != null) {
+            return metadata;
+        }
+        return collected.computeIfAbsent(method, key -> compile(key, requirePermission));
+    }
+
+    /**
+     * <code>@RequirePermission</code> 이 적용된 전체 method 목록 (method 이름 순)
+     *
+     * @return method 별 필요한 권한 목록
+     */
+    public List<RequirePermissionInfo> getRequirePermissions() {
+        return collected.values().stream()
+                        .map(RequirePermissionMetadata::info)
+                        .sorted(Comparator.comparing(RequirePermissionInfo::method))
+                        .toList();
+    }
+
+    private RequirePermissionMetadata compile(final Method method, final RequirePermission requirePermission) {
+        final String[] permissions = requirePermission.value();
+        final RequirePermissionInfo info = new RequirePermissionInfo(
+                method.getDeclaringClass().getName() + "#" + method.getName(),
+                List.of(permissions), requirePermission.operator()
+        );
+        return new RequirePermissionMetadata(
+                info,
+                permissionCodeRegistry.maskOf(permissions),
+                String.format(DENIED_MESSAGE_FORMAT, requirePermission.operator(), Arrays.toString(permissions))
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.kelly.base.identity;
+
+/**
+ * role 과 permission 의 매핑이 변경되었음을 알리는 event
+ * <p>
+ * identity 내부의 role-permission cache 가 이 event 를 수신하여 갱신됩니다.<br>
+ * <code>roleCode</code> 가 null 인 경우 전체 role 을 다시 읽어옵니다.
+ *
+ * @param roleCode 변경된 role code (null 인 경우 전체)
+ * @author 서강희
+ */
+public record RolePermissionChangedEvent(String roleCode) {
+    /**
+     * 전체 role 에 대한 변경 event 생성
+     *
+     * @return roleCode 가 null 인 event
+     */
+    public static RolePermissionChangedEvent all() {
+        return new RolePermissionChangedEvent(null);
+    }
+}
@@ -1,5 +1,6 @@
 package com.kelly.base.identity.accounts;
 
+import com.kelly.base.common.audit.annotation.AuditCapture;
 import com.kelly.base.common.response.CommonResponse;
 import com.kelly.base.common.response.PagedResult;
 import com.kelly.base.identity.accounts.dto.AccountDetailed;
@@ -33,6 +34,7 @@ public class AccountsController {
 
     @Operation(summary = "계정 조회", description = ACCOUNTS_RETRIEVE)
     @GetMapping(value = "")
+    @AuditCapture(maxElements = 20, excludeFields = "memo")     // 목록 조회는 앞부분만 audit log 에 저장
     public CommonResponse<PagedResult<AccountDetailed>> retrieve(
             @ParameterObject @PageableDefault(sort = "id", direction = Sort.Direction.ASC) Pageable pageable
     ) {
@@ -26,4 +26,15 @@ public class SecurityAuditContextProvider implements IAuditContextProvider {
 
         return null;    // 로그인하지 않은 사용자 또는 인증 정보가 없는 경우
     }
+
+    @Override
+    public Long getAccountId() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getAccountId();
+        }
+
+        return null;
+    }
 }
@@ -5,6 +5,7 @@ import com.kelly.base.identity.internal.domain.Account;
 import com.kelly.base.identity.internal.domain.AccountStatus;
 import com.kelly.base.identity.internal.domain.Permission;
 import com.kelly.base.identity.internal.domain.Role;
+import com.kelly.base.identity.internal.domain.projection.AccountAuthInfo;
 import lombok.Getter;
 import lombok.ToString;
 import org.springframework.security.core.GrantedAuthority;
@@ -28,6 +29,7 @@ public class CustomUserDetails extends User implements IExtUserInfo {
     private final String roleCode;  // role code
     private final Set<String> permissionCodes;  // permission codes
     private final String languageCode;  // language code for i18n
+    private final transient PermissionMask authorityMask;   // authorities 의 mask (session 복원 시 null)
 
     /**
      * 생성자
@@ -37,39 +39,54 @@ public class CustomUserDetails extends User implements IExtUserInfo {
      * @param permissions <code>Permission</code> entities
      */
     public CustomUserDetails(final Account account, final Role role, final Set<Permission> permissions) {
+        this(
+                AccountAuthInfo.from(account),
+                new RolePermissionSnapshot(
+                        role.getCode(), permissions.stream().map(Permission::getCode).collect(Collectors.toSet()), null
+                )
+        );
+    }
+
+    /**
+     * 생성자
+     *
+     * @param authInfo 로그인에 필요한 account 정보 (projection)
+     * @param snapshot role 별 permission snapshot (공유되는 불변 Set / mask 를 그대로 사용)
+     */
+    public CustomUserDetails(final AccountAuthInfo authInfo, final RolePermissionSnapshot snapshot) {
         // accountNonExpired, credentialsNonExpired 는 사용하지 않음 -> true
         super(
-                account.getLoginId(),
-                account.getPassword(),
-                account.getStatus() == AccountStatus.ACTIVE,
+                authInfo.loginId(),
+                authInfo.password(),
+                authInfo.status() == AccountStatus.ACTIVE,
                 true,
                 true,
-                account.getStatus() != AccountStatus.LOCKED,
-                buildAuthorities(role, permissions)
+                authInfo.status() != AccountStatus.LOCKED,
+                buildAuthorities(snapshot.roleCode(), snapshot.permissionCodes())
         );
 
-        this.accountId = account.getId();
-        this.roleCode = role.getCode();
-        this.permissionCodes = permissions.stream().map(Permission::getCode).collect(Collectors.toSet());
-        this.languageCode = account.getLanguageCode();
+        this.accountId = authInfo.accountId();
+        this.roleCode = snapshot.roleCode();
+        this.permissionCodes = snapshot.permissionCodes();
+        this.languageCode = authInfo.languageCode();
+        this.authorityMask = snapshot.authorityMask();
     }
 
     /**
      * Role과 Permissions를 Spring Security authorities로 변환
      *
-     * @param role        Role entity
-     * @param permissions Permission entities
+     * @param roleCode        role code
+     * @param permissionCodes permission codes
      * @return GrantedAuthority 목록
      */
-    private static List<GrantedAuthority> buildAuthorities(final Role role, final Set<Permission> permissions) {
+    private static List<GrantedAuthority> buildAuthorities(final String roleCode, final Set<String> permissionCodes) {
         List<GrantedAuthority> authorities = new ArrayList<>();
 
         // 1. Role code를 authority로 추가 (예: "ROLE_SITE_MANAGER")
-        authorities.add(new SimpleGrantedAuthority(role.getCode()));
+        authorities.add(new SimpleGrantedAuthority(roleCode));
 
         // 2. Permission codes를 authorities로 추가 (예: "MANAGE_MY_ACCOUNT", "MANAGE_ACCOUNT")
-        permissions.forEach(p -> authorities.add(new SimpleGrantedAuthority(p.getCode()))
-        );
+        permissionCodes.forEach(code -> authorities.add(new SimpleGrantedAuthority(code)));
 
         return authorities;
     }
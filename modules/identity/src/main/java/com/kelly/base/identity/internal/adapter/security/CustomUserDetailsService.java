@@ -4,13 +4,11 @@ import com.kelly.base.common.exception.CommonRuntimeException;
 import com.kelly.base.common.response.CommonResultCode;
 import com.kelly.base.common.utils.ConvertUtil;
 import com.kelly.base.common.utils.DateTimeUtil;
+import com.kelly.base.identity.internal.config.IdentityProperties;
 import com.kelly.base.identity.internal.domain.Account;
 import com.kelly.base.identity.internal.domain.AccountStatus;
-import com.kelly.base.identity.internal.domain.Permission;
-import com.kelly.base.identity.internal.domain.Role;
+import com.kelly.base.identity.internal.domain.projection.AccountAuthInfo;
 import com.kelly.base.identity.internal.domain.repository.AccountRepository;
-import com.kelly.base.identity.internal.domain.repository.PermissionRepository;
-import com.kelly.base.identity.internal.domain.repository.RoleRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,11 +18,13 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.time.ZonedDateTime;
-import java.util.Set;
+import java.util.Optional;
 
 /**
  * 계정 정보를 database 로 부터 읽어서 Spring Security 에 전달하기 위한 서비스<p>
- * 흐름 정의 : Spring Security <-> CustomUserDetailsService <-> DataBase
+ * 흐름 정의 : Spring Security <-> CustomUserDetailsService <-> DataBase<p>
+ * account 는 entity 대신 projection 으로 한번만 조회하며, role / permission 정보는
+ * {@link RolePermissionCache} 를 사용하거나 (기본값) account 와 함께 하나의 query 로 조회합니다.
  *
  * @author 서강희
  */
@@ -33,8 +33,9 @@ import java.util.Set;
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
     private final AccountRepository accountRepository;
-    private final RoleRepository roleRepository;
-    private final PermissionRepository permissionRepository;
+    private final RolePermissionCache rolePermissionCache;
+    private final PermissionCodeRegistry permissionCodeRegistry;
+    private final IdentityProperties identityProperties;
 
     /**
      * loginId 를 이용해 계정 정보를 읽어옴
@@ -47,45 +48,49 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Transactional
     public UserDetails loadUserByUsername(final String loginId) {
         // AuthenticationManager 의 authenticate 호출 시 계정 정보를 읽기 위해 호출
-        final Account account = getAccountInfo(loginId);
-        log.debug("found account: {}", account);
+        final AccountAuthInfo found = getAccountInfo(loginId);
+        log.debug("found account: {}", found);
 
         // 최종 인증 처리 전 상태 확인
-        changeStatusTryToLogin(account);
+        final AccountAuthInfo authInfo = changeStatusTryToLogin(found);
 
-        // Role 조회 (account.role은 role.code 값)
-        final Role role = getRole(account.getRole());
+        // Role 에 연결된 Permissions 조회 (account.role은 role.code 값)
+        final RolePermissionSnapshot snapshot = getRolePermission(authInfo);
+        log.debug("loaded role: {}, permissions count: {}", snapshot.roleCode(), snapshot.permissionCodes().size());
 
-        // Role에 연결된 Permissions 조회
-        final Set<Permission> permissions = permissionRepository.findPermissionSetByRoleId(role.getId());
-        log.debug("loaded role: {}, permissions count: {}", role.getCode(), permissions.size());
-
-        return new CustomUserDetails(account, role, permissions);
+        return new CustomUserDetails(authInfo, snapshot);
     }
 
-    Account getAccountInfo(final String loginId) {
+    AccountAuthInfo getAccountInfo(final String loginId) {
         // DB 에서 사용자 정보를 찾아서 반환
         final String lowercaseLoginId = ConvertUtil.toLowerCase(loginId);   // 소문자로 변환
         log.debug("loading user by loginId(lowercase): {}", lowercaseLoginId);
 
+        // cache 를 사용하지 않는 경우 role / permission 까지 하나의 query 로 조회
+        final Optional<AccountAuthInfo> authInfo = identityProperties.getLogin().isRolePermissionCacheEnabled()
+                ? accountRepository.findAuthInfoByLoginId(lowercaseLoginId)
+                : accountRepository.findAuthInfoWithPermissionsByLoginId(lowercaseLoginId);
+
         // authService 에서 BadCredentialsException 으로 처리하기 위해 UsernameNotFoundException 으로 throw
-        return accountRepository.findByLoginId(lowercaseLoginId)
-                                .orElseThrow(
-                                        () -> {
-                                            final String errMsg = "user not found: " + loginId;
-                                            log.error(errMsg);
-                                            return new UsernameNotFoundException(errMsg);
-                                        }
-                                );
+        return authInfo.orElseThrow(
+                () -> {
+                    final String errMsg = "user not found: " + loginId;
+                    log.error(errMsg);
+                    return new UsernameNotFoundException(errMsg);
+                }
+        );
     }
 
-    void changeStatusTryToLogin(final Account account) {
+    AccountAuthInfo changeStatusTryToLogin(final AccountAuthInfo authInfo) {
         // 계정 잠금 만료된 상태
-        if (account.getStatus() == AccountStatus.LOCKED
-                && isExpired(account.getLockoutExpiredAt())) {
-            log.info("account has been unlocked: {}", account.getLoginId());
-            account.unlockAccount();    // 계정 장금을 해제해서 로그인을 시도할 수 있게 수정
+        if (authInfo.status() == AccountStatus.LOCKED
+                && isExpired(authInfo.lockoutExpiredAt())) {
+            log.info("account has been unlocked: {}", authInfo.loginId());
+            // 계정 장금을 해제해서 로그인을 시도할 수 있게 수정 (드문 경우이므로 이때만 entity 를 읽어옴)
+            accountRepository.findById(authInfo.accountId()).ifPresent(Account::unlockAccount);
+            return authInfo.unlocked();
         }
+        return authInfo;
     }
 
     private boolean isExpired(final ZonedDateTime lockoutExpireTime) {
@@ -93,9 +98,14 @@ public class CustomUserDetailsService implements UserDetailsService {
         return lockoutExpireTime == null || lockoutExpireTime.isBefore(DateTimeUtil.nowUtc());
     }
 
-    Role getRole(final String roleCode) {
-        return roleRepository.findByCode(roleCode).orElseThrow(
-                () -> new CommonRuntimeException(CommonResultCode.DATABASE_ERROR, "role info cannot be found")
-        );
+    RolePermissionSnapshot getRolePermission(final AccountAuthInfo authInfo) {
+        if (authInfo.permissionCodes() == null) {
+            // permission 을 함께 조회하지 않은 경우 -> cache 사용
+            return rolePermissionCache.get(authInfo.roleCode());
+        }
+        if (authInfo.roleCode() == null) {
+            throw new CommonRuntimeException(CommonResultCode.DATABASE_ERROR, "role info cannot be found");
+        }
+        return RolePermissionSnapshot.of(authInfo.roleCode(), authInfo.permissionCodes(), permissionCodeRegistry);
     }
 }
@@ -0,0 +1,95 @@
+package com.kelly.base.identity.internal.adapter.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * permission (authority) code 별로 작은 정수 index 를 할당하는 registry
+ * <p>
+ * 기동 시점에 role-permission cache 와 <code>@RequirePermission</code> 에서 사용하는 code 가 등록되며,
+ * 이후 처음 보는 code 는 요청 시점에 다음 index 로 등록됩니다.<br>
+ * 한번 할당된 index 는 변경되지 않습니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+@Component
+public class PermissionCodeRegistry {
+    private final Map<String, Integer> indexes = new ConcurrentHashMap<>();
+
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    /**
+     * code 에 할당된 index 반환 (없으면 새로 할당)
+     *
+     * @param code permission 혹은 role code
+     * @return bit index
+     */
+    public int indexOf(final String code) {
+        final Integer index = indexes.get(code);
+        return index != null ? index : register(code);
+    }
+
+    /**
+     * code 목록을 mask 로 변환
+     *
+     * @param codes permission 혹은 role codes
+     * @return permission mask
+     */
+    public PermissionMask maskOf(final Collection<String> codes) {
+        final BitSet bits = new BitSet();
+        for (final String code : codes) {
+            bits.set(indexOf(code));
+        }
+        return PermissionMask.of(bits);
+    }
+
+    /**
+     * code 목록을 mask 로 변환
+     *
+     * @param codes permission 혹은 role codes
+     * @return permission mask
+     */
+    public PermissionMask maskOf(final String... codes) {
+        return maskOf(Arrays.asList(codes));
+    }
+
+    /**
+     * Spring Security authorities 를 mask 로 변환
+     *
+     * @param authorities 사용자의 authorities
+     * @return permission mask
+     */
+    public PermissionMask maskOfAuthorities(final Collection<? extends GrantedAuthority> authorities) {
+        final BitSet bits = new BitSet();
+        for (final GrantedAuthority authority : authorities) {
+            bits.set(indexOf(authority.getAuthority()));
+        }
+        return PermissionMask.of(bits);
+    }
+
+    /**
+     * 등록된 code 개수
+     *
+     * @return code 개수
+     */
+    public int size() {
+        return indexes.size();
+    }
+
+    private int register(final String code) {
+        return indexes.computeIfAbsent(code, key -> {
+            final int index = nextIndex.getAndIncrement();
+            log.debug("permission code registered - code : {}, index : {}", key, index);
+            return index;
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package com.kelly.base.identity.internal.adapter.security;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * permission code 집합을 bit 로 표현한 불변 mask
+ * <p>
+ * bit 위치는 {@link PermissionCodeRegistry} 에서 code 별로 할당한 index 이며,
+ * 권한 비교 시 별도의 객체를 생성하지 않고 word 단위 bit 연산으로 처리합니다.
+ *
+ * @author 서강희
+ */
+public final class PermissionMask {
+    public static final PermissionMask EMPTY = new PermissionMask(new long[0]);
+
+    private final long[] words;
+
+    private PermissionMask(final long[] words) {
+        this.words = words;
+    }
+
+    static PermissionMask of(final BitSet bits) {
+        final long[] words = bits.toLongArray();
+        return words.length == 0 ? EMPTY : new PermissionMask(words);
+    }
+
+    /**
+     * 필요한 bit 를 모두 가지고 있는지 확인 (AND)
+     *
+     * @param required 필요한 권한 mask
+     * @return 모두 가지고 있으면 true
+     */
+    public boolean containsAll(final PermissionMask required) {
+        for (int i = 0; i < required.words.length; i++) {
+            if ((word(i) & required.words[i]) != required.words[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 필요한 bit 중 하나 이상을 가지고 있는지 확인 (OR)
+     *
+     * @param required 필요한 권한 mask
+     * @return 하나 이상 가지고 있으면 true
+     */
+    public boolean intersects(final PermissionMask required) {
+        for (int i = 0; i < required.words.length; i++) {
+            if ((word(i) & required.words[i]) != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long word(final int index) {
+        return index < words.length ? words[index] : 0L;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof PermissionMask other && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return "PermissionMask" + BitSet.valueOf(words);
+    }
+}
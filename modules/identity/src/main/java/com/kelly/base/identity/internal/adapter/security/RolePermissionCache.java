@@ -0,0 +1,132 @@
+package com.kelly.base.identity.internal.adapter.security;
+
+import com.kelly.base.common.exception.CommonRuntimeException;
+import com.kelly.base.common.response.CommonResultCode;
+import com.kelly.base.identity.RolePermissionChangedEvent;
+import com.kelly.base.identity.internal.domain.Permission;
+import com.kelly.base.identity.internal.domain.Role;
+import com.kelly.base.identity.internal.domain.repository.PermissionRepository;
+import com.kelly.base.identity.internal.domain.repository.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * role code 별 permission code 를 메모리에 보관하는 cache
+ * <p>
+ * 기동 시점에 전체 role 을 읽어 불변 snapshot 을 만들고, 로그인 시에는 DB 조회 없이 snapshot 을 사용합니다.<br>
+ * cache 에 없는 role 은 DB 에서 한번 읽어온 뒤 추가하며,
+ * {@link RolePermissionChangedEvent} 를 수신하면 해당 role (또는 전체) 을 갱신합니다.
+ *
+ * @author 서강희
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RolePermissionCache {
+    private final RoleRepository roleRepository;
+    private final PermissionRepository permissionRepository;
+    private final PermissionCodeRegistry permissionCodeRegistry;
+
+    // 읽기는 lock 없이 처리하고, 변경 시에는 새로운 map 으로 교체
+    private volatile Map<String, RolePermissionSnapshot> snapshots = Map.of();
+
+    /**
+     * 기동 완료 시 전체 role 을 미리 읽어옴
+     * <p>
+     * 실패하더라도 로그인 시 role 단위로 다시 읽어오므로 기동을 중단하지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("failed to load role-permission cache", e);
+        }
+    }
+
+    /**
+     * role-permission 변경 event 처리
+     *
+     * @param event 변경 event
+     */
+    @EventListener
+    public void onRolePermissionChanged(final RolePermissionChangedEvent event) {
+        if (event.roleCode() == null) {
+            reload();
+        } else {
+            evict(event.roleCode());
+        }
+    }
+
+    /**
+     * role code 에 해당하는 snapshot 반환
+     *
+     * @param roleCode role code
+     * @return permission snapshot
+     * @throws CommonRuntimeException role 정보가 없는 경우 (DATABASE_ERROR)
+     */
+    public RolePermissionSnapshot get(final String roleCode) {
+        final RolePermissionSnapshot snapshot = snapshots.get(roleCode);
+        return snapshot != null ? snapshot : load(roleCode);
+    }
+
+    /**
+     * 전체 role 을 DB 에서 다시 읽어서 cache 를 교체
+     */
+    public synchronized void reload() {
+        final Map<String, Set<String>> codesByRole = permissionRepository.findPermissionCodesGroupByRoleCode();
+        final List<Role> roles = roleRepository.findAll();
+
+        final Map<String, RolePermissionSnapshot> reloaded = new HashMap<>(roles.size());
+        for (final Role role : roles) {
+            reloaded.put(role.getCode(), RolePermissionSnapshot.of(
+                    role.getCode(), codesByRole.getOrDefault(role.getCode(), Set.of()), permissionCodeRegistry
+            ));
+        }
+        snapshots = Map.copyOf(reloaded);
+        log.info("role-permission cache loaded - roles : {}", reloaded.size());
+    }
+
+    /**
+     * 특정 role 을 cache 에서 제거 (다음 조회 시 DB 에서 다시 읽어옴)
+     *
+     * @param roleCode role code
+     */
+    public synchronized void evict(final String roleCode) {
+        final Map<String, RolePermissionSnapshot> evicted = new HashMap<>(snapshots);
+        evicted.remove(roleCode);
+        snapshots = Map.copyOf(evicted);
+        log.info("role-permission cache evicted - role : {}", roleCode);
+    }
+
+    private synchronized RolePermissionSnapshot load(final String roleCode) {
+        // lock 대기중에 다른 thread 가 이미 읽어온 경우
+        final RolePermissionSnapshot cached = snapshots.get(roleCode);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Role role = roleRepository.findByCode(roleCode).orElseThrow(
+                () -> new CommonRuntimeException(CommonResultCode.DATABASE_ERROR, "role info cannot be found")
+        );
+        final Set<Permission> permissions = permissionRepository.findPermissionSetByRoleId(role.getId());
+        final RolePermissionSnapshot snapshot = RolePermissionSnapshot.of(
+                role.getCode(), permissions.stream().map(Permission::getCode).toList(), permissionCodeRegistry
+        );
+
+        final Map<String, RolePermissionSnapshot> added = new HashMap<>(snapshots);
+        added.put(snapshot.roleCode(), snapshot);
+        snapshots = Map.copyOf(added);
+        log.debug("role-permission cache added - role : {}, permissions count : {}",
+                  roleCode, snapshot.permissionCodes().size());
+        return snapshot;
+    }
+}
@@ -0,0 +1,39 @@
+package com.kelly.base.identity.internal.adapter.security;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * role 에 연결된 permission code 의 불변 snapshot
+ * <p>
+ * 모든 로그인 사용자가 동일한 instance 를 공유하므로 code 는 intern 된 값을 사용합니다.
+ *
+ * @param roleCode        role code
+ * @param permissionCodes permission codes (불변)
+ * @param authorityMask   role code + permission codes 의 mask (계산하지 않은 경우 null)
+ * @author 서강희
+ */
+public record RolePermissionSnapshot(String roleCode, Set<String> permissionCodes, PermissionMask authorityMask) {
+    /**
+     * snapshot 생성
+     *
+     * @param roleCode        role code
+     * @param permissionCodes permission codes
+     * @param registry        mask 계산에 사용할 registry
+     * @return intern 된 code 와 authority mask 로 구성된 불변 snapshot
+     */
+    public static RolePermissionSnapshot of(final String roleCode, final Collection<String> permissionCodes,
+                                            final PermissionCodeRegistry registry) {
+        final Set<String> interned
+                = permissionCodes.stream().map(String::intern).collect(Collectors.toUnmodifiableSet());
+
+        // CustomUserDetails 의 authorities 와 동일하게 role code 를 포함
+        final List<String> authorities = new ArrayList<>(interned.size() + 1);
+        authorities.add(roleCode);
+        authorities.addAll(interned);
+        return new RolePermissionSnapshot(roleCode.intern(), interned, registry.maskOf(authorities));
+    }
+}
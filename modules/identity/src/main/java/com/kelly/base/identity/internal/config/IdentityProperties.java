@@ -0,0 +1,35 @@
+package com.kelly.base.identity.internal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * identity 설정 프로퍼티
+ * application.yml의 identity.* 설정을 바인딩
+ *
+ * @author 서강희
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "identity")
+public class IdentityProperties {
+
+    /**
+     * 로그인 처리 설정
+     */
+    private final Login login = new Login();
+
+    @Getter
+    @Setter
+    public static class Login {
+        /**
+         * role-permission cache 사용 여부
+         * <p>
+         * false 인 경우 account / role / permission 을 하나의 query 로 조회합니다.
+         */
+        private boolean rolePermissionCacheEnabled = true;
+    }
+}
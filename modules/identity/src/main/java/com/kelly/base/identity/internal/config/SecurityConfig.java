@@ -29,6 +29,7 @@ import org.springframework.security.web.session.HttpSessionEventPublisher;
 public class SecurityConfig {
     private static final String[] NO_AUTH_REQUIRED_URL_LIST = {
             "/api/auth/login",
+            "/api/i18n/messages",   // 로그인 화면 label 조회 ( 미인증시 기본 언어 / 규제기관 )
             "/api.html",
             "/swagger-ui/**",
             "/v3/api-docs/**",
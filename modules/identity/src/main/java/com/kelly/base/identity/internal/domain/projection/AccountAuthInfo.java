@@ -0,0 +1,64 @@
+package com.kelly.base.identity.internal.domain.projection;
+
+import com.kelly.base.identity.internal.domain.Account;
+import com.kelly.base.identity.internal.domain.AccountStatus;
+
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+/**
+ * 로그인 처리에 필요한 account 정보만 담은 projection
+ * <p>
+ * 영속성 context 에 entity 를 올리지 않고 조회 결과를 그대로 사용합니다.
+ *
+ * @param accountId        account id
+ * @param loginId          login id
+ * @param password         password hash
+ * @param status           계정 상태
+ * @param lockoutExpiredAt 잠금 만료 시간
+ * @param languageCode     language code
+ * @param roleCode         role code (permission 을 함께 조회한 경우, role 이 없으면 null)
+ * @param permissionCodes  permission codes (함께 조회하지 않은 경우 null)
+ * @author 서강희
+ */
+public record AccountAuthInfo(
+        Long accountId,
+        String loginId,
+        String password,
+        AccountStatus status,
+        ZonedDateTime lockoutExpiredAt,
+        String languageCode,
+        String roleCode,
+        Set<String> permissionCodes
+) {
+    /**
+     * entity 로 부터 생성 (permission 은 조회하지 않은 상태)
+     *
+     * @param account <code>Account</code> entity
+     * @return account 정보
+     */
+    public static AccountAuthInfo from(final Account account) {
+        return new AccountAuthInfo(
+                account.getId(), account.getLoginId(), account.getPassword(), account.getStatus(),
+                account.getLockoutExpiredAt(), account.getLanguageCode(), account.getRole(), null
+        );
+    }
+
+    /**
+     * 잠금이 해제된 상태의 account 정보 반환
+     *
+     * @return status 가 ACTIVE 인 account 정보
+     */
+    public AccountAuthInfo unlocked() {
+        return new AccountAuthInfo(
+                accountId, loginId, password, AccountStatus.ACTIVE, null, languageCode, roleCode, permissionCodes
+        );
+    }
+
+    @Override
+    public String toString() {
+        // password hash 가 log 에 남지 않도록 제외
+        return "AccountAuthInfo(accountId=" + accountId + ", loginId=" + loginId + ", status=" + status
+                + ", roleCode=" + roleCode + ", permissionCodes=" + permissionCodes + ")";
+    }
+}
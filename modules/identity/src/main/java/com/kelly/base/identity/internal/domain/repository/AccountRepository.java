@@ -1,6 +1,7 @@
 package com.kelly.base.identity.internal.domain.repository;
 
 import com.kelly.base.identity.internal.domain.Account;
+import com.kelly.base.identity.internal.domain.repository.custom.AccountRepositoryCustom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,7 +16,7 @@ import java.util.Optional;
  * @author 서강희
  */
 @Repository
-public interface AccountRepository extends JpaRepository<Account, Long> {
+public interface AccountRepository extends JpaRepository<Account, Long>, AccountRepositoryCustom {
     /**
      * login id 로 account 조회
      *
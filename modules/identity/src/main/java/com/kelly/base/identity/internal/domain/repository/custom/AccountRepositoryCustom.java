@@ -0,0 +1,32 @@
+package com.kelly.base.identity.internal.domain.repository.custom;
+
+import com.kelly.base.identity.internal.domain.projection.AccountAuthInfo;
+
+import java.util.Optional;
+
+/**
+ * account table repository (custom)
+ *
+ * @author 서강희
+ */
+public interface AccountRepositoryCustom {
+    /**
+     * login id 로 로그인에 필요한 account 정보 조회
+     * <p>
+     * permission 은 조회하지 않으며, roleCode 는 account 에 저장된 값을 그대로 반환합니다.
+     *
+     * @param loginId loginId
+     * @return Optional AccountAuthInfo
+     */
+    Optional<AccountAuthInfo> findAuthInfoByLoginId(final String loginId);
+
+    /**
+     * login id 로 account, role, permission code 를 하나의 query 로 조회
+     * <p>
+     * account 에 연결된 role 이 없는 경우 roleCode 는 null 입니다.
+     *
+     * @param loginId loginId
+     * @return Optional AccountAuthInfo
+     */
+    Optional<AccountAuthInfo> findAuthInfoWithPermissionsByLoginId(final String loginId);
+}
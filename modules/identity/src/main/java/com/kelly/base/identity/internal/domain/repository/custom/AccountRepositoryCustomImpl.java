@@ -0,0 +1,77 @@
+package com.kelly.base.identity.internal.domain.repository.custom;
+
+import com.kelly.base.identity.internal.domain.projection.AccountAuthInfo;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.kelly.base.identity.internal.domain.QAccount.account;
+import static com.kelly.base.identity.internal.domain.QPermission.permission;
+import static com.kelly.base.identity.internal.domain.QRole.role;
+import static com.kelly.base.identity.internal.domain.QRolePermission.rolePermission;
+
+@RequiredArgsConstructor
+public class AccountRepositoryCustomImpl implements AccountRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Optional<AccountAuthInfo> findAuthInfoByLoginId(final String loginId) {
+        // JPQL 참고 :
+        // SELECT a.id, a.loginId, a.password, a.status, a.lockoutExpiredAt, a.languageCode, a.role
+        // FROM Account a
+        // WHERE a.loginId = :loginId
+        final Tuple row = queryFactory.select(account.id, account.loginId, account.password, account.status,
+                                              account.lockoutExpiredAt, account.languageCode, account.role)
+                                      .from(account)
+                                      .where(account.loginId.eq(loginId))
+                                      .fetchOne();
+        return Optional.ofNullable(row).map(found -> toAuthInfo(found, found.get(account.role), null));
+    }
+
+    @Override
+    public Optional<AccountAuthInfo> findAuthInfoWithPermissionsByLoginId(final String loginId) {
+        // account.role 은 role.code 값이므로 연관관계 대신 on 조건으로 join
+        // JPQL 참고 :
+        // SELECT a.id, a.loginId, a.password, a.status, a.lockoutExpiredAt, a.languageCode, r.code, p.code
+        // FROM Account a
+        // LEFT JOIN Role r ON r.code = a.role
+        // LEFT JOIN RolePermission rp ON rp.role.id = r.id
+        // LEFT JOIN Permission p ON p.id = rp.permission.id
+        // WHERE a.loginId = :loginId
+        final List<Tuple> rows = queryFactory.select(account.id, account.loginId, account.password, account.status,
+                                                     account.lockoutExpiredAt, account.languageCode,
+                                                     role.code, permission.code)
+                                             .from(account)
+                                             .leftJoin(role).on(role.code.eq(account.role))
+                                             .leftJoin(rolePermission).on(rolePermission.role.id.eq(role.id))
+                                             .leftJoin(permission).on(permission.id.eq(rolePermission.permission.id))
+                                             .where(account.loginId.eq(loginId))
+                                             .fetch();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // permission 개수만큼 row 가 반환되므로 permission code 만 모아서 하나의 결과로 변환
+        final Set<String> permissionCodes = new HashSet<>();
+        for (final Tuple row : rows) {
+            final String permissionCode = row.get(permission.code);
+            if (permissionCode != null) {
+                permissionCodes.add(permissionCode);
+            }
+        }
+        final Tuple first = rows.get(0);
+        return Optional.of(toAuthInfo(first, first.get(role.code), permissionCodes));
+    }
+
+    private AccountAuthInfo toAuthInfo(final Tuple row, final String roleCode, final Set<String> permissionCodes) {
+        return new AccountAuthInfo(
+                row.get(account.id), row.get(account.loginId), row.get(account.password), row.get(account.status),
+                row.get(account.lockoutExpiredAt), row.get(account.languageCode), roleCode, permissionCodes
+        );
+    }
+}
@@ -2,6 +2,7 @@ package com.kelly.base.identity.internal.domain.repository.custom;
 
 import com.kelly.base.identity.internal.domain.Permission;
 
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -17,4 +18,13 @@ public interface PermissionRepositoryCustom {
      * @return Permission Set
      */
     Set<Permission> findPermissionSetByRoleId(final Long roleId);
+
+    /**
+     * 전체 Role 의 Permission code 조회
+     * <p>
+     * Permission 이 연결되지 않은 Role 은 결과에 포함되지 않습니다.
+     *
+     * @return role code 별 permission code Set
+     */
+    Map<String, Set<String>> findPermissionCodesGroupByRoleCode();
 }
@@ -1,14 +1,18 @@
 package com.kelly.base.identity.internal.domain.repository.custom;
 
 import com.kelly.base.identity.internal.domain.Permission;
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.kelly.base.identity.internal.domain.QPermission.permission;
+import static com.kelly.base.identity.internal.domain.QRole.role;
 import static com.kelly.base.identity.internal.domain.QRolePermission.rolePermission;
 
 @RequiredArgsConstructor
@@ -28,4 +32,23 @@ public class PermissionRepositoryCustomImpl implements PermissionRepositoryCusto
                               .fetch();
         return new HashSet<>(interimResult);
     }
+
+    @Override
+    public Map<String, Set<String>> findPermissionCodesGroupByRoleCode() {
+        // JPQL 참고 :
+        // SELECT r.code, p.code FROM RolePermission rp
+        // JOIN rp.role r
+        // JOIN rp.permission p
+        final List<Tuple> rows
+                = queryFactory.select(role.code, permission.code).from(rolePermission)
+                              .join(rolePermission.role, role)
+                              .join(rolePermission.permission, permission)
+                              .fetch();
+
+        final Map<String, Set<String>> result = new HashMap<>();
+        for (final Tuple row : rows) {
+            result.computeIfAbsent(row.get(role.code), key -> new HashSet<>()).add(row.get(permission.code));
+        }
+        return result;
+    }
 }
@@ -16,6 +16,7 @@
  *   <li>common::responses</li>
  *   <li>common::interfaces</li>
  *   <li>common::utils</li>
+ *   <li>common::audit-annotation</li>
  * </ul>
  *
  * @author 서강희
@@ -23,7 +24,8 @@
 @org.springframework.modulith.ApplicationModule(
         displayName = "Identity Module",
         allowedDependencies = {
-                "common", "common::exceptions", "common::responses", "common::interfaces", "common::utils"
+                "common", "common::exceptions", "common::responses", "common::interfaces", "common::utils",
+                "common::audit-annotation"
         }
 )
 package com.kelly.base.identity;
\ No newline at end of file
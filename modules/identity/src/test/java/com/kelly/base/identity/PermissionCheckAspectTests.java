@@ -1,7 +1,15 @@
 package com.kelly.base.identity;
 
 import com.kelly.base.common.exception.CommonRuntimeException;
+import com.kelly.base.identity.internal.adapter.security.CustomUserDetails;
+import com.kelly.base.identity.internal.adapter.security.PermissionCodeRegistry;
+import com.kelly.base.identity.internal.adapter.security.PermissionMask;
+import com.kelly.base.identity.internal.adapter.security.RolePermissionSnapshot;
+import com.kelly.base.identity.internal.domain.AccountStatus;
+import com.kelly.base.identity.internal.domain.projection.AccountAuthInfo;
 import com.kelly.base.identity.internal.response.IdentityResultCode;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,11 +36,16 @@ import static org.mockito.Mockito.*;
 @DisplayName("PermissionCheckAspectTests")
 class PermissionCheckAspectTests {
 
+    private PermissionCodeRegistry permissionCodeRegistry;
+
     private PermissionCheckAspect permissionCheckAspect;
 
     @BeforeEach
     void init() {
-        permissionCheckAspect = new PermissionCheckAspect();
+        permissionCodeRegistry = new PermissionCodeRegistry();
+        permissionCheckAspect = new PermissionCheckAspect(
+                permissionCodeRegistry, new RequirePermissionRegistry(permissionCodeRegistry)
+        );
     }
 
     @AfterEach
@@ -65,6 +78,15 @@ class PermissionCheckAspectTests {
         return authentication;
     }
 
+    // JoinPoint Mock 객체 생성
+    private JoinPoint createMockJoinPoint(final Method method) {
+        final MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        final JoinPoint joinPoint = mock(JoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        return joinPoint;
+    }
+
     // SecurityContext 설정
     private void setSecurityContext(final Authentication authentication) {
         final SecurityContext securityContext = mock(SecurityContext.class);
@@ -93,7 +115,7 @@ class PermissionCheckAspectTests {
 
             // when, then
             Assertions.assertDoesNotThrow(
-                    () -> permissionCheckAspect.checkPermission(annotation)
+                    () -> permissionCheckAspect.checkPermission(createMockJoinPoint(method), annotation)
             );
         }
 
@@ -116,7 +138,7 @@ class PermissionCheckAspectTests {
             // when
             final CommonRuntimeException exception = Assertions.assertThrows(
                     CommonRuntimeException.class,
-                    () -> permissionCheckAspect.checkPermission(annotation)
+                    () -> permissionCheckAspect.checkPermission(createMockJoinPoint(method), annotation)
             );
 
             // then
@@ -135,7 +157,7 @@ class PermissionCheckAspectTests {
             // when
             final CommonRuntimeException exception = Assertions.assertThrows(
                     CommonRuntimeException.class,
-                    () -> permissionCheckAspect.checkPermission(annotation)
+                    () -> permissionCheckAspect.checkPermission(createMockJoinPoint(method), annotation)
             );
 
             // then
@@ -160,7 +182,7 @@ class PermissionCheckAspectTests {
 
             // when, then
             Assertions.assertDoesNotThrow(
-                    () -> permissionCheckAspect.checkPermission(annotation)
+                    () -> permissionCheckAspect.checkPermission(createMockJoinPoint(method), annotation)
             );
         }
 
@@ -183,7 +205,7 @@ class PermissionCheckAspectTests {
             // when
             final CommonRuntimeException exception = Assertions.assertThrows(
                     CommonRuntimeException.class,
-                    () -> permissionCheckAspect.checkPermission(annotation)
+                    () -> permissionCheckAspect.checkPermission(createMockJoinPoint(method), annotation)
             );
 
             // then
@@ -209,7 +231,7 @@ class PermissionCheckAspectTests {
 
             // when, then
             Assertions.assertDoesNotThrow(
-                    () -> permissionCheckAspect.checkPermission(annotation)
+                    () -> permissionCheckAspect.checkPermission(createMockJoinPoint(method), annotation)
             );
         }
 
@@ -232,7 +254,7 @@ class PermissionCheckAspectTests {
             // when
             final CommonRuntimeException exception = Assertions.assertThrows(
                     CommonRuntimeException.class,
-                    () -> permissionCheckAspect.checkPermission(annotation)
+                    () -> permissionCheckAspect.checkPermission(createMockJoinPoint(method), annotation)
             );
 
             // then
@@ -240,6 +262,45 @@ class PermissionCheckAspectTests {
         }
     }
 
+    @Nested
+    @DisplayName("GetUserMaskTests")
+    class GetUserMaskTests {
+        @Test
+        @DisplayName("getUserMask test - 로그인 시 계산된 mask 사용")
+        void getUserMaskFromUserDetailsTest() {
+            // given
+            final RolePermissionSnapshot snapshot
+                    = RolePermissionSnapshot.of("ROLE_TEST", Set.of(MANAGE_SYSTEM), permissionCodeRegistry);
+            final CustomUserDetails userDetails = new CustomUserDetails(
+                    new AccountAuthInfo(1L, "test", "password", AccountStatus.ACTIVE, null, "en", null, null),
+                    snapshot
+            );
+            final Authentication authentication = createMockAuthentication(true, "test", Set.of());
+            when(authentication.getPrincipal()).thenReturn(userDetails);
+
+            // when
+            final PermissionMask userMask = permissionCheckAspect.getUserMask(authentication);
+
+            // then - authorities 가 아닌 snapshot 의 mask 를 그대로 사용
+            Assertions.assertSame(snapshot.authorityMask(), userMask);
+        }
+
+        @Test
+        @DisplayName("getUserMask test - mask 가 없는 경우 authorities 로 계산")
+        void getUserMaskFromAuthoritiesTest() {
+            // given
+            final Authentication authentication = createMockAuthentication(
+                    true, "test", Set.of(new SimpleGrantedAuthority(MANAGE_ACCOUNT))
+            );
+
+            // when
+            final PermissionMask userMask = permissionCheckAspect.getUserMask(authentication);
+
+            // then
+            Assertions.assertEquals(permissionCodeRegistry.maskOf(MANAGE_ACCOUNT), userMask);
+        }
+    }
+
     @Nested
     @DisplayName("CheckAuthenticationTests")
     class CheckAuthenticationTests {
@@ -301,8 +362,8 @@ class PermissionCheckAspectTests {
         ) {
             // when
             final boolean result = permissionCheckAspect.checkPermissions(
-                    userAuthorities,
-                    requiredPermissions,
+                    permissionCodeRegistry.maskOf(userAuthorities),
+                    permissionCodeRegistry.maskOf(requiredPermissions),
                     PermOperator.OR
             );
 
@@ -347,8 +408,8 @@ class PermissionCheckAspectTests {
         ) {
             // when
             final boolean result = permissionCheckAspect.checkPermissions(
-                    userAuthorities,
-                    requiredPermissions,
+                    permissionCodeRegistry.maskOf(userAuthorities),
+                    permissionCodeRegistry.maskOf(requiredPermissions),
                     PermOperator.AND
             );
 
@@ -0,0 +1,105 @@
+package com.kelly.base.identity;
+
+import com.kelly.base.identity.internal.adapter.security.PermissionCodeRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static com.kelly.base.common.CommonConstants.PermissionCode.MANAGE_ACCOUNT;
+import static com.kelly.base.common.CommonConstants.PermissionCode.MANAGE_MY_ACCOUNT;
+import static com.kelly.base.common.CommonConstants.PermissionCode.VIEW_ACCOUNT_LIST;
+
+@DisplayName("RequirePermissionRegistryTests")
+class RequirePermissionRegistryTests {
+    private PermissionCodeRegistry permissionCodeRegistry;
+
+    private RequirePermissionRegistry requirePermissionRegistry;
+
+    @BeforeEach
+    void init() {
+        permissionCodeRegistry = new PermissionCodeRegistry();
+        requirePermissionRegistry = new RequirePermissionRegistry(permissionCodeRegistry);
+    }
+
+    // test 용 controller
+    static class TestController {
+        @RequirePermission(MANAGE_MY_ACCOUNT)
+        public void apiForGeneralUser() { /* implementation is not required */ }
+
+        @RequirePermission(value = { MANAGE_ACCOUNT, VIEW_ACCOUNT_LIST }, operator = PermOperator.AND)
+        public void apiForPermOperAnd() { /* implementation is not required */ }
+
+        public void apiWithoutPermission() { /* implementation is not required */ }
+    }
+
+    // 권한 체크가 없는 bean
+    static class PlainService {
+        public void run() { /* implementation is not required */ }
+    }
+
+    @Nested
+    @DisplayName("ScanTests")
+    class ScanTests {
+        @Test
+        @DisplayName("scan test - annotation 이 적용된 method 만 수집")
+        void scanTest() throws NoSuchMethodException {
+            // given
+            requirePermissionRegistry.postProcessAfterInitialization(new TestController(), "testController");
+            requirePermissionRegistry.postProcessAfterInitialization(new PlainService(), "plainService");
+            requirePermissionRegistry.postProcessAfterInitialization("not a bean", "string");
+
+            // when
+            requirePermissionRegistry.afterSingletonsInstantiated();
+            final List<RequirePermissionInfo> result = requirePermissionRegistry.getRequirePermissions();
+
+            // then - method 이름 순으로 정렬
+            final String prefix = TestController.class.getName() + "#";
+            Assertions.assertEquals(
+                    List.of(
+                            new RequirePermissionInfo(
+                                    prefix + "apiForGeneralUser", List.of(MANAGE_MY_ACCOUNT), PermOperator.OR
+                            ),
+                            new RequirePermissionInfo(
+                                    prefix + "apiForPermOperAnd", List.of(MANAGE_ACCOUNT, VIEW_ACCOUNT_LIST),
+                                    PermOperator.AND
+                            )
+                    ),
+                    result
+            );
+
+            // then - 수집된 정보는 호출 시 그대로 사용
+            final Method method = TestController.class.getMethod("apiForPermOperAnd");
+            final RequirePermissionMetadata metadata
+                    = requirePermissionRegistry.get(method, method.getAnnotation(RequirePermission.class));
+            Assertions.assertSame(metadata, requirePermissionRegistry.get(method, null));
+            Assertions.assertEquals(PermOperator.AND, metadata.operator());
+            Assertions.assertEquals(permissionCodeRegistry.maskOf(MANAGE_ACCOUNT, VIEW_ACCOUNT_LIST),
+                                    metadata.requiredMask());
+            Assertions.assertEquals(
+                    "access denied. required permissions (AND): [MANAGE_ACCOUNT, VIEW_ACCOUNT_LIST]",
+                    metadata.deniedMessage()
+            );
+        }
+
+        @Test
+        @DisplayName("get test - 기동 이후 처음 호출되는 method")
+        void getLateMethodTest() throws NoSuchMethodException {
+            // given - 수집되지 않은 상태로 기동 완료
+            requirePermissionRegistry.afterSingletonsInstantiated();
+            final Method method = TestController.class.getMethod("apiForGeneralUser");
+
+            // when
+            final RequirePermissionMetadata metadata
+                    = requirePermissionRegistry.get(method, method.getAnnotation(RequirePermission.class));
+
+            // then - 한번 계산된 뒤에는 목록에도 포함
+            Assertions.assertSame(metadata, requirePermissionRegistry.get(method, null));
+            Assertions.assertEquals(1, requirePermissionRegistry.getRequirePermissions().size());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.kelly.base.common.utils.DateTimeUtil;
 import com.kelly.base.identity.internal.domain.repository.AccountRepository;
 import com.kelly.base.identity.internal.domain.Account;
 import com.kelly.base.identity.internal.domain.AccountStatus;
+import com.kelly.base.identity.internal.domain.projection.AccountAuthInfo;
 import com.kelly.base.common.config.QuerydslConfig;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +16,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
 
+import java.util.Set;
+
+import static com.kelly.base.common.CommonConstants.PermissionCode.MANAGE_ACCOUNT;
+import static com.kelly.base.common.CommonConstants.PermissionCode.MANAGE_MY_ACCOUNT;
+import static com.kelly.base.common.CommonConstants.PermissionCode.MANAGE_SYSTEM;
+import static com.kelly.base.common.CommonConstants.PermissionCode.VIEW_ACCOUNT_LIST;
+import static com.kelly.base.common.CommonConstants.RoleCode.ROLE_GENERAL_USER;
+import static com.kelly.base.common.CommonConstants.RoleCode.ROLE_SERVICE_ENGINEER;
+
 @DataJpaTest
 @Import({ QuerydslConfig.class })
 @DisplayName("AccountRepositoryTests")
@@ -97,4 +107,57 @@ public class AccountRepositoryTests {
             Assertions.assertEquals(expectedResult, stored.isActive());
         }
     }
-}
+
+    @Nested
+    @DisplayName("AuthInfoQueryTests")
+    class AuthInfoQueryTests {
+        @Test
+        @DisplayName("findAuthInfoByLoginId test - permission 없이 account 만 조회")
+        void findAuthInfoByLoginIdTest() {
+            // when
+            final AccountAuthInfo authInfo = accountRepository.findAuthInfoByLoginId("gen-user").orElseThrow();
+
+            // then - account 에 저장된 role code 를 그대로 사용
+            Assertions.assertEquals("gen-user", authInfo.loginId());
+            Assertions.assertEquals(AccountStatus.ACTIVE, authInfo.status());
+            Assertions.assertEquals(ROLE_GENERAL_USER, authInfo.roleCode());
+            Assertions.assertNull(authInfo.permissionCodes());
+            Assertions.assertFalse(authInfo.toString().contains(authInfo.password()));    // password 는 제외
+        }
+
+        @Test
+        @DisplayName("findAuthInfoWithPermissionsByLoginId test - 하나의 query 로 role / permission 까지 조회")
+        void findAuthInfoWithPermissionsByLoginIdTest() {
+            // when
+            final AccountAuthInfo authInfo
+                    = accountRepository.findAuthInfoWithPermissionsByLoginId("admin").orElseThrow();
+
+            // then - ROLE_SERVICE_ENGINEER 에 연결된 permission 전체
+            Assertions.assertEquals(ROLE_SERVICE_ENGINEER, authInfo.roleCode());
+            Assertions.assertEquals(
+                    Set.of(MANAGE_MY_ACCOUNT, VIEW_ACCOUNT_LIST, MANAGE_ACCOUNT, MANAGE_SYSTEM),
+                    authInfo.permissionCodes()
+            );
+        }
+
+        @Test
+        @DisplayName("findAuthInfoWithPermissionsByLoginId test - role 이 없는 경우")
+        void findAuthInfoWithPermissionsUnknownRoleTest() {
+            // when
+            final AccountAuthInfo authInfo
+                    = accountRepository.findAuthInfoWithPermissionsByLoginId("unknown_role").orElseThrow();
+
+            // then
+            Assertions.assertNull(authInfo.roleCode());
+            Assertions.assertTrue(authInfo.permissionCodes().isEmpty());
+        }
+
+        @Test
+        @DisplayName("findAuthInfo test - 없는 계정")
+        void findAuthInfoNotExistTest() {
+            // when, then
+            Assertions.assertTrue(accountRepository.findAuthInfoByLoginId("not_exist").isEmpty());
+            Assertions.assertTrue(accountRepository.findAuthInfoWithPermissionsByLoginId("not_exist").isEmpty());
+        }
+    }
+}
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.kelly.base.identity.accounts;
 
 import com.kelly.base.common.audit.AuditLogService;
+import com.kelly.base.common.audit.advice.AuditExclusionMatcher;
+import com.kelly.base.common.audit.advice.AuditHandlerRegistry;
+import com.kelly.base.common.audit.capture.AuditPayloadCapturer;
 import com.kelly.base.common.i18n.I18nProperties;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -29,6 +32,15 @@ class AccountsControllerTests {
     @MockitoBean
     private AuditLogService auditLogService;
 
+    @MockitoBean
+    private AuditPayloadCapturer auditPayloadCapturer;
+
+    @MockitoBean
+    private AuditExclusionMatcher auditExclusionMatcher;
+
+    @MockitoBean
+    private AuditHandlerRegistry auditHandlerRegistry;
+
     @MockitoBean
     private AccountsService accountsService;
 
@@ -2,6 +2,9 @@ package com.kelly.base.identity.auth;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kelly.base.common.audit.AuditLogService;
+import com.kelly.base.common.audit.advice.AuditExclusionMatcher;
+import com.kelly.base.common.audit.advice.AuditHandlerRegistry;
+import com.kelly.base.common.audit.capture.AuditPayloadCapturer;
 import com.kelly.base.common.config.CommonBeanConfig;
 import com.kelly.base.common.config.CommonPropertiesConfig;
 import com.kelly.base.common.i18n.I18nProperties;
@@ -47,6 +50,15 @@ class AuthControllerTests {
     @MockitoBean
     private AuditLogService auditLogService;
 
+    @MockitoBean
+    private AuditPayloadCapturer auditPayloadCapturer;
+
+    @MockitoBean
+    private AuditExclusionMatcher auditExclusionMatcher;
+
+    @MockitoBean
+    private AuditHandlerRegistry auditHandlerRegistry;
+
     @Nested
     @DisplayName("PostLoginTests")
     class PostLoginTests {
@@ -5,6 +5,8 @@ import com.kelly.base.common.response.CommonResponse;
 import com.kelly.base.common.response.CommonResultCode;
 import com.kelly.base.common.utils.DateTimeUtil;
 import com.kelly.base.identity.internal.adapter.security.CustomUserDetailsService;
+import com.kelly.base.identity.internal.adapter.security.PermissionCodeRegistry;
+import com.kelly.base.identity.internal.adapter.security.RolePermissionCache;
 import com.kelly.base.identity.auth.dto.PostLoginRequest;
 import com.kelly.base.identity.auth.strategy.session.AuthSessionManager;
 import com.kelly.base.identity.auth.strategy.session.AuthSessionStrategy;
@@ -13,6 +15,7 @@ import com.kelly.base.identity.internal.domain.AccountStatus;
 import com.kelly.base.identity.internal.domain.repository.AccountRepository;
 import com.kelly.base.common.config.QuerydslConfig;
 import com.kelly.base.identity.internal.response.IdentityResultCode;
+import com.kelly.base.identity.internal.config.IdentityProperties;
 import com.kelly.base.identity.internal.config.SecurityConfig;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -35,8 +38,8 @@ import static org.mockito.Mockito.when;
 @DataJpaTest
 @Import({
         AuthService.class, AuthSessionManager.class, AuthSessionStrategy.class, // session 기반으로 테스트
-        CustomUserDetailsService.class,
-        SecurityConfig.class, QuerydslConfig.class
+        CustomUserDetailsService.class, RolePermissionCache.class, PermissionCodeRegistry.class,
+        SecurityConfig.class, QuerydslConfig.class, IdentityProperties.class
 })
 @DisplayName("AuthServiceTests")
 class AuthServiceTests {
@@ -130,4 +130,66 @@ class SecurityAuditContextProviderTests {
             Assertions.assertNull(result);
         }
     }
+
+    @Nested
+    @DisplayName("GetAccountIdTests")
+    class GetAccountIdTests {
+        private SecurityAuditContextProvider auditContextProvider;
+
+        @BeforeEach
+        void init() {
+            auditContextProvider = new SecurityAuditContextProvider();
+            SecurityContextHolder.clearContext();
+        }
+
+        @AfterEach
+        void release() {
+            SecurityContextHolder.clearContext();
+        }
+
+        @Test
+        @DisplayName("getAccountId test - 인증 정보가 CustomUserDetails 인 경우")
+        void getAccountIdWithCustomUserDetailsTest() {
+            // given
+            final Account account = Account.builder().id(999L).loginId("testLoginId").password("password")
+                                           .name("테스트사용자").role("ROLE_SITE_MANAGER").status(AccountStatus.ACTIVE)
+                                           .passwordExpiredAt(DateTimeUtil.nowUtcPlusMinutes(60)).build();
+            final Role role = Role.builder().id(1L).code("ROLE_SITE_MANAGER").name("사이트 관리자").build();
+            final CustomUserDetails userDetails = new CustomUserDetails(account, role, Set.of());
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities())
+            );
+
+            // when
+            final Long result = auditContextProvider.getAccountId();
+
+            // then
+            Assertions.assertEquals(999L, result);
+        }
+
+        @Test
+        @DisplayName("getAccountId test - 인증 정보가 null 인 경우")
+        void getAccountIdWithNullAuthenticationTest() {
+            // when
+            final Long result = auditContextProvider.getAccountId();
+
+            // then
+            Assertions.assertNull(result);
+        }
+
+        @Test
+        @DisplayName("getAccountId test - 인증 정보가 CustomUserDetails 가 아닌 경우")
+        void getAccountIdWithNonCustomUserDetailsTest() {
+            // given
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken("anonymousUser", null, null)
+            );
+
+            // when
+            final Long result = auditContextProvider.getAccountId();
+
+            // then
+            Assertions.assertNull(result);
+        }
+    }
 }
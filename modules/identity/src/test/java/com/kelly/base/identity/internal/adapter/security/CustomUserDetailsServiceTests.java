@@ -0,0 +1,117 @@
+package com.kelly.base.identity.internal.adapter.security;
+
+import com.kelly.base.common.config.QuerydslConfig;
+import com.kelly.base.common.exception.CommonRuntimeException;
+import com.kelly.base.common.response.CommonResultCode;
+import com.kelly.base.identity.internal.config.IdentityProperties;
+import com.kelly.base.identity.internal.domain.Account;
+import com.kelly.base.identity.internal.domain.AccountStatus;
+import com.kelly.base.identity.internal.domain.repository.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Set;
+
+import static com.kelly.base.common.CommonConstants.PermissionCode.MANAGE_MY_ACCOUNT;
+import static com.kelly.base.common.CommonConstants.RoleCode.ROLE_GENERAL_USER;
+
+@DataJpaTest
+@Import({
+        CustomUserDetailsService.class, RolePermissionCache.class, PermissionCodeRegistry.class,
+        IdentityProperties.class, QuerydslConfig.class
+})
+@DisplayName("CustomUserDetailsServiceTests")
+class CustomUserDetailsServiceTests {
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private IdentityProperties identityProperties;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @AfterEach
+    void restoreProperties() {
+        identityProperties.getLogin().setRolePermissionCacheEnabled(true);
+    }
+
+    @Nested
+    @DisplayName("LoadUserByUsernameTests")
+    class LoadUserByUsernameTests {
+        @ParameterizedTest
+        @ValueSource(booleans = { true, false })
+        @DisplayName("loadUserByUsername test - cache 사용 여부와 관계없이 동일한 결과")
+        void loadUserByUsernameTest(final boolean cacheEnabled) {
+            // given
+            identityProperties.getLogin().setRolePermissionCacheEnabled(cacheEnabled);
+
+            // when - 대문자로 요청해도 소문자로 변환해서 조회
+            final CustomUserDetails userDetails
+                    = (CustomUserDetails) customUserDetailsService.loadUserByUsername("GEN-USER");
+
+            // then
+            Assertions.assertEquals("gen-user", userDetails.getUsername());
+            Assertions.assertEquals(ROLE_GENERAL_USER, userDetails.getRoleCode());
+            Assertions.assertEquals(Set.of(MANAGE_MY_ACCOUNT), userDetails.getPermissionCodes());
+            Assertions.assertTrue(userDetails.isEnabled());
+        }
+
+        @ParameterizedTest
+        @ValueSource(booleans = { true, false })
+        @DisplayName("loadUserByUsername test - 없는 계정")
+        void loadUserByUsernameNotExistTest(final boolean cacheEnabled) {
+            // given
+            identityProperties.getLogin().setRolePermissionCacheEnabled(cacheEnabled);
+
+            // when, then
+            Assertions.assertThrows(
+                    UsernameNotFoundException.class, () -> customUserDetailsService.loadUserByUsername("not_exist")
+            );
+        }
+
+        @ParameterizedTest
+        @ValueSource(booleans = { true, false })
+        @DisplayName("loadUserByUsername test - role 이 없는 계정")
+        void loadUserByUsernameUnknownRoleTest(final boolean cacheEnabled) {
+            // given
+            identityProperties.getLogin().setRolePermissionCacheEnabled(cacheEnabled);
+
+            // when
+            final CommonRuntimeException exception = Assertions.assertThrows(
+                    CommonRuntimeException.class, () -> customUserDetailsService.loadUserByUsername("unknown_role")
+            );
+
+            // then
+            Assertions.assertEquals(CommonResultCode.DATABASE_ERROR, exception.getResultCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("ChangeStatusTests")
+    class ChangeStatusTests {
+        @Test
+        @DisplayName("loadUserByUsername test - 잠금이 만료된 계정은 해제")
+        void unlockExpiredAccountTest() {
+            // given - data.sql 의 invalid 계정은 LOCKED 상태이며 만료 시간이 없음
+
+            // when
+            final CustomUserDetails userDetails
+                    = (CustomUserDetails) customUserDetailsService.loadUserByUsername("invalid");
+
+            // then - 반환된 정보와 저장된 entity 모두 잠금 해제
+            Assertions.assertTrue(userDetails.isAccountNonLocked());
+            final Account account = accountRepository.findByLoginId("invalid").orElseThrow();
+            Assertions.assertEquals(AccountStatus.ACTIVE, account.getStatus());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.kelly.base.identity.internal.adapter.security;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.kelly.base.common.CommonConstants.PermissionCode.MANAGE_ACCOUNT;
+import static com.kelly.base.common.CommonConstants.PermissionCode.MANAGE_MY_ACCOUNT;
+import static com.kelly.base.common.CommonConstants.PermissionCode.MANAGE_SYSTEM;
+import static com.kelly.base.common.CommonConstants.PermissionCode.VIEW_ACCOUNT_LIST;
+
+@DisplayName("PermissionCodeRegistryTests")
+class PermissionCodeRegistryTests {
+    private PermissionCodeRegistry permissionCodeRegistry;
+
+    @BeforeEach
+    void init() {
+        permissionCodeRegistry = new PermissionCodeRegistry();
+    }
+
+    @Nested
+    @DisplayName("IndexOfTests")
+    class IndexOfTests {
+        @Test
+        @DisplayName("indexOf test - 등록 순서대로 index 할당")
+        void indexOfTest() {
+            // when
+            final int first = permissionCodeRegistry.indexOf(MANAGE_MY_ACCOUNT);
+            final int second = permissionCodeRegistry.indexOf(MANAGE_ACCOUNT);
+
+            // then - 한번 할당된 index 는 변경되지 않음
+            Assertions.assertEquals(0, first);
+            Assertions.assertEquals(1, second);
+            Assertions.assertEquals(first, permissionCodeRegistry.indexOf(MANAGE_MY_ACCOUNT));
+            Assertions.assertEquals(2, permissionCodeRegistry.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("PermissionMaskTests")
+    class PermissionMaskTests {
+        @Test
+        @DisplayName("containsAll / intersects test")
+        void containsAllAndIntersectsTest() {
+            // given
+            final PermissionMask userMask = permissionCodeRegistry.maskOf(MANAGE_MY_ACCOUNT, MANAGE_ACCOUNT);
+
+            // when, then
+            Assertions.assertTrue(userMask.containsAll(permissionCodeRegistry.maskOf(MANAGE_ACCOUNT)));
+            Assertions.assertFalse(userMask.containsAll(permissionCodeRegistry.maskOf(MANAGE_ACCOUNT, MANAGE_SYSTEM)));
+            Assertions.assertTrue(userMask.intersects(permissionCodeRegistry.maskOf(MANAGE_ACCOUNT, MANAGE_SYSTEM)));
+            Assertions.assertFalse(userMask.intersects(permissionCodeRegistry.maskOf(VIEW_ACCOUNT_LIST)));
+        }
+
+        @Test
+        @DisplayName("containsAll / intersects test - 64 개를 넘는 code")
+        void multiWordMaskTest() {
+            // given - 첫 번째 word 를 모두 채운 뒤 등록되는 code
+            IntStream.range(0, 64).forEach(i -> permissionCodeRegistry.indexOf("CODE_" + i));
+            final PermissionMask userMask = permissionCodeRegistry.maskOf(MANAGE_SYSTEM);
+            final PermissionMask requiredMask = permissionCodeRegistry.maskOf(MANAGE_SYSTEM, VIEW_ACCOUNT_LIST);
+
+            // when, then - 짧은 mask 는 부족한 word 를 0 으로 취급
+            Assertions.assertFalse(userMask.containsAll(requiredMask));
+            Assertions.assertTrue(userMask.intersects(requiredMask));
+            Assertions.assertTrue(requiredMask.containsAll(userMask));
+            Assertions.assertFalse(PermissionMask.EMPTY.intersects(userMask));
+        }
+
+        @Test
+        @DisplayName("maskOfAuthorities test - code 목록과 동일한 mask")
+        void maskOfAuthoritiesTest() {
+            // when
+            final PermissionMask fromAuthorities = permissionCodeRegistry.maskOfAuthorities(
+                    List.of(new SimpleGrantedAuthority(MANAGE_SYSTEM), new SimpleGrantedAuthority(MANAGE_ACCOUNT))
+            );
+
+            // then
+            final PermissionMask fromCodes = permissionCodeRegistry.maskOf(MANAGE_ACCOUNT, MANAGE_SYSTEM);
+            Assertions.assertEquals(fromCodes, fromAuthorities);
+            Assertions.assertEquals(fromCodes.hashCode(), fromAuthorities.hashCode());
+            Assertions.assertNotEquals(fromCodes, permissionCodeRegistry.maskOf(MANAGE_ACCOUNT));
+            Assertions.assertSame(PermissionMask.EMPTY, permissionCodeRegistry.maskOf(List.of()));
+            Assertions.assertEquals("PermissionMask{0, 1}", fromCodes.toString());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.kelly.base.identity.internal.adapter.security;
+
+import com.kelly.base.common.config.QuerydslConfig;
+import com.kelly.base.common.exception.CommonRuntimeException;
+import com.kelly.base.common.response.CommonResultCode;
+import com.kelly.base.identity.RolePermissionChangedEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+
+import java.util.Set;
+
+import static com.kelly.base.common.CommonConstants.PermissionCode.MANAGE_MY_ACCOUNT;
+import static com.kelly.base.common.CommonConstants.RoleCode.ROLE_GENERAL_USER;
+
+@DataJpaTest
+@Import({ RolePermissionCache.class, PermissionCodeRegistry.class, QuerydslConfig.class })
+@DisplayName("RolePermissionCacheTests")
+class RolePermissionCacheTests {
+    @Autowired
+    private RolePermissionCache rolePermissionCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Nested
+    @DisplayName("GetTests")
+    class GetTests {
+        @Test
+        @DisplayName("get test - 전체 로드 후 조회")
+        void getAfterReloadTest() {
+            // given
+            rolePermissionCache.reload();
+
+            // when
+            final RolePermissionSnapshot snapshot = rolePermissionCache.get(ROLE_GENERAL_USER);
+
+            // then - data.sql 의 ROLE_GENERAL_USER 는 MANAGE_MY_ACCOUNT 만 가짐
+            Assertions.assertEquals(ROLE_GENERAL_USER, snapshot.roleCode());
+            Assertions.assertEquals(Set.of(MANAGE_MY_ACCOUNT), snapshot.permissionCodes());
+            Assertions.assertSame(MANAGE_MY_ACCOUNT, snapshot.permissionCodes().iterator().next());  // intern
+            Assertions.assertThrows(
+                    UnsupportedOperationException.class, () -> snapshot.permissionCodes().add("MANAGE_SYSTEM")
+            );
+        }
+
+        @Test
+        @DisplayName("get test - cache 에 없는 role 은 DB 에서 읽어서 추가")
+        void getLazyLoadTest() {
+            // given
+            rolePermissionCache.evict(ROLE_GENERAL_USER);
+
+            // when
+            final RolePermissionSnapshot loaded = rolePermissionCache.get(ROLE_GENERAL_USER);
+
+            // then - 한번 읽어온 뒤에는 동일한 snapshot 을 반환
+            Assertions.assertEquals(Set.of(MANAGE_MY_ACCOUNT), loaded.permissionCodes());
+            Assertions.assertSame(loaded, rolePermissionCache.get(ROLE_GENERAL_USER));
+        }
+
+        @Test
+        @DisplayName("get test - 존재하지 않는 role")
+        void getUnknownRoleTest() {
+            // when
+            final CommonRuntimeException exception = Assertions.assertThrows(
+                    CommonRuntimeException.class, () -> rolePermissionCache.get("ROLE_UNKNOWN")
+            );
+
+            // then
+            Assertions.assertEquals(CommonResultCode.DATABASE_ERROR, exception.getResultCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("EventTests")
+    class EventTests {
+        @Test
+        @DisplayName("event test - 전체 갱신")
+        void reloadAllByEventTest() {
+            // given
+            final RolePermissionSnapshot before = rolePermissionCache.get(ROLE_GENERAL_USER);
+
+            // when
+            eventPublisher.publishEvent(RolePermissionChangedEvent.all());
+
+            // then - 새로운 snapshot 으로 교체
+            final RolePermissionSnapshot after = rolePermissionCache.get(ROLE_GENERAL_USER);
+            Assertions.assertNotSame(before, after);
+            Assertions.assertEquals(before, after);
+        }
+
+        @Test
+        @DisplayName("event test - 특정 role 갱신")
+        void evictByEventTest() {
+            // given
+            rolePermissionCache.initialize();
+            final RolePermissionSnapshot before = rolePermissionCache.get(ROLE_GENERAL_USER);
+
+            // when
+            eventPublisher.publishEvent(new RolePermissionChangedEvent(ROLE_GENERAL_USER));
+
+            // then - 다음 조회 시 DB 에서 다시 읽어옴
+            Assertions.assertNotSame(before, rolePermissionCache.get(ROLE_GENERAL_USER));
+        }
+    }
+}